@@ -34,6 +34,11 @@ public enum InterceptPhase {
      * Caching phase of execution.
      */
     CACHE(-100),
+
+    /**
+     * Asynchronous execution phase.
+     */
+    ASYNC(-90),
     /**
      * Trace phase of execution.
      */
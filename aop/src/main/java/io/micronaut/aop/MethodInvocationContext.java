@@ -28,4 +28,14 @@ import io.micronaut.inject.ExecutableMethod;
  * @since 1.0
  */
 public interface MethodInvocationContext<T, R> extends InvocationContext<T, R>, ExecutableMethod<T, R> {
+
+    /**
+     * The method invoked once every interceptor has proceeded. Unlike the context itself it can be invoked again
+     * without the state of this invocation.
+     *
+     * @return The executable method
+     */
+    default ExecutableMethod<T, R> getExecutableMethod() {
+        return this;
+    }
 }
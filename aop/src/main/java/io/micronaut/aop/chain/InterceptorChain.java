@@ -28,6 +28,7 @@ import io.micronaut.context.EnvironmentConfigurable;
 import io.micronaut.context.annotation.Type;
 import io.micronaut.core.annotation.AnnotationMetadata;
 import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.convert.ArgumentConversionContext;
 import io.micronaut.core.convert.value.MutableConvertibleValues;
 import io.micronaut.core.order.OrderUtil;
 import io.micronaut.core.type.Argument;
@@ -40,6 +41,7 @@ import org.slf4j.LoggerFactory;
 import java.lang.annotation.Annotation;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.stream.Collectors;
 
 /**
@@ -56,18 +58,42 @@ import java.util.stream.Collectors;
 @Internal
 public class InterceptorChain<B, R> implements InvocationContext<B, R> {
     private static final Logger LOG = LoggerFactory.getLogger(InterceptorChain.class);
+    private static final AtomicReferenceFieldUpdater<InterceptorChain, MutableConvertibleValues> ATTRIBUTES_UPDATER =
+        AtomicReferenceFieldUpdater.newUpdater(InterceptorChain.class, MutableConvertibleValues.class, "lazyAttributes");
+    private static final AtomicReferenceFieldUpdater<InterceptorChain, Map> PARAMETERS_UPDATER =
+        AtomicReferenceFieldUpdater.newUpdater(InterceptorChain.class, Map.class, "lazyParameters");
 
     protected final Interceptor<B, R>[] interceptors;
     protected final B target;
     protected final ExecutableMethod<B, R> executionHandle;
-    protected final MutableConvertibleValues attributes = MutableConvertibleValues.of(new ConcurrentHashMap<>());
-    protected final Map<String, MutableArgumentValue<?>> parameters = new LinkedHashMap<>();
+    protected final Object[] originalParameters;
 
+    /**
+     * A view of the attributes, which are created on first access.
+     *
+     * @deprecated Use {@link #getAttributes()} instead
+     */
+    @Deprecated
+    protected final MutableConvertibleValues attributes = new AttributesView();
+
+    /**
+     * A view of the parameters, which are bound on first access.
+     *
+     * @deprecated Use {@link #getParameters()} instead
+     */
+    @Deprecated
+    protected final Map<String, MutableArgumentValue<?>> parameters = new ParametersView();
+
+    private final boolean isIntroduction;
+    // created on first access, since most interceptors use neither
+    private volatile MutableConvertibleValues<Object> lazyAttributes;
+    private volatile Map<String, MutableArgumentValue<?>> lazyParameters;
     private int index = 0;
 
 
     /**
-     * Constructor.
+     * Constructor. The interceptors are not copied, hence the array can be shared across invocations of the method as
+     * long as it is not modified.
      *
      * @param interceptors array of interceptors
      * @param target target type
@@ -83,22 +109,9 @@ public class InterceptorChain<B, R> implements InvocationContext<B, R> {
         }
         this.target = target;
         this.executionHandle = method;
-        this.interceptors = new Interceptor[interceptors.length + 1];
-        System.arraycopy(interceptors, 0, this.interceptors, 0, interceptors.length);
-        boolean isIntroduction = target instanceof Introduced;
-        if (isIntroduction) {
-            this.interceptors[this.interceptors.length - 1] = context -> {
-                throw new UnimplementedAdviceException(method);
-            };
-        } else {
-            this.interceptors[this.interceptors.length - 1] = context -> method.invoke(target, getParameterValues());
-        }
-        Argument[] arguments = method.getArguments();
-        for (int i = 0; i < arguments.length; i++) {
-            Argument argument = method.getArguments()[i];
-            Object value = originalParameters[i];
-            parameters.put(argument.getName(), MutableArgumentValue.create(argument, value));
-        }
+        this.interceptors = interceptors;
+        this.originalParameters = originalParameters;
+        this.isIntroduction = target instanceof Introduced;
     }
 
     @Override
@@ -108,6 +121,11 @@ public class InterceptorChain<B, R> implements InvocationContext<B, R> {
 
     @Override
     public MutableConvertibleValues<Object> getAttributes() {
+        MutableConvertibleValues<Object> attributes = this.lazyAttributes;
+        if (attributes == null) {
+            ATTRIBUTES_UPDATER.compareAndSet(this, null, MutableConvertibleValues.of(new ConcurrentHashMap<>()));
+            attributes = this.lazyAttributes;
+        }
         return attributes;
     }
 
@@ -118,9 +136,28 @@ public class InterceptorChain<B, R> implements InvocationContext<B, R> {
 
     @Override
     public Map<String, MutableArgumentValue<?>> getParameters() {
+        Map<String, MutableArgumentValue<?>> parameters = this.lazyParameters;
+        if (parameters == null) {
+            Argument[] arguments = executionHandle.getArguments();
+            parameters = new LinkedHashMap<>(arguments.length);
+            for (int i = 0; i < arguments.length; i++) {
+                Argument argument = arguments[i];
+                parameters.put(argument.getName(), MutableArgumentValue.create(argument, originalParameters[i]));
+            }
+            PARAMETERS_UPDATER.compareAndSet(this, null, parameters);
+            parameters = this.lazyParameters;
+        }
         return parameters;
     }
 
+    @Override
+    public Object[] getParameterValues() {
+        if (lazyParameters == null) {
+            return Arrays.copyOf(originalParameters, executionHandle.getArguments().length);
+        }
+        return InvocationContext.super.getParameterValues();
+    }
+
     @Override
     public R invoke(B instance, Object... arguments) {
         return proceed();
@@ -133,17 +170,21 @@ public class InterceptorChain<B, R> implements InvocationContext<B, R> {
 
     @Override
     public R proceed() throws RuntimeException {
-        Interceptor<B, R> interceptor;
-        int len = this.interceptors.length;
-        if (len == 0) {
-            throw new IllegalStateException("At least one interceptor is required when calling proceed on the interceptor chain!");
-        }
-        int size = len - 1;
-        if (index == size) {
-            interceptor = this.interceptors[size];
-        } else {
-            interceptor = this.interceptors[index++];
+        if (index >= interceptors.length) {
+            if (LOG.isTraceEnabled()) {
+                LOG.trace("Proceeded to the end of the chain for method invocation: {}", executionHandle);
+            }
+            if (isIntroduction) {
+                throw new UnimplementedAdviceException(executionHandle);
+            }
+            // the parameters are only bound if an interceptor requested them
+            Object[] parameterValues = originalParameters;
+            if (lazyParameters != null || parameterValues.length != executionHandle.getArguments().length) {
+                parameterValues = getParameterValues();
+            }
+            return executionHandle.invoke(target, parameterValues);
         }
+        Interceptor<B, R> interceptor = this.interceptors[index++];
         if (LOG.isTraceEnabled()) {
             LOG.trace("Proceeded to next interceptor [{}] in chain for method invocation: {}", interceptor, executionHandle);
         }
@@ -229,4 +270,84 @@ public class InterceptorChain<B, R> implements InvocationContext<B, R> {
         OrderUtil.sort(interceptorArray);
         return interceptorArray;
     }
+
+    /**
+     * Delegates the deprecated {@link #attributes} field to the lazily created attributes.
+     */
+    private final class AttributesView implements MutableConvertibleValues<Object> {
+
+        @Override
+        public MutableConvertibleValues<Object> put(CharSequence key, Object value) {
+            getAttributes().put(key, value);
+            return this;
+        }
+
+        @Override
+        public MutableConvertibleValues<Object> remove(CharSequence key) {
+            getAttributes().remove(key);
+            return this;
+        }
+
+        @Override
+        public MutableConvertibleValues<Object> clear() {
+            getAttributes().clear();
+            return this;
+        }
+
+        @Override
+        public Set<String> names() {
+            return getAttributes().names();
+        }
+
+        @Override
+        public Collection<Object> values() {
+            return getAttributes().values();
+        }
+
+        @Override
+        public <T> Optional<T> get(CharSequence name, ArgumentConversionContext<T> conversionContext) {
+            return getAttributes().get(name, conversionContext);
+        }
+
+        @Override
+        public Iterator<Map.Entry<String, Object>> iterator() {
+            return getAttributes().iterator();
+        }
+    }
+
+    /**
+     * Delegates the deprecated {@link #parameters} field to the lazily bound parameters.
+     */
+    private final class ParametersView extends AbstractMap<String, MutableArgumentValue<?>> {
+
+        @Override
+        public Set<Map.Entry<String, MutableArgumentValue<?>>> entrySet() {
+            return getParameters().entrySet();
+        }
+
+        @Override
+        public int size() {
+            return getParameters().size();
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return getParameters().containsKey(key);
+        }
+
+        @Override
+        public MutableArgumentValue<?> get(Object key) {
+            return getParameters().get(key);
+        }
+
+        @Override
+        public MutableArgumentValue<?> put(String key, MutableArgumentValue<?> value) {
+            return getParameters().put(key, value);
+        }
+
+        @Override
+        public MutableArgumentValue<?> remove(Object key) {
+            return getParameters().remove(key);
+        }
+    }
 }
@@ -50,6 +50,11 @@ public class MethodInterceptorChain<T, R> extends InterceptorChain<T, R> impleme
         super(interceptors, target, executionHandle, originalParameters);
     }
 
+    @Override
+    public ExecutableMethod<T, R> getExecutableMethod() {
+        return executionHandle;
+    }
+
     @Override
     public String getMethodName() {
         return executionHandle.getMethodName();
@@ -27,6 +27,12 @@ import java.lang.annotation.Documented
 import java.lang.annotation.ElementType
 import java.lang.annotation.Retention
 import java.lang.annotation.Target
+import java.util.concurrent.Callable
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.Future
+import java.util.concurrent.TimeUnit
 
 import static java.lang.annotation.RetentionPolicy.RUNTIME
 
@@ -55,6 +61,67 @@ class InterceptorChainSpec extends Specification {
         chain.getAttributes().get("invoked", List).get() == [1,2,3]
     }
 
+    void "test parameters and attributes are only created when requested"() {
+        given:
+        Object[] parameters = ["original"] as Object[]
+        def executionHandle = Mock(ExecutableMethod)
+        executionHandle.getArguments() >> ([Argument.of(String, "name")] as Argument[])
+        Interceptor[] interceptors = [new PassThroughInterceptor()]
+        InterceptorChain chain = new InterceptorChain(interceptors, this, executionHandle, parameters)
+
+        when:
+        def result = chain.proceed()
+
+        then:
+        1 * executionHandle.invoke(this, { it.is(parameters) }) >> "good"
+        result == "good"
+        chain.@parameters == null
+        chain.@attributes == null
+        chain.parameterValues == ["original"] as Object[]
+        !chain.parameterValues.is(parameters)
+    }
+
+    void "test parameters and attributes created concurrently are shared"() {
+        given:
+        def executionHandle = Mock(ExecutableMethod)
+        executionHandle.getArguments() >> ([Argument.of(String, "name")] as Argument[])
+        InterceptorChain chain = new InterceptorChain([] as Interceptor[], this, executionHandle, "original")
+        ExecutorService executor = Executors.newFixedThreadPool(4)
+        CountDownLatch start = new CountDownLatch(1)
+
+        when:
+        List<Future<List>> results = (1..4).collect {
+            executor.submit({
+                start.await()
+                [chain.getAttributes(), chain.getParameters()]
+            } as Callable<List>)
+        }
+        start.countDown()
+        List<List> values = results*.get(5, TimeUnit.SECONDS)
+
+        then:
+        values.every { it[0].is(chain.getAttributes()) && it[1].is(chain.getParameters()) }
+
+        cleanup:
+        executor.shutdown()
+    }
+
+    void "test mutated parameters are passed to the method"() {
+        given:
+        def executionHandle = Mock(ExecutableMethod)
+        executionHandle.getArguments() >> ([Argument.of(String, "name")] as Argument[])
+        Interceptor[] interceptors = [new ArgMutating()]
+        InterceptorChain chain = new InterceptorChain(interceptors, this, executionHandle, "original")
+
+        when:
+        def result = chain.proceed()
+
+        then:
+        1 * executionHandle.invoke(this, ["changed"] as Object[]) >> "good"
+        result == "good"
+        interceptors.length == 1
+    }
+
     @CompileStatic
     private sort(Interceptor[] interceptors) {
         OrderUtil.sort((Interceptor[]) interceptors)
@@ -69,6 +136,14 @@ class InterceptorChainSpec extends Specification {
         }
     }
 
+    static class PassThroughInterceptor implements Interceptor {
+
+        @Override
+        Object intercept(InvocationContext context) {
+            return context.proceed()
+        }
+    }
+
     static class OneInterceptor implements Interceptor {
 
         @Override
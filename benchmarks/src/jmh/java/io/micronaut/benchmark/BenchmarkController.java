@@ -0,0 +1,58 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.benchmark;
+
+import io.micronaut.http.MediaType;
+import io.micronaut.http.annotation.Body;
+import io.micronaut.http.annotation.Controller;
+import io.micronaut.http.annotation.Get;
+import io.micronaut.http.annotation.Post;
+
+/**
+ * A controller with literal and templated routes used by the routing and HTTP benchmarks.
+ *
+ * @since 1.0
+ */
+@Controller("/benchmark")
+public class BenchmarkController {
+
+    /**
+     * @return A plain text response
+     */
+    @Get(value = "/hello", produces = MediaType.TEXT_PLAIN)
+    public String hello() {
+        return "Hello World";
+    }
+
+    /**
+     * @param id The id
+     * @return The book
+     */
+    @Get("/books/{id}")
+    public Book show(Long id) {
+        return new Book("Book " + id, 100);
+    }
+
+    /**
+     * @param book The book
+     * @return The saved book
+     */
+    @Post("/books")
+    public Book save(@Body Book book) {
+        return book;
+    }
+}
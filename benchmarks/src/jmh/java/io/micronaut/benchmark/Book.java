@@ -0,0 +1,71 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.benchmark;
+
+/**
+ * A simple POJO used by the codec and HTTP benchmarks.
+ *
+ * @since 1.0
+ */
+public class Book {
+
+    private String title;
+    private int pages;
+
+    /**
+     * Default constructor.
+     */
+    public Book() {
+    }
+
+    /**
+     * @param title The title
+     * @param pages The number of pages
+     */
+    public Book(String title, int pages) {
+        this.title = title;
+        this.pages = pages;
+    }
+
+    /**
+     * @return The title
+     */
+    public String getTitle() {
+        return title;
+    }
+
+    /**
+     * @param title The title
+     */
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    /**
+     * @return The number of pages
+     */
+    public int getPages() {
+        return pages;
+    }
+
+    /**
+     * @param pages The number of pages
+     */
+    public void setPages(int pages) {
+        this.pages = pages;
+    }
+}
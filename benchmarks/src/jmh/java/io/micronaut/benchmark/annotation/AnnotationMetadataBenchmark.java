@@ -0,0 +1,115 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.benchmark.annotation;
+
+import io.micronaut.benchmark.BenchmarkController;
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.core.annotation.AnnotationMetadata;
+import io.micronaut.http.annotation.Controller;
+import io.micronaut.http.annotation.Get;
+import io.micronaut.inject.BeanDefinition;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import javax.inject.Singleton;
+import java.util.Optional;
+
+/**
+ * Benchmarks {@link AnnotationMetadata} lookups on compile time generated metadata.
+ *
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+public class AnnotationMetadataBenchmark {
+
+    private ApplicationContext applicationContext;
+    private AnnotationMetadata typeMetadata;
+    private AnnotationMetadata methodMetadata;
+
+    /**
+     * Starts the context and loads the metadata of the controller.
+     */
+    @Setup
+    public void setup() {
+        applicationContext = ApplicationContext.run();
+        BeanDefinition<BenchmarkController> definition = applicationContext.getBeanDefinition(BenchmarkController.class);
+        typeMetadata = definition.getAnnotationMetadata();
+        methodMetadata = definition.getRequiredMethod("hello").getAnnotationMetadata();
+    }
+
+    /**
+     * Stops the context.
+     */
+    @TearDown
+    public void tearDown() {
+        applicationContext.stop();
+    }
+
+    /**
+     * @return Whether the annotation is declared
+     */
+    @Benchmark
+    public boolean hasAnnotation() {
+        return typeMetadata.hasAnnotation(Controller.class);
+    }
+
+    /**
+     * @return Whether the stereotype is present
+     */
+    @Benchmark
+    public boolean hasStereotype() {
+        return typeMetadata.hasStereotype(Singleton.class);
+    }
+
+    /**
+     * @return Whether a missing annotation is present
+     */
+    @Benchmark
+    public boolean hasMissingAnnotation() {
+        return typeMetadata.hasAnnotation(Deprecated.class);
+    }
+
+    /**
+     * @return The value of the annotation
+     */
+    @Benchmark
+    public Optional<String> getValue() {
+        return typeMetadata.getValue(Controller.class, String.class);
+    }
+
+    /**
+     * Converts the value on every call, as the lookup did before converted values were cached. Serves as the
+     * baseline for {@link #getValue()}.
+     *
+     * @return The value of the annotation
+     */
+    @Benchmark
+    public Optional<String> getValueUncached() {
+        return typeMetadata.getValues(Controller.class).get(AnnotationMetadata.VALUE_MEMBER, String.class);
+    }
+
+    /**
+     * @return The value of a member of a method annotation
+     */
+    @Benchmark
+    public Optional<String> getMethodValue() {
+        return methodMetadata.getValue(Get.class, "produces", String.class);
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.benchmark.codec;
+
+import io.micronaut.benchmark.Book;
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.core.io.buffer.ByteBuffer;
+import io.micronaut.core.type.Argument;
+import io.micronaut.http.codec.MediaTypeCodec;
+import io.micronaut.http.netty.buffer.NettyByteBufferFactory;
+import io.micronaut.jackson.codec.JsonMediaTypeCodec;
+import io.netty.buffer.ByteBuf;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Benchmarks encoding and decoding with the {@link JsonMediaTypeCodec}.
+ *
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+public class JsonMediaTypeCodecBenchmark {
+
+    private static final Argument<Book> BOOK = Argument.of(Book.class);
+
+    private ApplicationContext applicationContext;
+    private MediaTypeCodec codec;
+    private Book book;
+    private String json;
+    private byte[] bytes;
+
+    /**
+     * Starts the context and prepares the payloads.
+     */
+    @Setup
+    public void setup() {
+        applicationContext = ApplicationContext.run();
+        codec = applicationContext.getBean(JsonMediaTypeCodec.class);
+        book = new Book("The Stand", 1152);
+        json = new String(codec.encode(book), StandardCharsets.UTF_8);
+        bytes = json.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Stops the context.
+     */
+    @TearDown
+    public void tearDown() {
+        applicationContext.stop();
+    }
+
+    /**
+     * @return The object encoded to a byte array
+     */
+    @Benchmark
+    public byte[] encodeBytes() {
+        return codec.encode(book);
+    }
+
+    /**
+     * @return Whether the buffer was released after encoding the object to a pooled buffer
+     */
+    @Benchmark
+    public boolean encodeBuffer() {
+        ByteBuffer<ByteBuf> buffer = codec.encode(book, NettyByteBufferFactory.DEFAULT);
+        return buffer.asNativeBuffer().release();
+    }
+
+    /**
+     * @return The object decoded from a string
+     */
+    @Benchmark
+    public Book decodeString() {
+        return codec.decode(BOOK, json);
+    }
+
+    /**
+     * @return The object decoded from a byte array
+     */
+    @Benchmark
+    public Book decodeBytes() {
+        return codec.decode(BOOK, bytes);
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.benchmark.context;
+
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.inject.qualifiers.Qualifiers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Benchmarks bean lookups with {@link io.micronaut.context.DefaultBeanContext#getBean(Class)}.
+ *
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+public class BeanContextBenchmark {
+
+    private ApplicationContext applicationContext;
+
+    /**
+     * Starts the context and initializes the singletons.
+     */
+    @Setup
+    public void setup() {
+        applicationContext = ApplicationContext.run();
+        applicationContext.getBean(SingletonService.class);
+        applicationContext.getBean(Engine.class, Qualifiers.byName("v8"));
+    }
+
+    /**
+     * Stops the context.
+     */
+    @TearDown
+    public void tearDown() {
+        applicationContext.stop();
+    }
+
+    /**
+     * @return An existing singleton
+     */
+    @Benchmark
+    public SingletonService getSingleton() {
+        return applicationContext.getBean(SingletonService.class);
+    }
+
+    /**
+     * @return A new prototype
+     */
+    @Benchmark
+    public PrototypeService getPrototype() {
+        return applicationContext.getBean(PrototypeService.class);
+    }
+
+    /**
+     * @return An existing singleton resolved by name
+     */
+    @Benchmark
+    public Engine getByQualifier() {
+        return applicationContext.getBean(Engine.class, Qualifiers.byName("v8"));
+    }
+
+    /**
+     * @return Whether the bean exists
+     */
+    @Benchmark
+    public boolean containsBean() {
+        return applicationContext.containsBean(SingletonService.class);
+    }
+}
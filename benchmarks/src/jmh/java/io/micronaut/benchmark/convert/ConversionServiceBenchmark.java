@@ -0,0 +1,90 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.benchmark.convert;
+
+import io.micronaut.core.convert.ConversionContext;
+import io.micronaut.core.convert.ConversionService;
+import io.micronaut.core.type.Argument;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link io.micronaut.core.convert.DefaultConversionService#convert(Object, Class)}.
+ *
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+public class ConversionServiceBenchmark {
+
+    private ConversionService<?> conversionService;
+    private ConversionContext listContext;
+
+    /**
+     * Prepares the conversion service.
+     */
+    @Setup
+    public void setup() {
+        conversionService = ConversionService.SHARED;
+        listContext = ConversionContext.of(Argument.of(List.class, Integer.class));
+    }
+
+    /**
+     * @return A string converted to an integer
+     */
+    @Benchmark
+    public Optional<Integer> stringToInteger() {
+        return conversionService.convert("10", Integer.class);
+    }
+
+    /**
+     * @return An integer converted to a string
+     */
+    @Benchmark
+    public Optional<String> integerToString() {
+        return conversionService.convert(10, String.class);
+    }
+
+    /**
+     * @return A string converted to an enum
+     */
+    @Benchmark
+    public Optional<TimeUnit> stringToEnum() {
+        return conversionService.convert("SECONDS", TimeUnit.class);
+    }
+
+    /**
+     * @return A value converted to the same type
+     */
+    @Benchmark
+    public Optional<String> identity() {
+        return conversionService.convert("ten", String.class);
+    }
+
+    /**
+     * @return A comma separated string converted to a list of integers
+     */
+    @Benchmark
+    public Optional<List> stringToList() {
+        return conversionService.convert("1,2,3", List.class, listContext);
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.benchmark.http;
+
+import io.micronaut.benchmark.Book;
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.client.RxHttpClient;
+import io.micronaut.runtime.server.EmbeddedServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Benchmarks a round trip from an {@link RxHttpClient} to an {@link EmbeddedServer} running in the same JVM.
+ *
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+public class HttpRoundTripBenchmark {
+
+    private EmbeddedServer embeddedServer;
+    private RxHttpClient client;
+    private Book book;
+
+    /**
+     * Starts the server and the client.
+     */
+    @Setup
+    public void setup() {
+        embeddedServer = ApplicationContext.run(EmbeddedServer.class);
+        client = embeddedServer.getApplicationContext().createBean(RxHttpClient.class, embeddedServer.getURL());
+        book = new Book("The Stand", 1152);
+    }
+
+    /**
+     * Stops the client and the server.
+     */
+    @TearDown
+    public void tearDown() {
+        client.stop();
+        embeddedServer.getApplicationContext().stop();
+    }
+
+    /**
+     * @return A plain text response
+     */
+    @Benchmark
+    public String getText() {
+        return client.retrieve("/benchmark/hello").blockingFirst();
+    }
+
+    /**
+     * @return A JSON response bound to an object
+     */
+    @Benchmark
+    public Book getJson() {
+        return client.retrieve(HttpRequest.GET("/benchmark/books/10"), Book.class).blockingFirst();
+    }
+
+    /**
+     * @return A JSON body sent and bound back to an object
+     */
+    @Benchmark
+    public Book postJson() {
+        return client.retrieve(HttpRequest.POST("/benchmark/books", book), Book.class).blockingFirst();
+    }
+}
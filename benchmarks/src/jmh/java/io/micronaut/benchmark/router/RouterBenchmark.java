@@ -0,0 +1,90 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.benchmark.router;
+
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.http.HttpMethod;
+import io.micronaut.web.router.Router;
+import io.micronaut.web.router.UriRouteMatch;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.Optional;
+
+/**
+ * Benchmarks route resolution with {@link io.micronaut.web.router.DefaultRouter#find(HttpMethod, CharSequence)}.
+ *
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+public class RouterBenchmark {
+
+    private ApplicationContext applicationContext;
+    private Router router;
+
+    /**
+     * Starts the context and builds the routes.
+     */
+    @Setup
+    public void setup() {
+        applicationContext = ApplicationContext.run();
+        router = applicationContext.getBean(Router.class);
+    }
+
+    /**
+     * Stops the context.
+     */
+    @TearDown
+    public void tearDown() {
+        applicationContext.stop();
+    }
+
+    /**
+     * @return The match for a literal route
+     */
+    @Benchmark
+    public Optional<UriRouteMatch<Object>> findLiteral() {
+        return router.<Object>find(HttpMethod.GET, "/benchmark/hello").findFirst();
+    }
+
+    /**
+     * @return The match for a route with a variable
+     */
+    @Benchmark
+    public Optional<UriRouteMatch<Object>> findVariable() {
+        return router.<Object>find(HttpMethod.GET, "/benchmark/books/10").findFirst();
+    }
+
+    /**
+     * @return The match for a route with a variable using {@link Router#route(HttpMethod, CharSequence)}
+     */
+    @Benchmark
+    public Optional<UriRouteMatch<Object>> route() {
+        return router.route(HttpMethod.GET, "/benchmark/books/10");
+    }
+
+    /**
+     * @return No match
+     */
+    @Benchmark
+    public Optional<UriRouteMatch<Object>> findMissing() {
+        return router.<Object>find(HttpMethod.GET, "/benchmark/missing/10").findFirst();
+    }
+}
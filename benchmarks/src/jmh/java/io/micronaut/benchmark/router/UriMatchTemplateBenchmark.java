@@ -0,0 +1,98 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.benchmark.router;
+
+import io.micronaut.http.uri.UriMatchInfo;
+import io.micronaut.http.uri.UriMatchTemplate;
+import io.micronaut.http.uri.UriTemplate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Benchmarks {@link UriMatchTemplate#match(String)} and {@link UriTemplate#expand(Map)}.
+ *
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+public class UriMatchTemplateBenchmark {
+
+    private UriMatchTemplate literal;
+    private UriMatchTemplate variable;
+    private UriMatchTemplate query;
+    private Map<String, Object> parameters;
+
+    /**
+     * Parses the templates.
+     */
+    @Setup
+    public void setup() {
+        literal = UriMatchTemplate.of("/books/list");
+        variable = UriMatchTemplate.of("/books/{id}/authors/{name}");
+        query = UriMatchTemplate.of("/books{/id}{?max,offset}");
+        parameters = new HashMap<>();
+        parameters.put("id", 10);
+        parameters.put("name", "Stephen King");
+        parameters.put("max", 20);
+        parameters.put("offset", 40);
+    }
+
+    /**
+     * @return The match for a literal template
+     */
+    @Benchmark
+    public Optional<UriMatchInfo> matchLiteral() {
+        return literal.match("/books/list");
+    }
+
+    /**
+     * @return The match for a template with variables
+     */
+    @Benchmark
+    public Optional<UriMatchInfo> matchVariables() {
+        return variable.match("/books/10/authors/king");
+    }
+
+    /**
+     * @return The expanded template with variables
+     */
+    @Benchmark
+    public String expandVariables() {
+        return variable.expand(parameters);
+    }
+
+    /**
+     * @return The expanded template with query parameters
+     */
+    @Benchmark
+    public String expandQuery() {
+        return query.expand(parameters);
+    }
+
+    /**
+     * @return A new template parsed from a string
+     */
+    @Benchmark
+    public UriMatchTemplate parse() {
+        return UriMatchTemplate.of("/books/{id}/authors/{name}");
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.configuration.metrics.binder.executor;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.event.BeanCreatedEvent;
+import io.micronaut.context.event.BeanCreatedEventListener;
+import io.micronaut.core.naming.NameResolver;
+import io.micronaut.inject.BeanDefinition;
+import io.micronaut.scheduling.instrument.InstrumentedExecutorService;
+
+import javax.inject.Provider;
+import javax.inject.Singleton;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static io.micronaut.configuration.metrics.micrometer.MeterRegistryFactory.MICRONAUT_METRICS;
+import static io.micronaut.configuration.metrics.micrometer.MeterRegistryFactory.MICRONAUT_METRICS_ENABLED;
+
+/**
+ * Binds the metrics of the named {@link ExecutorService} beans, such as the {@code io} executor. In addition to the
+ * pool metrics the time tasks spend waiting in the queue is recorded by the {@code executor.idle} timer and the time
+ * spent executing them by the {@code executor} timer, both tagged with the name of the executor.
+ *
+ * @since 1.0
+ */
+@Singleton
+@Requires(beans = MeterRegistry.class)
+@Requires(property = MICRONAUT_METRICS_ENABLED, value = "true", defaultValue = "true")
+@Requires(property = MICRONAUT_METRICS + "binders.executor.enabled", value = "true", defaultValue = "true")
+public class ExecutorServiceMetricsBinder implements BeanCreatedEventListener<ExecutorService> {
+
+    /**
+     * The name of the timer that records the time tasks spend executing.
+     */
+    public static final String EXECUTION_TIMER = "executor";
+
+    /**
+     * The name of the timer that records the time tasks spend queued before they are executed.
+     */
+    public static final String IDLE_TIMER = "executor.idle";
+
+    private final Provider<MeterRegistry> meterRegistryProvider;
+
+    /**
+     * @param meterRegistryProvider The meter registry provider
+     */
+    public ExecutorServiceMetricsBinder(Provider<MeterRegistry> meterRegistryProvider) {
+        this.meterRegistryProvider = meterRegistryProvider;
+    }
+
+    @Override
+    public ExecutorService onCreated(BeanCreatedEvent<ExecutorService> event) {
+        ExecutorService executorService = event.getBean();
+        BeanDefinition<ExecutorService> beanDefinition = event.getBeanDefinition();
+        Optional<String> name = beanDefinition instanceof NameResolver ? ((NameResolver) beanDefinition).resolveName() : Optional.empty();
+        if (!name.isPresent()) {
+            return executorService;
+        }
+
+        MeterRegistry meterRegistry = meterRegistryProvider.get();
+        new ExecutorServiceMetrics(executorService, name.get(), Collections.emptyList()).bindTo(meterRegistry);
+        if (executorService instanceof ScheduledExecutorService) {
+            // the queue time of a scheduled task includes its delay so only the pool metrics are meaningful
+            return executorService;
+        }
+
+        List<Tag> tags = Collections.singletonList(Tag.of("name", name.get()));
+        Timer executionTimer = meterRegistry.timer(EXECUTION_TIMER, tags);
+        Timer idleTimer = meterRegistry.timer(IDLE_TIMER, tags);
+        return new InstrumentedExecutorService() {
+            @Override
+            public ExecutorService getTarget() {
+                return executorService;
+            }
+
+            @Override
+            public <T> Callable<T> instrument(Callable<T> task) {
+                Timer.Sample idleSample = Timer.start(meterRegistry);
+                return () -> {
+                    idleSample.stop(idleTimer);
+                    return executionTimer.recordCallable(task);
+                };
+            }
+
+            @Override
+            public Runnable instrument(Runnable command) {
+                Timer.Sample idleSample = Timer.start(meterRegistry);
+                return () -> {
+                    idleSample.stop(idleTimer);
+                    executionTimer.record(command);
+                };
+            }
+        };
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.configuration.metrics.binder.web;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.http.server.netty.limit.ConcurrencyLimiter;
+import io.micronaut.http.server.netty.limit.ConcurrencyLimiterRegistry;
+
+import javax.inject.Singleton;
+
+import static io.micronaut.configuration.metrics.micrometer.MeterRegistryFactory.MICRONAUT_METRICS;
+import static io.micronaut.configuration.metrics.micrometer.MeterRegistryFactory.MICRONAUT_METRICS_ENABLED;
+
+/**
+ * Binds the current limit, the number of requests in flight and the number of rejected requests of each
+ * {@link ConcurrencyLimiter} of the Netty HTTP server, tagged with the name of the limiter.
+ *
+ * @since 1.0
+ */
+@Singleton
+@Requires(classes = ConcurrencyLimiterRegistry.class)
+@Requires(beans = ConcurrencyLimiterRegistry.class)
+@Requires(property = MICRONAUT_METRICS_ENABLED, value = "true", defaultValue = "true")
+@Requires(property = MICRONAUT_METRICS + "binders.web.enabled", value = "true", defaultValue = "true")
+public class ConcurrencyLimitMeterBinder implements MeterBinder {
+
+    /**
+     * The name of the gauge of the current limit.
+     */
+    public static final String LIMIT = "http.server.concurrency.limit";
+
+    /**
+     * The name of the gauge of the number of requests in flight.
+     */
+    public static final String IN_FLIGHT = "http.server.concurrency.inflight";
+
+    /**
+     * The name of the counter of the rejected requests.
+     */
+    public static final String REJECTED = "http.server.concurrency.rejected";
+
+    private final ConcurrencyLimiterRegistry limiterRegistry;
+
+    /**
+     * @param limiterRegistry The limiter registry
+     */
+    public ConcurrencyLimitMeterBinder(ConcurrencyLimiterRegistry limiterRegistry) {
+        this.limiterRegistry = limiterRegistry;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (ConcurrencyLimiter limiter : limiterRegistry.getLimiters()) {
+            Gauge.builder(LIMIT, limiter, ConcurrencyLimiter::getLimit)
+                .tag("name", limiter.getName())
+                .description("The number of requests the server currently admits concurrently")
+                .register(registry);
+            Gauge.builder(IN_FLIGHT, limiter, ConcurrencyLimiter::getInFlight)
+                .tag("name", limiter.getName())
+                .description("The number of requests in flight")
+                .register(registry);
+            FunctionCounter.builder(REJECTED, limiter, ConcurrencyLimiter::getRejected)
+                .tag("name", limiter.getName())
+                .description("The number of requests rejected because the limit was reached")
+                .register(registry);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package io.micronaut.configuration.metrics.binder.executor
+
+import io.micrometer.core.instrument.MeterRegistry
+import io.micrometer.core.instrument.Timer
+import io.micronaut.context.ApplicationContext
+import io.micronaut.inject.qualifiers.Qualifiers
+import io.micronaut.scheduling.TaskExecutors
+import io.micronaut.scheduling.instrument.InstrumentedExecutorService
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.TimeUnit
+
+import static io.micronaut.configuration.metrics.micrometer.MeterRegistryFactory.MICRONAUT_METRICS
+import static io.micronaut.configuration.metrics.micrometer.MeterRegistryFactory.MICRONAUT_METRICS_ENABLED
+
+class ExecutorServiceMetricsBinderSpec extends Specification {
+
+    def "test the queue and execution time of tasks are recorded"() {
+        given:
+        ApplicationContext context = ApplicationContext.run()
+        MeterRegistry meterRegistry = context.getBean(MeterRegistry)
+
+        when:
+        ExecutorService executorService = context.getBean(ExecutorService, Qualifiers.byName(TaskExecutors.IO))
+        CompletableFuture.runAsync({ Thread.sleep(50) }, executorService).get()
+        executorService.submit({ 'done' } as java.util.concurrent.Callable<String>).get()
+
+        then:
+        executorService instanceof InstrumentedExecutorService
+        Timer execution = meterRegistry.find(ExecutorServiceMetricsBinder.EXECUTION_TIMER).tags('name', TaskExecutors.IO).timer()
+        Timer idle = meterRegistry.find(ExecutorServiceMetricsBinder.IDLE_TIMER).tags('name', TaskExecutors.IO).timer()
+        execution.count() == 2
+        execution.totalTime(TimeUnit.MILLISECONDS) >= 50
+        idle.count() == 2
+
+        cleanup:
+        context.close()
+    }
+
+    @Unroll
+    def "test getting the beans #cfg #setting"() {
+        when:
+        ApplicationContext context = ApplicationContext.run([(cfg): setting])
+
+        then:
+        context.findBean(ExecutorServiceMetricsBinder).isPresent() == setting
+        (context.getBean(ExecutorService, Qualifiers.byName(TaskExecutors.IO)) instanceof InstrumentedExecutorService) == setting
+
+        cleanup:
+        context.close()
+
+        where:
+        cfg                                            | setting
+        MICRONAUT_METRICS_ENABLED                      | true
+        MICRONAUT_METRICS_ENABLED                      | false
+        MICRONAUT_METRICS + "binders.executor.enabled" | true
+        MICRONAUT_METRICS + "binders.executor.enabled" | false
+    }
+}
@@ -0,0 +1,44 @@
+package io.micronaut.configuration.metrics.binder.web
+
+import io.micrometer.core.instrument.MeterRegistry
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import io.micronaut.context.ApplicationContext
+import io.micronaut.http.server.netty.limit.ConcurrencyLimiter
+import io.micronaut.http.server.netty.limit.ConcurrencyLimiterRegistry
+import spock.lang.Specification
+
+class ConcurrencyLimitMeterBinderSpec extends Specification {
+
+    def "test the concurrency limits are bound"() {
+        given:
+        ApplicationContext context = ApplicationContext.run(
+                'micronaut.server.netty.concurrency-limit.enabled': true,
+                'micronaut.server.netty.concurrency-limit.initial-limit': 1
+        )
+        MeterRegistry meterRegistry = context.getBean(SimpleMeterRegistry)
+        ConcurrencyLimiter limiter = context.getBean(ConcurrencyLimiterRegistry).resolve('/')
+
+        when:
+        limiter.tryAcquire()
+        limiter.tryAcquire()
+
+        then:
+        meterRegistry.find(ConcurrencyLimitMeterBinder.LIMIT).tags('name', 'default').gauge().value() == 1
+        meterRegistry.find(ConcurrencyLimitMeterBinder.IN_FLIGHT).tags('name', 'default').gauge().value() == 1
+        meterRegistry.find(ConcurrencyLimitMeterBinder.REJECTED).tags('name', 'default').functionCounter().count() == 1
+
+        cleanup:
+        context.close()
+    }
+
+    def "test the binder is not present without a concurrency limit"() {
+        when:
+        ApplicationContext context = ApplicationContext.run()
+
+        then:
+        !context.findBean(ConcurrencyLimitMeterBinder).isPresent()
+
+        cleanup:
+        context.close()
+    }
+}
@@ -86,6 +86,9 @@ public interface ConversionContext extends AnnotationSource, TypeVariableResolve
      */
     @SuppressWarnings("unchecked")
     default <T> ArgumentConversionContext<T> with(Argument<T> argument) {
+        if (this == DEFAULT) {
+            return ConversionContext.of(argument);
+        }
 
         ConversionContext childContext = ConversionContext.of(argument);
         ConversionContext thisContext = this;
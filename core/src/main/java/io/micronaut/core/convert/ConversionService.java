@@ -81,6 +81,25 @@ public interface ConversionService<Impl extends ConversionService> {
      */
     <S, T> boolean canConvert(Class<S> sourceType, Class<T> targetType);
 
+    /**
+     * Resolves a {@link TypeConverter} for the given source type, target type and context that can be retained and
+     * reused for subsequent conversions of objects of the same source type, avoiding the lookup of the converter for
+     * each conversion.
+     *
+     * @param sourceType The source type
+     * @param targetType The target type
+     * @param context    The conversion context used to resolve formatting annotations
+     * @param <S>        The generic source type
+     * @param <T>        The target source type
+     * @return The converter or empty if no conversion is possible
+     */
+    default <S, T> Optional<TypeConverter<S, T>> findConverter(Class<S> sourceType, Class<T> targetType, ConversionContext context) {
+        if (canConvert(sourceType, targetType)) {
+            return Optional.of((object, type, conversionContext) -> convert(object, type, conversionContext));
+        }
+        return Optional.empty();
+    }
+
     /**
      * Attempts to convert the given object to the given target type. If conversion fails or is not possible an empty {@link Optional} is returned.
      *
@@ -18,6 +18,7 @@ package io.micronaut.core.convert;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micronaut.core.annotation.AnnotationMetadata;
 import io.micronaut.core.annotation.AnnotationUtil;
 import io.micronaut.core.convert.format.Format;
 import io.micronaut.core.convert.format.FormattingTypeConverter;
@@ -84,6 +85,8 @@ public class DefaultConversionService implements ConversionService<DefaultConver
     private final Cache<ConvertiblePair, TypeConverter> converterCache = Caffeine.newBuilder()
                                                                                  .maximumSize(CACHE_MAX)
                                                                                  .build();
+    // converters without formatting by source and target type, avoids allocating a ConvertiblePair for each lookup
+    private final Map<Class, Map<Class, TypeConverter>> converterTable = new ConcurrentHashMap<>();
 
     /**
      * Constructor.
@@ -108,22 +111,33 @@ public class DefaultConversionService implements ConversionService<DefaultConver
             return Optional.of((T) object);
         }
 
-        Optional<? extends Class<? extends Annotation>> formattingAnn = AnnotationUtil.findAnnotationWithStereoType(Format.class, context.getAnnotations())
-                                                                                      .map(Annotation::annotationType);
-        Class<? extends Annotation> formattingAnnotation = formattingAnn.orElse(null);
-        ConvertiblePair pair = new ConvertiblePair(sourceType, targetType, formattingAnnotation);
-        TypeConverter typeConverter = converterCache.getIfPresent(pair);
+        TypeConverter typeConverter = resolveTypeConverter(sourceType, targetType, resolveFormattingAnnotation(context));
         if (typeConverter == null) {
-            typeConverter = findTypeConverter(sourceType, targetType, formattingAnnotation);
-            if (typeConverter == null) {
-                return Optional.empty();
-            } else {
-                converterCache.put(pair, typeConverter);
-            }
+            return Optional.empty();
         }
         return typeConverter.convert(object, targetType, context);
     }
 
+    @SuppressWarnings("unchecked")
+    @Override
+    public <S, T> Optional<TypeConverter<S, T>> findConverter(Class<S> sourceType, Class<T> targetType, ConversionContext context) {
+        if (sourceType == null || targetType == null || context == null) {
+            return Optional.empty();
+        }
+        Class<T> wrapperType = ReflectionUtils.getWrapperType(targetType);
+        if (targetType == Object.class || (wrapperType.isAssignableFrom(sourceType) && !Iterable.class.isAssignableFrom(sourceType) && !Map.class.isAssignableFrom(sourceType))) {
+            return Optional.of((object, type, conversionContext) -> Optional.of((T) object));
+        }
+        TypeConverter typeConverter = resolveTypeConverter(sourceType, wrapperType, resolveFormattingAnnotation(context));
+        if (typeConverter == null) {
+            return Optional.empty();
+        }
+        if (wrapperType == targetType) {
+            return Optional.of(typeConverter);
+        }
+        return Optional.of((object, type, conversionContext) -> typeConverter.convert(object, wrapperType, conversionContext));
+    }
+
     @Override
     public <S, T> boolean canConvert(Class<S> sourceType, Class<T> targetType) {
         ConvertiblePair pair = new ConvertiblePair(sourceType, targetType, null);
@@ -146,6 +160,7 @@ public class DefaultConversionService implements ConversionService<DefaultConver
         ConvertiblePair pair = newPair(sourceType, targetType, typeConverter);
         typeConverters.put(pair, typeConverter);
         converterCache.put(pair, typeConverter);
+        converterTable.clear();
         return this;
     }
 
@@ -155,6 +170,7 @@ public class DefaultConversionService implements ConversionService<DefaultConver
         TypeConverter<S, T> typeConverter = TypeConverter.of(sourceType, targetType, function);
         typeConverters.put(pair, typeConverter);
         converterCache.put(pair, typeConverter);
+        converterTable.clear();
         return this;
     }
 
@@ -730,6 +746,73 @@ public class DefaultConversionService implements ConversionService<DefaultConver
         return typeConverter;
     }
 
+    /**
+     * Resolves the converter for the given types. Converters without a formatting annotation are looked up by the
+     * identity of the source and target type, which does not allocate.
+     *
+     * @param sourceType           The source type
+     * @param targetType           The target type
+     * @param formattingAnnotation The formatting annotation or null
+     * @return The converter or null if there is none
+     */
+    private TypeConverter resolveTypeConverter(Class<?> sourceType, Class<?> targetType, Class<? extends Annotation> formattingAnnotation) {
+        if (formattingAnnotation == null) {
+            Map<Class, TypeConverter> targetConverters = converterTable.get(sourceType);
+            if (targetConverters != null) {
+                TypeConverter typeConverter = targetConverters.get(targetType);
+                if (typeConverter != null) {
+                    return typeConverter;
+                }
+            }
+        }
+        ConvertiblePair pair = new ConvertiblePair(sourceType, targetType, formattingAnnotation);
+        TypeConverter typeConverter = converterCache.getIfPresent(pair);
+        if (typeConverter == null) {
+            typeConverter = findTypeConverter(sourceType, targetType, formattingAnnotation);
+            if (typeConverter == null) {
+                return null;
+            }
+            converterCache.put(pair, typeConverter);
+        }
+        if (formattingAnnotation == null) {
+            Map<Class, TypeConverter> targetConverters = converterTable.get(sourceType);
+            if (targetConverters == null) {
+                targetConverters = new ConcurrentHashMap<>(5);
+                Map<Class, TypeConverter> existing = converterTable.putIfAbsent(sourceType, targetConverters);
+                if (existing != null) {
+                    targetConverters = existing;
+                }
+            }
+            targetConverters.put(targetType, typeConverter);
+        }
+        return typeConverter;
+    }
+
+    /**
+     * Resolves the formatting annotation of the given context, if any. The annotation metadata of arguments is
+     * consulted directly where possible, since synthesizing their annotations is comparatively expensive.
+     *
+     * @param context The conversion context
+     * @return The type of the formatting annotation or null
+     */
+    private Class<? extends Annotation> resolveFormattingAnnotation(ConversionContext context) {
+        if (context == ConversionContext.DEFAULT) {
+            return null;
+        }
+        if (context.getClass() == DefaultArgumentConversionContext.class) {
+            Argument<?> argument = ((ArgumentConversionContext<?>) context).getArgument();
+            AnnotationMetadata annotationMetadata = argument.getAnnotationMetadata();
+            if (!annotationMetadata.isEmpty()) {
+                return annotationMetadata.getAnnotationTypeByStereotype(Format.class).orElse(null);
+            } else if (ArrayUtils.isEmpty(argument.getAnnotations())) {
+                return null;
+            }
+        }
+        return AnnotationUtil.findAnnotationWithStereoType(Format.class, context.getAnnotations())
+                             .map(Annotation::annotationType)
+                             .orElse(null);
+    }
+
     private SimpleDateFormat resolveFormat(ConversionContext context) {
         Format ann = context.getAnnotation(Format.class);
         Optional<String> format = ann != null ? Optional.of(ann.value()) : Optional.empty();
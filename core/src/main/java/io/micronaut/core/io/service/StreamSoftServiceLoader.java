@@ -29,6 +29,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.ServiceConfigurationError;
 import java.util.Set;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 /**
@@ -45,8 +46,19 @@ public class StreamSoftServiceLoader {
      * @param <T>         The type
      * @return A stream
      */
-    @SuppressWarnings("unchecked")
     public static <T> Stream<ServiceDefinition<T>> loadParallel(Class<T> serviceType, ClassLoader classLoader) {
+        return loadParallel(serviceType, classLoader, serviceName -> true);
+    }
+
+    /**
+     * @param serviceType The service type
+     * @param classLoader The class loader
+     * @param condition   A condition on the service class name that is evaluated before the class is loaded
+     * @param <T>         The type
+     * @return A stream
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Stream<ServiceDefinition<T>> loadParallel(Class<T> serviceType, ClassLoader classLoader, Predicate<String> condition) {
         Enumeration<URL> serviceConfigs;
         String name = serviceType.getName();
         try {
@@ -78,7 +90,9 @@ public class StreamSoftServiceLoader {
                     }
                     return lines.stream();
                 }
-            ).map(serviceName -> {
+            )
+            .filter(condition)
+            .map(serviceName -> {
                 Optional<Class> loadedClass = ClassUtils.forName(serviceName, classLoader);
                 return new DefaultServiceDefinition(name, loadedClass);
             });
@@ -92,7 +106,18 @@ public class StreamSoftServiceLoader {
      */
     @SuppressWarnings("unchecked")
     public static <T> Stream<T> loadPresentParallel(Class<T> serviceType, ClassLoader classLoader) {
-        return loadParallel(serviceType, classLoader)
+        return loadPresentParallel(serviceType, classLoader, serviceName -> true);
+    }
+
+    /**
+     * @param serviceType The service type
+     * @param classLoader The class loader
+     * @param condition   A condition on the service class name that is evaluated before the class is loaded
+     * @param <T>         The type
+     * @return A stream with services loaded
+     */
+    public static <T> Stream<T> loadPresentParallel(Class<T> serviceType, ClassLoader classLoader, Predicate<String> condition) {
+        return loadParallel(serviceType, classLoader, condition)
             .filter(ServiceDefinition::isPresent)
             .map(ServiceDefinition::load);
     }
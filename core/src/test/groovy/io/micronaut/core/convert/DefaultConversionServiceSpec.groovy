@@ -107,4 +107,34 @@ class DefaultConversionServiceSpec extends Specification {
         sourceObject | targetType | result
         "1MB"        | Integer    | 1048576
     }
+
+    void "test resolved converters can be reused"() {
+        given:
+        ConversionService conversionService = new DefaultConversionService()
+        Field field = getClass().getDeclaredField("maxSize")
+        TypeConverter<String, Integer> converter = conversionService.findConverter(String, int, ConversionContext.DEFAULT).get()
+        TypeConverter<String, Integer> bytesConverter = conversionService.findConverter(String, Integer, ConversionContext.of(Argument.of(field, "maxSize", null))).get()
+
+        expect:
+        converter.convert("10", int).get() == 10
+        converter.convert("20", int).get() == 20
+        !converter.convert("junk", int).isPresent()
+        bytesConverter.convert("1MB", Integer).get() == 1048576
+        conversionService.findConverter(String, String, ConversionContext.DEFAULT).get().convert("10", String).get() == "10"
+        !conversionService.findConverter(Integer, DayOfWeek, ConversionContext.DEFAULT).isPresent()
+    }
+
+    void "test converters added later replace previously resolved converters"() {
+        given:
+        DefaultConversionService conversionService = new DefaultConversionService()
+
+        expect:
+        conversionService.convert("10", Integer).get() == 10
+
+        when:
+        conversionService.addConverter(String, Integer, { String s -> 20 } as java.util.function.Function)
+
+        then:
+        conversionService.convert("10", Integer).get() == 20
+    }
 }
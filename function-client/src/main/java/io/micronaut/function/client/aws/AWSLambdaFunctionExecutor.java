@@ -123,7 +123,7 @@ public class AWSLambdaFunctionExecutor<I, O> implements FunctionInvoker<I, O>, F
 
     private void encodeInput(I input, InvokeRequest invokeRequest) {
         if (input != null) {
-            ByteBuffer byteBuffer = jsonMediaTypeCodec.encode(input, byteBufferFactory).asNioBuffer();
+            ByteBuffer byteBuffer = ByteBuffer.wrap(jsonMediaTypeCodec.encode(input));
             invokeRequest.setPayload(byteBuffer);
         }
     }
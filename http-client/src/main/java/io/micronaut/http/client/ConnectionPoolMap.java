@@ -0,0 +1,301 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.http.client;
+
+import io.micronaut.core.annotation.Internal;
+import io.netty.bootstrap.Bootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelPipeline;
+import io.netty.channel.pool.AbstractChannelPoolHandler;
+import io.netty.channel.pool.AbstractChannelPoolMap;
+import io.netty.channel.pool.ChannelHealthChecker;
+import io.netty.channel.pool.ChannelPool;
+import io.netty.channel.pool.FixedChannelPool;
+import io.netty.channel.pool.SimpleChannelPool;
+import io.netty.handler.timeout.IdleStateHandler;
+import io.netty.util.AttributeKey;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.Promise;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Maintains a connection pool for each remote host a {@link DefaultHttpClient} connects to. Since the
+ * {@link LoadBalancer} resolves each request to the URI of a single server, every server gets its own pool.
+ *
+ * @since 1.0
+ */
+@Internal
+class ConnectionPoolMap extends AbstractChannelPoolMap<ConnectionPoolMap.RequestKey, ConnectionPoolMap.InstrumentedChannelPool> {
+
+    private static final int DEFAULT_HTTP_PORT = 80;
+    private static final int DEFAULT_HTTPS_PORT = 443;
+    private static final AttributeKey<Long> CONNECTION_EXPIRY = AttributeKey.valueOf("micronaut.http.client.connection.expiry");
+    private static final AttributeKey<Boolean> CONNECTION_LEASED = AttributeKey.valueOf("micronaut.http.client.connection.leased");
+
+    private final Bootstrap bootstrap;
+    private final HttpClientConfiguration.ConnectionPoolConfiguration poolConfiguration;
+    private final Function<RequestKey, ChannelHandler> initializer;
+
+    /**
+     * @param bootstrap         The bootstrap of the client
+     * @param poolConfiguration The connection pool configuration
+     * @param initializer       Creates the handler that initializes the pipeline of a new connection
+     */
+    ConnectionPoolMap(
+            Bootstrap bootstrap,
+            HttpClientConfiguration.ConnectionPoolConfiguration poolConfiguration,
+            Function<RequestKey, ChannelHandler> initializer) {
+        this.bootstrap = bootstrap;
+        this.poolConfiguration = poolConfiguration;
+        this.initializer = initializer;
+    }
+
+    /**
+     * @param channel The channel
+     * @return Whether the connection has exceeded its time to live
+     */
+    static boolean isExpired(Channel channel) {
+        Long expiry = channel.attr(CONNECTION_EXPIRY).get();
+        return expiry != null && System.nanoTime() - expiry >= 0;
+    }
+
+    @Override
+    protected InstrumentedChannelPool newPool(RequestKey key) {
+        Bootstrap newBootstrap = bootstrap.clone();
+        newBootstrap.remoteAddress(key.getRemoteAddress());
+
+        AtomicInteger open = new AtomicInteger();
+        Long ttl = poolConfiguration.getConnectionTtl().map(Duration::toNanos).orElse(null);
+        Long idleTimeout = poolConfiguration.getIdleTimeout().map(Duration::toNanos).orElse(null);
+        AbstractChannelPoolHandler channelPoolHandler = new AbstractChannelPoolHandler() {
+            @Override
+            public void channelCreated(Channel ch) {
+                open.incrementAndGet();
+                ch.closeFuture().addListener(f -> open.decrementAndGet());
+                if (ttl != null) {
+                    ch.attr(CONNECTION_EXPIRY).set(System.nanoTime() + ttl);
+                }
+                ch.pipeline().addLast(initializer.apply(key));
+            }
+
+            @Override
+            public void channelReleased(Channel ch) {
+                if (idleTimeout != null && ch.isOpen()) {
+                    // an idle state event is handled by the stream handler, which closes the connection
+                    ch.pipeline().addBefore(
+                        DefaultHttpClient.HANDLER_HTTP_CLIENT_CODEC,
+                        DefaultHttpClient.HANDLER_IDLE_TIMEOUT,
+                        new IdleStateHandler(0, 0, idleTimeout, TimeUnit.NANOSECONDS)
+                    );
+                }
+            }
+
+            @Override
+            public void channelAcquired(Channel ch) {
+                ChannelPipeline pipeline = ch.pipeline();
+                if (pipeline.get(DefaultHttpClient.HANDLER_IDLE_TIMEOUT) != null) {
+                    pipeline.remove(DefaultHttpClient.HANDLER_IDLE_TIMEOUT);
+                }
+            }
+        };
+        ChannelHealthChecker healthChecker = ch -> ch.eventLoop().newSucceededFuture(ch.isActive() && !isExpired(ch));
+
+        ChannelPool channelPool;
+        int maxConnections = poolConfiguration.getMaxConnections();
+        if (maxConnections > 0) {
+            Optional<Duration> acquireTimeout = poolConfiguration.getAcquireTimeout();
+            channelPool = new FixedChannelPool(
+                newBootstrap,
+                channelPoolHandler,
+                healthChecker,
+                acquireTimeout.isPresent() ? FixedChannelPool.AcquireTimeoutAction.FAIL : null,
+                acquireTimeout.map(Duration::toMillis).orElse(-1L),
+                maxConnections,
+                poolConfiguration.getMaxPendingAcquires()
+            );
+        } else {
+            channelPool = new SimpleChannelPool(newBootstrap, channelPoolHandler, healthChecker);
+        }
+        return new InstrumentedChannelPool(channelPool, open);
+    }
+
+    /**
+     * Key used to identify the connection pool of a remote host.
+     */
+    static final class RequestKey {
+        private final String host;
+        private final int port;
+        private final boolean secure;
+
+        /**
+         * @param requestURI The URI of the request
+         * @param secure     Whether the connection uses SSL
+         */
+        RequestKey(URI requestURI, boolean secure) {
+            this.secure = secure;
+            this.host = requestURI.getHost();
+            int port = requestURI.getPort();
+            this.port = port > -1 ? port : secure ? DEFAULT_HTTPS_PORT : DEFAULT_HTTP_PORT;
+        }
+
+        /**
+         * @return The host
+         */
+        String getHost() {
+            return host;
+        }
+
+        /**
+         * @return The port
+         */
+        int getPort() {
+            return port;
+        }
+
+        /**
+         * @return Whether the connection uses SSL
+         */
+        boolean isSecure() {
+            return secure;
+        }
+
+        /**
+         * @return The remote address to connect to
+         */
+        InetSocketAddress getRemoteAddress() {
+            return InetSocketAddress.createUnresolved(host, port);
+        }
+
+        /**
+         * @return The URI of the remote host
+         */
+        URI toURI() {
+            try {
+                return new URI(secure ? "https" : "http", null, host, port, null, null, null);
+            } catch (URISyntaxException e) {
+                throw new IllegalStateException("Invalid host or port: " + host + ":" + port, e);
+            }
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            RequestKey that = (RequestKey) o;
+            return port == that.port &&
+                secure == that.secure &&
+                Objects.equals(host, that.host);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(host, port, secure);
+        }
+    }
+
+    /**
+     * A {@link ChannelPool} that keeps track of the number of leased connections and pending acquires.
+     */
+    static final class InstrumentedChannelPool implements ChannelPool {
+
+        private final ChannelPool delegate;
+        private final AtomicInteger open;
+        private final AtomicInteger leased = new AtomicInteger();
+        private final AtomicInteger pending = new AtomicInteger();
+
+        /**
+         * @param delegate The pool to delegate to
+         * @param open     The number of open connections of the pool
+         */
+        InstrumentedChannelPool(ChannelPool delegate, AtomicInteger open) {
+            this.delegate = delegate;
+            this.open = open;
+        }
+
+        @Override
+        public Future<Channel> acquire() {
+            return acquire(null);
+        }
+
+        @Override
+        public Future<Channel> acquire(Promise<Channel> promise) {
+            pending.incrementAndGet();
+            Future<Channel> future = promise != null ? delegate.acquire(promise) : delegate.acquire();
+            future.addListener(f -> {
+                pending.decrementAndGet();
+                if (f.isSuccess()) {
+                    Channel channel = (Channel) f.getNow();
+                    if (channel.attr(CONNECTION_LEASED).getAndSet(Boolean.TRUE) == null) {
+                        leased.incrementAndGet();
+                    }
+                }
+            });
+            return future;
+        }
+
+        @Override
+        public Future<Void> release(Channel channel) {
+            onRelease(channel);
+            return delegate.release(channel);
+        }
+
+        @Override
+        public Future<Void> release(Channel channel, Promise<Void> promise) {
+            onRelease(channel);
+            return delegate.release(channel, promise);
+        }
+
+        @Override
+        public void close() {
+            delegate.close();
+        }
+
+        /**
+         * @return A snapshot of the state of the pool
+         */
+        ConnectionPoolStatistics getStatistics() {
+            int leasedCount = leased.get();
+            return new ConnectionPoolStatistics(
+                leasedCount,
+                Math.max(0, open.get() - leasedCount),
+                pending.get()
+            );
+        }
+
+        private void onRelease(Channel channel) {
+            // only channels that were handed out by a successful acquire count as leased, such that releasing a
+            // channel twice or after a failed acquire does not corrupt the count
+            if (channel.attr(CONNECTION_LEASED).getAndSet(null) != null) {
+                leased.decrementAndGet();
+            }
+        }
+    }
+}
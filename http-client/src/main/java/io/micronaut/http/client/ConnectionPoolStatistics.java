@@ -0,0 +1,71 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.http.client;
+
+/**
+ * A snapshot of the state of the connection pool a client maintains for a remote host.
+ *
+ * @since 1.0
+ * @see HttpClientConfiguration.ConnectionPoolConfiguration
+ */
+public class ConnectionPoolStatistics {
+
+    private final int leased;
+    private final int idle;
+    private final int pending;
+
+    /**
+     * @param leased  The number of connections currently in use
+     * @param idle    The number of open connections available in the pool
+     * @param pending The number of requests waiting for a connection
+     */
+    public ConnectionPoolStatistics(int leased, int idle, int pending) {
+        this.leased = leased;
+        this.idle = idle;
+        this.pending = pending;
+    }
+
+    /**
+     * @return The number of connections currently in use
+     */
+    public int getLeased() {
+        return leased;
+    }
+
+    /**
+     * @return The number of open connections available in the pool
+     */
+    public int getIdle() {
+        return idle;
+    }
+
+    /**
+     * @return The number of requests waiting for a connection
+     */
+    public int getPending() {
+        return pending;
+    }
+
+    @Override
+    public String toString() {
+        return "ConnectionPoolStatistics{" +
+            "leased=" + leased +
+            ", idle=" + idle +
+            ", pending=" + pending +
+            '}';
+    }
+}
@@ -20,6 +20,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.micronaut.context.annotation.Parameter;
 import io.micronaut.context.annotation.Prototype;
+import io.micronaut.context.exceptions.ConfigurationException;
 import io.micronaut.core.annotation.AnnotationMetadataResolver;
 import io.micronaut.core.async.publisher.Publishers;
 import io.micronaut.core.beans.BeanMap;
@@ -52,6 +53,8 @@ import io.micronaut.http.filter.ClientFilterChain;
 import io.micronaut.http.filter.HttpClientFilter;
 import io.micronaut.http.multipart.MultipartException;
 import io.micronaut.http.netty.buffer.NettyByteBufferFactory;
+import io.micronaut.http.netty.channel.EventLoopGroupFactory;
+import io.micronaut.http.netty.channel.EventLoopGroupRegistry;
 import io.micronaut.http.netty.channel.NettyThreadFactory;
 import io.micronaut.http.netty.content.HttpContentUtil;
 import io.micronaut.http.netty.stream.HttpStreamsClientHandler;
@@ -66,8 +69,8 @@ import io.micronaut.runtime.ApplicationConfiguration;
 import io.netty.bootstrap.Bootstrap;
 import io.netty.buffer.*;
 import io.netty.channel.*;
-import io.netty.channel.nio.NioEventLoopGroup;
-import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.channel.epoll.EpollChannelOption;
+import io.netty.channel.pool.ChannelPool;
 import io.netty.handler.codec.LineBasedFrameDecoder;
 import io.netty.handler.codec.TooLongFrameException;
 import io.netty.handler.codec.http.*;
@@ -84,6 +87,7 @@ import io.netty.handler.timeout.IdleStateHandler;
 import io.netty.handler.timeout.ReadTimeoutHandler;
 import io.netty.util.CharsetUtil;
 import io.netty.util.concurrent.DefaultThreadFactory;
+import io.netty.util.concurrent.EventExecutor;
 import io.netty.util.concurrent.Future;
 import io.reactivex.*;
 import io.reactivex.disposables.Disposable;
@@ -127,6 +131,10 @@ public class DefaultHttpClient implements RxHttpClient, RxStreamingHttpClient, R
     protected static final String HANDLER_CHUNK = "chunk-writer";
     protected static final String HANDLER_STREAM = "stream-handler";
     protected static final String HANDLER_DECODER = "http-decoder";
+    protected static final String HANDLER_HTTP_CLIENT_CODEC = "http-client-codec";
+    protected static final String HANDLER_READ_TIMEOUT = "read-timeout";
+    protected static final String HANDLER_IDLE_TIMEOUT = "idle-timeout";
+    protected static final String HANDLER_HTTP_CLIENT_RESPONSE = "http-client-response";
 
     private static final Logger LOG = LoggerFactory.getLogger(DefaultHttpClient.class);
     private static final int DEFAULT_HTTP_PORT = 80;
@@ -144,6 +152,9 @@ public class DefaultHttpClient implements RxHttpClient, RxStreamingHttpClient, R
     private final SslContext sslContext;
     private final AnnotationMetadataResolver annotationMetadataResolver;
     private final ThreadFactory threadFactory;
+    private final EventLoopGroupRegistry eventLoopGroupRegistry;
+    private final ConnectionPoolMap poolMap;
+    private final ThreadLocal<Optional<EventLoopGroup>> currentEventLoop = ThreadLocal.withInitial(this::findCurrentEventLoop);
 
     private final HttpClientFilter[] filters;
     private final Charset defaultCharset;
@@ -161,6 +172,30 @@ public class DefaultHttpClient implements RxHttpClient, RxStreamingHttpClient, R
      * @param annotationMetadataResolver The annotation metadata resolver
      * @param filters                    The filters to use
      */
+    public DefaultHttpClient(LoadBalancer loadBalancer,
+                             HttpClientConfiguration configuration,
+                             @Nullable String contextPath,
+                             @Nullable ThreadFactory threadFactory,
+                             NettyClientSslBuilder nettyClientSslBuilder,
+                             MediaTypeCodecRegistry codecRegistry,
+                             @Nullable AnnotationMetadataResolver annotationMetadataResolver,
+                             HttpClientFilter... filters) {
+        this(loadBalancer, configuration, contextPath, threadFactory, nettyClientSslBuilder, codecRegistry, annotationMetadataResolver, null, filters);
+    }
+
+    /**
+     * Construct a client for the given arguments.
+     *
+     * @param loadBalancer               The {@link LoadBalancer} to use for selecting servers
+     * @param configuration              The {@link HttpClientConfiguration} object
+     * @param contextPath                The context path
+     * @param threadFactory              The thread factory to use for client threads
+     * @param nettyClientSslBuilder      The SSL builder
+     * @param codecRegistry              The {@link MediaTypeCodecRegistry} to use for encoding and decoding objects
+     * @param annotationMetadataResolver The annotation metadata resolver
+     * @param eventLoopGroupRegistry     The registry used to look up a shared event loop group
+     * @param filters                    The filters to use
+     */
     @Inject
     public DefaultHttpClient(@Parameter LoadBalancer loadBalancer,
                              @Parameter HttpClientConfiguration configuration,
@@ -169,6 +204,7 @@ public class DefaultHttpClient implements RxHttpClient, RxStreamingHttpClient, R
                              NettyClientSslBuilder nettyClientSslBuilder,
                              MediaTypeCodecRegistry codecRegistry,
                              @Nullable AnnotationMetadataResolver annotationMetadataResolver,
+                             @Nullable EventLoopGroupRegistry eventLoopGroupRegistry,
                              HttpClientFilter... filters) {
 
         this.loadBalancer = loadBalancer;
@@ -177,12 +213,16 @@ public class DefaultHttpClient implements RxHttpClient, RxStreamingHttpClient, R
         this.bootstrap = new Bootstrap();
         this.configuration = configuration;
         this.sslContext = nettyClientSslBuilder.build().orElse(null);
+        this.eventLoopGroupRegistry = eventLoopGroupRegistry;
         this.group = createEventLoopGroup(configuration, threadFactory);
         this.scheduler = Schedulers.from(group);
         this.threadFactory = threadFactory;
         this.bootstrap.group(group)
-            .channel(NioSocketChannel.class)
+            .channel(EventLoopGroupFactory.socketChannelClass(group))
             .option(ChannelOption.SO_KEEPALIVE, true);
+        if (configuration.isTcpFastOpen() && EventLoopGroupFactory.isNative(group)) {
+            NativeOptions.apply(bootstrap);
+        }
 
         Optional<Duration> connectTimeout = configuration.getConnectTimeout();
         connectTimeout.ifPresent(duration -> this.bootstrap.option(
@@ -200,6 +240,20 @@ public class DefaultHttpClient implements RxHttpClient, RxStreamingHttpClient, R
         this.mediaTypeCodecRegistry = codecRegistry;
         this.filters = filters;
         this.annotationMetadataResolver = annotationMetadataResolver != null ? annotationMetadataResolver : AnnotationMetadataResolver.DEFAULT;
+
+        HttpClientConfiguration.ConnectionPoolConfiguration connectionPoolConfiguration = configuration.getConnectionPoolConfiguration();
+        if (connectionPoolConfiguration.isEnabled()) {
+            this.poolMap = new ConnectionPoolMap(bootstrap, connectionPoolConfiguration, key -> new HttpClientInitializer(
+                key.isSecure() ? sslContext : null,
+                key.getHost(),
+                key.getPort(),
+                false,
+                false,
+                true
+            ));
+        } else {
+            this.poolMap = null;
+        }
     }
 
     /**
@@ -300,6 +354,13 @@ public class DefaultHttpClient implements RxHttpClient, RxStreamingHttpClient, R
     @PreDestroy
     public HttpClient stop() {
         if (isRunning()) {
+            if (poolMap != null) {
+                poolMap.close();
+            }
+            if (configuration.getEventLoopGroup().isPresent()) {
+                // shared event loop groups are shut down by the application context
+                return this;
+            }
             Duration shutdownTimeout = configuration.getShutdownTimeout().orElse(Duration.ofMillis(100));
             Future<?> future = this.group.shutdownGracefully(
                     1,
@@ -321,6 +382,23 @@ public class DefaultHttpClient implements RxHttpClient, RxStreamingHttpClient, R
         return this;
     }
 
+    /**
+     * Returns the state of the connection pools of this client, keyed by the URI of the remote host. Pools are
+     * only maintained if {@link HttpClientConfiguration.ConnectionPoolConfiguration#isEnabled()} is true.
+     *
+     * @return The connection pool statistics
+     */
+    public Map<URI, ConnectionPoolStatistics> getConnectionPoolStatistics() {
+        if (poolMap == null) {
+            return Collections.emptyMap();
+        }
+        Map<URI, ConnectionPoolStatistics> statistics = new LinkedHashMap<>();
+        for (Map.Entry<ConnectionPoolMap.RequestKey, ConnectionPoolMap.InstrumentedChannelPool> entry : poolMap) {
+            statistics.put(entry.getKey().toURI(), entry.getValue().getStatistics());
+        }
+        return statistics;
+    }
+
     /**
      * Sets the client identifiers that this client applies to. Used to select a subset of {@link HttpClientFilter}.
      * The client identifiers are equivalents to the value of {@link Client#id()}
@@ -775,7 +853,7 @@ public class DefaultHttpClient implements RxHttpClient, RxStreamingHttpClient, R
                 applyFilterToResponsePublisher(request, requestURI, requestWrapper, streamResponsePublisher)
         );
 
-        return streamResponsePublisher.subscribeOn(scheduler);
+        return subscribeOnEventLoop(streamResponsePublisher);
     }
 
     /**
@@ -791,43 +869,34 @@ public class DefaultHttpClient implements RxHttpClient, RxStreamingHttpClient, R
             Flowable<io.micronaut.http.HttpResponse<O>> responsePublisher = Flowable.create(emitter -> {
                 SslContext sslContext = buildSslContext(requestURI);
 
-                ChannelFuture connectionFuture = doConnect(request, requestURI, sslContext, false);
-                connectionFuture.addListener(future -> {
-                    if (future.isSuccess()) {
-                        try {
+                if (poolMap != null) {
+                    ChannelPool channelPool = poolMap.get(new ConnectionPoolMap.RequestKey(requestURI, sslContext != null));
+                    Future<Channel> channelFuture = channelPool.acquire();
+                    channelFuture.addListener(future -> {
+                        if (future.isSuccess()) {
+                            Channel channel = (Channel) future.getNow();
+                            sendRequestThroughChannel(request, requestWrapper, requestURI, channel, channelPool, emitter, bodyType);
+                        } else {
+                            Throwable cause = future.cause();
+                            emitter.onError(
+                                new HttpClientException("Connect Error: " + cause.getMessage(), cause)
+                            );
+                        }
+                    });
+                } else {
+                    ChannelFuture connectionFuture = doConnect(request, requestURI, sslContext, false);
+                    connectionFuture.addListener(future -> {
+                        if (future.isSuccess()) {
                             Channel channel = connectionFuture.channel();
-                            io.micronaut.http.HttpRequest<I> finalRequest = requestWrapper.get();
-                            MediaType requestContentType = finalRequest
-                                .getContentType()
-                                .orElse(MediaType.APPLICATION_JSON_TYPE);
-
-                            boolean permitsBody = io.micronaut.http.HttpMethod.permitsRequestBody(request.getMethod());
-
-                            NettyClientHttpRequest clientHttpRequest = (NettyClientHttpRequest) finalRequest;
-                            NettyRequestWriter requestWriter = buildNettyRequest(clientHttpRequest, requestURI, requestContentType, permitsBody);
-                            io.netty.handler.codec.http.HttpRequest nettyRequest = requestWriter.getNettyRequest();
-
-                            prepareHttpHeaders(requestURI, finalRequest, nettyRequest, permitsBody);
-                            if (LOG.isDebugEnabled()) {
-                                LOG.debug("Sending HTTP Request: {} {}", nettyRequest.method(), nettyRequest.uri());
-                                LOG.debug("Chosen Server: {}({})", requestURI.getHost(), requestURI.getPort());
-                            }
-                            if (LOG.isTraceEnabled()) {
-                                traceRequest(finalRequest, nettyRequest);
-                            }
-
-                            addFullHttpResponseHandler(request, channel, emitter, bodyType);
-                            requestWriter.writeAndClose(channel, emitter);
-                        } catch (Exception e) {
-                            emitter.onError(e);
+                            sendRequestThroughChannel(request, requestWrapper, requestURI, channel, null, emitter, bodyType);
+                        } else {
+                            Throwable cause = future.cause();
+                            emitter.onError(
+                                new HttpClientException("Connect Error: " + cause.getMessage(), cause)
+                            );
                         }
-                    } else {
-                        Throwable cause = future.cause();
-                        emitter.onError(
-                            new HttpClientException("Connect Error: " + cause.getMessage(), cause)
-                        );
-                    }
-                });
+                    });
+                }
             }, BackpressureStrategy.ERROR);
             Publisher<io.micronaut.http.HttpResponse<O>> finalPublisher = applyFilterToResponsePublisher(request, requestURI, requestWrapper, responsePublisher);
             Flowable<io.micronaut.http.HttpResponse<O>> finalFlowable;
@@ -852,7 +921,7 @@ public class DefaultHttpClient implements RxHttpClient, RxStreamingHttpClient, R
                     return Flowable.error(throwable);
                 });
             }
-            return finalFlowable.subscribeOn(scheduler);
+            return subscribeOnEventLoop(finalFlowable);
         };
     }
 
@@ -959,7 +1028,7 @@ public class DefaultHttpClient implements RxHttpClient, RxStreamingHttpClient, R
             int port,
             @Nullable SslContext sslCtx,
             boolean isStream) {
-        Bootstrap localBootstrap = this.bootstrap.clone();
+        Bootstrap localBootstrap = this.bootstrap.clone(currentEventLoop.get().orElse(group));
         localBootstrap.handler(new HttpClientInitializer(
                 sslCtx,
                 request,
@@ -972,37 +1041,62 @@ public class DefaultHttpClient implements RxHttpClient, RxStreamingHttpClient, R
 
 
     /**
-     * Creates the {@link NioEventLoopGroup} for this client.
+     * Creates the {@link EventLoopGroup} for this client. The native transport is used if
+     * {@link HttpClientConfiguration#isUseNativeTransport()} is true and it is available.
      *
      * @param configuration The configuration
      * @param threadFactory The thread factory
      * @return The group
      */
-    protected NioEventLoopGroup createEventLoopGroup(HttpClientConfiguration configuration, ThreadFactory threadFactory) {
+    protected EventLoopGroup createEventLoopGroup(HttpClientConfiguration configuration, ThreadFactory threadFactory) {
+        Optional<String> eventLoopGroupName = configuration.getEventLoopGroup();
+        if (eventLoopGroupName.isPresent()) {
+            String name = eventLoopGroupName.get();
+            Optional<EventLoopGroup> sharedGroup = eventLoopGroupRegistry != null ? eventLoopGroupRegistry.getEventLoopGroup(name) : Optional.empty();
+            return sharedGroup.orElseThrow(() -> new ConfigurationException("No event loop group configured for name: " + name));
+        }
         OptionalInt numOfThreads = configuration.getNumOfThreads();
         Optional<Class<? extends ThreadFactory>> threadFactoryType = configuration.getThreadFactory();
         boolean hasThreads = numOfThreads.isPresent();
         boolean hasFactory = threadFactoryType.isPresent();
-        NioEventLoopGroup group;
+        boolean useNativeTransport = configuration.isUseNativeTransport();
+        EventLoopGroup group;
         if (hasThreads && hasFactory) {
-            group = new NioEventLoopGroup(numOfThreads.getAsInt(), InstantiationUtils.instantiate(threadFactoryType.get()));
+            group = EventLoopGroupFactory.createEventLoopGroup(useNativeTransport, numOfThreads.getAsInt(), InstantiationUtils.instantiate(threadFactoryType.get()));
         } else if (hasThreads) {
-            if (threadFactory != null) {
-                group = new NioEventLoopGroup(numOfThreads.getAsInt(), threadFactory);
-            } else {
-                group = new NioEventLoopGroup(numOfThreads.getAsInt());
-            }
+            group = EventLoopGroupFactory.createEventLoopGroup(useNativeTransport, numOfThreads.getAsInt(), threadFactory);
         } else {
             if (threadFactory != null) {
-                group = new NioEventLoopGroup(NettyThreadFactory.DEFAULT_EVENT_LOOP_THREADS, threadFactory);
+                group = EventLoopGroupFactory.createEventLoopGroup(useNativeTransport, NettyThreadFactory.DEFAULT_EVENT_LOOP_THREADS, threadFactory);
             } else {
-
-                group = new NioEventLoopGroup();
+                group = EventLoopGroupFactory.createEventLoopGroup(useNativeTransport, 0, (ThreadFactory) null);
             }
         }
         return group;
     }
 
+    /**
+     * When a request is sent from a thread of the event loop group of the client, for example by a controller of the
+     * server sharing the same event loop group, the connection stays on that event loop to avoid a context switch.
+     * Pooled connections are shared by all the threads of the client, so they keep the event loop they were created on.
+     * A thread belongs to at most one event loop for its whole life, so this is only evaluated once per thread.
+     *
+     * @return The event loop of the current thread if it belongs to the event loop group of the client
+     */
+    private Optional<EventLoopGroup> findCurrentEventLoop() {
+        for (EventExecutor executor : group) {
+            if (executor instanceof EventLoop && executor.inEventLoop()) {
+                return Optional.of((EventLoop) executor);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private <T> Flowable<T> subscribeOnEventLoop(Flowable<T> flowable) {
+        Flowable<T> scheduled = flowable.subscribeOn(scheduler);
+        return Flowable.defer(() -> currentEventLoop.get().isPresent() ? flowable : scheduled);
+    }
+
     /**
      * Creates an initial connection with the given bootstrap and remote host.
      *
@@ -1266,6 +1360,92 @@ public class DefaultHttpClient implements RxHttpClient, RxStreamingHttpClient, R
         return new NettyRequestWriter(nettyRequest, postRequestEncoder);
     }
 
+    /**
+     * Writes the request to an established channel and registers the handler for the response.
+     *
+     * @param request        The request
+     * @param requestWrapper The request wrapper
+     * @param requestURI     The request URI
+     * @param channel        The channel
+     * @param channelPool    The pool the channel was acquired from, if any
+     * @param emitter        The emitter
+     * @param bodyType       The body type
+     * @param <I>            The input type
+     * @param <O>            The output type
+     */
+    private <I, O> void sendRequestThroughChannel(
+            io.micronaut.http.HttpRequest<I> request,
+            AtomicReference<io.micronaut.http.HttpRequest> requestWrapper,
+            URI requestURI,
+            Channel channel,
+            @Nullable ChannelPool channelPool,
+            FlowableEmitter<io.micronaut.http.HttpResponse<O>> emitter,
+            io.micronaut.core.type.Argument<O> bodyType) {
+        try {
+            io.micronaut.http.HttpRequest<I> finalRequest = requestWrapper.get();
+            MediaType requestContentType = finalRequest
+                .getContentType()
+                .orElse(MediaType.APPLICATION_JSON_TYPE);
+
+            boolean permitsBody = io.micronaut.http.HttpMethod.permitsRequestBody(request.getMethod());
+
+            NettyClientHttpRequest clientHttpRequest = (NettyClientHttpRequest) finalRequest;
+            NettyRequestWriter requestWriter = buildNettyRequest(clientHttpRequest, requestURI, requestContentType, permitsBody);
+            io.netty.handler.codec.http.HttpRequest nettyRequest = requestWriter.getNettyRequest();
+
+            prepareHttpHeaders(requestURI, finalRequest, nettyRequest, permitsBody, channelPool != null);
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Sending HTTP Request: {} {}", nettyRequest.method(), nettyRequest.uri());
+                LOG.debug("Chosen Server: {}({})", requestURI.getHost(), requestURI.getPort());
+            }
+            if (LOG.isTraceEnabled()) {
+                traceRequest(finalRequest, nettyRequest);
+            }
+
+            if (channelPool != null) {
+                // pooled connections only apply the read timeout while a request is in flight
+                Optional<Duration> readTimeout = configuration.getReadTimeout();
+                if (readTimeout.isPresent() && !readTimeout.get().isNegative()) {
+                    channel.pipeline().addBefore(
+                        HANDLER_HTTP_CLIENT_CODEC,
+                        HANDLER_READ_TIMEOUT,
+                        new ReadTimeoutHandler(readTimeout.get().toMillis(), TimeUnit.MILLISECONDS)
+                    );
+                }
+            }
+            addFullHttpResponseHandler(request, channel, channelPool, emitter, bodyType);
+            requestWriter.writeAndClose(channel, emitter);
+        } catch (Exception e) {
+            if (channelPool != null) {
+                releaseChannel(channel, channelPool, false);
+            }
+            emitter.onError(e);
+        }
+    }
+
+    /**
+     * Returns a pooled channel to its pool once a response has been received. Channels that cannot be reused are
+     * closed first so that the pool discards them.
+     *
+     * @param channel     The channel
+     * @param channelPool The pool
+     * @param keepAlive   Whether the connection may be reused
+     */
+    private void releaseChannel(Channel channel, ChannelPool channelPool, boolean keepAlive) {
+        ChannelPipeline pipeline = channel.pipeline();
+        if (pipeline.get(HANDLER_READ_TIMEOUT) != null) {
+            pipeline.remove(HANDLER_READ_TIMEOUT);
+        }
+        if (pipeline.get(HANDLER_HTTP_CLIENT_RESPONSE) != null) {
+            pipeline.remove(HANDLER_HTTP_CLIENT_RESPONSE);
+        }
+        // chunked request bodies modify the pipeline, so the connection is not reused
+        if (!keepAlive || pipeline.get(HANDLER_CHUNK) != null || ConnectionPoolMap.isExpired(channel)) {
+            channel.close();
+        }
+        channelPool.release(channel);
+    }
+
     private ByteBuf charSequenceToByteBuf(CharSequence bodyValue, MediaType requestContentType) {
         CharSequence charSequence = bodyValue;
         return byteBufferFactory.copiedBuffer(
@@ -1275,10 +1455,10 @@ public class DefaultHttpClient implements RxHttpClient, RxStreamingHttpClient, R
         ).asNativeBuffer();
     }
 
-    private <I> void prepareHttpHeaders(URI requestURI, io.micronaut.http.HttpRequest<I> request, io.netty.handler.codec.http.HttpRequest nettyRequest, boolean permitsBody) {
+    private <I> void prepareHttpHeaders(URI requestURI, io.micronaut.http.HttpRequest<I> request, io.netty.handler.codec.http.HttpRequest nettyRequest, boolean permitsBody, boolean keepAlive) {
         HttpHeaders headers = nettyRequest.headers();
         headers.set(HttpHeaderNames.HOST, requestURI.getHost());
-        headers.set(HttpHeaderNames.CONNECTION, HttpHeaderValues.CLOSE);
+        headers.set(HttpHeaderNames.CONNECTION, keepAlive ? HttpHeaderValues.KEEP_ALIVE : HttpHeaderValues.CLOSE);
 
         if (permitsBody) {
             Optional<I> body = request.getBody();
@@ -1301,14 +1481,17 @@ public class DefaultHttpClient implements RxHttpClient, RxStreamingHttpClient, R
     private <O> void addFullHttpResponseHandler(
             io.micronaut.http.HttpRequest<?> request,
             Channel channel,
-            Emitter<io.micronaut.http.HttpResponse<O>> emitter,
+            @Nullable ChannelPool channelPool,
+            FlowableEmitter<io.micronaut.http.HttpResponse<O>> emitter,
             io.micronaut.core.type.Argument<O> bodyType) {
-        channel.pipeline().addLast(new SimpleChannelInboundHandler<FullHttpResponse>() {
+        channel.pipeline().addLast(HANDLER_HTTP_CLIENT_RESPONSE, new SimpleChannelInboundHandler<FullHttpResponse>() {
 
             AtomicBoolean complete = new AtomicBoolean(false);
+            AtomicBoolean released = new AtomicBoolean(false);
 
             @Override
             protected void channelRead0(ChannelHandlerContext channelHandlerContext, FullHttpResponse fullResponse) {
+                boolean keepAlive = HttpUtil.isKeepAlive(fullResponse);
 
                 HttpResponseStatus status = fullResponse.status();
                 HttpHeaders headers = fullResponse.headers();
@@ -1321,6 +1504,7 @@ public class DefaultHttpClient implements RxHttpClient, RxStreamingHttpClient, R
                 int statusCode = status.code();
                 // it is a redirect
                 if (statusCode > 300 && statusCode < 400 && configuration.isFollowRedirects() && headers.contains(HttpHeaderNames.LOCATION)) {
+                    releaseConnection(keepAlive);
                     String location = headers.get(HttpHeaderNames.LOCATION);
                     Flowable<io.micronaut.http.HttpResponse<O>> redirectedRequest = exchange(io.micronaut.http.HttpRequest.GET(location), bodyType);
                     redirectedRequest.subscribe(new Subscriber<io.micronaut.http.HttpResponse<O>>() {
@@ -1370,13 +1554,30 @@ public class DefaultHttpClient implements RxHttpClient, RxStreamingHttpClient, R
                         }
                         emitter.onComplete();
                     } finally {
-                        closeChannelAsync(channel);
+                        if (channelPool != null) {
+                            releaseConnection(keepAlive);
+                        } else {
+                            closeChannelAsync(channel);
+                        }
+                    }
+                }
+            }
+
+            @Override
+            public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+                if (channelPool != null) {
+                    // a pooled connection may have been closed by the server while it was idle
+                    releaseConnection(false);
+                    if (complete.compareAndSet(false, true)) {
+                        emitter.tryOnError(new HttpClientException("Connection closed before a response was received"));
                     }
                 }
+                super.channelInactive(ctx);
             }
 
             @Override
             public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+                releaseConnection(false);
                 if (complete.compareAndSet(false, true)) {
 
                     String message = cause.getMessage();
@@ -1396,6 +1597,12 @@ public class DefaultHttpClient implements RxHttpClient, RxStreamingHttpClient, R
                     }
                 }
             }
+
+            private void releaseConnection(boolean keepAlive) {
+                if (channelPool != null && released.compareAndSet(false, true)) {
+                    releaseChannel(channel, channelPool, keepAlive);
+                }
+            }
         });
     }
 
@@ -1516,10 +1723,14 @@ public class DefaultHttpClient implements RxHttpClient, RxStreamingHttpClient, R
         NettyClientHttpRequest clientHttpRequest = (NettyClientHttpRequest) request;
         NettyRequestWriter requestWriter = buildNettyRequest(clientHttpRequest, requestURI, requestContentType, permitsBody);
         io.netty.handler.codec.http.HttpRequest nettyRequest = requestWriter.getNettyRequest();
-        prepareHttpHeaders(requestURI, request, nettyRequest, permitsBody);
+        prepareHttpHeaders(requestURI, request, nettyRequest, permitsBody, false);
         return requestWriter;
     }
 
+    private static boolean acceptsEventStream(io.micronaut.http.HttpRequest<?> request) {
+        return request.getHeaders().get(io.micronaut.http.HttpHeaders.ACCEPT, String.class).map(ct -> ct.equals(MediaType.TEXT_EVENT_STREAM)).orElse(false);
+    }
+
     private Disposable buildDisposableChannel(ChannelFuture channelFuture) {
         return new Disposable() {
             boolean disposed = false;
@@ -1553,7 +1764,8 @@ public class DefaultHttpClient implements RxHttpClient, RxStreamingHttpClient, R
         final boolean stream;
         final String host;
         final int port;
-        private final io.micronaut.http.HttpRequest<?> request;
+        final boolean acceptsEvents;
+        final boolean pooled;
 
         /**
          * @param sslContext The ssl context
@@ -1563,11 +1775,25 @@ public class DefaultHttpClient implements RxHttpClient, RxStreamingHttpClient, R
          * @param stream     Whether is stream
          */
         protected HttpClientInitializer(SslContext sslContext, io.micronaut.http.HttpRequest<?> request, String host, int port, boolean stream) {
+            this(sslContext, host, port, stream, acceptsEventStream(request), false);
+        }
+
+        /**
+         * @param sslContext    The ssl context
+         * @param host          The host
+         * @param port          The port
+         * @param stream        Whether is stream
+         * @param acceptsEvents Whether the response is a stream of server sent events
+         * @param pooled        Whether the channel belongs to a connection pool. The read timeout of pooled channels
+         *                      is applied for each request instead of for the lifetime of the channel
+         */
+        protected HttpClientInitializer(SslContext sslContext, String host, int port, boolean stream, boolean acceptsEvents, boolean pooled) {
             this.sslContext = sslContext;
-            this.request = request;
             this.stream = stream;
             this.host = host;
             this.port = port;
+            this.acceptsEvents = acceptsEvents;
+            this.pooled = pooled;
         }
 
         /**
@@ -1601,21 +1827,21 @@ public class DefaultHttpClient implements RxHttpClient, RxStreamingHttpClient, R
 
             // read timeout settings are not applied to streamed requests.
             // instead idle timeout settings are applied.
-            if (!stream) {
+            if (!stream && !pooled) {
                 Optional<Duration> readTimeout = configuration.getReadTimeout();
                 readTimeout.ifPresent(duration -> {
                     if (!duration.isNegative()) {
                         p.addLast(new ReadTimeoutHandler(duration.toMillis(), TimeUnit.MILLISECONDS));
                     }
                 });
-            } else {
+            } else if (stream) {
                 Optional<Duration> readIdleTime = configuration.getReadIdleTime();
                 if (readIdleTime.isPresent()) {
                     Duration duration = readIdleTime.get();
                     p.addLast(new IdleStateHandler(duration.toMillis(), duration.toMillis(), duration.toMillis(), TimeUnit.MILLISECONDS));
                 }
             }
-            p.addLast("http-client-codec", new HttpClientCodec());
+            p.addLast(HANDLER_HTTP_CLIENT_CODEC, new HttpClientCodec());
 
             p.addLast(HANDLER_DECODER, new HttpContentDecompressor());
 
@@ -1636,7 +1862,7 @@ public class DefaultHttpClient implements RxHttpClient, RxStreamingHttpClient, R
 
             // if the content type is a SSE event stream we add a decoder
             // to delimit the content by lines
-            if (acceptsEventStream()) {
+            if (acceptsEvents) {
                 p.addLast(new SimpleChannelInboundHandler<HttpContent>() {
 
                     LineBasedFrameDecoder decoder = new LineBasedFrameDecoder(
@@ -1684,9 +1910,6 @@ public class DefaultHttpClient implements RxHttpClient, RxStreamingHttpClient, R
             });
         }
 
-        private boolean acceptsEventStream() {
-            return request.getHeaders().get(io.micronaut.http.HttpHeaders.ACCEPT, String.class).map(ct -> ct.equals(MediaType.TEXT_EVENT_STREAM)).orElse(false);
-        }
     }
 
     /**
@@ -1727,6 +1950,7 @@ public class DefaultHttpClient implements RxHttpClient, RxStreamingHttpClient, R
             channelFuture.addListener(f -> {
                 try {
                     if (!f.isSuccess()) {
+                        channel.close();
                         emitter.onError(f.cause());
                     } else {
                         channel.read();
@@ -1748,6 +1972,16 @@ public class DefaultHttpClient implements RxHttpClient, RxStreamingHttpClient, R
         }
     }
 
+    /**
+     * Applies the options that are specific to the native transport. Kept in a separate class so that the native
+     * transport classes are only loaded when it is in use.
+     */
+    private static final class NativeOptions {
+        static void apply(Bootstrap bootstrap) {
+            bootstrap.option(EpollChannelOption.TCP_FASTOPEN_CONNECT, true);
+        }
+    }
+
     /**
      * Used as a holder for the current SSE event.
      */
@@ -17,6 +17,7 @@
 package io.micronaut.http.client;
 
 import io.micronaut.core.convert.format.ReadableBytes;
+import io.micronaut.core.util.Toggleable;
 import io.micronaut.http.ssl.ClientSslConfiguration;
 import io.micronaut.http.ssl.SslConfiguration;
 import io.micronaut.runtime.ApplicationConfiguration;
@@ -47,6 +48,12 @@ public abstract class HttpClientConfiguration {
 
     private Integer numOfThreads = null;
 
+    private boolean useNativeTransport = false;
+
+    private boolean tcpFastOpen = false;
+
+    private String eventLoopGroup;
+
     /**
      * The thread factory to use for creating threads.
      */
@@ -76,6 +83,8 @@ public abstract class HttpClientConfiguration {
 
     private SslConfiguration sslConfiguration = new ClientSslConfiguration();
 
+    private ConnectionPoolConfiguration connectionPoolConfiguration = new ConnectionPoolConfiguration();
+
     /**
      * Default constructor.
      */
@@ -107,6 +116,24 @@ public abstract class HttpClientConfiguration {
         this.sslConfiguration = sslConfiguration;
     }
 
+    /**
+     * @return The connection pool configuration for the client
+     */
+    public ConnectionPoolConfiguration getConnectionPoolConfiguration() {
+        return connectionPoolConfiguration;
+    }
+
+    /**
+     * Sets the connection pool configuration for the client.
+     *
+     * @param connectionPoolConfiguration The connection pool configuration
+     */
+    public void setConnectionPoolConfiguration(ConnectionPoolConfiguration connectionPoolConfiguration) {
+        if (connectionPoolConfiguration != null) {
+            this.connectionPoolConfiguration = connectionPoolConfiguration;
+        }
+    }
+
     /**
      * @return Whether redirects should be followed
      */
@@ -242,6 +269,57 @@ public abstract class HttpClientConfiguration {
         this.numOfThreads = numOfThreads;
     }
 
+    /**
+     * @return The name of the shared event loop group the client uses
+     */
+    public Optional<String> getEventLoopGroup() {
+        return Optional.ofNullable(eventLoopGroup);
+    }
+
+    /**
+     * Sets the name of a shared event loop group configured with {@code micronaut.netty.event-loops} to use instead
+     * of creating a new one for the client. A shared event loop group is not shut down when the client stops.
+     *
+     * @param eventLoopGroup The name of the event loop group
+     */
+    public void setEventLoopGroup(@Nullable String eventLoopGroup) {
+        this.eventLoopGroup = eventLoopGroup;
+    }
+
+    /**
+     * @return Whether the client uses the native epoll transport when it is available
+     */
+    public boolean isUseNativeTransport() {
+        return useNativeTransport;
+    }
+
+    /**
+     * Sets whether to use the native epoll transport when it is available. Requires the
+     * {@code netty-transport-native-epoll} dependency for Linux, otherwise NIO is used. Defaults to false.
+     *
+     * @param useNativeTransport True if the native transport should be used
+     */
+    public void setUseNativeTransport(boolean useNativeTransport) {
+        this.useNativeTransport = useNativeTransport;
+    }
+
+    /**
+     * @return Whether connections are opened with TCP fast open
+     */
+    public boolean isTcpFastOpen() {
+        return tcpFastOpen;
+    }
+
+    /**
+     * Sets whether connections are opened with TCP fast open ({@code TCP_FASTOPEN_CONNECT}). Only supported by the
+     * native transport. Defaults to false.
+     *
+     * @param tcpFastOpen True if TCP fast open should be used
+     */
+    public void setTcpFastOpen(boolean tcpFastOpen) {
+        this.tcpFastOpen = tcpFastOpen;
+    }
+
     /**
      * @return An {@link Optional} {@code ThreadFactory}
      */
@@ -346,4 +424,148 @@ public abstract class HttpClientConfiguration {
     public void setProxyPassword(String proxyPassword) {
         this.proxyPassword = proxyPassword;
     }
+
+    /**
+     * Configuration for the pool of keep-alive connections the client maintains for each remote host.
+     */
+    public static class ConnectionPoolConfiguration implements Toggleable {
+
+        /**
+         * The prefix to use for configuration.
+         */
+        public static final String PREFIX = "pool";
+
+        /**
+         * The default enable value.
+         */
+        @SuppressWarnings("WeakerAccess")
+        public static final boolean DEFAULT_ENABLED = false;
+
+        /**
+         * The default max connections value.
+         */
+        @SuppressWarnings("WeakerAccess")
+        public static final int DEFAULT_MAXCONNECTIONS = -1;
+
+        private boolean enabled = DEFAULT_ENABLED;
+
+        private int maxConnections = DEFAULT_MAXCONNECTIONS;
+
+        private int maxPendingAcquires = Integer.MAX_VALUE;
+
+        private Duration acquireTimeout;
+
+        private Duration idleTimeout;
+
+        private Duration connectionTtl;
+
+        /**
+         * Whether connection pooling is enabled.
+         *
+         * @return True if connection pooling is enabled
+         */
+        @Override
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        /**
+         * Sets whether connection pooling is enabled (defaults to false).
+         *
+         * @param enabled True if it is enabled
+         */
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        /**
+         * The maximum number of connections for each remote host. A negative value means no limit.
+         *
+         * @return The max connections
+         */
+        public int getMaxConnections() {
+            return maxConnections;
+        }
+
+        /**
+         * Sets the maximum number of connections for each remote host. Defaults to no maximum.
+         *
+         * @param maxConnections The count
+         */
+        public void setMaxConnections(int maxConnections) {
+            this.maxConnections = maxConnections;
+        }
+
+        /**
+         * Maximum number of requests waiting for a connection once the maximum number of connections is reached.
+         *
+         * @return The max pending requires
+         */
+        public int getMaxPendingAcquires() {
+            return maxPendingAcquires;
+        }
+
+        /**
+         * Sets the maximum number of requests that may wait for a connection. Defaults to no maximum.
+         *
+         * @param maxPendingAcquires The max pending acquires
+         */
+        public void setMaxPendingAcquires(int maxPendingAcquires) {
+            this.maxPendingAcquires = maxPendingAcquires;
+        }
+
+        /**
+         * The time to wait to acquire a connection once the maximum number of connections is reached.
+         *
+         * @return The timeout as a duration.
+         */
+        public Optional<Duration> getAcquireTimeout() {
+            return Optional.ofNullable(acquireTimeout);
+        }
+
+        /**
+         * Sets the timeout to wait for a connection.
+         *
+         * @param acquireTimeout The acquire timeout
+         */
+        public void setAcquireTimeout(@Nullable Duration acquireTimeout) {
+            this.acquireTimeout = acquireTimeout;
+        }
+
+        /**
+         * The amount of time an unused connection may stay in the pool before it is closed.
+         *
+         * @return The idle timeout
+         */
+        public Optional<Duration> getIdleTimeout() {
+            return Optional.ofNullable(idleTimeout);
+        }
+
+        /**
+         * Sets the amount of time an unused connection may stay in the pool before it is closed.
+         *
+         * @param idleTimeout The idle timeout
+         */
+        public void setIdleTimeout(@Nullable Duration idleTimeout) {
+            this.idleTimeout = idleTimeout;
+        }
+
+        /**
+         * The maximum amount of time a connection is reused for, measured from when it was opened.
+         *
+         * @return The connection time to live
+         */
+        public Optional<Duration> getConnectionTtl() {
+            return Optional.ofNullable(connectionTtl);
+        }
+
+        /**
+         * Sets the maximum amount of time a connection is reused for.
+         *
+         * @param connectionTtl The connection time to live
+         */
+        public void setConnectionTtl(@Nullable Duration connectionTtl) {
+            this.connectionTtl = connectionTtl;
+        }
+    }
 }
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.client
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.http.HttpRequest
+import io.micronaut.http.MediaType
+import io.micronaut.http.annotation.Body
+import io.micronaut.http.annotation.Controller
+import io.micronaut.http.annotation.Get
+import io.micronaut.http.annotation.Post
+import io.micronaut.http.client.exceptions.ReadTimeoutException
+import io.micronaut.runtime.server.EmbeddedServer
+import io.netty.channel.embedded.EmbeddedChannel
+import io.netty.channel.pool.ChannelPool
+import io.reactivex.Flowable
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+import java.util.concurrent.atomic.AtomicInteger
+
+/**
+ * @since 1.0
+ */
+class ConnectionPoolSpec extends Specification {
+
+    @Shared
+    @AutoCleanup
+    ApplicationContext context = ApplicationContext.run(
+            "micronaut.http.client.pool.enabled": true,
+            "micronaut.http.client.pool.max-connections": 2,
+            "micronaut.http.client.read-timeout": '1s'
+    )
+
+    @Shared
+    @AutoCleanup
+    EmbeddedServer embeddedServer = context.getBean(EmbeddedServer).start()
+
+    void "test connection pool configuration"() {
+        given:
+        HttpClientConfiguration.ConnectionPoolConfiguration configuration = context.getBean(HttpClientConfiguration).connectionPoolConfiguration
+
+        expect:
+        configuration.enabled
+        configuration.maxConnections == 2
+        !configuration.acquireTimeout.isPresent()
+    }
+
+    void "test connections are reused"() {
+        given:
+        DefaultHttpClient client = context.createBean(HttpClient, embeddedServer.getURL())
+        PollingConditions conditions = new PollingConditions(timeout: 3)
+
+        when:
+        List<String> results = (1..5).collect {
+            client.toBlocking().retrieve(HttpRequest.GET("/pool/get/$it"), String)
+        }
+        results << client.toBlocking().retrieve(HttpRequest.POST("/pool/post", "six").contentType(MediaType.TEXT_PLAIN_TYPE), String)
+
+        then:
+        results == ['1', '2', '3', '4', '5', 'six']
+        conditions.eventually {
+            ConnectionPoolStatistics statistics = client.connectionPoolStatistics.get(embeddedServer.getURI())
+            assert statistics.leased == 0
+            assert statistics.idle == 1
+            assert statistics.pending == 0
+        }
+
+        cleanup:
+        client.close()
+    }
+
+    void "test the number of connections is limited"() {
+        given:
+        DefaultHttpClient client = context.createBean(HttpClient, embeddedServer.getURL())
+        PollingConditions conditions = new PollingConditions(timeout: 3)
+
+        when:
+        List<String> results = Flowable.range(1, 10)
+                .flatMap({ Integer i -> client.retrieve(HttpRequest.GET("/pool/get/$i"), String) })
+                .toList()
+                .blockingGet()
+
+        then:
+        results.sort() == (1..10).collect { it.toString() }.sort()
+        conditions.eventually {
+            ConnectionPoolStatistics statistics = client.connectionPoolStatistics.get(embeddedServer.getURI())
+            assert statistics.leased == 0
+            assert statistics.idle <= 2
+        }
+
+        cleanup:
+        client.close()
+    }
+
+    void "test a connection is discarded after a read timeout"() {
+        given:
+        DefaultHttpClient client = context.createBean(HttpClient, embeddedServer.getURL())
+        PollingConditions conditions = new PollingConditions(timeout: 3)
+
+        when:
+        client.toBlocking().retrieve(HttpRequest.GET('/pool/slow'), String)
+
+        then:
+        thrown(ReadTimeoutException)
+
+        when:
+        String result = client.toBlocking().retrieve(HttpRequest.GET('/pool/get/1'), String)
+
+        then:
+        result == '1'
+        conditions.eventually {
+            ConnectionPoolStatistics statistics = client.connectionPoolStatistics.get(embeddedServer.getURI())
+            assert statistics.leased == 0
+            assert statistics.idle == 1
+        }
+
+        cleanup:
+        client.close()
+    }
+
+    void "test only acquired channels are counted as leased when released"() {
+        given:
+        EmbeddedChannel channel = new EmbeddedChannel()
+        ChannelPool delegate = Mock(ChannelPool) {
+            acquire() >> channel.eventLoop().newSucceededFuture(channel)
+            release(_) >> channel.eventLoop().newSucceededFuture(null)
+        }
+        ConnectionPoolMap.InstrumentedChannelPool pool = new ConnectionPoolMap.InstrumentedChannelPool(delegate, new AtomicInteger(1))
+
+        when:"a channel that was never acquired is released"
+        pool.release(new EmbeddedChannel())
+
+        then:
+        pool.statistics.leased == 0
+
+        when:"a channel is acquired and released twice"
+        pool.acquire().sync()
+        int leased = pool.statistics.leased
+        pool.release(channel)
+        pool.release(channel)
+
+        then:
+        leased == 1
+        pool.statistics.leased == 0
+        pool.statistics.idle == 1
+    }
+
+    @Controller("/pool")
+    static class PoolController {
+
+        @Get(uri = "/get/{id}", produces = MediaType.TEXT_PLAIN)
+        String get(Integer id) {
+            return id.toString()
+        }
+
+        @Post(uri = "/post", consumes = MediaType.TEXT_PLAIN, produces = MediaType.TEXT_PLAIN)
+        String post(@Body String text) {
+            return text
+        }
+
+        @Get(uri = "/slow", produces = MediaType.TEXT_PLAIN)
+        String slow() {
+            sleep 3000
+            return "slow"
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.client
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.exceptions.ConfigurationException
+import io.micronaut.http.HttpRequest
+import io.micronaut.http.MediaType
+import io.micronaut.http.annotation.Controller
+import io.micronaut.http.annotation.Get
+import io.micronaut.http.netty.channel.EventLoopGroupRegistry
+import io.micronaut.inject.qualifiers.Qualifiers
+import io.micronaut.runtime.server.EmbeddedServer
+import io.netty.channel.EventLoopGroup
+import io.reactivex.Flowable
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+import javax.inject.Inject
+
+/**
+ * @since 1.0
+ */
+class SharedEventLoopGroupSpec extends Specification {
+
+    @Shared
+    @AutoCleanup
+    EmbeddedServer embeddedServer = ApplicationContext.run(EmbeddedServer, [
+            'micronaut.netty.event-loops.shared.num-threads': 2,
+            'micronaut.server.netty.worker.event-loop-group': 'shared',
+            'micronaut.http.client.event-loop-group': 'shared'
+    ])
+
+    void "test event loop groups are configured as named beans"() {
+        given:
+        ApplicationContext context = embeddedServer.applicationContext
+        EventLoopGroup group = context.getBean(EventLoopGroup, Qualifiers.byName('shared'))
+
+        expect:
+        context.getBean(EventLoopGroupRegistry).getEventLoopGroup('shared').get().is(group)
+        !context.getBean(EventLoopGroupRegistry).getEventLoopGroup('other').isPresent()
+        group.iterator().size() == 2
+    }
+
+    void "test the server and clients share the event loop group"() {
+        given:
+        ApplicationContext context = embeddedServer.applicationContext
+        EventLoopGroup group = context.getBean(EventLoopGroup, Qualifiers.byName('shared'))
+        DefaultHttpClient client = context.createBean(HttpClient, embeddedServer.getURL())
+
+        when:
+        String result = client.toBlocking().retrieve(HttpRequest.GET('/shared/outer'), String)
+        List<String> threads = result.tokenize(',')
+
+        then:"the outbound call is received on the event loop that sent it"
+        client.group.is(group)
+        threads.size() == 2
+        threads[0] == threads[1]
+
+        when:"the client is stopped"
+        client.stop()
+
+        then:"the shared group is not shut down"
+        !group.isShuttingDown()
+        client.toBlocking().retrieve(HttpRequest.GET('/shared/inner'), String)
+    }
+
+    void "test shared event loop groups are shut down with the context"() {
+        given:
+        ApplicationContext context = ApplicationContext.run('micronaut.netty.event-loops.other.num-threads': 1)
+        EventLoopGroup group = context.getBean(EventLoopGroup, Qualifiers.byName('other'))
+
+        when:
+        context.close()
+
+        then:
+        group.isShuttingDown()
+    }
+
+    void "test an error is thrown for an unknown event loop group"() {
+        given:
+        ApplicationContext context = ApplicationContext.run('micronaut.http.client.event-loop-group': 'unknown')
+
+        when:
+        context.createBean(HttpClient, new URL('http://localhost'))
+
+        then:
+        def e = thrown(Exception)
+        (e instanceof ConfigurationException ? e : e.cause) instanceof ConfigurationException
+
+        cleanup:
+        context.close()
+    }
+
+    @Controller('/shared')
+    static class SharedController {
+
+        @Inject
+        @Client('/')
+        RxHttpClient client
+
+        @Get(uri = '/outer', produces = MediaType.TEXT_PLAIN)
+        Flowable<String> outer() {
+            return Flowable.defer({
+                String thread = Thread.currentThread().name
+                client.retrieve('/shared/inner').map({ String inner -> thread + ',' + Thread.currentThread().name })
+            })
+        }
+
+        @Get(uri = '/inner', produces = MediaType.TEXT_PLAIN)
+        String inner() {
+            return Thread.currentThread().name
+        }
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.http.netty.channel;
+
+import io.micronaut.context.annotation.EachProperty;
+import io.micronaut.context.annotation.Parameter;
+import io.micronaut.core.naming.Named;
+
+import javax.annotation.Nullable;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+/**
+ * Configuration for a named {@link io.netty.channel.EventLoopGroup} that can be shared between the Netty server and
+ * the HTTP clients. For example {@code micronaut.netty.event-loops.shared.num-threads=8} creates an event loop group
+ * bean called {@code shared}.
+ *
+ * @since 1.0
+ */
+@EachProperty(EventLoopGroupConfiguration.PREFIX)
+public class EventLoopGroupConfiguration implements Named {
+
+    /**
+     * The prefix to use for configuration.
+     */
+    public static final String PREFIX = "micronaut.netty.event-loops";
+
+    private final String name;
+    private int numThreads = NettyThreadFactory.DEFAULT_EVENT_LOOP_THREADS;
+    private Integer ioRatio;
+    private String executor;
+    private boolean useNativeTransport = false;
+
+    /**
+     * @param name The name of the event loop group
+     */
+    public EventLoopGroupConfiguration(@Parameter String name) {
+        this.name = name;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return The number of threads of the event loop group
+     */
+    public int getNumThreads() {
+        return numThreads;
+    }
+
+    /**
+     * Sets the number of threads of the event loop group. Defaults to the value of the system property
+     * {@code io.netty.eventLoopThreads} or if not specified the available processors x 2.
+     *
+     * @param numThreads The number of threads
+     */
+    public void setNumThreads(int numThreads) {
+        this.numThreads = numThreads;
+    }
+
+    /**
+     * @return The I/O ratio of the event loops
+     */
+    public OptionalInt getIoRatio() {
+        return ioRatio != null ? OptionalInt.of(ioRatio) : OptionalInt.empty();
+    }
+
+    /**
+     * Sets the percentage of the desired amount of time spent for I/O in the event loops.
+     *
+     * @param ioRatio The I/O ratio
+     */
+    public void setIoRatio(@Nullable Integer ioRatio) {
+        this.ioRatio = ioRatio;
+    }
+
+    /**
+     * @return The name of the configured executor the event loops run on
+     */
+    public Optional<String> getExecutorName() {
+        return Optional.ofNullable(executor);
+    }
+
+    /**
+     * Sets the name of a configured {@link java.util.concurrent.ExecutorService} the event loops should run on.
+     *
+     * @param executor The name of the executor
+     */
+    public void setExecutor(@Nullable String executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * @return Whether the native transport is used if it is available
+     */
+    public boolean isUseNativeTransport() {
+        return useNativeTransport;
+    }
+
+    /**
+     * Sets whether to use the native transport if it is available. Defaults to false.
+     *
+     * @param useNativeTransport True if the native transport should be used
+     */
+    public void setUseNativeTransport(boolean useNativeTransport) {
+        this.useNativeTransport = useNativeTransport;
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.http.netty.channel;
+
+import io.micronaut.core.reflect.ClassUtils;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollServerSocketChannel;
+import io.netty.channel.epoll.EpollSocketChannel;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.ServerSocketChannel;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Creates the {@link EventLoopGroup} instances used by the Netty server and clients and resolves the channel types
+ * that match them.
+ *
+ * <p>When the native transport is requested and the {@code netty-transport-native-epoll} library can be loaded
+ * (which is only the case on Linux) an {@link EpollEventLoopGroup} is used, otherwise the factory falls back to
+ * a {@link NioEventLoopGroup}. The native transport performs fewer system calls, produces less garbage and supports
+ * additional socket options such as {@code SO_REUSEPORT} and {@code TCP_FASTOPEN}.</p>
+ *
+ * @since 1.0
+ */
+public final class EventLoopGroupFactory {
+
+    private static final Logger LOG = LoggerFactory.getLogger(EventLoopGroupFactory.class);
+    private static final boolean EPOLL_PRESENT = ClassUtils.isPresent("io.netty.channel.epoll.Epoll", EventLoopGroupFactory.class.getClassLoader());
+
+    private EventLoopGroupFactory() {
+    }
+
+    /**
+     * @return Whether the native transport can be used on this platform
+     */
+    public static boolean isNativeTransportAvailable() {
+        return EPOLL_PRESENT && EpollSupport.isAvailable();
+    }
+
+    /**
+     * Creates a new event loop group.
+     *
+     * @param useNativeTransport Whether to use the native transport if it is available
+     * @param threads            The number of threads, 0 for the Netty default
+     * @param threadFactory      The thread factory, can be null
+     * @return The event loop group
+     */
+    public static EventLoopGroup createEventLoopGroup(boolean useNativeTransport, int threads, @Nullable ThreadFactory threadFactory) {
+        if (useNativeTransport(useNativeTransport)) {
+            return EpollSupport.createEventLoopGroup(threads, threadFactory);
+        }
+        return new NioEventLoopGroup(threads, threadFactory);
+    }
+
+    /**
+     * Creates a new event loop group that runs on the given executor.
+     *
+     * @param useNativeTransport Whether to use the native transport if it is available
+     * @param threads            The number of threads, 0 for the Netty default
+     * @param executor           The executor
+     * @return The event loop group
+     */
+    public static EventLoopGroup createEventLoopGroup(boolean useNativeTransport, int threads, Executor executor) {
+        if (useNativeTransport(useNativeTransport)) {
+            return EpollSupport.createEventLoopGroup(threads, executor);
+        }
+        return new NioEventLoopGroup(threads, executor);
+    }
+
+    /**
+     * Sets the percentage of the desired amount of time spent for I/O in the event loops of the given group.
+     *
+     * @param group   The event loop group
+     * @param ioRatio The I/O ratio
+     */
+    public static void setIoRatio(EventLoopGroup group, int ioRatio) {
+        if (group instanceof NioEventLoopGroup) {
+            ((NioEventLoopGroup) group).setIoRatio(ioRatio);
+        } else if (isNative(group)) {
+            EpollSupport.setIoRatio(group, ioRatio);
+        }
+    }
+
+    /**
+     * @param group The event loop group
+     * @return Whether the group uses the native transport
+     */
+    public static boolean isNative(EventLoopGroup group) {
+        return EPOLL_PRESENT && EpollSupport.isEpollGroup(group);
+    }
+
+    /**
+     * @param group The event loop group the channel is registered with
+     * @return The server socket channel type to use with the given group
+     */
+    public static Class<? extends ServerSocketChannel> serverSocketChannelClass(EventLoopGroup group) {
+        if (isNative(group)) {
+            return EpollSupport.serverSocketChannelClass();
+        }
+        return NioServerSocketChannel.class;
+    }
+
+    /**
+     * @param group The event loop group the channel is registered with
+     * @return The socket channel type to use with the given group
+     */
+    public static Class<? extends SocketChannel> socketChannelClass(EventLoopGroup group) {
+        if (isNative(group)) {
+            return EpollSupport.socketChannelClass();
+        }
+        return NioSocketChannel.class;
+    }
+
+    private static boolean useNativeTransport(boolean requested) {
+        if (!requested) {
+            return false;
+        }
+        if (isNativeTransportAvailable()) {
+            return true;
+        }
+        if (LOG.isWarnEnabled()) {
+            LOG.warn("Native transport requested but not available on this platform, falling back to NIO. Add the netty-transport-native-epoll dependency for Linux to enable it.");
+        }
+        return false;
+    }
+
+    /**
+     * Isolates the references to the native transport so that they are only loaded when it is present.
+     */
+    private static final class EpollSupport {
+
+        static boolean isAvailable() {
+            return Epoll.isAvailable();
+        }
+
+        static boolean isEpollGroup(EventLoopGroup group) {
+            return group instanceof EpollEventLoopGroup;
+        }
+
+        static EventLoopGroup createEventLoopGroup(int threads, @Nullable ThreadFactory threadFactory) {
+            return new EpollEventLoopGroup(threads, threadFactory);
+        }
+
+        static EventLoopGroup createEventLoopGroup(int threads, Executor executor) {
+            return new EpollEventLoopGroup(threads, executor);
+        }
+
+        static void setIoRatio(EventLoopGroup group, int ioRatio) {
+            ((EpollEventLoopGroup) group).setIoRatio(ioRatio);
+        }
+
+        static Class<? extends ServerSocketChannel> serverSocketChannelClass() {
+            return EpollServerSocketChannel.class;
+        }
+
+        static Class<? extends SocketChannel> socketChannelClass() {
+            return EpollSocketChannel.class;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.http.netty.channel;
+
+import io.micronaut.context.BeanLocator;
+import io.micronaut.context.annotation.EachBean;
+import io.micronaut.context.annotation.Factory;
+import io.micronaut.inject.qualifiers.Qualifiers;
+import io.netty.channel.EventLoopGroup;
+
+import javax.annotation.Nullable;
+import javax.annotation.PreDestroy;
+import javax.inject.Named;
+import javax.inject.Singleton;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Creates an {@link EventLoopGroup} bean for each {@link EventLoopGroupConfiguration} and allows looking them up by
+ * name. Shared event loop groups are owned by the application context and are shut down when it is closed, not by
+ * the servers and clients that use them.
+ *
+ * @since 1.0
+ */
+@Singleton
+@Factory
+public class EventLoopGroupRegistry {
+
+    private final BeanLocator beanLocator;
+    private final ThreadFactory threadFactory;
+    private final List<EventLoopGroup> eventLoopGroups = new CopyOnWriteArrayList<>();
+
+    /**
+     * @param beanLocator   The bean locator
+     * @param threadFactory The thread factory
+     */
+    public EventLoopGroupRegistry(BeanLocator beanLocator, @Named(NettyThreadFactory.NAME) @Nullable ThreadFactory threadFactory) {
+        this.beanLocator = beanLocator;
+        this.threadFactory = threadFactory;
+    }
+
+    /**
+     * Create the event loop group for the given configuration.
+     *
+     * @param configuration The event loop group configuration
+     * @return The event loop group
+     */
+    @EachBean(EventLoopGroupConfiguration.class)
+    public EventLoopGroup eventLoopGroup(EventLoopGroupConfiguration configuration) {
+        boolean useNativeTransport = configuration.isUseNativeTransport();
+        int numThreads = configuration.getNumThreads();
+        Optional<ExecutorService> executorService = configuration.getExecutorName()
+            .flatMap(name -> beanLocator.findBean(ExecutorService.class, Qualifiers.byName(name)));
+        EventLoopGroup group = executorService.map(service ->
+            EventLoopGroupFactory.createEventLoopGroup(useNativeTransport, numThreads, service)
+        ).orElseGet(() ->
+            EventLoopGroupFactory.createEventLoopGroup(useNativeTransport, numThreads, threadFactory)
+        );
+        configuration.getIoRatio().ifPresent(ioRatio -> EventLoopGroupFactory.setIoRatio(group, ioRatio));
+        eventLoopGroups.add(group);
+        return group;
+    }
+
+    /**
+     * Finds the shared event loop group for the given name.
+     *
+     * @param name The name of the event loop group
+     * @return The event loop group if it is configured
+     */
+    public Optional<EventLoopGroup> getEventLoopGroup(String name) {
+        return beanLocator.findBean(EventLoopGroup.class, Qualifiers.byName(name));
+    }
+
+    /**
+     * Shuts down the event loop groups created by this registry.
+     */
+    @PreDestroy
+    void shutdown() {
+        for (EventLoopGroup group : eventLoopGroups) {
+            group.shutdownGracefully();
+        }
+        eventLoopGroups.clear();
+    }
+}
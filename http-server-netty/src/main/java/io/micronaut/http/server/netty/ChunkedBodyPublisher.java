@@ -0,0 +1,255 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.http.server.netty;
+
+import io.micronaut.core.annotation.Internal;
+import io.netty.buffer.ByteBuf;
+import io.netty.handler.codec.http.DefaultHttpContent;
+import io.netty.handler.codec.http.HttpContent;
+import io.netty.util.ReferenceCountUtil;
+import io.netty.util.concurrent.EventExecutor;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A {@link Publisher} of the chunks of a response body that is encoded by a codec into a
+ * {@link ChunkedByteBufOutputStream}. Chunks are only emitted as they are requested, which the subscriber writing
+ * them to the channel does while the channel is writable.
+ *
+ * <p>A codec cannot be paused, so the thread encoding the body waits once the maximum number of chunks is queued until
+ * the subscriber requests more, giving up once no chunk has been requested for the capacity timeout. The event loop of
+ * the channel must never wait, so when the body is encoded on the event loop the number of queued chunks is not bounded
+ * and the chunks are queued until the encoding completes.</p>
+ *
+ * @since 1.0
+ */
+@Internal
+final class ChunkedBodyPublisher implements Publisher<HttpContent>, Subscription {
+
+    /**
+     * The default maximum number of chunks queued before the encoding thread waits.
+     */
+    static final int DEFAULT_MAX_QUEUED_CHUNKS = 4;
+
+    /**
+     * The default time the encoding thread waits for a chunk to be requested before the response is cancelled.
+     */
+    static final Duration DEFAULT_CAPACITY_TIMEOUT = Duration.ofSeconds(60);
+
+    private final EventExecutor eventLoop;
+    private final int maxQueuedChunks;
+    private final long capacityTimeoutNanos;
+    private final Queue<HttpContent> chunks = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicLong requested = new AtomicLong();
+    private final AtomicInteger wip = new AtomicInteger();
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+    private volatile Subscriber<? super HttpContent> subscriber;
+    private volatile boolean done;
+    private volatile boolean cancelled;
+    private Throwable error;
+    private boolean terminated;
+
+    /**
+     * @param eventLoop       The event loop of the channel the chunks are written to
+     * @param maxQueuedChunks The maximum number of chunks queued before the encoding thread waits
+     */
+    ChunkedBodyPublisher(EventExecutor eventLoop, int maxQueuedChunks) {
+        this(eventLoop, maxQueuedChunks, DEFAULT_CAPACITY_TIMEOUT);
+    }
+
+    /**
+     * @param eventLoop       The event loop of the channel the chunks are written to
+     * @param maxQueuedChunks The maximum number of chunks queued before the encoding thread waits
+     * @param capacityTimeout The time the encoding thread waits for a chunk to be requested before the response is
+     *                        cancelled
+     */
+    ChunkedBodyPublisher(EventExecutor eventLoop, int maxQueuedChunks, Duration capacityTimeout) {
+        this.eventLoop = eventLoop;
+        this.maxQueuedChunks = maxQueuedChunks;
+        this.capacityTimeoutNanos = capacityTimeout.toNanos();
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super HttpContent> s) {
+        if (!subscribed.compareAndSet(false, true)) {
+            s.onSubscribe(new Subscription() {
+                @Override
+                public void request(long n) {
+                    // no-op
+                }
+
+                @Override
+                public void cancel() {
+                    // no-op
+                }
+            });
+            s.onError(new IllegalStateException("Only one subscriber allowed"));
+            return;
+        }
+        subscriber = s;
+        s.onSubscribe(this);
+        drain();
+    }
+
+    @Override
+    public void request(long n) {
+        if (n <= 0) {
+            return;
+        }
+        long current;
+        long next;
+        do {
+            current = requested.get();
+            next = current + n < 0 ? Long.MAX_VALUE : current + n;
+        } while (!requested.compareAndSet(current, next));
+        drain();
+    }
+
+    @Override
+    public void cancel() {
+        cancelled = true;
+        drain();
+        signalCapacity();
+    }
+
+    /**
+     * Queues a chunk and waits until it can be written if too many chunks are queued.
+     *
+     * @param chunk The chunk, ownership of which is transferred to the publisher
+     * @throws CancellationException If the response was cancelled, in which case the encoding should stop
+     */
+    void emit(ByteBuf chunk) {
+        if (cancelled) {
+            chunk.release();
+            throw new CancellationException("The response was cancelled");
+        }
+        chunks.offer(new DefaultHttpContent(chunk));
+        queued.incrementAndGet();
+        drain();
+        if (!eventLoop.inEventLoop()) {
+            awaitCapacity();
+        }
+    }
+
+    /**
+     * Completes the publisher once every chunk has been emitted.
+     */
+    void complete() {
+        done = true;
+        drain();
+    }
+
+    /**
+     * Fails the publisher once every queued chunk has been emitted.
+     *
+     * @param e The error
+     */
+    void error(Throwable e) {
+        error = e;
+        done = true;
+        drain();
+    }
+
+    private void awaitCapacity() {
+        boolean timedOut = false;
+        synchronized (this) {
+            long deadline = System.nanoTime() + capacityTimeoutNanos;
+            while (queued.get() >= maxQueuedChunks && !cancelled) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    // nothing is writing the chunks, the channel was closed or the write of the response failed
+                    timedOut = true;
+                    cancelled = true;
+                    break;
+                }
+                try {
+                    TimeUnit.NANOSECONDS.timedWait(this, remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    cancelled = true;
+                }
+            }
+        }
+        if (cancelled) {
+            drain();
+            throw new CancellationException(timedOut ? "Timed out waiting for the response chunks to be written" : "The response was cancelled");
+        }
+    }
+
+    private void signalCapacity() {
+        synchronized (this) {
+            notifyAll();
+        }
+    }
+
+    private void drain() {
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        do {
+            Subscriber<? super HttpContent> s = subscriber;
+            if (cancelled) {
+                clear();
+            } else if (s != null && !terminated) {
+                long r = requested.get();
+                long emitted = 0;
+                while (emitted != r && !cancelled) {
+                    HttpContent chunk = chunks.poll();
+                    if (chunk == null) {
+                        break;
+                    }
+                    queued.decrementAndGet();
+                    s.onNext(chunk);
+                    emitted++;
+                }
+                if (emitted != 0) {
+                    requested.addAndGet(-emitted);
+                    signalCapacity();
+                }
+                if (done && !cancelled && chunks.isEmpty()) {
+                    terminated = true;
+                    if (error != null) {
+                        s.onError(error);
+                    } else {
+                        s.onComplete();
+                    }
+                }
+            }
+            missed = wip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private void clear() {
+        HttpContent chunk;
+        while ((chunk = chunks.poll()) != null) {
+            queued.decrementAndGet();
+            ReferenceCountUtil.release(chunk);
+        }
+    }
+}
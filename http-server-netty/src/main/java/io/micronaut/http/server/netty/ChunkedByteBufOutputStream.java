@@ -0,0 +1,115 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.http.server.netty;
+
+import io.micronaut.core.annotation.Internal;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.Unpooled;
+
+import java.io.OutputStream;
+import java.util.function.Consumer;
+
+/**
+ * An {@link OutputStream} that writes into buffers obtained from a {@link ByteBufAllocator} and hands each buffer to
+ * a consumer once it reaches the chunk size. Bodies smaller than the chunk size end up in a single buffer that can be
+ * obtained with {@link #remaining()}.
+ *
+ * @since 1.0
+ */
+@Internal
+final class ChunkedByteBufOutputStream extends OutputStream {
+
+    private final ByteBufAllocator allocator;
+    private final int chunkSize;
+    private final Consumer<ByteBuf> chunkConsumer;
+    private ByteBuf buffer;
+    private boolean chunked;
+
+    /**
+     * @param allocator     The allocator
+     * @param chunkSize     The size at which a chunk is handed to the consumer
+     * @param chunkConsumer The consumer of the chunks, which takes ownership of the buffer
+     */
+    ChunkedByteBufOutputStream(ByteBufAllocator allocator, int chunkSize, Consumer<ByteBuf> chunkConsumer) {
+        this.allocator = allocator;
+        this.chunkSize = chunkSize;
+        this.chunkConsumer = chunkConsumer;
+    }
+
+    @Override
+    public void write(int b) {
+        currentBuffer().writeByte(b);
+        emitIfFull();
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+        while (len > 0) {
+            ByteBuf current = currentBuffer();
+            int length = Math.min(len, chunkSize - current.readableBytes());
+            current.writeBytes(b, off, length);
+            off += length;
+            len -= length;
+            emitIfFull();
+        }
+    }
+
+    /**
+     * @return Whether at least one chunk has been handed to the consumer
+     */
+    boolean isChunked() {
+        return chunked;
+    }
+
+    /**
+     * Transfers ownership of the data that has not been handed to the consumer yet.
+     *
+     * @return The remaining data
+     */
+    ByteBuf remaining() {
+        ByteBuf remaining = buffer != null ? buffer : Unpooled.EMPTY_BUFFER;
+        buffer = null;
+        return remaining;
+    }
+
+    /**
+     * Releases the data that has not been handed to the consumer.
+     */
+    void release() {
+        if (buffer != null) {
+            buffer.release();
+            buffer = null;
+        }
+    }
+
+    private ByteBuf currentBuffer() {
+        if (buffer == null) {
+            buffer = chunked ? allocator.buffer(chunkSize) : allocator.buffer();
+        }
+        return buffer;
+    }
+
+    private void emitIfFull() {
+        if (buffer.readableBytes() >= chunkSize) {
+            ByteBuf chunk = buffer;
+            buffer = null;
+            chunked = true;
+            chunkConsumer.accept(chunk);
+        }
+    }
+}
@@ -19,6 +19,7 @@ package io.micronaut.http.server.netty;
 import io.micronaut.http.netty.stream.HttpStreamsServerHandler;
 import io.micronaut.context.ApplicationContext;
 import io.micronaut.context.BeanLocator;
+import io.micronaut.context.StartupTimeline;
 import io.micronaut.context.env.Environment;
 import io.micronaut.context.exceptions.ConfigurationException;
 import io.micronaut.core.io.socket.SocketUtils;
@@ -29,11 +30,14 @@ import io.micronaut.core.reflect.ReflectionUtils;
 import io.micronaut.discovery.event.ServiceShutdownEvent;
 import io.micronaut.discovery.event.ServiceStartedEvent;
 import io.micronaut.http.codec.MediaTypeCodecRegistry;
+import io.micronaut.http.netty.channel.EventLoopGroupFactory;
 import io.micronaut.http.netty.channel.NettyThreadFactory;
 import io.micronaut.http.server.binding.RequestBinderRegistry;
 import io.micronaut.http.server.exceptions.ServerStartupException;
 import io.micronaut.http.server.netty.configuration.NettyHttpServerConfiguration;
 import io.micronaut.http.server.netty.decoders.HttpRequestDecoder;
+import io.micronaut.http.server.netty.limit.ConcurrencyLimitHandler;
+import io.micronaut.http.server.netty.limit.ConcurrencyLimiterRegistry;
 import io.micronaut.http.server.netty.ssl.NettyServerSslBuilder;
 import io.micronaut.http.server.netty.types.NettyCustomizableResponseTypeHandlerRegistry;
 import io.micronaut.http.ssl.ServerSslConfiguration;
@@ -49,13 +53,16 @@ import io.micronaut.web.router.Router;
 import io.micronaut.web.router.resource.StaticResourceResolver;
 import io.netty.bootstrap.ServerBootstrap;
 import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.ChannelOutboundHandler;
 import io.netty.channel.ChannelPipeline;
-import io.netty.channel.nio.NioEventLoopGroup;
-import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.MultithreadEventLoopGroup;
+import io.netty.channel.epoll.EpollChannelOption;
+import io.netty.channel.epoll.EpollMode;
 import io.netty.handler.codec.http.HttpServerCodec;
 import io.netty.handler.codec.http.HttpServerKeepAliveHandler;
 import io.netty.handler.codec.http.multipart.DiskFileUpload;
@@ -76,6 +83,8 @@ import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ExecutorService;
@@ -110,16 +119,17 @@ public class NettyHttpServer implements EmbeddedServer {
     private final StaticResourceResolver staticResourceResolver;
     private final Environment environment;
     private final Router router;
-    private final RequestBinderRegistry binderRegistry;
+    private final RequestArgumentSatisfier requestArgumentSatisfier;
     private final BeanLocator beanLocator;
     private final ThreadFactory threadFactory;
     private volatile int serverPort;
     private final ApplicationContext applicationContext;
     private final Optional<SslContext> sslContext;
     private final AtomicBoolean running = new AtomicBoolean(false);
-    private NioEventLoopGroup workerGroup;
-    private NioEventLoopGroup parentGroup;
+    private EventLoopGroup workerGroup;
+    private EventLoopGroup parentGroup;
     private EmbeddedServerInstance serviceInstance;
+    private final List<Channel> serverChannels = new ArrayList<>();
 
     /**
      * @param serverConfiguration                     The Netty HTTP server configuration
@@ -167,7 +177,7 @@ public class NettyHttpServer implements EmbeddedServer {
         this.executorSelector = executorSelector;
         OrderUtil.sort(outboundHandlers);
         this.outboundHandlers = outboundHandlers;
-        this.binderRegistry = binderRegistry;
+        this.requestArgumentSatisfier = new RequestArgumentSatisfier(binderRegistry, router);
         this.staticResourceResolver = resourceResolver;
         this.sslContext = nettyServerSslBuilder.build();
         this.threadFactory = threadFactory;
@@ -188,22 +198,28 @@ public class NettyHttpServer implements EmbeddedServer {
     @Override
     public synchronized EmbeddedServer start() {
         if (!isRunning()) {
+            Optional<StartupTimeline> timeline = applicationContext.findBean(StartupTimeline.class);
+            long start = System.nanoTime();
             workerGroup = createWorkerEventLoopGroup();
             parentGroup = createParentEventLoopGroup();
             ServerBootstrap serverBootstrap = createServerBootstrap();
+            ConcurrencyLimiterRegistry concurrencyLimiters = applicationContext.findBean(ConcurrencyLimiterRegistry.class).orElse(null);
+            long retryAfterSeconds = serverConfiguration.getRetryAfterSeconds();
 
             processOptions(serverConfiguration.getOptions(), serverBootstrap::option);
             processOptions(serverConfiguration.getChildOptions(), serverBootstrap::childOption);
+            boolean isNative = EventLoopGroupFactory.isNative(parentGroup);
+            if (isNative) {
+                NativeOptions.apply(serverBootstrap, serverConfiguration);
+            }
 
             serverBootstrap = serverBootstrap.group(parentGroup, workerGroup)
-                .channel(NioServerSocketChannel.class)
+                .channel(EventLoopGroupFactory.serverSocketChannelClass(parentGroup))
                 .childHandler(new ChannelInitializer() {
                     @Override
                     protected void initChannel(Channel ch) throws Exception {
                         ChannelPipeline pipeline = ch.pipeline();
 
-                        RequestBinderRegistry binderRegistry = NettyHttpServer.this.binderRegistry;
-
                         sslContext.ifPresent(ctx -> pipeline.addLast(ctx.newHandler(ch.alloc())));
 
                         serverConfiguration.getLogLevel().ifPresent(logLevel -> pipeline.addLast(new LoggingHandler(logLevel)));
@@ -222,6 +238,9 @@ public class NettyHttpServer implements EmbeddedServer {
                         pipeline.addLast(new FlowControlHandler());
                         pipeline.addLast(new HttpServerKeepAliveHandler());
                         pipeline.addLast(HTTP_COMPRESSOR, new SmartHttpContentCompressor());
+                        if (concurrencyLimiters != null) {
+                            pipeline.addLast(ConcurrencyLimitHandler.ID, new ConcurrencyLimitHandler(concurrencyLimiters, retryAfterSeconds));
+                        }
                         pipeline.addLast(HTTP_STREAMS_CODEC, new HttpStreamsServerHandler());
                         pipeline.addLast(HttpRequestDecoder.ID, new HttpRequestDecoder(NettyHttpServer.this, environment, serverConfiguration));
                         pipeline.addLast(MICRONAUT_HANDLER, new RoutingInBoundHandler(
@@ -231,7 +250,7 @@ public class NettyHttpServer implements EmbeddedServer {
                             customizableResponseTypeHandlerRegistry,
                             staticResourceResolver,
                             serverConfiguration,
-                            binderRegistry,
+                            requestArgumentSatisfier,
                             executorSelector,
                             ioExecutor
                         ));
@@ -241,15 +260,21 @@ public class NettyHttpServer implements EmbeddedServer {
 
             Optional<String> host = serverConfiguration.getHost();
 
-            bindServerToHost(serverBootstrap, host, new AtomicInteger(0));
+            int bindCount = 1;
+            if (isNative && serverConfiguration.isReusePort() && parentGroup instanceof MultithreadEventLoopGroup) {
+                // with SO_REUSEPORT each parent thread accepts connections on its own server channel
+                bindCount = ((MultithreadEventLoopGroup) parentGroup).executorCount();
+            }
+            bindServerToHost(serverBootstrap, host, bindCount, new AtomicInteger(0));
             running.set(true);
+            timeline.ifPresent(t -> t.append(StartupTimeline.SERVER, getClass().getSimpleName(), start));
         }
 
         return this;
     }
 
     @SuppressWarnings("MagicNumber")
-    private void bindServerToHost(ServerBootstrap serverBootstrap, Optional<String> host, AtomicInteger attempts) {
+    private void bindServerToHost(ServerBootstrap serverBootstrap, Optional<String> host, int bindCount, AtomicInteger attempts) {
         boolean isRandomPort = serverConfiguration.getPort() == -1;
         if (!SocketUtils.isTcpPortAvailable(serverPort) && !isRandomPort) {
             throw new ServerStartupException("Unable to start Micronaut server on port: " + serverPort, new BindException("Address already in use"));
@@ -258,10 +283,15 @@ public class NettyHttpServer implements EmbeddedServer {
             LOG.debug("Binding server to port: {}", serverPort);
         }
         try {
-            if (host.isPresent()) {
-                serverBootstrap.bind(host.get(), serverPort).sync();
-            } else {
-                serverBootstrap.bind(serverPort).sync();
+            for (int i = 0; i < bindCount; i++) {
+                ChannelFuture bindFuture;
+                if (host.isPresent()) {
+                    bindFuture = serverBootstrap.bind(host.get(), serverPort);
+                } else {
+                    bindFuture = serverBootstrap.bind(serverPort);
+                }
+                serverChannels.add(bindFuture.channel());
+                bindFuture.sync();
             }
 
             applicationContext.publishEvent(new ServerStartupEvent(this));
@@ -279,26 +309,41 @@ public class NettyHttpServer implements EmbeddedServer {
                     LOG.error("Error starting Micronaut server: " + e.getMessage(), e);
                 }
             }
+            // the channels bound before the failure would otherwise keep the port open
+            closeServerChannels();
             int attemptCount = attempts.getAndIncrement();
 
             if (isRandomPort && attemptCount < 3) {
                 serverPort = SocketUtils.findAvailableTcpPort();
-                bindServerToHost(serverBootstrap, host, attempts);
+                bindServerToHost(serverBootstrap, host, bindCount, attempts);
             } else {
                 stop();
             }
         }
     }
 
+    private void closeServerChannels() {
+        for (Channel channel : serverChannels) {
+            channel.close();
+        }
+        serverChannels.clear();
+    }
+
     @Override
     public synchronized EmbeddedServer stop() {
         if (isRunning() && workerGroup != null) {
             if (running.compareAndSet(true, false)) {
                 try {
-                    workerGroup.shutdownGracefully()
-                        .addListener(this::logShutdownErrorIfNecessary);
-                    parentGroup.shutdownGracefully()
-                        .addListener(this::logShutdownErrorIfNecessary);
+                    // a shared parent event loop group is not shut down, which would leave the server channels open
+                    closeServerChannels();
+                    if (!isSharedEventLoopGroup(serverConfiguration.getWorker())) {
+                        workerGroup.shutdownGracefully()
+                            .addListener(this::logShutdownErrorIfNecessary);
+                    }
+                    if (!isSharedEventLoopGroup(serverConfiguration.getParent())) {
+                        parentGroup.shutdownGracefully()
+                            .addListener(this::logShutdownErrorIfNecessary);
+                    }
                     applicationContext.publishEvent(new ServerShutdownEvent(this));
                     if (serviceInstance != null) {
                         applicationContext.publishEvent(new ServiceShutdownEvent(serviceInstance));
@@ -371,14 +416,14 @@ public class NettyHttpServer implements EmbeddedServer {
     /**
      * @return The parent event loop group
      */
-    protected NioEventLoopGroup createParentEventLoopGroup() {
+    protected EventLoopGroup createParentEventLoopGroup() {
         return newEventLoopGroup(serverConfiguration.getParent());
     }
 
     /**
      * @return The worker event loop group
      */
-    protected NioEventLoopGroup createWorkerEventLoopGroup() {
+    protected EventLoopGroup createWorkerEventLoopGroup() {
         return newEventLoopGroup(serverConfiguration.getWorker());
     }
 
@@ -389,29 +434,35 @@ public class NettyHttpServer implements EmbeddedServer {
         return new ServerBootstrap();
     }
 
-    private NioEventLoopGroup newEventLoopGroup(NettyHttpServerConfiguration.EventLoopConfig config) {
-        if (config != null) {
+    private EventLoopGroup newEventLoopGroup(NettyHttpServerConfiguration.EventLoopConfig config) {
+        boolean useNativeTransport = serverConfiguration.isUseNativeTransport();
+        if (isSharedEventLoopGroup(config)) {
+            String name = config.getEventLoopGroup().get();
+            return beanLocator.findBean(EventLoopGroup.class, Qualifiers.byName(name)).orElseThrow(() ->
+                new ConfigurationException("No event loop group configured for name: " + name)
+            );
+        } else if (config != null) {
             Optional<ExecutorService> executorService = config.getExecutorName().flatMap(name -> beanLocator.findBean(ExecutorService.class, Qualifiers.byName(name)));
-            NioEventLoopGroup group = executorService.map(service ->
-                new NioEventLoopGroup(config.getNumOfThreads(), service)
-            ).orElseGet(() -> {
-                if (threadFactory != null) {
-                    return new NioEventLoopGroup(config.getNumOfThreads(), threadFactory);
-                } else {
-                    return new NioEventLoopGroup(config.getNumOfThreads());
-                }
-            });
-            config.getIoRatio().ifPresent(group::setIoRatio);
+            EventLoopGroup group = executorService.map(service ->
+                EventLoopGroupFactory.createEventLoopGroup(useNativeTransport, config.getNumOfThreads(), service)
+            ).orElseGet(() ->
+                EventLoopGroupFactory.createEventLoopGroup(useNativeTransport, config.getNumOfThreads(), threadFactory)
+            );
+            config.getIoRatio().ifPresent(ioRatio -> EventLoopGroupFactory.setIoRatio(group, ioRatio));
             return group;
         } else {
             if (threadFactory != null) {
-                return new NioEventLoopGroup(NettyThreadFactory.DEFAULT_EVENT_LOOP_THREADS, threadFactory);
+                return EventLoopGroupFactory.createEventLoopGroup(useNativeTransport, NettyThreadFactory.DEFAULT_EVENT_LOOP_THREADS, threadFactory);
             } else {
-                return new NioEventLoopGroup();
+                return EventLoopGroupFactory.createEventLoopGroup(useNativeTransport, 0, (ThreadFactory) null);
             }
         }
     }
 
+    private boolean isSharedEventLoopGroup(NettyHttpServerConfiguration.EventLoopConfig config) {
+        return config != null && config.getEventLoopGroup().isPresent();
+    }
+
     private void registerMicronautChannelHandlers(ChannelPipeline pipeline) {
         int i = 0;
         for (ChannelHandler outboundHandlerAdapter : outboundHandlers) {
@@ -445,4 +496,24 @@ public class NettyHttpServer implements EmbeddedServer {
             }
         }
     }
+
+    /**
+     * Applies the options that are specific to the native transport. Kept in a separate class so that the native
+     * transport classes are only loaded when it is in use.
+     */
+    private static final class NativeOptions {
+
+        static void apply(ServerBootstrap serverBootstrap, NettyHttpServerConfiguration serverConfiguration) {
+            if (serverConfiguration.isReusePort()) {
+                serverBootstrap.option(EpollChannelOption.SO_REUSEPORT, true);
+            }
+            int tcpFastOpen = serverConfiguration.getTcpFastOpen();
+            if (tcpFastOpen > 0) {
+                serverBootstrap.option(EpollChannelOption.TCP_FASTOPEN, tcpFastOpen);
+            }
+            EpollMode mode = serverConfiguration.isEdgeTriggered() ? EpollMode.EDGE_TRIGGERED : EpollMode.LEVEL_TRIGGERED;
+            serverBootstrap.option(EpollChannelOption.EPOLL_MODE, mode);
+            serverBootstrap.childOption(EpollChannelOption.EPOLL_MODE, mode);
+        }
+    }
 }
@@ -24,22 +24,32 @@ import io.micronaut.core.convert.ConversionError;
 import io.micronaut.core.type.Argument;
 import io.micronaut.http.HttpMethod;
 import io.micronaut.http.HttpRequest;
+import io.micronaut.http.server.binding.DefaultRequestBinderRegistry;
 import io.micronaut.http.server.binding.RequestBinderRegistry;
 import io.micronaut.http.server.binding.binders.BodyArgumentBinder;
 import io.micronaut.http.server.binding.binders.NonBlockingBodyArgumentBinder;
+import io.micronaut.web.router.MethodBasedRoute;
 import io.micronaut.web.router.RouteMatch;
+import io.micronaut.web.router.Router;
 import io.micronaut.web.router.UnresolvedArgument;
 
 import javax.annotation.Nullable;
+import java.nio.charset.Charset;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 
 /**
  * A class containing methods to aid in satisfying arguments of a {@link io.micronaut.web.router.Route}.
  *
+ * <p>Since routes do not change once the router is built, the binder of every route argument is resolved once and kept
+ * in a binding plan so that binding a request does not need to consult the {@link RequestBinderRegistry}. A single
+ * instance is shared by all connections of a server.</p>
+ *
  * @author Graeme Rocher
  * @since 1.0
  */
@@ -47,12 +57,30 @@ import java.util.Optional;
 class RequestArgumentSatisfier {
 
     private final RequestBinderRegistry binderRegistry;
+    private final boolean cacheBindings;
+    // copy on write, keyed by identity since arguments only compare by name and type
+    private volatile Map<Argument, ArgumentBinding> bindings;
 
     /**
      * @param requestBinderRegistry The Request binder registry
+     * @param router                The router whose routes the binding plans are computed for
      */
-    RequestArgumentSatisfier(RequestBinderRegistry requestBinderRegistry) {
+    RequestArgumentSatisfier(RequestBinderRegistry requestBinderRegistry, @Nullable Router router) {
         this.binderRegistry = requestBinderRegistry;
+        // the default registry resolves binders from the argument alone, other registries may consult the request
+        this.cacheBindings = requestBinderRegistry instanceof DefaultRequestBinderRegistry &&
+            ((DefaultRequestBinderRegistry) requestBinderRegistry).isArgumentBinderCacheable();
+        Map<Argument, ArgumentBinding> bindings = new IdentityHashMap<>();
+        if (cacheBindings && router != null) {
+            router.uriRoutes().forEach(route -> {
+                if (route instanceof MethodBasedRoute) {
+                    for (Argument argument : ((MethodBasedRoute) route).getTargetMethod().getArguments()) {
+                        bindings.computeIfAbsent(argument, arg -> newBinding(arg, null));
+                    }
+                }
+            });
+        }
+        this.bindings = bindings;
     }
 
     /**
@@ -72,10 +100,14 @@ class RequestArgumentSatisfier {
             argumentValues = Collections.emptyMap();
         } else {
             argumentValues = new LinkedHashMap<>();
+            Locale locale = request.getLocale().orElse(null);
+            Charset charset = request.getCharacterEncoding();
             // Begin try fulfilling the argument requirements
             for (Argument argument : requiredArguments) {
-                getValueForArgument(argument, request, satisfyOptionals).ifPresent((value) ->
-                    argumentValues.put(argument.getName(), value));
+                Object value = getValueForArgument(getBinding(argument, request), request, locale, charset, satisfyOptionals);
+                if (value != null) {
+                    argumentValues.put(argument.getName(), value);
+                }
             }
         }
 
@@ -90,58 +122,106 @@ class RequestArgumentSatisfier {
      * @return An {@link Optional} for the value
      */
     protected Optional<Object> getValueForArgument(Argument argument, HttpRequest<?> request, boolean satisfyOptionals) {
+        return Optional.ofNullable(getValueForArgument(
+            getBinding(argument, request),
+            request,
+            request.getLocale().orElse(null),
+            request.getCharacterEncoding(),
+            satisfyOptionals
+        ));
+    }
+
+    private Object getValueForArgument(ArgumentBinding binding, HttpRequest<?> request, Locale locale, Charset charset, boolean satisfyOptionals) {
+        ArgumentBinder argumentBinder = binding.binder;
+        if (argumentBinder == null) {
+            return null;
+        }
         Object value = null;
-        Optional<ArgumentBinder> registeredBinder =
-            binderRegistry.findArgumentBinder(argument, request);
-        if (registeredBinder.isPresent()) {
-            ArgumentBinder argumentBinder = registeredBinder.get();
-            ArgumentConversionContext conversionContext = ConversionContext.of(
-                argument,
-                request.getLocale().orElse(null),
-                request.getCharacterEncoding()
-            );
-
-            if (argumentBinder instanceof BodyArgumentBinder) {
-                if (argumentBinder instanceof NonBlockingBodyArgumentBinder) {
-                    ArgumentBinder.BindingResult bindingResult = argumentBinder
-                        .bind(conversionContext, request);
-
-                    if (bindingResult.isPresentAndSatisfied()) {
-                        value = bindingResult.get();
-                    }
+        ArgumentConversionContext conversionContext = ConversionContext.of(binding.argument, locale, charset);
 
-                } else {
-                    ((NettyHttpRequest) request).setBodyRequired(true);
+        if (binding.body) {
+            if (binding.nonBlockingBody) {
+                ArgumentBinder.BindingResult bindingResult = argumentBinder
+                    .bind(conversionContext, request);
 
-                    value = (UnresolvedArgument) () -> argumentBinder.bind(conversionContext, request);
+                if (bindingResult.isPresentAndSatisfied()) {
+                    value = bindingResult.get();
                 }
+
             } else {
+                ((NettyHttpRequest) request).setBodyRequired(true);
 
-                ArgumentBinder.BindingResult bindingResult = argumentBinder
-                    .bind(conversionContext, request);
-                if (argument.getType() == Optional.class) {
-                    if (bindingResult.isSatisfied() || satisfyOptionals) {
-                        Optional optionalValue = bindingResult.getValue();
-                        if (optionalValue.isPresent()) {
-                            value = optionalValue.get();
-                        } else {
-                            value = optionalValue;
-                        }
+                value = (UnresolvedArgument) () -> argumentBinder.bind(conversionContext, request);
+            }
+        } else {
+
+            ArgumentBinder.BindingResult bindingResult = argumentBinder
+                .bind(conversionContext, request);
+            if (binding.optional) {
+                if (bindingResult.isSatisfied() || satisfyOptionals) {
+                    Optional optionalValue = bindingResult.getValue();
+                    if (optionalValue.isPresent()) {
+                        value = optionalValue.get();
+                    } else {
+                        value = optionalValue;
                     }
-                } else if (bindingResult.isPresentAndSatisfied()) {
-                    value = bindingResult.get();
-                } else if (HttpMethod.requiresRequestBody(request.getMethod()) || argument.getDeclaredAnnotation(Nullable.class) != null) {
-                    value = (UnresolvedArgument) () -> {
-                        ArgumentBinder.BindingResult result = argumentBinder.bind(conversionContext, request);
-                        Optional<ConversionError> lastError = conversionContext.getLastError();
-                        if (lastError.isPresent()) {
-                            return (ArgumentBinder.BindingResult) () -> lastError;
-                        }
-                        return result;
-                    };
                 }
+            } else if (bindingResult.isPresentAndSatisfied()) {
+                value = bindingResult.get();
+            } else if (binding.nullable || HttpMethod.requiresRequestBody(request.getMethod())) {
+                value = (UnresolvedArgument) () -> {
+                    ArgumentBinder.BindingResult result = argumentBinder.bind(conversionContext, request);
+                    Optional<ConversionError> lastError = conversionContext.getLastError();
+                    if (lastError.isPresent()) {
+                        return (ArgumentBinder.BindingResult) () -> lastError;
+                    }
+                    return result;
+                };
+            }
+        }
+        return value;
+    }
+
+    private ArgumentBinding getBinding(Argument argument, HttpRequest<?> request) {
+        if (!cacheBindings) {
+            return newBinding(argument, request);
+        }
+        ArgumentBinding binding = bindings.get(argument);
+        if (binding == null) {
+            // an argument of a route that is not matched by URI, for example an error route
+            binding = newBinding(argument, request);
+            synchronized (this) {
+                Map<Argument, ArgumentBinding> newBindings = new IdentityHashMap<>(bindings);
+                newBindings.put(argument, binding);
+                bindings = newBindings;
             }
         }
-        return Optional.ofNullable(value);
+        return binding;
+    }
+
+    private ArgumentBinding newBinding(Argument argument, @Nullable HttpRequest<?> request) {
+        Optional<ArgumentBinder> registeredBinder = binderRegistry.findArgumentBinder(argument, request);
+        return new ArgumentBinding(argument, registeredBinder.orElse(null));
+    }
+
+    /**
+     * The resolved binder of a route argument together with the facts about the argument needed to bind it.
+     */
+    private static final class ArgumentBinding {
+        final Argument argument;
+        final ArgumentBinder binder;
+        final boolean body;
+        final boolean nonBlockingBody;
+        final boolean optional;
+        final boolean nullable;
+
+        ArgumentBinding(Argument argument, @Nullable ArgumentBinder binder) {
+            this.argument = argument;
+            this.binder = binder;
+            this.body = binder instanceof BodyArgumentBinder;
+            this.nonBlockingBody = binder instanceof NonBlockingBodyArgumentBinder;
+            this.optional = argument.getType() == Optional.class;
+            this.nullable = argument.getDeclaredAnnotation(Nullable.class) != null;
+        }
     }
 }
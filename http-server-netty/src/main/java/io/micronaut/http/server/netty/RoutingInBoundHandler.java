@@ -45,8 +45,8 @@ import io.micronaut.http.multipart.StreamingFileUpload;
 import io.micronaut.http.netty.NettyMutableHttpResponse;
 import io.micronaut.http.netty.buffer.NettyByteBufferFactory;
 import io.micronaut.http.netty.content.HttpContentUtil;
+import io.micronaut.http.netty.reactive.HandlerPublisher;
 import io.micronaut.http.netty.stream.StreamedHttpRequest;
-import io.micronaut.http.server.binding.RequestBinderRegistry;
 import io.micronaut.http.server.exceptions.ExceptionHandler;
 import io.micronaut.http.server.exceptions.InternalServerException;
 import io.micronaut.http.server.netty.async.ContextCompletionAwareSubscriber;
@@ -56,6 +56,7 @@ import io.micronaut.http.server.netty.multipart.NettyStreamingFileUpload;
 import io.micronaut.http.server.netty.types.NettyCustomizableResponseTypeHandler;
 import io.micronaut.http.server.netty.types.NettyCustomizableResponseTypeHandlerRegistry;
 import io.micronaut.http.server.netty.types.files.NettyStreamedFileCustomizableResponseType;
+import io.micronaut.http.server.netty.types.files.NettyPrecompressedFileCustomizableResponseType;
 import io.micronaut.http.server.netty.types.files.NettySystemFileCustomizableResponseType;
 import io.micronaut.http.server.types.files.FileCustomizableResponseType;
 import io.micronaut.inject.MethodExecutionHandle;
@@ -70,7 +71,10 @@ import io.micronaut.web.router.resource.StaticResourceResolver;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufHolder;
 import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPipeline;
+import io.netty.channel.EventLoop;
 import io.netty.channel.SimpleChannelInboundHandler;
 import io.netty.handler.codec.DecoderResult;
 import io.netty.handler.codec.TooLongFrameException;
@@ -89,6 +93,7 @@ import org.reactivestreams.Subscription;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
 import java.io.File;
 import java.net.URI;
 import java.net.URISyntaxException;
@@ -98,6 +103,7 @@ import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
@@ -134,7 +140,7 @@ class RoutingInBoundHandler extends SimpleChannelInboundHandler<io.micronaut.htt
      * @param customizableResponseTypeHandlerRegistry The customizable response type handler registry
      * @param staticResourceResolver                  The static resource resolver
      * @param serverConfiguration                     The Netty HTTP server configuration
-     * @param binderRegistry                          The Request binder registry
+     * @param requestArgumentSatisfier                The request argument satisfier
      * @param executorSelector                        The executor selector
      * @param ioExecutor                              The IO executor
      */
@@ -145,7 +151,7 @@ class RoutingInBoundHandler extends SimpleChannelInboundHandler<io.micronaut.htt
         NettyCustomizableResponseTypeHandlerRegistry customizableResponseTypeHandlerRegistry,
         StaticResourceResolver staticResourceResolver,
         NettyHttpServerConfiguration serverConfiguration,
-        RequestBinderRegistry binderRegistry,
+        RequestArgumentSatisfier requestArgumentSatisfier,
         ExecutorSelector executorSelector,
         ExecutorService ioExecutor) {
 
@@ -156,7 +162,7 @@ class RoutingInBoundHandler extends SimpleChannelInboundHandler<io.micronaut.htt
         this.ioExecutor = ioExecutor;
         this.executorSelector = executorSelector;
         this.router = router;
-        this.requestArgumentSatisfier = new RequestArgumentSatisfier(binderRegistry);
+        this.requestArgumentSatisfier = requestArgumentSatisfier;
         this.serverConfiguration = serverConfiguration;
     }
 
@@ -301,6 +307,8 @@ class RoutingInBoundHandler extends SimpleChannelInboundHandler<io.micronaut.htt
                     }
                     writeDefaultErrorResponse(ctx, nettyHttpRequest, e);
                 }
+            } else if (cause instanceof RejectedExecutionException) {
+                writeServiceUnavailableResponse(ctx, nettyHttpRequest, cause);
             } else {
                 writeDefaultErrorResponse(ctx, nettyHttpRequest, cause);
             }
@@ -378,7 +386,7 @@ class RoutingInBoundHandler extends SimpleChannelInboundHandler<io.micronaut.htt
                         "Method [" + httpMethod + "] not allowed. Allowed methods: " + existingRoutes);
                 return;
             } else {
-                Optional<? extends FileCustomizableResponseType> optionalFile = matchFile(requestPath);
+                Optional<? extends FileCustomizableResponseType> optionalFile = matchFile(requestPath, request);
 
                 if (optionalFile.isPresent()) {
                     route = new BasicObjectRouteMatch(optionalFile.get());
@@ -454,7 +462,7 @@ class RoutingInBoundHandler extends SimpleChannelInboundHandler<io.micronaut.htt
         }
     }
 
-    private Optional<? extends FileCustomizableResponseType> matchFile(String path) {
+    private Optional<? extends FileCustomizableResponseType> matchFile(String path, HttpRequest<?> request) {
         Optional<URL> optionalUrl = staticResourceResolver.resolve(path);
 
         if (optionalUrl.isPresent()) {
@@ -463,6 +471,11 @@ class RoutingInBoundHandler extends SimpleChannelInboundHandler<io.micronaut.htt
                 if (url.getProtocol().equals("file")) {
                     File file = Paths.get(url.toURI()).toFile();
                     if (file.exists() && !file.isDirectory() && file.canRead()) {
+                        String acceptEncoding = request.getHeaders().get(HttpHeaders.ACCEPT_ENCODING);
+                        Optional<? extends FileCustomizableResponseType> precompressed = NettyPrecompressedFileCustomizableResponseType.find(file, acceptEncoding);
+                        if (precompressed.isPresent()) {
+                            return precompressed;
+                        }
                         return Optional.of(new NettySystemFileCustomizableResponseType(file));
                     }
                 }
@@ -776,131 +789,236 @@ class RoutingInBoundHandler extends SimpleChannelInboundHandler<io.micronaut.htt
         }
 
         route = route.decorate(finalRoute -> {
-            MediaType defaultResponseMediaType = finalRoute
-                .getProduces()
-                .stream()
-                .findFirst()
-                .orElse(MediaType.APPLICATION_JSON_TYPE);
-
-
-            ReturnType<?> genericReturnType = finalRoute.getReturnType();
-            Class<?> javaReturnType = genericReturnType.getType();
-
-            AtomicReference<io.micronaut.http.HttpRequest<?>> requestReference = new AtomicReference<>(request);
-            boolean isFuture = CompletableFuture.class.isAssignableFrom(javaReturnType);
-            boolean isReactiveReturnType = Publishers.isConvertibleToPublisher(javaReturnType) || isFuture;
-            boolean isSingle =
-                    isReactiveReturnType && Publishers.isSingle(javaReturnType) ||
-                            isResponsePublisher(genericReturnType, javaReturnType) ||
-                                isFuture ||
-                                    finalRoute.getAnnotationMetadata().getValue(Produces.class, "single", Boolean.class).orElse(false);
-
-            // build the result emitter. This result emitter emits the response from a controller action
-            Flowable<?> resultEmitter = buildResultEmitter(finalRoute, requestReference, isReactiveReturnType, isSingle);
-
-
-            // here we transform the result of the controller action into a MutableHttpResponse
-            Flowable<MutableHttpResponse<?>> routePublisher = resultEmitter.map((message) -> {
-                HttpResponse<?> response = messageToResponse(finalRoute, message);
-                MutableHttpResponse<?> finalResponse = (MutableHttpResponse<?>) response;
-                HttpStatus status = finalResponse.getStatus();
-                if (status.getCode() >= HttpStatus.BAD_REQUEST.getCode()) {
-                    Class declaringType = ((MethodBasedRouteMatch) finalRoute).getDeclaringType();
-                    // handle re-mapping of errors
-                    Optional<RouteMatch<Object>> statusRoute = Optional.empty();
-                    // if declaringType is not null, this means its a locally marked method handler
-                    if (declaringType != null) {
-                        statusRoute = router.route(declaringType, status);
-                    }
-                    if (!statusRoute.isPresent()) {
-                        statusRoute = router.route(status);
-                    }
-                    io.micronaut.http.HttpRequest<?> httpRequest = requestReference.get();
-
-                    if (statusRoute.isPresent()) {
-                        RouteMatch<Object> newRoute = statusRoute.get();
-                        requestArgumentSatisfier.fulfillArgumentRequirements(newRoute, httpRequest, true);
-
-                        if (newRoute.isExecutable()) {
-                            Object result;
-                            try {
-                                result = newRoute.execute();
-                                finalResponse = messageToResponse(newRoute, result);
-                            } catch (Throwable e) {
-                                throw new InternalServerException("Error executing status route [" + newRoute + "]: " + e.getMessage(), e);
-                            }
+            EventLoop eventLoop = context.channel().eventLoop();
+            if (executor == eventLoop) {
+                executeRouteMatch(finalRoute, request, eventLoop, context);
+            } else {
+                // dispatch before assembling the response such that a saturated executor sheds the request
+                try {
+                    executor.execute(() -> {
+                        try {
+                            executeRouteMatch(finalRoute, request, null, context);
+                        } catch (Throwable e) {
+                            context.pipeline().fireExceptionCaught(e);
                         }
-                    }
-
+                    });
+                } catch (RejectedExecutionException e) {
+                    context.pipeline().fireExceptionCaught(e);
                 }
-                return finalResponse;
-            });
+            }
+            return null;
+        });
+        return route;
+    }
 
-            routePublisher = buildRoutePublisher(
-                    finalRoute.getDeclaringType(),
-                    javaReturnType,
-                    requestReference,
-                    routePublisher
-            );
+    /**
+     * Executes a route and writes its response. When an executor is given the route is subscribed to on it, otherwise
+     * the route is executed on the current thread.
+     */
+    private void executeRouteMatch(
+            RouteMatch<?> finalRoute,
+            NettyHttpRequest<?> request,
+            @Nullable ExecutorService executor,
+            ChannelHandlerContext context) {
+        MediaType defaultResponseMediaType = finalRoute
+            .getProduces()
+            .stream()
+            .findFirst()
+            .orElse(MediaType.APPLICATION_JSON_TYPE);
+
+
+        ReturnType<?> genericReturnType = finalRoute.getReturnType();
+        Class<?> javaReturnType = genericReturnType.getType();
+
+        boolean isFuture = CompletableFuture.class.isAssignableFrom(javaReturnType);
+        boolean isReactiveReturnType = Publishers.isConvertibleToPublisher(javaReturnType) || isFuture;
+        List<HttpFilter> filters = router.findFilters(request);
+        if (!isReactiveReturnType && filters.isEmpty()) {
+            // without filters a non-reactive result can be written without assembling any publisher
+            executeRouteDirectly(finalRoute, request, javaReturnType, defaultResponseMediaType, executor, context);
+            return;
+        }
 
-            // process the publisher through the available filters
-            Flowable<? extends MutableHttpResponse<?>> filteredPublisher = filterPublisher(
-                    requestReference,
-                    routePublisher,
-                    executor
-            );
+        AtomicReference<io.micronaut.http.HttpRequest<?>> requestReference = new AtomicReference<>(request);
+        boolean isSingle =
+                isReactiveReturnType && Publishers.isSingle(javaReturnType) ||
+                        isResponsePublisher(genericReturnType, javaReturnType) ||
+                            isFuture ||
+                                finalRoute.getAnnotationMetadata().getValue(Produces.class, "single", Boolean.class).orElse(false);
 
+        // build the result emitter. This result emitter emits the response from a controller action
+        Flowable<?> resultEmitter = buildResultEmitter(finalRoute, requestReference, isReactiveReturnType, isSingle);
 
 
-            boolean isStreaming = isReactiveReturnType && !isSingle;
+        // here we transform the result of the controller action into a MutableHttpResponse
+        Flowable<MutableHttpResponse<?>> routePublisher = resultEmitter.map((message) ->
+                resultToResponse(finalRoute, requestReference.get(), message)
+        );
+
+        routePublisher = buildRoutePublisher(
+                finalRoute.getDeclaringType(),
+                javaReturnType,
+                requestReference,
+                routePublisher
+        );
+
+        // process the publisher through the available filters
+        Flowable<? extends MutableHttpResponse<?>> filteredPublisher = filterPublisher(
+                requestReference,
+                routePublisher,
+                executor,
+                filters
+        );
+
 
-            filteredPublisher  = filteredPublisher.switchMap((response) -> {
-                Optional<?> responseBody = response.getBody();
-                if (responseBody.isPresent()) {
-                    Object body = responseBody.get();
-                    if (isStreaming) {
-                        // handled downstream
-                        return Flowable.just(response);
-                    } else if (Publishers.isConvertibleToPublisher(body)) {
-                        Flowable<?> bodyFlowable = Publishers.convertPublisher(body, Flowable.class);
-                        Flowable<MutableHttpResponse<?>> bodyToResponse = bodyFlowable.map((bodyContent) ->
-                                setBodyContent(response, bodyContent)
-                        );
-                        return bodyToResponse.switchIfEmpty(Flowable.just(response));
-                    }
-                }
 
+        boolean isStreaming = isReactiveReturnType && !isSingle;
+
+        filteredPublisher  = filteredPublisher.switchMap((response) -> {
+            if (isStreaming) {
+                // handled downstream
                 return Flowable.just(response);
+            }
+            return bodyToResponsePublisher(response);
+        });
+
+        if (!isStreaming) {
+            subscribeToResponsePublisher(context, defaultResponseMediaType, requestReference, filteredPublisher);
+        } else {
+            filteredPublisher.subscribe(new ContextCompletionAwareSubscriber<MutableHttpResponse<?>>(context) {
+                @Override
+                protected void onComplete(MutableHttpResponse<?> response) {
+                    Optional<?> responseBody = response.getBody();
+                    @SuppressWarnings("unchecked")
+                    Flowable<Object> bodyFlowable = responseBody.map(o -> Publishers.convertPublisher(o, Flowable.class)).orElse(Flowable.empty());
+
+                    NettyMutableHttpResponse nettyHttpResponse = (NettyMutableHttpResponse) response;
+                    FullHttpResponse nettyResponse = nettyHttpResponse.getNativeResponse();
+                    Optional<MediaType> specifiedMediaType = response.getContentType();
+                    MediaType responseMediaType = specifiedMediaType.orElse(defaultResponseMediaType);
+
+                    streamHttpContentChunkByChunk(
+                            context,
+                            request,
+                            nettyResponse,
+                            responseMediaType,
+                            bodyFlowable);
+                }
             });
+        }
+    }
 
-            if (!isStreaming) {
-                subscribeToResponsePublisher(context, defaultResponseMediaType, requestReference, filteredPublisher);
+    /**
+     * Executes a route that has a non-reactive result and no filters to apply on the given executor or the current
+     * thread, then encodes and writes the response without assembling a publisher. A publisher is only used if the
+     * body of the response turns out to be reactive.
+     */
+    private void executeRouteDirectly(
+            RouteMatch<?> finalRoute,
+            NettyHttpRequest<?> request,
+            Class<?> javaReturnType,
+            MediaType defaultResponseMediaType,
+            @Nullable ExecutorService executor,
+            ChannelHandlerContext context) {
+        if (executor == null || executor instanceof EventLoop && ((EventLoop) executor).inEventLoop()) {
+            writeRouteResponse(finalRoute, request, javaReturnType, defaultResponseMediaType, context);
+        } else {
+            try {
+                executor.execute(() -> writeRouteResponse(finalRoute, request, javaReturnType, defaultResponseMediaType, context));
+            } catch (RejectedExecutionException e) {
+                context.pipeline().fireExceptionCaught(e);
+            }
+        }
+    }
+
+    private void writeRouteResponse(
+            RouteMatch<?> finalRoute,
+            NettyHttpRequest<?> request,
+            Class<?> javaReturnType,
+            MediaType defaultResponseMediaType,
+            ChannelHandlerContext context) {
+        MutableHttpResponse<?> response;
+        try {
+            RouteMatch<?> routeMatch = finalRoute;
+            if (!routeMatch.isExecutable()) {
+                routeMatch = requestArgumentSatisfier.fulfillArgumentRequirements(routeMatch, request, true);
+            }
+            Object result = routeMatch.execute();
+            if (result == null) {
+                response = emptyResultToResponse(finalRoute.getDeclaringType(), javaReturnType, request);
             } else {
-                filteredPublisher.subscribe(new ContextCompletionAwareSubscriber<MutableHttpResponse<?>>(context) {
-                    @Override
-                    protected void onComplete(MutableHttpResponse<?> response) {
-                        Optional<?> responseBody = response.getBody();
-                        @SuppressWarnings("unchecked")
-                        Flowable<Object> bodyFlowable = responseBody.map(o -> Publishers.convertPublisher(o, Flowable.class)).orElse(Flowable.empty());
-
-                        NettyMutableHttpResponse nettyHttpResponse = (NettyMutableHttpResponse) response;
-                        FullHttpResponse nettyResponse = nettyHttpResponse.getNativeResponse();
-                        Optional<MediaType> specifiedMediaType = response.getContentType();
-                        MediaType responseMediaType = specifiedMediaType.orElse(defaultResponseMediaType);
-
-                        streamHttpContentChunkByChunk(
-                                context,
-                                request,
-                                nettyResponse,
-                                responseMediaType,
-                                bodyFlowable);
+                response = resultToResponse(finalRoute, request, result);
+            }
+            Optional<?> responseBody = response.getBody();
+            if (responseBody.isPresent() && Publishers.isConvertibleToPublisher(responseBody.get())) {
+                subscribeToResponsePublisher(
+                        context,
+                        defaultResponseMediaType,
+                        new AtomicReference<>(request),
+                        bodyToResponsePublisher(response)
+                );
+                return;
+            }
+            response = encodeResponse(response, defaultResponseMediaType, context);
+        } catch (Throwable e) {
+            ChannelPipeline pipeline = context.pipeline();
+            HandlerPublisher handlerPublisher = pipeline.get(HandlerPublisher.class);
+            if (handlerPublisher != null) {
+                pipeline.remove(handlerPublisher);
+            }
+            pipeline.fireExceptionCaught(e);
+            return;
+        }
+        writeFinalNettyResponse(response, request, context);
+    }
+
+    private MutableHttpResponse<?> resultToResponse(RouteMatch<?> finalRoute, HttpRequest<?> httpRequest, Object message) {
+        MutableHttpResponse<?> finalResponse = messageToResponse(finalRoute, message);
+        HttpStatus status = finalResponse.getStatus();
+        if (status.getCode() >= HttpStatus.BAD_REQUEST.getCode()) {
+            Class declaringType = ((MethodBasedRouteMatch) finalRoute).getDeclaringType();
+            // handle re-mapping of errors
+            Optional<RouteMatch<Object>> statusRoute = Optional.empty();
+            // if declaringType is not null, this means its a locally marked method handler
+            if (declaringType != null) {
+                statusRoute = router.route(declaringType, status);
+            }
+            if (!statusRoute.isPresent()) {
+                statusRoute = router.route(status);
+            }
+
+            if (statusRoute.isPresent()) {
+                RouteMatch<Object> newRoute = statusRoute.get();
+                requestArgumentSatisfier.fulfillArgumentRequirements(newRoute, httpRequest, true);
+
+                if (newRoute.isExecutable()) {
+                    Object result;
+                    try {
+                        result = newRoute.execute();
+                        finalResponse = messageToResponse(newRoute, result);
+                    } catch (Throwable e) {
+                        throw new InternalServerException("Error executing status route [" + newRoute + "]: " + e.getMessage(), e);
                     }
-                });
+                }
             }
 
-            return null;
-        });
-        return route;
+        }
+        return finalResponse;
+    }
+
+    private Flowable<MutableHttpResponse<?>> bodyToResponsePublisher(MutableHttpResponse<?> response) {
+        Optional<?> responseBody = response.getBody();
+        if (responseBody.isPresent()) {
+            Object body = responseBody.get();
+            if (Publishers.isConvertibleToPublisher(body)) {
+                Flowable<?> bodyFlowable = Publishers.convertPublisher(body, Flowable.class);
+                Flowable<MutableHttpResponse<?>> bodyToResponse = bodyFlowable.map((bodyContent) ->
+                        setBodyContent(response, bodyContent)
+                );
+                return bodyToResponse.switchIfEmpty(Flowable.just(response));
+            }
+        }
+        return Flowable.just(response);
     }
 
     private Flowable<MutableHttpResponse<?>> buildRoutePublisher(
@@ -911,42 +1029,12 @@ class RoutingInBoundHandler extends SimpleChannelInboundHandler<io.micronaut.htt
         // In the case of an empty reactive type we switch handling so that
         // a 404 NOT_FOUND is returned
         routePublisher = routePublisher.switchIfEmpty(Flowable.create((emitter) -> {
-            HttpRequest<?> httpRequest = requestReference.get();
             MutableHttpResponse<?> response;
-            if (javaReturnType != void.class) {
-
-                // handle re-mapping of errors
-                Optional<RouteMatch<Object>> statusRoute = Optional.empty();
-                // if declaringType is not null, this means its a locally marked method handler
-                if (declaringType != null) {
-                    statusRoute = router.route(declaringType, HttpStatus.NOT_FOUND);
-                }
-                if (!statusRoute.isPresent()) {
-                    statusRoute = router.route(HttpStatus.NOT_FOUND);
-                }
-
-                if (statusRoute.isPresent()) {
-                    RouteMatch<Object> newRoute = statusRoute.get();
-                    requestArgumentSatisfier.fulfillArgumentRequirements(newRoute, httpRequest, true);
-
-                    if (newRoute.isExecutable()) {
-                        try {
-                            Object result = newRoute.execute();
-                            response = messageToResponse(newRoute, result);
-                        } catch (Throwable e) {
-                            emitter.onError(new InternalServerException("Error executing status route [" + newRoute + "]: " + e.getMessage(), e));
-                            return;
-                        }
-
-                    } else {
-                        response = newNotFoundError(httpRequest);
-                    }
-                } else {
-                    response = newNotFoundError(httpRequest);
-                }
-            } else {
-                // void return type with no response, nothing else to do
-                response = HttpResponse.ok();
+            try {
+                response = emptyResultToResponse(declaringType, javaReturnType, requestReference.get());
+            } catch (InternalServerException e) {
+                emitter.onError(e);
+                return;
             }
             try {
                 emitter.onNext(response);
@@ -958,71 +1046,108 @@ class RoutingInBoundHandler extends SimpleChannelInboundHandler<io.micronaut.htt
         return routePublisher;
     }
 
+    private MutableHttpResponse<?> emptyResultToResponse(Class<?> declaringType, Class<?> javaReturnType, HttpRequest<?> httpRequest) {
+        if (javaReturnType == void.class) {
+            // void return type with no response, nothing else to do
+            return HttpResponse.ok();
+        }
+
+        // handle re-mapping of errors
+        Optional<RouteMatch<Object>> statusRoute = Optional.empty();
+        // if declaringType is not null, this means its a locally marked method handler
+        if (declaringType != null) {
+            statusRoute = router.route(declaringType, HttpStatus.NOT_FOUND);
+        }
+        if (!statusRoute.isPresent()) {
+            statusRoute = router.route(HttpStatus.NOT_FOUND);
+        }
+
+        if (statusRoute.isPresent()) {
+            RouteMatch<Object> newRoute = statusRoute.get();
+            requestArgumentSatisfier.fulfillArgumentRequirements(newRoute, httpRequest, true);
+
+            if (newRoute.isExecutable()) {
+                try {
+                    Object result = newRoute.execute();
+                    return messageToResponse(newRoute, result);
+                } catch (Throwable e) {
+                    throw new InternalServerException("Error executing status route [" + newRoute + "]: " + e.getMessage(), e);
+                }
+            }
+        }
+        return newNotFoundError(httpRequest);
+    }
+
     private void subscribeToResponsePublisher(
             ChannelHandlerContext context,
             MediaType defaultResponseMediaType,
             AtomicReference<HttpRequest<?>> requestReference,
             Flowable<? extends MutableHttpResponse<?>> finalPublisher) {
-        finalPublisher =  finalPublisher.map((response) -> {
-            Optional<MediaType> specifiedMediaType = response.getContentType();
-            MediaType responseMediaType = specifiedMediaType.orElse(defaultResponseMediaType);
+        finalPublisher = finalPublisher.map((response) -> encodeResponse(response, defaultResponseMediaType, context));
 
-            Optional<?> responseBody = response.getBody();
-            if (responseBody.isPresent()) {
+        finalPublisher.subscribe(new ContextCompletionAwareSubscriber<MutableHttpResponse<?>>(context) {
+            @Override
+            protected void onComplete(MutableHttpResponse<?> message) {
+                writeFinalNettyResponse(message, requestReference.get(), context);
+            }
 
-                Object body = responseBody.get();
+            @Override
+            protected void doOnError(Throwable t) {
+                super.doOnError(t);
+            }
+        });
+    }
 
-                Optional<NettyCustomizableResponseTypeHandler> typeHandler = customizableResponseTypeHandlerRegistry
-                        .findTypeHandler(body.getClass());
-                if (typeHandler.isPresent()) {
-                    NettyCustomizableResponseTypeHandler th = typeHandler.get();
-                    setBodyContent(response, new NettyCustomizableResponseTypeHandlerInvoker(th, body));
-                    return response;
-                }
+    private MutableHttpResponse<?> encodeResponse(MutableHttpResponse<?> response, MediaType defaultResponseMediaType, ChannelHandlerContext context) {
+        Optional<MediaType> specifiedMediaType = response.getContentType();
+        MediaType responseMediaType = specifiedMediaType.orElse(defaultResponseMediaType);
 
-                if (specifiedMediaType.isPresent())  {
+        Optional<?> responseBody = response.getBody();
+        if (responseBody.isPresent()) {
 
-                    Optional<MediaTypeCodec> registeredCodec = mediaTypeCodecRegistry.findCodec(responseMediaType, body.getClass());
-                    if (registeredCodec.isPresent()) {
-                        MediaTypeCodec codec = registeredCodec.get();
-                        return encodeBodyWithCodec(response, body, codec, responseMediaType, context);
-                    }
-                }
+            Object body = responseBody.get();
+
+            Optional<NettyCustomizableResponseTypeHandler> typeHandler = customizableResponseTypeHandlerRegistry
+                    .findTypeHandler(body.getClass());
+            if (typeHandler.isPresent()) {
+                NettyCustomizableResponseTypeHandler th = typeHandler.get();
+                setBodyContent(response, new NettyCustomizableResponseTypeHandlerInvoker(th, body));
+                return response;
+            }
+
+            if (specifiedMediaType.isPresent())  {
 
-                Optional<MediaTypeCodec> registeredCodec = mediaTypeCodecRegistry.findCodec(defaultResponseMediaType, body.getClass());
+                Optional<MediaTypeCodec> registeredCodec = mediaTypeCodecRegistry.findCodec(responseMediaType, body.getClass());
                 if (registeredCodec.isPresent()) {
                     MediaTypeCodec codec = registeredCodec.get();
                     return encodeBodyWithCodec(response, body, codec, responseMediaType, context);
                 }
-
-                MediaTypeCodec defaultCodec = new TextPlainCodec(serverConfiguration.getDefaultCharset());
-
-                return encodeBodyWithCodec(response, body, defaultCodec, responseMediaType,  context);
-            } else {
-                return response;
             }
-        });
 
-        finalPublisher.subscribe(new ContextCompletionAwareSubscriber<MutableHttpResponse<?>>(context) {
-            @Override
-            protected void onComplete(MutableHttpResponse<?> message) {
-                writeFinalNettyResponse(message, requestReference, context);
+            Optional<MediaTypeCodec> registeredCodec = mediaTypeCodecRegistry.findCodec(defaultResponseMediaType, body.getClass());
+            if (registeredCodec.isPresent()) {
+                MediaTypeCodec codec = registeredCodec.get();
+                return encodeBodyWithCodec(response, body, codec, responseMediaType, context);
             }
 
-            @Override
-            protected void doOnError(Throwable t) {
-                super.doOnError(t);
-            }
-        });
+            MediaTypeCodec defaultCodec = new TextPlainCodec(serverConfiguration.getDefaultCharset());
+
+            return encodeBodyWithCodec(response, body, defaultCodec, responseMediaType,  context);
+        } else {
+            return response;
+        }
     }
 
-    private void writeFinalNettyResponse(MutableHttpResponse<?> message, AtomicReference<HttpRequest<?>> requestReference, ChannelHandlerContext context) {
+    private void writeFinalNettyResponse(MutableHttpResponse<?> message, HttpRequest<?> request, ChannelHandlerContext context) {
         NettyMutableHttpResponse nettyHttpResponse = (NettyMutableHttpResponse) message;
         FullHttpResponse nettyResponse = nettyHttpResponse.getNativeResponse();
         Optional<NettyCustomizableResponseTypeHandlerInvoker> customizableTypeBody = message.getBody(NettyCustomizableResponseTypeHandlerInvoker.class);
-        if (customizableTypeBody.isPresent()) {
+        if (message.getBody(ChunkedByteBufOutputStream.class).isPresent()) {
+            // the response was already written while the body was encoded in chunks
+            context.read();
+        } else if (customizableTypeBody.isPresent()) {
             NettyCustomizableResponseTypeHandlerInvoker handler = customizableTypeBody.get();
-            handler.invoke(requestReference.get(), nettyHttpResponse, context);
+            handler.invoke(request, nettyHttpResponse, context);
         } else {
             // close handled by HttpServerKeepAliveHandler
             context.writeAndFlush(nettyResponse);
@@ -1031,19 +1156,84 @@ class RoutingInBoundHandler extends SimpleChannelInboundHandler<io.micronaut.htt
     }
 
     private MutableHttpResponse<?> encodeBodyWithCodec(MutableHttpResponse<?> response, Object body, MediaTypeCodec codec, MediaType mediaType, ChannelHandlerContext context) {
-        ByteBuf byteBuf = encodeBodyAsByteBuf(body, codec, context);
-        int len = byteBuf.readableBytes();
         MutableHttpHeaders headers = response.getHeaders();
         if (!headers.contains(HttpHeaders.CONTENT_TYPE)) {
             headers.add(HttpHeaderNames.CONTENT_TYPE, mediaType);
         }
         headers.remove(HttpHeaders.CONTENT_LENGTH);
-        headers.add(HttpHeaderNames.CONTENT_LENGTH, String.valueOf(len));
+
+        ByteBuf byteBuf;
+        int chunkSize = serverConfiguration.getResponseChunkSize();
+        if (chunkSize > 0 && !isEncodedBody(body) && response instanceof NettyMutableHttpResponse) {
+            ChunkedByteBufOutputStream outputStream = encodeBodyInChunks((NettyMutableHttpResponse<?>) response, body, codec, chunkSize, context);
+            if (outputStream.isChunked()) {
+                setBodyContent(response, outputStream);
+                return response;
+            }
+            byteBuf = outputStream.remaining();
+        } else {
+            byteBuf = encodeBodyAsByteBuf(body, codec, context);
+        }
+        headers.add(HttpHeaderNames.CONTENT_LENGTH, String.valueOf(byteBuf.readableBytes()));
 
         setBodyContent(response, byteBuf);
         return response;
     }
 
+    /**
+     * Encodes the body into pooled buffers. Once the encoded body exceeds the chunk size the response headers and the
+     * first chunk are written using chunked transfer encoding and the following chunks are written as the channel
+     * becomes writable. When the body is encoded off the event loop the number of queued chunks is bounded so that
+     * large bodies are never fully materialized. The event loop cannot wait for the channel, so a body encoded on the
+     * event loop is queued in chunks until the encoding completes.
+     */
+    private ChunkedByteBufOutputStream encodeBodyInChunks(NettyMutableHttpResponse<?> response, Object body, MediaTypeCodec codec, int chunkSize, ChannelHandlerContext context) {
+        ChunkedBodyPublisher chunks = new ChunkedBodyPublisher(
+            context.channel().eventLoop(),
+            ChunkedBodyPublisher.DEFAULT_MAX_QUEUED_CHUNKS,
+            serverConfiguration.getWriteIdleTime()
+        );
+        AtomicBoolean headersWritten = new AtomicBoolean(false);
+        ChunkedByteBufOutputStream outputStream = new ChunkedByteBufOutputStream(context.alloc(), chunkSize, chunk -> {
+            if (headersWritten.compareAndSet(false, true)) {
+                DelegateStreamedHttpResponse streamedResponse = new DelegateStreamedHttpResponse(response.getNativeResponse(), chunks);
+                streamedResponse.headers().add(HttpHeaderNames.TRANSFER_ENCODING, HttpHeaderValues.CHUNKED);
+                // stop the encoding if the response can no longer be written
+                ChannelFutureListener closeListener = future -> chunks.cancel();
+                context.channel().closeFuture().addListener(closeListener);
+                context.writeAndFlush(streamedResponse).addListener(future -> {
+                    context.channel().closeFuture().removeListener(closeListener);
+                    if (!future.isSuccess()) {
+                        chunks.cancel();
+                    }
+                });
+            }
+            chunks.emit(chunk);
+        });
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Encoding emitted response object [{}] using codec: {}", body, codec);
+        }
+        try {
+            codec.encode(body, outputStream);
+            if (outputStream.isChunked()) {
+                chunks.emit(outputStream.remaining());
+                chunks.complete();
+            }
+        } catch (RuntimeException e) {
+            outputStream.release();
+            if (!outputStream.isChunked()) {
+                throw e;
+            }
+            // the headers have already been sent so all that can be done is to abort the response
+            chunks.error(e);
+        }
+        return outputStream;
+    }
+
+    private boolean isEncodedBody(Object body) {
+        return body instanceof ByteBuf || body instanceof ByteBuffer || body instanceof byte[];
+    }
+
     private MutableHttpResponse<?> setBodyContent(MutableHttpResponse response, Object bodyContent) {
         @SuppressWarnings("unchecked")
         MutableHttpResponse<?> res = response.body(bodyContent);
@@ -1170,11 +1360,18 @@ class RoutingInBoundHandler extends SimpleChannelInboundHandler<io.micronaut.htt
     private Flowable<? extends MutableHttpResponse<?>> filterPublisher(
             AtomicReference<HttpRequest<?>> requestReference,
             Publisher<MutableHttpResponse<?>> routePublisher, ExecutorService executor) {
+        return filterPublisher(requestReference, routePublisher, executor, router.findFilters(requestReference.get()));
+    }
+
+    private Flowable<? extends MutableHttpResponse<?>> filterPublisher(
+            AtomicReference<HttpRequest<?>> requestReference,
+            Publisher<MutableHttpResponse<?>> routePublisher,
+            ExecutorService executor,
+            List<HttpFilter> filters) {
         Publisher<? extends io.micronaut.http.MutableHttpResponse<?>> finalPublisher;
-        List<HttpFilter> filters = new ArrayList<>(router.findFilters(requestReference.get()));
         if (!filters.isEmpty()) {
             // make the action executor the last filter in the chain
-            filters.add((HttpServerFilter) (req, chain) -> routePublisher);
+            HttpFilter routeFilter = (HttpServerFilter) (req, chain) -> routePublisher;
 
             AtomicInteger integer = new AtomicInteger();
             int len = filters.size();
@@ -1186,7 +1383,7 @@ class RoutingInBoundHandler extends SimpleChannelInboundHandler<io.micronaut.htt
                     if (pos > len) {
                         throw new IllegalStateException("The FilterChain.proceed(..) method should be invoked exactly once per filter execution. The method has instead been invoked multiple times by an erroneous filter definition.");
                     }
-                    HttpFilter httpFilter = filters.get(pos);
+                    HttpFilter httpFilter = pos == len ? routeFilter : filters.get(pos);
                     return (Publisher<MutableHttpResponse<?>>) httpFilter.doFilter(requestReference.getAndSet(request), this);
                 }
             };
@@ -1198,7 +1395,9 @@ class RoutingInBoundHandler extends SimpleChannelInboundHandler<io.micronaut.htt
         }
 
         // Handle the scheduler to subscribe on
-        if (finalPublisher instanceof Flowable) {
+        if (executor == null) {
+            return Flowable.fromPublisher(finalPublisher);
+        } else if (finalPublisher instanceof Flowable) {
             return ((Flowable<MutableHttpResponse<?>>) finalPublisher)
                     .subscribeOn(Schedulers.from(executor));
         } else {
@@ -1317,6 +1516,23 @@ class RoutingInBoundHandler extends SimpleChannelInboundHandler<io.micronaut.htt
         );
     }
 
+    private void writeServiceUnavailableResponse(ChannelHandlerContext ctx, NettyHttpRequest nettyHttpRequest, Throwable cause) {
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Request rejected because the server is overloaded: " + cause.getMessage(), cause);
+        }
+
+        HttpStatus status = HttpStatus.SERVICE_UNAVAILABLE;
+        MutableHttpResponse<?> error = io.micronaut.http.HttpResponse.status(status)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(serverConfiguration.getRetryAfterSeconds()))
+                .body(new JsonError(status.getReason()));
+        subscribeToResponsePublisher(
+                ctx,
+                MediaType.APPLICATION_JSON_TYPE,
+                new AtomicReference<>(nettyHttpRequest),
+                Flowable.just(error)
+        );
+    }
+
     /**
      * Used as a handle to the {@link NettyCustomizableResponseTypeHandler}.
      */
@@ -18,6 +18,7 @@ package io.micronaut.http.server.netty.configuration;
 
 import io.micronaut.context.annotation.ConfigurationProperties;
 import io.micronaut.core.convert.format.ReadableBytes;
+import io.micronaut.core.util.Toggleable;
 import io.micronaut.http.server.HttpServerConfiguration;
 import io.micronaut.runtime.ApplicationConfiguration;
 import io.netty.channel.ChannelOption;
@@ -52,6 +53,12 @@ public class NettyHttpServerConfiguration extends HttpServerConfiguration {
     protected boolean validateHeaders = true;
     protected int initialBufferSize = 128;
     protected LogLevel logLevel;
+    protected boolean useNativeTransport = false;
+    protected boolean reusePort = false;
+    protected int tcpFastOpen = 0;
+    protected boolean edgeTriggered = true;
+    protected int responseChunkSize = 65536;
+    protected ConcurrencyLimit concurrencyLimit = new ConcurrencyLimit();
 
     /**
      * Default empty constructor.
@@ -130,6 +137,57 @@ public class NettyHttpServerConfiguration extends HttpServerConfiguration {
         return initialBufferSize;
     }
 
+    /**
+     * Whether to use the native epoll transport when it is available. Requires the
+     * {@code netty-transport-native-epoll} dependency for Linux, otherwise NIO is used. Defaults to false.
+     *
+     * @return Whether to use the native transport
+     */
+    public boolean isUseNativeTransport() {
+        return useNativeTransport;
+    }
+
+    /**
+     * Whether to set {@code SO_REUSEPORT} when using the native transport, in which case a server channel is bound
+     * for each thread of the parent event loop group so that connections are accepted by several threads.
+     * Defaults to false.
+     *
+     * @return Whether to reuse the port
+     */
+    public boolean isReusePort() {
+        return reusePort;
+    }
+
+    /**
+     * The length of the {@code TCP_FASTOPEN} queue when using the native transport. Defaults to 0, which disables
+     * TCP fast open.
+     *
+     * @return The TCP fast open queue length
+     */
+    public int getTcpFastOpen() {
+        return tcpFastOpen;
+    }
+
+    /**
+     * Whether the native transport uses edge-triggered rather than level-triggered mode. Defaults to true.
+     *
+     * @return Whether to use edge-triggered mode
+     */
+    public boolean isEdgeTriggered() {
+        return edgeTriggered;
+    }
+
+    /**
+     * Response bodies encoded by a codec that are larger than this size are not buffered in full. Instead they are
+     * flushed to the client in chunks of this size using chunked transfer encoding while the body is still being
+     * encoded. A value of 0 or less disables chunking. Defaults to 64KB.
+     *
+     * @return The response chunk size in bytes
+     */
+    public int getResponseChunkSize() {
+        return responseChunkSize;
+    }
+
     /**
      * @return The Netty child channel options.
      * @see io.netty.bootstrap.ServerBootstrap#childOptions()
@@ -160,6 +218,13 @@ public class NettyHttpServerConfiguration extends HttpServerConfiguration {
         return parent;
     }
 
+    /**
+     * @return Configuration for the adaptive concurrency limit
+     */
+    public ConcurrencyLimit getConcurrencyLimit() {
+        return concurrencyLimit;
+    }
+
     /**
      * Configuration for Netty worker.
      */
@@ -181,6 +246,7 @@ public class NettyHttpServerConfiguration extends HttpServerConfiguration {
         protected int threads;
         protected Integer ioRatio;
         protected String executor;
+        protected String eventLoopGroup;
 
         /**
          * @return The number of threads to use
@@ -208,5 +274,103 @@ public class NettyHttpServerConfiguration extends HttpServerConfiguration {
             }
             return Optional.empty();
         }
+
+        /**
+         * The name of a shared event loop group configured with {@code micronaut.netty.event-loops} to use instead
+         * of creating a new one. A shared event loop group is not shut down when the server stops.
+         *
+         * @return The name of the shared event loop group to use
+         */
+        public Optional<String> getEventLoopGroup() {
+            return Optional.ofNullable(eventLoopGroup);
+        }
+    }
+
+    /**
+     * Configuration for the adaptive limit of the number of requests the server processes concurrently. The limit is
+     * adjusted based on the latency of the requests, it grows while the latency is stable and shrinks once the
+     * latency increases as requests start to queue. Requests beyond the limit are rejected before their body is read.
+     *
+     * <p>By default a single limit applies to every request. Groups of routes can be given a limit of their own with
+     * {@link io.micronaut.http.server.netty.limit.ConcurrencyLimitGroupConfiguration}.</p>
+     */
+    @ConfigurationProperties("concurrency-limit")
+    public static class ConcurrencyLimit implements Toggleable {
+
+        /**
+         * The default initial limit.
+         */
+        public static final int DEFAULT_INITIAL_LIMIT = 20;
+
+        /**
+         * The default minimum limit.
+         */
+        public static final int DEFAULT_MIN_LIMIT = 1;
+
+        /**
+         * The default maximum limit.
+         */
+        public static final int DEFAULT_MAX_LIMIT = 1000;
+
+        /**
+         * The default smoothing.
+         */
+        public static final double DEFAULT_SMOOTHING = 0.2;
+
+        /**
+         * The default tolerance.
+         */
+        public static final double DEFAULT_TOLERANCE = 1.5;
+
+        protected boolean enabled = false;
+        protected int initialLimit = DEFAULT_INITIAL_LIMIT;
+        protected int minLimit = DEFAULT_MIN_LIMIT;
+        protected int maxLimit = DEFAULT_MAX_LIMIT;
+        protected double smoothing = DEFAULT_SMOOTHING;
+        protected double tolerance = DEFAULT_TOLERANCE;
+
+        /**
+         * @return Whether the concurrency limit is enabled. Defaults to false.
+         */
+        @Override
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        /**
+         * @return The limit used until enough requests have been measured. Defaults to 20.
+         */
+        public int getInitialLimit() {
+            return initialLimit;
+        }
+
+        /**
+         * @return The minimum limit. Defaults to 1.
+         */
+        public int getMinLimit() {
+            return minLimit;
+        }
+
+        /**
+         * @return The maximum limit. Defaults to 1000.
+         */
+        public int getMaxLimit() {
+            return maxLimit;
+        }
+
+        /**
+         * @return The weight between 0 and 1 of a new limit compared to the current one. Defaults to 0.2.
+         */
+        public double getSmoothing() {
+            return smoothing;
+        }
+
+        /**
+         * @return How many times the average latency the latency of a request may be before the limit shrinks.
+         * Defaults to 1.5.
+         */
+        public double getTolerance() {
+            return tolerance;
+        }
     }
 }
@@ -18,14 +18,22 @@ package io.micronaut.http.server.netty.jackson;
 
 import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.databind.JsonNode;
+import io.micronaut.core.async.processor.SingleThreadedBufferingProcessor;
 import io.micronaut.core.async.publisher.Publishers;
 import io.micronaut.core.async.subscriber.CompletionAwareSubscriber;
 import io.micronaut.core.async.subscriber.TypedSubscriber;
+import io.micronaut.core.convert.value.ConvertibleValues;
+import io.micronaut.core.reflect.ClassUtils;
 import io.micronaut.core.type.Argument;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.http.annotation.Body;
 import io.micronaut.http.server.HttpServerConfiguration;
 import io.micronaut.http.server.netty.AbstractHttpContentProcessor;
 import io.micronaut.http.server.netty.NettyHttpRequest;
 import io.micronaut.jackson.parser.JacksonProcessor;
+import io.micronaut.jackson.parser.JacksonTokenBufferProcessor;
+import io.micronaut.web.router.MethodBasedRouteMatch;
+import io.micronaut.web.router.RouteMatch;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufHolder;
 import io.netty.buffer.ByteBufUtil;
@@ -33,19 +41,26 @@ import io.netty.util.ReferenceCountUtil;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Future;
 
 /**
  * This class will handle subscribing to a JSON stream and binding once the events are complete in a non-blocking
  * manner.
  *
+ * <p>When the matched route only requires the whole body bound to a POJO the JSON tokens are recorded in a
+ * {@link com.fasterxml.jackson.databind.util.TokenBuffer} and read straight into the target type, otherwise a
+ * {@link JsonNode} is built so that individual properties of the body can be bound.</p>
+ *
  * @author Graeme Rocher
  * @since 1.0
  */
-public class JsonContentProcessor extends AbstractHttpContentProcessor<JsonNode> {
+public class JsonContentProcessor extends AbstractHttpContentProcessor<Object> {
 
     private final JsonFactory jsonFactory;
-    private JacksonProcessor jacksonProcessor;
+    private SingleThreadedBufferingProcessor<byte[], ?> jacksonProcessor;
 
     /**
      * @param nettyHttpRequest The Netty Http request
@@ -58,7 +73,7 @@ public class JsonContentProcessor extends AbstractHttpContentProcessor<JsonNode>
     }
 
     @Override
-    protected void doOnSubscribe(Subscription subscription, Subscriber<? super JsonNode> subscriber) {
+    protected void doOnSubscribe(Subscription subscription, Subscriber<? super Object> subscriber) {
         if (parentSubscription == null) {
             return;
         }
@@ -77,11 +92,13 @@ public class JsonContentProcessor extends AbstractHttpContentProcessor<JsonNode>
                     this.jacksonProcessor = new JacksonProcessor(jsonFactory);
                 }
             }
+        } else if (isBoundToPojo(nettyHttpRequest.getMatchedRoute())) {
+            this.jacksonProcessor = new JacksonTokenBufferProcessor(jsonFactory);
         } else {
             this.jacksonProcessor = new JacksonProcessor(jsonFactory);
         }
 
-        this.jacksonProcessor.subscribe(new CompletionAwareSubscriber<JsonNode>() {
+        this.jacksonProcessor.subscribe(new CompletionAwareSubscriber<Object>() {
 
             @Override
             protected void doOnSubscribe(Subscription jsonSubscription) {
@@ -102,7 +119,7 @@ public class JsonContentProcessor extends AbstractHttpContentProcessor<JsonNode>
             }
 
             @Override
-            protected void doOnNext(JsonNode message) {
+            protected void doOnNext(Object message) {
                 subscriber.onNext(message);
             }
 
@@ -141,4 +158,41 @@ public class JsonContentProcessor extends AbstractHttpContentProcessor<JsonNode>
         jacksonProcessor.onComplete();
         super.doOnComplete();
     }
+
+    /**
+     * Whether the only argument of the route still to be bound from the request body is a body argument that binds
+     * the whole JSON document to a POJO, in which case no tree is needed to bind the request.
+     *
+     * @param route The matched route
+     * @return True if the body can be read directly into the argument type
+     */
+    private boolean isBoundToPojo(RouteMatch<?> route) {
+        if (!(route instanceof MethodBasedRouteMatch)) {
+            return false;
+        }
+        Optional<Argument<?>> bodyArgument = route.getBodyArgument();
+        if (!bodyArgument.isPresent()) {
+            return false;
+        }
+        Argument<?> argument = bodyArgument.get();
+        Body body = argument.getAnnotation(Body.class);
+        if (body != null && StringUtils.isNotEmpty(body.value())) {
+            return false;
+        }
+        Class<?> type = argument.getType();
+        if (type == Object.class || ClassUtils.isJavaLangType(type) || type.isArray() ||
+            JsonNode.class.isAssignableFrom(type) || Map.class.isAssignableFrom(type) ||
+            ConvertibleValues.class.isAssignableFrom(type) || Iterable.class.isAssignableFrom(type) ||
+            Optional.class == type || Future.class.isAssignableFrom(type) || CompletionStage.class.isAssignableFrom(type) ||
+            Publishers.isConvertibleToPublisher(type)) {
+            // wrapper types are bound by their own binders, which expect a tree
+            return false;
+        }
+        for (Argument<?> other : ((MethodBasedRouteMatch<?>) route).getArguments()) {
+            if (!other.getName().equals(argument.getName()) && !route.isSatisfied(other.getName())) {
+                return false;
+            }
+        }
+        return true;
+    }
 }
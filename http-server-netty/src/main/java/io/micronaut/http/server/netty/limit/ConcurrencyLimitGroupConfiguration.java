@@ -0,0 +1,135 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.http.server.netty.limit;
+
+import io.micronaut.context.annotation.EachProperty;
+import io.micronaut.context.annotation.Parameter;
+import io.micronaut.core.naming.Named;
+import io.micronaut.core.order.Ordered;
+
+import java.util.Optional;
+import java.util.OptionalInt;
+
+/**
+ * Configuration for a group of routes, matched by a path pattern, that has a concurrency limit of its own. For example
+ * {@code micronaut.server.netty.concurrency-limit.groups.reports.pattern=/reports/**} creates a group called
+ * {@code reports}. The limits that are not configured default to those of
+ * {@link io.micronaut.http.server.netty.configuration.NettyHttpServerConfiguration.ConcurrencyLimit}.
+ *
+ * @since 1.0
+ */
+@EachProperty(ConcurrencyLimitGroupConfiguration.PREFIX)
+public class ConcurrencyLimitGroupConfiguration implements Named, Ordered {
+
+    /**
+     * The prefix to use for configuration.
+     */
+    public static final String PREFIX = "micronaut.server.netty.concurrency-limit.groups";
+
+    private final String name;
+    private String pattern;
+    private Integer initialLimit;
+    private Integer minLimit;
+    private Integer maxLimit;
+    private int order = 0;
+
+    /**
+     * @param name The name of the group
+     */
+    public ConcurrencyLimitGroupConfiguration(@Parameter String name) {
+        this.name = name;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return The path pattern of the routes of the group, for example {@code /reports/**}
+     */
+    public Optional<String> getPattern() {
+        return Optional.ofNullable(pattern);
+    }
+
+    /**
+     * @param pattern The path pattern of the routes of the group
+     */
+    public void setPattern(String pattern) {
+        this.pattern = pattern;
+    }
+
+    /**
+     * @return The limit used until enough requests have been measured
+     */
+    public OptionalInt getInitialLimit() {
+        return initialLimit == null ? OptionalInt.empty() : OptionalInt.of(initialLimit);
+    }
+
+    /**
+     * @param initialLimit The limit used until enough requests have been measured
+     */
+    public void setInitialLimit(Integer initialLimit) {
+        this.initialLimit = initialLimit;
+    }
+
+    /**
+     * @return The minimum limit
+     */
+    public OptionalInt getMinLimit() {
+        return minLimit == null ? OptionalInt.empty() : OptionalInt.of(minLimit);
+    }
+
+    /**
+     * @param minLimit The minimum limit
+     */
+    public void setMinLimit(Integer minLimit) {
+        this.minLimit = minLimit;
+    }
+
+    /**
+     * @return The maximum limit
+     */
+    public OptionalInt getMaxLimit() {
+        return maxLimit == null ? OptionalInt.empty() : OptionalInt.of(maxLimit);
+    }
+
+    /**
+     * @param maxLimit The maximum limit
+     */
+    public void setMaxLimit(Integer maxLimit) {
+        this.maxLimit = maxLimit;
+    }
+
+    /**
+     * The order in which the group is matched, groups with a lower order are matched first. Defaults to 0, in which
+     * case groups with a more specific pattern are matched first.
+     *
+     * @return The order
+     */
+    @Override
+    public int getOrder() {
+        return order;
+    }
+
+    /**
+     * @param order The order in which the group is matched
+     */
+    public void setOrder(int order) {
+        this.order = order;
+    }
+}
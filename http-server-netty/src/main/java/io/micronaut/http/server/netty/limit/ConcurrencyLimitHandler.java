@@ -0,0 +1,162 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.http.server.netty.limit;
+
+import io.micronaut.core.annotation.Internal;
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http.LastHttpContent;
+import io.netty.util.ReferenceCountUtil;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Admits the requests of a connection through the {@link ConcurrencyLimiterRegistry}. The handler sits in front of
+ * the request body processing such that a rejected request is answered with {@code 503 Service Unavailable} and its
+ * body discarded without being decoded. An admitted request is released once the last content of its response is
+ * written, the time in between being the latency measured by the limiter.
+ *
+ * <p>Responses are written in the order of the requests, so the rejection of a pipelined request is only written
+ * once the responses to the preceding requests are.</p>
+ *
+ * @since 1.0
+ */
+@Internal
+public class ConcurrencyLimitHandler extends ChannelDuplexHandler {
+
+    /**
+     * The name of the handler in the pipeline.
+     */
+    public static final String ID = "concurrency-limit";
+
+    private static final Object REJECTED = new Object();
+
+    private final ConcurrencyLimiterRegistry limiterRegistry;
+    private final String retryAfter;
+    private final Deque<Object> pending = new ArrayDeque<>();
+    private boolean discarding;
+
+    /**
+     * @param limiterRegistry   The limiter registry
+     * @param retryAfterSeconds The delay sent in the {@code Retry-After} header of a rejection
+     */
+    public ConcurrencyLimitHandler(ConcurrencyLimiterRegistry limiterRegistry, long retryAfterSeconds) {
+        this.limiterRegistry = limiterRegistry;
+        this.retryAfter = String.valueOf(retryAfterSeconds);
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
+        if (msg instanceof HttpRequest) {
+            HttpRequest request = (HttpRequest) msg;
+            ConcurrencyLimiter limiter = limiterRegistry.resolve(path(request.uri()));
+            if (!limiter.tryAcquire()) {
+                discarding = !(msg instanceof LastHttpContent);
+                ReferenceCountUtil.release(msg);
+                if (pending.isEmpty()) {
+                    writeRejection(ctx);
+                } else {
+                    pending.add(REJECTED);
+                }
+                ctx.read();
+                return;
+            }
+            discarding = false;
+            pending.add(new Permit(limiter, System.nanoTime()));
+        } else if (discarding && msg instanceof HttpContent) {
+            discarding = !(msg instanceof LastHttpContent);
+            ReferenceCountUtil.release(msg);
+            ctx.read();
+            return;
+        }
+        ctx.fireChannelRead(msg);
+    }
+
+    @Override
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
+        boolean last = msg instanceof LastHttpContent;
+        ctx.write(msg, promise);
+        if (last) {
+            Object head = pending.poll();
+            if (head instanceof Permit) {
+                ((Permit) head).release();
+            }
+            boolean rejected = false;
+            while (pending.peek() == REJECTED) {
+                pending.poll();
+                writeRejection(ctx);
+                rejected = true;
+            }
+            if (rejected) {
+                ctx.read();
+            }
+        }
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+        for (Object entry : pending) {
+            if (entry instanceof Permit) {
+                ((Permit) entry).limiter.releaseWithoutSample();
+            }
+        }
+        pending.clear();
+        super.channelInactive(ctx);
+    }
+
+    private void writeRejection(ChannelHandlerContext ctx) {
+        FullHttpResponse response = new DefaultFullHttpResponse(
+            HttpVersion.HTTP_1_1,
+            HttpResponseStatus.SERVICE_UNAVAILABLE
+        );
+        response.headers()
+            .set(HttpHeaderNames.RETRY_AFTER, retryAfter)
+            .set(HttpHeaderNames.CONTENT_LENGTH, 0);
+        ctx.writeAndFlush(response);
+    }
+
+    private static String path(String uri) {
+        int i = uri.indexOf('?');
+        return i > -1 ? uri.substring(0, i) : uri;
+    }
+
+    /**
+     * A request admitted by a limiter.
+     */
+    private static final class Permit {
+        private final ConcurrencyLimiter limiter;
+        private final long start;
+
+        Permit(ConcurrencyLimiter limiter, long start) {
+            this.limiter = limiter;
+            this.start = start;
+        }
+
+        void release() {
+            limiter.release(System.nanoTime() - start);
+        }
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.http.server.netty.limit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Limits the number of requests processed concurrently to a limit that is adjusted based on their latency, in the
+ * spirit of TCP Vegas. An exponential average of the latency is kept as the latency of the server when it is not
+ * overloaded. While the latency of the requests stays within a tolerance of the average the limit grows by about
+ * its square root, once requests start to queue their latency increases and the limit shrinks by the gradient of
+ * the average to the measured latency.
+ *
+ * @since 1.0
+ */
+public class ConcurrencyLimiter {
+
+    private static final int WINDOW = 600;
+    private static final double MIN_GRADIENT = 0.5;
+    private static final double DRIFT_RATIO = 2;
+    private static final double DRIFT_DECAY = 0.95;
+
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double smoothing;
+    private final double tolerance;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+    private volatile int limit;
+    private double estimatedLimit;
+    private double averageRtt;
+    private long samples;
+
+    /**
+     * @param name         The name of the limiter
+     * @param initialLimit The initial limit
+     * @param minLimit     The minimum limit
+     * @param maxLimit     The maximum limit
+     * @param smoothing    The weight between 0 and 1 of a new limit compared to the current one
+     * @param tolerance    How many times the average latency the latency of a request may be before the limit shrinks
+     */
+    public ConcurrencyLimiter(String name, int initialLimit, int minLimit, int maxLimit, double smoothing, double tolerance) {
+        this.name = name;
+        this.minLimit = Math.max(1, minLimit);
+        this.maxLimit = Math.max(this.minLimit, maxLimit);
+        this.smoothing = smoothing;
+        this.tolerance = tolerance;
+        this.estimatedLimit = Math.min(this.maxLimit, Math.max(this.minLimit, initialLimit));
+        this.limit = (int) estimatedLimit;
+    }
+
+    /**
+     * @return The name of the limiter
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return The current limit
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * @return The number of requests currently admitted
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * @return The total number of rejected requests
+     */
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    /**
+     * Admits a request if the limit has not been reached. An admitted request must be released with
+     * {@link #release(long)} or {@link #releaseWithoutSample()} once it completes.
+     *
+     * @return Whether the request is admitted
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                rejected.increment();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Releases a completed request and adjusts the limit to its latency.
+     *
+     * @param rttNanos The latency of the request in nanoseconds
+     */
+    public void release(long rttNanos) {
+        int current = inFlight.getAndDecrement();
+        if (rttNanos > 0) {
+            update(rttNanos, current);
+        }
+    }
+
+    /**
+     * Releases a request whose latency is not representative, for example because the connection was closed.
+     */
+    public void releaseWithoutSample() {
+        inFlight.decrementAndGet();
+    }
+
+    private synchronized void update(long rtt, int inFlight) {
+        if (samples < WINDOW) {
+            samples++;
+            averageRtt += (rtt - averageRtt) / samples;
+        } else {
+            averageRtt += (rtt - averageRtt) / WINDOW;
+        }
+
+        // the latency dropped for good, for example once a cache is warm, so let the average catch up faster
+        if (averageRtt / rtt > DRIFT_RATIO) {
+            averageRtt *= DRIFT_DECAY;
+        }
+
+        // the limit only grows while it is used, otherwise it would grow without bounds during quiet periods
+        if (inFlight < estimatedLimit / 2) {
+            return;
+        }
+
+        double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, tolerance * averageRtt / rtt));
+        double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+        newLimit = estimatedLimit * (1 - smoothing) + newLimit * smoothing;
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+        limit = (int) estimatedLimit;
+    }
+
+    @Override
+    public String toString() {
+        return name + "[limit=" + limit + ", inFlight=" + inFlight.get() + "]";
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.http.server.netty.limit;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.exceptions.ConfigurationException;
+import io.micronaut.core.util.PathMatcher;
+import io.micronaut.http.server.netty.configuration.NettyHttpServerConfiguration;
+
+import javax.inject.Singleton;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Holds the {@link ConcurrencyLimiter} instances configured with
+ * {@link NettyHttpServerConfiguration.ConcurrencyLimit}, one for each {@link ConcurrencyLimitGroupConfiguration group}
+ * of routes and one for the remaining requests.
+ *
+ * @since 1.0
+ */
+@Singleton
+@Requires(property = ConcurrencyLimiterRegistry.ENABLED, value = "true")
+public class ConcurrencyLimiterRegistry {
+
+    /**
+     * The property that enables the concurrency limit.
+     */
+    public static final String ENABLED = "micronaut.server.netty.concurrency-limit.enabled";
+
+    /**
+     * The name of the limiter of the requests that are not part of a group.
+     */
+    public static final String DEFAULT_LIMITER = "default";
+
+    /**
+     * Groups are matched by their order and then by the specificity of their pattern, as the configuration does not
+     * retain the order in which they are declared.
+     */
+    private static final Comparator<ConcurrencyLimitGroupConfiguration> GROUP_PRECEDENCE = Comparator
+        .comparingInt(ConcurrencyLimitGroupConfiguration::getOrder)
+        .thenComparing(Comparator.comparingInt((ConcurrencyLimitGroupConfiguration group) -> literalPrefixLength(group)).reversed())
+        .thenComparing(Comparator.comparingInt((ConcurrencyLimitGroupConfiguration group) -> group.getPattern().map(String::length).orElse(0)).reversed())
+        .thenComparing(ConcurrencyLimitGroupConfiguration::getName);
+
+    private final ConcurrencyLimiter defaultLimiter;
+    private final String[] patterns;
+    private final ConcurrencyLimiter[] groupLimiters;
+    private final List<ConcurrencyLimiter> limiters;
+
+    /**
+     * @param serverConfiguration The Netty HTTP server configuration
+     * @param groups              The groups of routes that have a limit of their own
+     */
+    public ConcurrencyLimiterRegistry(NettyHttpServerConfiguration serverConfiguration, List<ConcurrencyLimitGroupConfiguration> groups) {
+        NettyHttpServerConfiguration.ConcurrencyLimit configuration = serverConfiguration.getConcurrencyLimit();
+        List<ConcurrencyLimitGroupConfiguration> sortedGroups = new ArrayList<>(groups);
+        sortedGroups.sort(GROUP_PRECEDENCE);
+        this.patterns = new String[sortedGroups.size()];
+        this.groupLimiters = new ConcurrencyLimiter[sortedGroups.size()];
+        List<ConcurrencyLimiter> limiters = new ArrayList<>(sortedGroups.size() + 1);
+        for (int i = 0; i < sortedGroups.size(); i++) {
+            ConcurrencyLimitGroupConfiguration group = sortedGroups.get(i);
+            patterns[i] = group.getPattern().orElseThrow(() ->
+                new ConfigurationException("No pattern configured for concurrency limit group: " + group.getName())
+            );
+            groupLimiters[i] = new ConcurrencyLimiter(
+                group.getName(),
+                group.getInitialLimit().orElse(configuration.getInitialLimit()),
+                group.getMinLimit().orElse(configuration.getMinLimit()),
+                group.getMaxLimit().orElse(configuration.getMaxLimit()),
+                configuration.getSmoothing(),
+                configuration.getTolerance()
+            );
+            limiters.add(groupLimiters[i]);
+        }
+        this.defaultLimiter = new ConcurrencyLimiter(
+            DEFAULT_LIMITER,
+            configuration.getInitialLimit(),
+            configuration.getMinLimit(),
+            configuration.getMaxLimit(),
+            configuration.getSmoothing(),
+            configuration.getTolerance()
+        );
+        limiters.add(defaultLimiter);
+        this.limiters = Collections.unmodifiableList(limiters);
+    }
+
+    /**
+     * @return The limiters of the groups followed by the default limiter
+     */
+    public List<ConcurrencyLimiter> getLimiters() {
+        return limiters;
+    }
+
+    /**
+     * Resolves the limiter of the group that takes precedence among the groups whose pattern matches the given path or
+     * the default limiter. A group with a lower {@link ConcurrencyLimitGroupConfiguration#getOrder() order} takes
+     * precedence, and among groups of the same order the group with the most specific pattern.
+     *
+     * @param path The request path
+     * @return The limiter
+     */
+    public ConcurrencyLimiter resolve(String path) {
+        for (int i = 0; i < patterns.length; i++) {
+            if (PathMatcher.ANT.matches(patterns[i], path)) {
+                return groupLimiters[i];
+            }
+        }
+        return defaultLimiter;
+    }
+
+    /**
+     * The length of the literal prefix of the pattern of a group, which is longer the more specific the pattern is.
+     */
+    private static int literalPrefixLength(ConcurrencyLimitGroupConfiguration group) {
+        String pattern = group.getPattern().orElse("");
+        for (int i = 0; i < pattern.length(); i++) {
+            char c = pattern.charAt(i);
+            if (c == '*' || c == '?' || c == '{') {
+                return i;
+            }
+        }
+        return pattern.length();
+    }
+}
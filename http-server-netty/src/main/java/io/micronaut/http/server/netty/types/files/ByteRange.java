@@ -0,0 +1,147 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.http.server.netty.types.files;
+
+import io.micronaut.core.annotation.Internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A range of bytes requested with the {@code Range} header.
+ *
+ * @since 1.0
+ */
+@Internal
+public final class ByteRange {
+
+    /**
+     * The maximum number of ranges served for a single request. Requests with more ranges are answered with the full
+     * content.
+     */
+    public static final int MAX_RANGES = 16;
+
+    private static final String BYTES_UNIT = "bytes=";
+
+    private final long start;
+    private final long end;
+
+    /**
+     * @param start The first byte position, inclusive
+     * @param end   The last byte position, inclusive
+     */
+    ByteRange(long start, long end) {
+        this.start = start;
+        this.end = end;
+    }
+
+    /**
+     * @return The first byte position, inclusive
+     */
+    public long getStart() {
+        return start;
+    }
+
+    /**
+     * @return The last byte position, inclusive
+     */
+    public long getEnd() {
+        return end;
+    }
+
+    /**
+     * @return The number of bytes in the range
+     */
+    public long getLength() {
+        return end - start + 1;
+    }
+
+    /**
+     * @param totalLength The length of the complete content
+     * @return The value of the {@code Content-Range} header for this range
+     */
+    public String toContentRange(long totalLength) {
+        return "bytes " + start + "-" + end + "/" + totalLength;
+    }
+
+    @Override
+    public String toString() {
+        return start + "-" + end;
+    }
+
+    /**
+     * Parses the value of a {@code Range} header. An empty optional is returned if the header is invalid, uses a unit
+     * other than bytes or asks for too many ranges, in which case it should be ignored. An empty list is returned if
+     * none of the ranges can be satisfied.
+     *
+     * @param header      The value of the range header
+     * @param totalLength The length of the complete content
+     * @return The satisfiable ranges
+     */
+    public static Optional<List<ByteRange>> parse(String header, long totalLength) {
+        if (header == null || !header.regionMatches(true, 0, BYTES_UNIT, 0, BYTES_UNIT.length())) {
+            return Optional.empty();
+        }
+        String[] specs = header.substring(BYTES_UNIT.length()).split(",");
+        if (specs.length > MAX_RANGES) {
+            return Optional.empty();
+        }
+        List<ByteRange> ranges = new ArrayList<>(specs.length);
+        long requested = 0;
+        for (String spec : specs) {
+            int dash = spec.indexOf('-');
+            if (dash < 0) {
+                return Optional.empty();
+            }
+            String first = spec.substring(0, dash).trim();
+            String last = spec.substring(dash + 1).trim();
+            long start;
+            long end;
+            try {
+                if (first.isEmpty()) {
+                    // suffix range, the last n bytes
+                    long suffix = Long.parseLong(last);
+                    if (suffix < 0) {
+                        return Optional.empty();
+                    }
+                    start = Math.max(0, totalLength - suffix);
+                    end = suffix == 0 ? -1 : totalLength - 1;
+                } else {
+                    start = Long.parseLong(first);
+                    end = last.isEmpty() ? Long.MAX_VALUE : Long.parseLong(last);
+                    if (start < 0 || end < start) {
+                        return Optional.empty();
+                    }
+                }
+            } catch (NumberFormatException e) {
+                return Optional.empty();
+            }
+            if (start < totalLength && end >= start) {
+                ByteRange range = new ByteRange(start, Math.min(end, totalLength - 1));
+                requested += range.getLength();
+                ranges.add(range);
+            }
+        }
+        if (requested > totalLength && ranges.size() > 1) {
+            // overlapping ranges that ask for more than the whole content are not worth serving as parts
+            return Optional.empty();
+        }
+        return Optional.of(ranges.isEmpty() ? Collections.emptyList() : ranges);
+    }
+}
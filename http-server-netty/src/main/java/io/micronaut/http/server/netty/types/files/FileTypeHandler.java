@@ -18,8 +18,10 @@ package io.micronaut.http.server.netty.types.files;
 
 import io.micronaut.core.naming.NameUtils;
 import io.micronaut.http.HttpHeaders;
+import io.micronaut.http.HttpMethod;
 import io.micronaut.http.HttpRequest;
 import io.micronaut.http.HttpResponse;
+import io.micronaut.http.HttpStatus;
 import io.micronaut.http.MediaType;
 import io.micronaut.http.MutableHttpHeaders;
 import io.micronaut.http.MutableHttpResponse;
@@ -29,15 +31,19 @@ import io.micronaut.http.server.netty.types.NettyFileCustomizableResponseType;
 import io.micronaut.http.server.types.CustomizableResponseTypeException;
 import io.micronaut.http.server.types.files.StreamedFile;
 import io.micronaut.http.server.types.files.SystemFileCustomizableResponseType;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.http.FullHttpResponse;
 
+import javax.annotation.PreDestroy;
 import javax.inject.Singleton;
 import java.io.File;
 import java.time.LocalDateTime;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -51,12 +57,18 @@ public class FileTypeHandler implements NettyCustomizableResponseTypeHandler<Obj
 
     private static final Class<?>[] SUPPORTED_TYPES = new Class[]{File.class, SystemFileCustomizableResponseType.class, StreamedFile.class, NettyFileCustomizableResponseType.class};
     private final FileTypeHandlerConfiguration configuration;
+    private final MemoryFileCache memoryCache;
 
     /**
      * @param configuration The file type handler configuration
      */
     public FileTypeHandler(FileTypeHandlerConfiguration configuration) {
         this.configuration = configuration;
+        if (configuration.getMemoryCacheSize() > 0) {
+            this.memoryCache = new MemoryFileCache(configuration.getMemoryCacheSize(), configuration.getMemoryCacheMaxFileSize(), ByteBufAllocator.DEFAULT);
+        } else {
+            this.memoryCache = null;
+        }
     }
 
     @SuppressWarnings("MagicNumber")
@@ -76,32 +88,77 @@ public class FileTypeHandler implements NettyCustomizableResponseTypeHandler<Obj
         }
 
         long lastModified = type.getLastModified();
+        NettySystemFileCustomizableResponseType systemFile = type instanceof NettySystemFileCustomizableResponseType ? (NettySystemFileCustomizableResponseType) type : null;
+        String etag = systemFile != null ? systemFile.getETag() : null;
 
         // Cache Validation
-        ZonedDateTime ifModifiedSince = request.getHeaders().getDate(HttpHeaders.IF_MODIFIED_SINCE);
-        if (ifModifiedSince != null) {
-
-            // Only compare up to the second because the datetime format we send to the client
-            // does not have milliseconds
-            long ifModifiedSinceDateSeconds = ifModifiedSince.toEpochSecond();
-            long fileLastModifiedSeconds = lastModified / 1000;
-            if (ifModifiedSinceDateSeconds == fileLastModifiedSeconds) {
-                FullHttpResponse nettyResponse = notModified();
-                context.writeAndFlush(nettyResponse);
-                return;
+        if (isNotModified(request, etag, lastModified)) {
+            if (systemFile != null) {
+                systemFile.close();
             }
+            FullHttpResponse nettyResponse = notModified(etag);
+            context.writeAndFlush(nettyResponse);
+            return;
         }
 
+        MediaType mediaType = getMediaType(type.getName());
         if (!response.getHeaders().contains(HttpHeaders.CONTENT_TYPE)) {
-            response.header(HttpHeaders.CONTENT_TYPE, getMediaType(type.getName()));
+            response.header(HttpHeaders.CONTENT_TYPE, mediaType);
         }
         setDateAndCacheHeaders(response, lastModified);
 
         type.process(response);
+        if (systemFile != null) {
+            response.header(HttpHeaders.ETAG, etag);
+            response.header(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+            String range = request.getHeaders().get(HttpHeaders.RANGE);
+            if (range != null && request.getMethod() == HttpMethod.GET && isIfRangeSatisfied(request, etag, lastModified)) {
+                Optional<List<ByteRange>> ranges = ByteRange.parse(range, systemFile.getLength());
+                if (ranges.isPresent()) {
+                    if (ranges.get().isEmpty()) {
+                        systemFile.close();
+                        response.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE);
+                        FullHttpResponse nettyResponse = response.getNativeResponse();
+                        nettyResponse.headers().set(HttpHeaders.CONTENT_RANGE, "bytes */" + systemFile.getLength());
+                        nettyResponse.headers().set(HttpHeaders.CONTENT_LENGTH, 0);
+                        context.writeAndFlush(nettyResponse);
+                    } else {
+                        String contentType = response.getHeaders().get(HttpHeaders.CONTENT_TYPE);
+                        systemFile.writeRanges(response, context, ranges.get(), contentType);
+                    }
+                    context.read();
+                    return;
+                }
+            }
+
+            if (memoryCache != null && memoryCache.accepts(systemFile)) {
+                ByteBuf content;
+                try {
+                    content = memoryCache.get(systemFile);
+                } finally {
+                    systemFile.close();
+                }
+                context.writeAndFlush(response.getNativeResponse().replace(content));
+                context.read();
+                return;
+            }
+        }
+
         type.write(request, response, context);
         context.read();
     }
 
+    /**
+     * Releases the buffers held by the in memory cache.
+     */
+    @PreDestroy
+    void close() {
+        if (memoryCache != null) {
+            memoryCache.clear();
+        }
+    }
+
     @Override
     public boolean supports(Class<?> type) {
         return Arrays.stream(SUPPORTED_TYPES)
@@ -146,9 +203,58 @@ public class FileTypeHandler implements NettyCustomizableResponseTypeHandler<Obj
         headers.date(now);
     }
 
-    private FullHttpResponse notModified() {
+    private boolean isNotModified(HttpRequest<?> request, String etag, long lastModified) {
+        String ifNoneMatch = request.getHeaders().get(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            // If-None-Match takes precedence over If-Modified-Since and uses the weak comparison
+            if (etag == null) {
+                return false;
+            }
+            for (String tag : ifNoneMatch.split(",")) {
+                String trimmed = tag.trim();
+                if (trimmed.equals("*") || stripWeakPrefix(trimmed).equals(etag)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        ZonedDateTime ifModifiedSince = request.getHeaders().getDate(HttpHeaders.IF_MODIFIED_SINCE);
+        if (ifModifiedSince != null) {
+
+            // Only compare up to the second because the datetime format we send to the client
+            // does not have milliseconds
+            long ifModifiedSinceDateSeconds = ifModifiedSince.toEpochSecond();
+            long fileLastModifiedSeconds = lastModified / 1000;
+            return ifModifiedSinceDateSeconds == fileLastModifiedSeconds;
+        }
+        return false;
+    }
+
+    private boolean isIfRangeSatisfied(HttpRequest<?> request, String etag, long lastModified) {
+        String ifRange = request.getHeaders().get(HttpHeaders.IF_RANGE);
+        if (ifRange == null) {
+            return true;
+        }
+        ifRange = ifRange.trim();
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            // If-Range requires the strong comparison
+            return ifRange.equals(etag);
+        }
+        ZonedDateTime date = request.getHeaders().getDate(HttpHeaders.IF_RANGE);
+        return date != null && date.toEpochSecond() == lastModified / 1000;
+    }
+
+    private String stripWeakPrefix(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+
+    private FullHttpResponse notModified(String etag) {
         NettyMutableHttpResponse response = (NettyMutableHttpResponse) HttpResponse.notModified();
         setDateHeader(response);
+        if (etag != null) {
+            response.header(HttpHeaders.ETAG, etag);
+        }
         return response.getNativeResponse();
     }
 
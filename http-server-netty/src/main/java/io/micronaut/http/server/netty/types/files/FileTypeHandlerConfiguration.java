@@ -27,7 +27,14 @@ import io.micronaut.context.annotation.ConfigurationProperties;
 @ConfigurationProperties("netty.responses.file")
 public class FileTypeHandlerConfiguration {
 
+    /**
+     * The default maximum size of a file held by the in memory cache.
+     */
+    public static final int DEFAULT_MEMORY_CACHE_MAX_FILE_SIZE = 65536;
+
     protected int cacheSeconds = 60;
+    protected long memoryCacheSize = 0;
+    protected int memoryCacheMaxFileSize = DEFAULT_MEMORY_CACHE_MAX_FILE_SIZE;
 
     /**
      * @return the cache seconds
@@ -35,4 +42,21 @@ public class FileTypeHandlerConfiguration {
     public int getCacheSeconds() {
         return cacheSeconds;
     }
+
+    /**
+     * The total number of bytes of file content kept in memory. Files that are served frequently are then written
+     * from pooled buffers instead of being read from disk on every request. Defaults to 0, which disables the cache.
+     *
+     * @return The maximum size of the in memory cache in bytes
+     */
+    public long getMemoryCacheSize() {
+        return memoryCacheSize;
+    }
+
+    /**
+     * @return The maximum size in bytes of a file held by the in memory cache
+     */
+    public int getMemoryCacheMaxFileSize() {
+        return memoryCacheMaxFileSize;
+    }
 }
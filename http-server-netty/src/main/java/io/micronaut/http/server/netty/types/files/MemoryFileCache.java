@@ -0,0 +1,154 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.http.server.netty.types.files;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.http.server.types.CustomizableResponseTypeException;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A least recently used cache of the content of small files held in pooled direct buffers. Entries are keyed by the
+ * path of the file and are replaced once the length or the last modified date of the file changes.
+ *
+ * @since 1.0
+ */
+@Internal
+final class MemoryFileCache {
+
+    private final long maxSize;
+    private final int maxFileSize;
+    private final ByteBufAllocator allocator;
+    private final Map<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long size;
+
+    /**
+     * @param maxSize     The maximum number of bytes held by the cache
+     * @param maxFileSize The maximum size of a single file
+     * @param allocator   The allocator for the buffers
+     */
+    MemoryFileCache(long maxSize, int maxFileSize, ByteBufAllocator allocator) {
+        this.maxSize = maxSize;
+        this.maxFileSize = maxFileSize;
+        this.allocator = allocator;
+    }
+
+    /**
+     * @param type The file
+     * @return Whether the file is small enough to be cached
+     */
+    boolean accepts(NettySystemFileCustomizableResponseType type) {
+        long length = type.getLength();
+        return length > 0 && length <= maxFileSize && length <= maxSize;
+    }
+
+    /**
+     * Returns the content of the file, reading it into the cache if it is not present or has changed. The caller owns
+     * the returned buffer.
+     *
+     * @param type The file
+     * @return A retained duplicate of the cached content
+     */
+    ByteBuf get(NettySystemFileCustomizableResponseType type) {
+        String key = type.getFile().getPath();
+        long length = type.getLength();
+        long lastModified = type.getLastModified();
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry != null && entry.matches(length, lastModified)) {
+                return entry.content.retainedDuplicate();
+            }
+        }
+
+        ByteBuf content = read(type.getFile(), type.raf.getChannel(), (int) length);
+        synchronized (entries) {
+            remove(key);
+            entries.put(key, new Entry(content, length, lastModified));
+            size += length;
+            Iterator<Entry> eldest = entries.values().iterator();
+            while (size > maxSize && eldest.hasNext()) {
+                Entry evicted = eldest.next();
+                eldest.remove();
+                size -= evicted.length;
+                evicted.content.release();
+            }
+            return content.retainedDuplicate();
+        }
+    }
+
+    /**
+     * Releases all cached buffers.
+     */
+    void clear() {
+        synchronized (entries) {
+            for (Entry entry : entries.values()) {
+                entry.content.release();
+            }
+            entries.clear();
+            size = 0;
+        }
+    }
+
+    private void remove(String key) {
+        Entry existing = entries.remove(key);
+        if (existing != null) {
+            size -= existing.length;
+            existing.content.release();
+        }
+    }
+
+    private ByteBuf read(File file, FileChannel channel, int length) {
+        ByteBuf content = allocator.directBuffer(length, length);
+        try {
+            while (content.isWritable()) {
+                if (content.writeBytes(channel, content.writerIndex(), content.writableBytes()) < 0) {
+                    throw new IOException("Unexpected end of file " + file);
+                }
+            }
+            return content;
+        } catch (IOException e) {
+            content.release();
+            throw new CustomizableResponseTypeException("Could not read file", e);
+        }
+    }
+
+    /**
+     * A cached file.
+     */
+    private static final class Entry {
+        final ByteBuf content;
+        final long length;
+        final long lastModified;
+
+        Entry(ByteBuf content, long length, long lastModified) {
+            this.content = content;
+            this.length = length;
+            this.lastModified = lastModified;
+        }
+
+        boolean matches(long length, long lastModified) {
+            return this.length == length && this.lastModified == lastModified;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.http.server.netty.types.files;
+
+import io.micronaut.http.HttpHeaders;
+import io.micronaut.http.MutableHttpResponse;
+
+import javax.annotation.Nullable;
+import java.io.File;
+import java.util.Optional;
+
+/**
+ * Writes a precompressed sibling of a {@link File}, for example {@code app.js.gz} for {@code app.js}, with the
+ * matching {@code Content-Encoding} so that the content does not need to be compressed on every request.
+ *
+ * @since 1.0
+ */
+public class NettyPrecompressedFileCustomizableResponseType extends NettySystemFileCustomizableResponseType {
+
+    private static final String[][] ENCODINGS = {{"br", ".br"}, {"gzip", ".gz"}};
+
+    private final String name;
+    private final String contentEncoding;
+
+    /**
+     * @param compressedFile  The compressed file
+     * @param name            The name of the original file
+     * @param contentEncoding The content encoding of the compressed file
+     */
+    public NettyPrecompressedFileCustomizableResponseType(File compressedFile, String name, String contentEncoding) {
+        super(compressedFile);
+        this.name = name;
+        this.contentEncoding = contentEncoding;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return The content encoding of the file
+     */
+    public String getContentEncoding() {
+        return contentEncoding;
+    }
+
+    @Override
+    public void process(MutableHttpResponse response) {
+        super.process(response);
+        response.header(HttpHeaders.CONTENT_ENCODING, contentEncoding);
+        response.header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+    }
+
+    /**
+     * Finds a precompressed sibling of the given file that is accepted by the client. Brotli is preferred over gzip.
+     *
+     * @param file           The original file
+     * @param acceptEncoding The value of the {@code Accept-Encoding} header
+     * @return The precompressed file if one exists
+     */
+    public static Optional<NettyPrecompressedFileCustomizableResponseType> find(File file, @Nullable String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return Optional.empty();
+        }
+        for (String[] encoding : ENCODINGS) {
+            if (accepts(acceptEncoding, encoding[0])) {
+                File compressed = new File(file.getPath() + encoding[1]);
+                if (compressed.isFile() && compressed.canRead()) {
+                    return Optional.of(new NettyPrecompressedFileCustomizableResponseType(compressed, file.getName(), encoding[0]));
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static boolean accepts(String acceptEncoding, String encoding) {
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parameters = coding.split(";");
+            if (parameters[0].trim().equalsIgnoreCase(encoding)) {
+                for (int i = 1; i < parameters.length; i++) {
+                    String parameter = parameters[i].trim();
+                    if (parameter.startsWith("q=")) {
+                        try {
+                            return Double.parseDouble(parameter.substring(2)) > 0;
+                        } catch (NumberFormatException e) {
+                            return false;
+                        }
+                    }
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -17,6 +17,7 @@
 package io.micronaut.http.server.netty.types.files;
 
 import io.micronaut.http.HttpRequest;
+import io.micronaut.http.HttpStatus;
 import io.micronaut.http.MutableHttpResponse;
 import io.micronaut.http.netty.NettyMutableHttpResponse;
 import io.micronaut.http.server.netty.NettyHttpServer;
@@ -24,6 +25,7 @@ import io.micronaut.http.server.netty.SmartHttpContentCompressor;
 import io.micronaut.http.server.netty.types.NettyFileCustomizableResponseType;
 import io.micronaut.http.server.types.CustomizableResponseTypeException;
 import io.micronaut.http.server.types.files.SystemFileCustomizableResponseType;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.DefaultFileRegion;
 import io.netty.handler.codec.http.DefaultHttpResponse;
@@ -40,7 +42,11 @@ import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Writes a {@link File} to the Netty context.
@@ -52,6 +58,7 @@ import java.util.Optional;
 public class NettySystemFileCustomizableResponseType extends SystemFileCustomizableResponseType implements NettyFileCustomizableResponseType {
 
     private static final int LENGTH_8K = 8192;
+    private static final String MULTIPART_BYTERANGES = "multipart/byteranges";
 
     protected final RandomAccessFile raf;
     protected final long rafLength;
@@ -105,46 +112,137 @@ public class NettySystemFileCustomizableResponseType extends SystemFileCustomiza
         delegate.ifPresent((type) -> type.process(response));
     }
 
+    /**
+     * @return A strong entity tag derived from the length and the last modified date of the file
+     */
+    public String getETag() {
+        return "\"" + Long.toHexString(getLength()) + "-" + Long.toHexString(getLastModified()) + "\"";
+    }
+
     @Override
     public void write(HttpRequest<?> request, MutableHttpResponse<?> response, ChannelHandlerContext context) {
+        writeRegion(response, context, 0, getLength());
+    }
 
-        if (response instanceof NettyMutableHttpResponse) {
-
-            FullHttpResponse nettyResponse = ((NettyMutableHttpResponse) response).getNativeResponse();
-
-            //The streams codec prevents non full responses from being written
-            Optional
-                .ofNullable(context.pipeline().get(NettyHttpServer.HTTP_STREAMS_CODEC))
-                .ifPresent(handler -> context.pipeline().replace(handler, "chunked-handler", new ChunkedWriteHandler()));
-
-            // Write the request data
-            HttpHeaders headers = nettyResponse.headers();
-            context.write(new DefaultHttpResponse(nettyResponse.protocolVersion(), nettyResponse.status(), headers), context.voidPromise());
+    /**
+     * Writes the given ranges of the file as a {@code 206} response. A single range is written as is and multiple
+     * ranges are written as a {@code multipart/byteranges} body.
+     *
+     * @param response    The response
+     * @param context     The channel handler context
+     * @param ranges      The satisfiable ranges
+     * @param contentType The content type of the file
+     */
+    public void writeRanges(MutableHttpResponse<?> response, ChannelHandlerContext context, List<ByteRange> ranges, String contentType) {
+        if (!(response instanceof NettyMutableHttpResponse)) {
+            throw new IllegalArgumentException("Unsupported response type. Not a Netty response: " + response);
+        }
+        HttpHeaders headers = ((NettyMutableHttpResponse) response).getNativeResponse().headers();
+        long length = getLength();
+        response.status(HttpStatus.PARTIAL_CONTENT);
+        if (ranges.size() == 1) {
+            ByteRange range = ranges.get(0);
+            headers.set(io.micronaut.http.HttpHeaders.CONTENT_RANGE, range.toContentRange(length));
+            headers.set(io.micronaut.http.HttpHeaders.CONTENT_LENGTH, range.getLength());
+            writeRegion(response, context, range.getStart(), range.getLength());
+            return;
+        }
 
-            // Write the content.
-            if (context.pipeline().get(SslHandler.class) == null && SmartHttpContentCompressor.shouldSkip(headers)) {
-                // SSL not enabled - can use zero-copy file transfer.
-                // Remove the content compressor to prevent incorrect behavior with zero-copy
-                HttpContentCompressor compressor = context.pipeline().get(HttpContentCompressor.class);
-                if (compressor != null) {
-                    context.pipeline().remove(HttpContentCompressor.class);
-                }
+        String boundary = Long.toHexString(ThreadLocalRandom.current().nextLong()) + Long.toHexString(System.nanoTime());
+        List<String> partHeaders = new ArrayList<>(ranges.size());
+        long contentLength = 0;
+        for (ByteRange range : ranges) {
+            String partHeader = "\r\n--" + boundary + "\r\n"
+                + io.micronaut.http.HttpHeaders.CONTENT_TYPE + ": " + contentType + "\r\n"
+                + io.micronaut.http.HttpHeaders.CONTENT_RANGE + ": " + range.toContentRange(length) + "\r\n\r\n";
+            partHeaders.add(partHeader);
+            contentLength += partHeader.length() + range.getLength();
+        }
+        String closeDelimiter = "\r\n--" + boundary + "--\r\n";
+        contentLength += closeDelimiter.length();
+        headers.set(io.micronaut.http.HttpHeaders.CONTENT_TYPE, MULTIPART_BYTERANGES + "; boundary=" + boundary);
+        headers.set(io.micronaut.http.HttpHeaders.CONTENT_LENGTH, contentLength);
 
-                context.write(new DefaultFileRegion(raf.getChannel(), 0, getLength()), context.newProgressivePromise());
-                context.writeAndFlush(LastHttpContent.EMPTY_LAST_CONTENT);
-            } else {
-                // SSL enabled - cannot use zero-copy file transfer.
-                try {
-                    // HttpChunkedInput will write the end marker (LastHttpContent) for us.
-                    context.writeAndFlush(new HttpChunkedInput(new ChunkedFile(raf, 0, getLength(), LENGTH_8K)),
-                        context.newProgressivePromise());
-                } catch (IOException e) {
-                    throw new CustomizableResponseTypeException("Could not read file", e);
+        boolean zeroCopy = writeHeaders(response, context);
+        try {
+            for (int i = 0; i < ranges.size(); i++) {
+                ByteRange range = ranges.get(i);
+                context.write(Unpooled.copiedBuffer(partHeaders.get(i), StandardCharsets.US_ASCII), context.voidPromise());
+                // each part needs its own channel because a region closes its channel once it has been written
+                if (zeroCopy) {
+                    context.write(new DefaultFileRegion(getFile(), range.getStart(), range.getLength()), context.voidPromise());
+                } else {
+                    RandomAccessFile part = new RandomAccessFile(getFile(), "r");
+                    context.write(new ChunkedFile(part, range.getStart(), range.getLength(), LENGTH_8K), context.voidPromise());
                 }
             }
+            context.write(Unpooled.copiedBuffer(closeDelimiter, StandardCharsets.US_ASCII), context.voidPromise());
+            context.writeAndFlush(LastHttpContent.EMPTY_LAST_CONTENT);
+        } catch (IOException e) {
+            throw new CustomizableResponseTypeException("Could not read file", e);
+        } finally {
+            close();
+        }
+    }
+
+    /**
+     * Closes the underlying file. Only needs to be called if the file is not written.
+     */
+    public void close() {
+        try {
+            raf.close();
+        } catch (IOException e) {
+            // ignore
+        }
+    }
 
+    private void writeRegion(MutableHttpResponse<?> response, ChannelHandlerContext context, long position, long count) {
+        boolean zeroCopy = writeHeaders(response, context);
+        if (zeroCopy) {
+            context.write(new DefaultFileRegion(raf.getChannel(), position, count), context.newProgressivePromise());
+            context.writeAndFlush(LastHttpContent.EMPTY_LAST_CONTENT);
         } else {
+            try {
+                // HttpChunkedInput will write the end marker (LastHttpContent) for us.
+                context.writeAndFlush(new HttpChunkedInput(new ChunkedFile(raf, position, count, LENGTH_8K)),
+                    context.newProgressivePromise());
+            } catch (IOException e) {
+                throw new CustomizableResponseTypeException("Could not read file", e);
+            }
+        }
+    }
+
+    /**
+     * Writes the response headers and prepares the pipeline for the content.
+     *
+     * @return Whether the content can be written with zero-copy file transfer
+     */
+    private boolean writeHeaders(MutableHttpResponse<?> response, ChannelHandlerContext context) {
+        if (!(response instanceof NettyMutableHttpResponse)) {
             throw new IllegalArgumentException("Unsupported response type. Not a Netty response: " + response);
         }
+        FullHttpResponse nettyResponse = ((NettyMutableHttpResponse) response).getNativeResponse();
+
+        //The streams codec prevents non full responses from being written
+        Optional
+            .ofNullable(context.pipeline().get(NettyHttpServer.HTTP_STREAMS_CODEC))
+            .ifPresent(handler -> context.pipeline().replace(handler, "chunked-handler", new ChunkedWriteHandler()));
+
+        // Write the request data
+        HttpHeaders headers = nettyResponse.headers();
+        context.write(new DefaultHttpResponse(nettyResponse.protocolVersion(), nettyResponse.status(), headers), context.voidPromise());
+
+        // Write the content.
+        if (context.pipeline().get(SslHandler.class) == null && SmartHttpContentCompressor.shouldSkip(headers)) {
+            // SSL not enabled - can use zero-copy file transfer.
+            // Remove the content compressor to prevent incorrect behavior with zero-copy
+            HttpContentCompressor compressor = context.pipeline().get(HttpContentCompressor.class);
+            if (compressor != null) {
+                context.pipeline().remove(HttpContentCompressor.class);
+            }
+            return true;
+        }
+        // SSL enabled - cannot use zero-copy file transfer.
+        return false;
     }
 }
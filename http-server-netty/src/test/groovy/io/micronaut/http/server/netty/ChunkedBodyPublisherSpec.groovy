@@ -0,0 +1,108 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.server.netty
+
+import io.netty.buffer.Unpooled
+import io.netty.handler.codec.http.HttpContent
+import io.netty.util.concurrent.DefaultEventExecutor
+import io.reactivex.subscribers.TestSubscriber
+import spock.lang.AutoCleanup
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+import java.time.Duration
+import java.util.concurrent.CancellationException
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CompletionException
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.TimeUnit
+
+/**
+ * @since 1.0
+ */
+class ChunkedBodyPublisherSpec extends Specification {
+
+    @AutoCleanup('shutdownGracefully')
+    DefaultEventExecutor eventLoop = new DefaultEventExecutor()
+
+    PollingConditions conditions = new PollingConditions(timeout: 3)
+
+    void "test the encoding thread waits until chunks are requested"() {
+        given:
+        ChunkedBodyPublisher publisher = new ChunkedBodyPublisher(eventLoop, 2)
+        TestSubscriber<HttpContent> subscriber = new TestSubscriber<>(0)
+        publisher.subscribe(subscriber)
+
+        when:"more chunks are emitted than may be queued"
+        CompletableFuture<Void> encoding = CompletableFuture.runAsync {
+            5.times { publisher.emit(Unpooled.wrappedBuffer([it] as byte[])) }
+            publisher.complete()
+        }
+        Thread.sleep(200)
+
+        then:"the encoding waits"
+        !encoding.done
+        subscriber.valueCount() == 0
+
+        when:"the chunks are requested"
+        subscriber.request(5)
+        encoding.get()
+
+        then:"the encoding completes"
+        conditions.eventually {
+            subscriber.assertValueCount(5)
+            subscriber.assertComplete()
+        }
+        subscriber.values()*.content()*.getByte(0) == [0, 1, 2, 3, 4]
+
+        cleanup:
+        subscriber.values()*.release()
+    }
+
+    void "test a waiting encoding thread is stopped when the response is cancelled"() {
+        given:
+        ChunkedBodyPublisher publisher = new ChunkedBodyPublisher(eventLoop, 1)
+        TestSubscriber<HttpContent> subscriber = new TestSubscriber<>(0)
+        publisher.subscribe(subscriber)
+        CompletableFuture<Void> encoding = CompletableFuture.runAsync {
+            5.times { publisher.emit(Unpooled.wrappedBuffer([it] as byte[])) }
+        }
+
+        when:
+        Thread.sleep(200)
+        subscriber.cancel()
+        encoding.join()
+
+        then:
+        CompletionException e = thrown()
+        e.cause instanceof CancellationException
+        subscriber.valueCount() == 0
+    }
+
+    void "test a waiting encoding thread gives up when the chunks are never requested"() {
+        given:"a publisher that is never subscribed to, as when the write of the response fails"
+        ChunkedBodyPublisher publisher = new ChunkedBodyPublisher(eventLoop, 1, Duration.ofMillis(100))
+
+        when:
+        CompletableFuture.runAsync {
+            5.times { publisher.emit(Unpooled.wrappedBuffer([it] as byte[])) }
+        }.get(3, TimeUnit.SECONDS)
+
+        then:
+        ExecutionException e = thrown()
+        e.cause instanceof CancellationException
+    }
+}
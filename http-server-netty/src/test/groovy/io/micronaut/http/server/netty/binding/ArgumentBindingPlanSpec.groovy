@@ -0,0 +1,122 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.server.netty.binding
+
+import io.micronaut.context.annotation.Replaces
+import io.micronaut.context.annotation.Requires
+import io.micronaut.core.bind.ArgumentBinder
+import io.micronaut.core.convert.ConversionService
+import io.micronaut.core.type.Argument
+import io.micronaut.http.HttpRequest
+import io.micronaut.http.HttpResponse
+import io.micronaut.http.annotation.Controller
+import io.micronaut.http.annotation.Error
+import io.micronaut.http.annotation.Get
+import io.micronaut.http.annotation.Header
+import io.micronaut.http.server.binding.DefaultRequestBinderRegistry
+import io.micronaut.http.server.binding.binders.RequestArgumentBinder
+import io.micronaut.http.server.netty.AbstractMicronautSpec
+import io.micronaut.http.server.netty.RequestArgumentSatisfier
+
+import javax.annotation.Nullable
+import javax.inject.Singleton
+import java.util.concurrent.atomic.AtomicInteger
+
+/**
+ * @since 1.0
+ */
+class ArgumentBindingPlanSpec extends AbstractMicronautSpec {
+
+    void "test the binders of route arguments are resolved once"() {
+        given:
+        CountingBinderRegistry registry = embeddedServer.applicationContext.getBean(CountingBinderRegistry)
+        int resolved = registry.lookups.get()
+
+        expect:
+        resolved > 0
+        rxClient.retrieve(HttpRequest.GET('/plan/Fred?age=10').header('X-Title', 'Mr')).blockingFirst() == "Mr Fred 10"
+        rxClient.retrieve(HttpRequest.GET('/plan/Barney?age=20')).blockingFirst() == "null Barney 20"
+        registry.lookups.get() == resolved
+    }
+
+    void "test the binders of error route arguments are resolved on first use"() {
+        given:
+        CountingBinderRegistry registry = embeddedServer.applicationContext.getBean(CountingBinderRegistry)
+
+        when:
+        HttpResponse<String> first = rxClient.exchange('/plan/fail', String).blockingFirst()
+        int resolved = registry.lookups.get()
+        HttpResponse<String> second = rxClient.exchange('/plan/fail', String).blockingFirst()
+
+        then:
+        first.body() == "Handled: /plan/fail"
+        second.body() == "Handled: /plan/fail"
+        registry.lookups.get() == resolved
+    }
+
+    void "test the binders of a registry that is not cacheable are resolved on every request"() {
+        given:
+        DefaultRequestBinderRegistry registry = new DefaultRequestBinderRegistry(ConversionService.SHARED) {}
+
+        expect:
+        new DefaultRequestBinderRegistry(ConversionService.SHARED).argumentBinderCacheable
+        !registry.argumentBinderCacheable
+        !new RequestArgumentSatisfier(registry, null).@cacheBindings
+    }
+
+    @Controller('/plan')
+    @Requires(property = 'spec.name', value = 'ArgumentBindingPlanSpec')
+    static class PlanController {
+
+        @Get('/fail')
+        String fail() {
+            throw new IllegalStateException("Bad things")
+        }
+
+        @Get('/{name}')
+        String greet(String name, int age, @Nullable @Header('X-Title') String title) {
+            "$title $name $age"
+        }
+
+        @Error(IllegalStateException)
+        HttpResponse<String> handle(HttpRequest request, IllegalStateException e) {
+            HttpResponse.ok("Handled: $request.path".toString())
+        }
+    }
+
+    @Singleton
+    @Replaces(DefaultRequestBinderRegistry)
+    @Requires(property = 'spec.name', value = 'ArgumentBindingPlanSpec')
+    static class CountingBinderRegistry extends DefaultRequestBinderRegistry {
+
+        final AtomicInteger lookups = new AtomicInteger()
+
+        CountingBinderRegistry(ConversionService conversionService, RequestArgumentBinder... binders) {
+            super(conversionService, binders)
+        }
+
+        @Override
+        boolean isArgumentBinderCacheable() {
+            true
+        }
+
+        @Override
+        def <T> Optional<ArgumentBinder<T, HttpRequest<?>>> findArgumentBinder(Argument<T> argument, HttpRequest<?> source) {
+            lookups.incrementAndGet()
+            return super.findArgumentBinder(argument, source)
+        }
+    }
+}
@@ -15,6 +15,7 @@
  */
 package io.micronaut.http.server.netty.binding
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties
 import com.fasterxml.jackson.core.JsonParseException
 import groovy.json.JsonSlurper
 import io.reactivex.Flowable
@@ -156,6 +157,29 @@ class JsonBodyBindingSpec extends AbstractMicronautSpec {
         response.body() == "Body: Foo(Fred, 10)"
     }
 
+    void "test POGO body is read from the JSON tokens without building a tree"() {
+        when:
+        def json = '{"name":"Fred", "age":10, "tags":["a", "b"]}'
+        def response = rxClient.exchange(
+                HttpRequest.POST('/json/object-source', json), String
+        ).blockingFirst()
+
+        then:
+        response.body() == "Body: Foo(Fred, 10) from TokenBuffer"
+    }
+
+    void "test POGO body with an invalid property type"() {
+        when:
+        def json = '{"name":"Fred", "age":"ten"}'
+        rxClient.exchange(
+                HttpRequest.POST('/json/object', json), String
+        ).blockingFirst()
+
+        then:
+        def e = thrown(HttpClientResponseException)
+        e.status == HttpStatus.BAD_REQUEST
+    }
+
     void "test simple POGO body parse and return"() {
         when:
         def json = '{"name":"Fred","age":10}'
@@ -238,6 +262,28 @@ class JsonBodyBindingSpec extends AbstractMicronautSpec {
         response.body() == "Body: Foo(Fred, 10)".toString()
     }
 
+    void "test future POGO body is bound from a tree"() {
+        when:
+        def json = '{"name":"Fred","age":10}'
+        def response = rxClient.exchange(
+                HttpRequest.POST('/json/future-object-source', json), String
+        ).blockingFirst()
+
+        then:
+        response.body() == "Body: Foo(Fred, 10) from ObjectNode"
+    }
+
+    void "test optional POGO body parsing"() {
+        when:
+        def json = '{"name":"Fred","age":10}'
+        def response = rxClient.exchange(
+                HttpRequest.POST('/json/optional-object', json), String
+        ).blockingFirst()
+
+        then:
+        response.body() == "Body: Foo(Fred, 10) from ObjectNode"
+    }
+
     void "test publisher argument handling with POGO"() {
 
         when:
@@ -273,6 +319,11 @@ class JsonBodyBindingSpec extends AbstractMicronautSpec {
             "Body: $foo"
         }
 
+        @Post
+        String objectSource(@Body Foo foo, HttpRequest<?> request) {
+            "Body: $foo from ${request.getBody().get().getClass().simpleName}"
+        }
+
         @Post
         Foo objectToObject(@Body Foo foo) {
             return foo
@@ -317,6 +368,18 @@ class JsonBodyBindingSpec extends AbstractMicronautSpec {
             })
         }
 
+        @Post
+        CompletableFuture<String> futureObjectSource(@Body CompletableFuture<Foo> future, HttpRequest<?> request) {
+            future.thenApply({ Foo foo ->
+                "Body: $foo from ${request.getBody().get().getClass().simpleName}".toString()
+            })
+        }
+
+        @Post
+        String optionalObject(@Body Optional<Foo> foo, HttpRequest<?> request) {
+            "Body: ${foo.orElse(null)} from ${request.getBody().get().getClass().simpleName}"
+        }
+
         @Post
         Publisher<String> publisherObject(@Body Flowable<Foo> publisher) {
             return publisher
@@ -337,6 +400,7 @@ class JsonBodyBindingSpec extends AbstractMicronautSpec {
         }
     }
 
+    @JsonIgnoreProperties(ignoreUnknown = true)
     static class Foo {
         String name
         Integer age
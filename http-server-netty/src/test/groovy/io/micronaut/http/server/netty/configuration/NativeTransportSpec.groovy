@@ -0,0 +1,101 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.server.netty.configuration
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.http.HttpRequest
+import io.micronaut.http.MediaType
+import io.micronaut.http.annotation.Controller
+import io.micronaut.http.annotation.Get
+import io.micronaut.http.client.HttpClient
+import io.micronaut.http.netty.channel.EventLoopGroupFactory
+import io.micronaut.http.server.netty.NettyHttpRequest
+import io.micronaut.runtime.server.EmbeddedServer
+import spock.lang.Requires
+import spock.lang.Specification
+
+/**
+ * @since 1.0
+ */
+class NativeTransportSpec extends Specification {
+
+    void "test native transport configuration"() {
+        given:
+        ApplicationContext context = ApplicationContext.run(
+                'micronaut.server.netty.use-native-transport': true,
+                'micronaut.server.netty.reuse-port': true,
+                'micronaut.server.netty.tcp-fast-open': 256,
+                'micronaut.server.netty.edge-triggered': false
+        )
+
+        when:
+        NettyHttpServerConfiguration config = context.getBean(NettyHttpServerConfiguration)
+
+        then:
+        config.useNativeTransport
+        config.reusePort
+        config.tcpFastOpen == 256
+        !config.edgeTriggered
+
+        cleanup:
+        context.close()
+    }
+
+    void "test the server and client fall back to NIO unless the native transport is enabled"() {
+        given:
+        EmbeddedServer server = ApplicationContext.run(EmbeddedServer)
+        HttpClient client = server.applicationContext.createBean(HttpClient, server.getURL())
+
+        expect:
+        client.toBlocking().retrieve(HttpRequest.GET('/native/channel'), String) == 'NioSocketChannel'
+
+        cleanup:
+        client.close()
+        server.close()
+    }
+
+    @Requires({ EventLoopGroupFactory.isNativeTransportAvailable() })
+    void "test the server and client use the native transport"() {
+        given:
+        EmbeddedServer server = ApplicationContext.run(EmbeddedServer, [
+                'micronaut.server.netty.use-native-transport': true,
+                'micronaut.server.netty.reuse-port': true,
+                'micronaut.server.netty.tcp-fast-open': 256,
+                'micronaut.server.netty.parent.threads': 2,
+                'micronaut.http.client.use-native-transport': true,
+                'micronaut.http.client.tcp-fast-open': true
+        ])
+        HttpClient client = server.applicationContext.createBean(HttpClient, server.getURL())
+
+        expect:
+        (1..4).every {
+            client.toBlocking().retrieve(HttpRequest.GET('/native/channel'), String) == 'EpollSocketChannel'
+        }
+
+        cleanup:
+        client.close()
+        server.close()
+    }
+
+    @Controller('/native')
+    static class ChannelController {
+
+        @Get(uri = '/channel', produces = MediaType.TEXT_PLAIN)
+        String channel(HttpRequest request) {
+            ((NettyHttpRequest) request).channelHandlerContext.channel().getClass().simpleName
+        }
+    }
+}
@@ -67,6 +67,25 @@ class NettyHttpServerConfigurationSpec extends Specification {
         beanContext.close()
     }
 
+    void "test the retry after delay is sent in whole seconds"() {
+        given:
+        ApplicationContext beanContext = ApplicationContext.run('micronaut.server.retry-after': retryAfter)
+
+        expect:
+        beanContext.getBean(NettyHttpServerConfiguration).retryAfterSeconds == seconds
+
+        cleanup:
+        beanContext.close()
+
+        where:
+        retryAfter | seconds
+        '1s'       | 1
+        '500ms'    | 1
+        '0s'       | 1
+        '1500ms'   | 2
+        '30s'      | 30
+    }
+
     void "test cors configuration"() {
         given:
         ApplicationContext beanContext = new DefaultApplicationContext("test")
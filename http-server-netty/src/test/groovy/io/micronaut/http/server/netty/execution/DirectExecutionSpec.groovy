@@ -0,0 +1,119 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.server.netty.execution
+
+import io.micronaut.context.annotation.Requires
+import io.micronaut.http.HttpRequest
+import io.micronaut.http.HttpResponse
+import io.micronaut.http.HttpStatus
+import io.micronaut.http.MediaType
+import io.micronaut.http.annotation.Controller
+import io.micronaut.http.annotation.Error
+import io.micronaut.http.annotation.Get
+import io.micronaut.http.client.exceptions.HttpClientResponseException
+import io.micronaut.http.server.netty.AbstractMicronautSpec
+import io.reactivex.Flowable
+
+/**
+ * Tests routes with a non-reactive result and no filters, which are executed without assembling a publisher.
+ *
+ * @since 1.0
+ */
+class DirectExecutionSpec extends AbstractMicronautSpec {
+
+    void "test a non-reactive result is encoded"() {
+        when:
+        HttpResponse<String> response = rxClient.exchange(HttpRequest.GET('/direct/book').accept(MediaType.APPLICATION_JSON_TYPE), String).blockingFirst()
+
+        then:
+        response.status == HttpStatus.OK
+        response.contentType.get() == MediaType.APPLICATION_JSON_TYPE
+        response.body() == '{"title":"The Stand"}'
+    }
+
+    void "test a void result is ok"() {
+        when:
+        HttpResponse<String> response = rxClient.exchange('/direct/nothing', String).blockingFirst()
+
+        then:
+        response.status == HttpStatus.OK
+    }
+
+    void "test a null result is not found"() {
+        when:
+        rxClient.exchange('/direct/missing', String).blockingFirst()
+
+        then:
+        HttpClientResponseException e = thrown()
+        e.status == HttpStatus.NOT_FOUND
+    }
+
+    void "test a reactive body of a non-reactive result is emitted"() {
+        when:
+        HttpResponse<String> response = rxClient.exchange('/direct/reactive', String).blockingFirst()
+
+        then:
+        response.status == HttpStatus.OK
+        response.body() == 'reactive body'
+    }
+
+    void "test an error is handled by the error route"() {
+        when:
+        HttpResponse<String> response = rxClient.exchange('/direct/error', String).blockingFirst()
+
+        then:
+        response.status == HttpStatus.OK
+        response.body() == 'Handled: Bad book'
+    }
+
+    @Controller('/direct')
+    @Requires(property = 'spec.name', value = 'DirectExecutionSpec')
+    static class DirectController {
+
+        @Get('/book')
+        Book book() {
+            new Book(title: 'The Stand')
+        }
+
+        @Get('/nothing')
+        void nothing() {
+        }
+
+        @Get('/missing')
+        Book missing() {
+            null
+        }
+
+        @Get(value = '/reactive', produces = MediaType.TEXT_PLAIN)
+        HttpResponse<Flowable<String>> reactive() {
+            HttpResponse.ok(Flowable.just('reactive body'))
+        }
+
+        @Get('/error')
+        String error() {
+            throw new IllegalArgumentException('Bad book')
+        }
+
+        @Error(IllegalArgumentException)
+        HttpResponse<String> handleError(HttpRequest request, IllegalArgumentException e) {
+            HttpResponse.ok("Handled: $e.message".toString())
+        }
+    }
+
+    static class Book {
+        String title
+    }
+}
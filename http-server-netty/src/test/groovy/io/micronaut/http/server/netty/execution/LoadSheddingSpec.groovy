@@ -0,0 +1,129 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.server.netty.execution
+
+import io.micronaut.context.annotation.Requires
+import io.micronaut.http.HttpHeaders
+import io.micronaut.http.HttpResponse
+import io.micronaut.http.HttpStatus
+import io.micronaut.http.annotation.Controller
+import io.micronaut.http.annotation.Get
+import io.micronaut.http.client.exceptions.HttpClientResponseException
+import io.micronaut.http.server.netty.AbstractMicronautSpec
+import io.micronaut.retry.annotation.Bulkhead
+import io.micronaut.scheduling.annotation.ExecuteOn
+import io.reactivex.Single
+import io.reactivex.subjects.SingleSubject
+import io.reactivex.subscribers.TestSubscriber
+
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+
+/**
+ * Tests requests rejected because the server is overloaded are responded to with {@code 503 Service Unavailable}.
+ *
+ * @since 1.0
+ */
+class LoadSheddingSpec extends AbstractMicronautSpec {
+
+    @Override
+    Map<String, Object> getConfiguration() {
+        super.getConfiguration() << [
+                'micronaut.executors.bounded.type'     : 'fixed',
+                'micronaut.executors.bounded.nThreads' : 1,
+                'micronaut.executors.bounded.queueSize': 1
+        ]
+    }
+
+    void "test a request rejected by a saturated executor is service unavailable"() {
+        given:
+        SheddingController controller = embeddedServer.applicationContext.getBean(SheddingController)
+        controller.reset()
+
+        when:"the thread and the queue of the executor are busy"
+        TestSubscriber<HttpResponse<String>> running = rxClient.exchange('/shedding/blocking', String).test()
+        controller.started.await(5, TimeUnit.SECONDS)
+        TestSubscriber<HttpResponse<String>> queued = rxClient.exchange('/shedding/blocking', String).test()
+        Thread.sleep(200)
+        rxClient.exchange('/shedding/blocking', String).blockingFirst()
+
+        then:"further requests are shed"
+        HttpClientResponseException e = thrown()
+        e.status == HttpStatus.SERVICE_UNAVAILABLE
+        e.response.header(HttpHeaders.RETRY_AFTER) == '1'
+
+        when:"the executor catches up"
+        controller.release.countDown()
+
+        then:"the accepted requests complete"
+        running.awaitTerminalEvent(5, TimeUnit.SECONDS)
+        queued.awaitTerminalEvent(5, TimeUnit.SECONDS)
+        running.values()*.status == [HttpStatus.OK]
+        queued.values()*.status == [HttpStatus.OK]
+    }
+
+    void "test a request rejected by a bulkhead is service unavailable"() {
+        given:
+        SheddingController controller = embeddedServer.applicationContext.getBean(SheddingController)
+        controller.reset()
+
+        when:"the permitted executions are in progress"
+        TestSubscriber<HttpResponse<String>> running = rxClient.exchange('/shedding/bulkhead', String).test()
+        Thread.sleep(200)
+        rxClient.exchange('/shedding/bulkhead', String).blockingFirst()
+
+        then:"further requests are shed"
+        HttpClientResponseException e = thrown()
+        e.status == HttpStatus.SERVICE_UNAVAILABLE
+        e.response.header(HttpHeaders.RETRY_AFTER) == '1'
+
+        when:"the execution completes"
+        controller.result.onSuccess('done')
+
+        then:"the permit is released"
+        running.awaitTerminalEvent(5, TimeUnit.SECONDS)
+        running.values()*.body() == ['done']
+    }
+
+    @Controller('/shedding')
+    @Requires(property = 'spec.name', value = 'LoadSheddingSpec')
+    static class SheddingController {
+
+        CountDownLatch started
+        CountDownLatch release
+        SingleSubject<String> result
+
+        void reset() {
+            started = new CountDownLatch(1)
+            release = new CountDownLatch(1)
+            result = SingleSubject.create()
+        }
+
+        @Get('/blocking')
+        @ExecuteOn('bounded')
+        String blocking() {
+            started.countDown()
+            release.await(10, TimeUnit.SECONDS)
+            return 'done'
+        }
+
+        @Get('/bulkhead')
+        @Bulkhead(1)
+        Single<String> bulkhead() {
+            return result
+        }
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.server.netty.limit
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.annotation.Requires
+import io.micronaut.context.exceptions.BeanInstantiationException
+import io.micronaut.http.HttpHeaders
+import io.micronaut.http.HttpRequest
+import io.micronaut.http.HttpResponse
+import io.micronaut.http.HttpStatus
+import io.micronaut.http.MediaType
+import io.micronaut.http.annotation.Body
+import io.micronaut.http.annotation.Controller
+import io.micronaut.http.annotation.Get
+import io.micronaut.http.annotation.Post
+import io.micronaut.http.client.exceptions.HttpClientResponseException
+import io.micronaut.http.server.netty.AbstractMicronautSpec
+import io.reactivex.Single
+import io.reactivex.subjects.SingleSubject
+import io.reactivex.subscribers.TestSubscriber
+
+import java.util.concurrent.TimeUnit
+
+/**
+ * @since 1.0
+ */
+class ConcurrencyLimitSpec extends AbstractMicronautSpec {
+
+    @Override
+    Map<String, Object> getConfiguration() {
+        super.getConfiguration() << [
+                'micronaut.server.netty.concurrency-limit.enabled'                   : true,
+                'micronaut.server.netty.concurrency-limit.groups.slow.pattern'       : '/limited/slow/**',
+                'micronaut.server.netty.concurrency-limit.groups.slow.initial-limit' : 1,
+                'micronaut.server.netty.concurrency-limit.groups.slow.max-limit'     : 1
+        ]
+    }
+
+    void "test the limiters are configured"() {
+        when:
+        ConcurrencyLimiterRegistry registry = embeddedServer.applicationContext.getBean(ConcurrencyLimiterRegistry)
+
+        then:
+        registry.limiters*.name == ['slow', ConcurrencyLimiterRegistry.DEFAULT_LIMITER]
+        registry.limiters*.limit == [1, 20]
+        registry.resolve('/limited/slow/one').name == 'slow'
+        registry.resolve('/limited/fast').name == ConcurrencyLimiterRegistry.DEFAULT_LIMITER
+    }
+
+    void "test overlapping groups are matched by the specificity of their pattern"() {
+        given:
+        ApplicationContext context = ApplicationContext.run(
+                'micronaut.server.netty.concurrency-limit.enabled'              : true,
+                'micronaut.server.netty.concurrency-limit.groups.api.pattern'    : '/api/**',
+                'micronaut.server.netty.concurrency-limit.groups.reports.pattern': '/api/reports/**'
+        )
+        ConcurrencyLimiterRegistry registry = context.getBean(ConcurrencyLimiterRegistry)
+
+        expect:
+        registry.limiters*.name == ['reports', 'api', ConcurrencyLimiterRegistry.DEFAULT_LIMITER]
+        registry.resolve('/api/reports/daily').name == 'reports'
+        registry.resolve('/api/books').name == 'api'
+
+        cleanup:
+        context.close()
+    }
+
+    void "test the order of a group takes precedence over the specificity of its pattern"() {
+        given:
+        ApplicationContext context = ApplicationContext.run(
+                'micronaut.server.netty.concurrency-limit.enabled'              : true,
+                'micronaut.server.netty.concurrency-limit.groups.api.pattern'    : '/api/**',
+                'micronaut.server.netty.concurrency-limit.groups.api.order'      : -1,
+                'micronaut.server.netty.concurrency-limit.groups.reports.pattern': '/api/reports/**'
+        )
+        ConcurrencyLimiterRegistry registry = context.getBean(ConcurrencyLimiterRegistry)
+
+        expect:
+        registry.resolve('/api/reports/daily').name == 'api'
+
+        cleanup:
+        context.close()
+    }
+
+    void "test a group without a pattern is rejected"() {
+        given:
+        ApplicationContext context = ApplicationContext.run(
+                'micronaut.server.netty.concurrency-limit.enabled'                 : true,
+                'micronaut.server.netty.concurrency-limit.groups.reports.max-limit': 10
+        )
+
+        when:
+        context.getBean(ConcurrencyLimiterRegistry)
+
+        then:
+        BeanInstantiationException e = thrown()
+        e.message.contains('No pattern configured for concurrency limit group: reports')
+
+        cleanup:
+        context.close()
+    }
+
+    void "test requests beyond the limit of a group are rejected before the body is read"() {
+        given:
+        LimitedController controller = embeddedServer.applicationContext.getBean(LimitedController)
+        ConcurrencyLimiter limiter = embeddedServer.applicationContext.getBean(ConcurrencyLimiterRegistry).resolve('/limited/slow')
+        controller.result = SingleSubject.create()
+        controller.received = 0
+
+        when:"the limit is reached"
+        TestSubscriber<HttpResponse<String>> running = rxClient.exchange('/limited/slow', String).test()
+        waitFor { limiter.inFlight == 1 }
+        rxClient.exchange(HttpRequest.POST('/limited/slow/body', 'ignored').contentType(MediaType.TEXT_PLAIN_TYPE), String).blockingFirst()
+
+        then:"the request is rejected"
+        HttpClientResponseException e = thrown()
+        e.status == HttpStatus.SERVICE_UNAVAILABLE
+        e.response.header(HttpHeaders.RETRY_AFTER) == '1'
+        controller.received == 0
+        limiter.rejected == 1
+
+        when:"other requests are not part of the group"
+        HttpResponse<String> response = rxClient.exchange('/limited/fast', String).blockingFirst()
+
+        then:"they are admitted"
+        response.body() == 'fast'
+
+        when:"the request completes"
+        controller.result.onSuccess('slow')
+        running.awaitTerminalEvent(5, TimeUnit.SECONDS)
+        waitFor { limiter.inFlight == 0 }
+
+        then:"further requests are admitted"
+        running.values()*.body() == ['slow']
+        rxClient.exchange(HttpRequest.POST('/limited/slow/body', 'accepted').contentType(MediaType.TEXT_PLAIN_TYPE), String).blockingFirst().body() == 'accepted'
+        controller.received == 1
+    }
+
+    private static void waitFor(Closure<Boolean> condition) {
+        long deadline = System.currentTimeMillis() + 5000
+        while (!condition() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10)
+        }
+    }
+
+    @Controller('/limited')
+    @Requires(property = 'spec.name', value = 'ConcurrencyLimitSpec')
+    static class LimitedController {
+
+        SingleSubject<String> result
+        int received
+
+        @Get('/slow')
+        Single<String> slow() {
+            result
+        }
+
+        @Post(value = '/slow/body', consumes = MediaType.TEXT_PLAIN, produces = MediaType.TEXT_PLAIN)
+        String body(@Body String body) {
+            received++
+            body
+        }
+
+        @Get('/fast')
+        String fast() {
+            'fast'
+        }
+    }
+}
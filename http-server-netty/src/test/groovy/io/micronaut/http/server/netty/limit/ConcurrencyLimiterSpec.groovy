@@ -0,0 +1,92 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.server.netty.limit
+
+import spock.lang.Specification
+
+import java.util.concurrent.TimeUnit
+
+/**
+ * @since 1.0
+ */
+class ConcurrencyLimiterSpec extends Specification {
+
+    void "test requests beyond the limit are rejected"() {
+        given:
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter('test', 2, 1, 10, 0.2, 1.5)
+
+        expect:
+        limiter.tryAcquire()
+        limiter.tryAcquire()
+        !limiter.tryAcquire()
+        limiter.inFlight == 2
+        limiter.rejected == 1
+
+        when:
+        limiter.releaseWithoutSample()
+
+        then:
+        limiter.inFlight == 1
+        limiter.tryAcquire()
+    }
+
+    void "test the limit grows while the latency is stable and shrinks once it increases"() {
+        given:
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter('test', 10, 1, 100, 0.2, 1.5)
+
+        when:"requests that use the limit complete with a stable latency"
+        run(limiter, 200, TimeUnit.MILLISECONDS.toNanos(10))
+
+        then:"the limit grows"
+        limiter.limit > 10
+        limiter.limit <= 100
+
+        when:"the latency increases as requests queue"
+        int grown = limiter.limit
+        run(limiter, 50, TimeUnit.MILLISECONDS.toNanos(100))
+
+        then:"the limit shrinks"
+        limiter.limit < grown
+        limiter.limit >= 1
+    }
+
+    void "test the limit does not grow while it is not used"() {
+        given:
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter('test', 10, 1, 100, 0.2, 1.5)
+
+        when:
+        200.times {
+            limiter.tryAcquire()
+            limiter.release(TimeUnit.MILLISECONDS.toNanos(10))
+        }
+
+        then:
+        limiter.limit == 10
+        limiter.inFlight == 0
+    }
+
+    private static void run(ConcurrencyLimiter limiter, int times, long rtt) {
+        times.times {
+            int acquired = 0
+            while (limiter.tryAcquire()) {
+                acquired++
+            }
+            acquired.times {
+                limiter.release(rtt)
+            }
+        }
+    }
+}
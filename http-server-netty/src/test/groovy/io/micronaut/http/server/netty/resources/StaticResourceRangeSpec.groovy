@@ -0,0 +1,194 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.server.netty.resources
+
+import io.micronaut.http.HttpRequest
+import io.micronaut.http.HttpResponse
+import io.micronaut.http.HttpStatus
+import io.micronaut.http.client.exceptions.HttpClientResponseException
+import io.micronaut.http.server.netty.AbstractMicronautSpec
+import io.micronaut.http.server.netty.types.files.ByteRange
+
+import java.nio.file.Files
+import java.util.zip.GZIPOutputStream
+
+import static io.micronaut.http.HttpHeaders.ACCEPT_ENCODING
+import static io.micronaut.http.HttpHeaders.ACCEPT_RANGES
+import static io.micronaut.http.HttpHeaders.CONTENT_ENCODING
+import static io.micronaut.http.HttpHeaders.CONTENT_LENGTH
+import static io.micronaut.http.HttpHeaders.CONTENT_RANGE
+import static io.micronaut.http.HttpHeaders.CONTENT_TYPE
+import static io.micronaut.http.HttpHeaders.ETAG
+import static io.micronaut.http.HttpHeaders.IF_NONE_MATCH
+import static io.micronaut.http.HttpHeaders.IF_RANGE
+import static io.micronaut.http.HttpHeaders.RANGE
+import static io.micronaut.http.HttpHeaders.VARY
+
+/**
+ * @since 1.0
+ */
+class StaticResourceRangeSpec extends AbstractMicronautSpec {
+
+    private static final String CONTENT = (0..<200).collect { String.format('%010d', it) }.join('')
+    private static File directory
+
+    static {
+        directory = Files.createTempDirectory("staticResourceRangeSpec").toFile()
+        new File(directory, "data.txt").text = CONTENT
+        new File(directory, "data.txt.gz").withOutputStream { out ->
+            new GZIPOutputStream(out).withStream { it.write(CONTENT.bytes) }
+        }
+        new File(directory, "plain.txt").text = CONTENT
+    }
+
+    Map<String, Object> getConfiguration() {
+        ['router.static.resources.paths': ['file:' + directory.path],
+         'router.static.resources.enabled': true,
+         'netty.responses.file.memory-cache-size': 1024 * 1024]
+    }
+
+    void cleanupSpec() {
+        directory.deleteDir()
+    }
+
+    void "test a single range is returned"() {
+        when:
+        HttpResponse<String> response = rxClient.exchange(
+                HttpRequest.GET('/plain.txt').header(RANGE, 'bytes=10-19'), String
+        ).blockingFirst()
+
+        then:
+        response.status == HttpStatus.PARTIAL_CONTENT
+        response.header(CONTENT_RANGE) == "bytes 10-19/2000"
+        response.header(CONTENT_LENGTH) == "10"
+        response.body() == "0000000001"
+    }
+
+    void "test a suffix range is returned"() {
+        when:
+        HttpResponse<String> response = rxClient.exchange(
+                HttpRequest.GET('/plain.txt').header(RANGE, 'bytes=-10'), String
+        ).blockingFirst()
+
+        then:
+        response.status == HttpStatus.PARTIAL_CONTENT
+        response.header(CONTENT_RANGE) == "bytes 1990-1999/2000"
+        response.body() == "0000000199"
+    }
+
+    void "test multiple ranges are returned as multipart/byteranges"() {
+        when:
+        HttpResponse<String> response = rxClient.exchange(
+                HttpRequest.GET('/plain.txt').header(RANGE, 'bytes=0-9, 1990-'), String
+        ).blockingFirst()
+        String boundary = response.header(CONTENT_TYPE).split('boundary=')[1]
+
+        then:
+        response.status == HttpStatus.PARTIAL_CONTENT
+        response.header(CONTENT_TYPE).startsWith("multipart/byteranges")
+        response.body() == "\r\n--$boundary\r\nContent-Type: text/plain\r\nContent-Range: bytes 0-9/2000\r\n\r\n0000000000" +
+                "\r\n--$boundary\r\nContent-Type: text/plain\r\nContent-Range: bytes 1990-1999/2000\r\n\r\n0000000199" +
+                "\r\n--$boundary--\r\n"
+        response.header(CONTENT_LENGTH) == String.valueOf(response.body().length())
+    }
+
+    void "test an unsatisfiable range"() {
+        when:
+        rxClient.exchange(HttpRequest.GET('/plain.txt').header(RANGE, 'bytes=2000-'), String).blockingFirst()
+
+        then:
+        def e = thrown(HttpClientResponseException)
+        e.response.status == HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE
+        e.response.header(CONTENT_RANGE) == "bytes */2000"
+    }
+
+    void "test the full content is returned when If-Range does not match"() {
+        given:
+        HttpResponse<String> full = rxClient.exchange(HttpRequest.GET('/plain.txt'), String).blockingFirst()
+
+        when:
+        HttpResponse<String> response = rxClient.exchange(
+                HttpRequest.GET('/plain.txt').header(RANGE, 'bytes=0-9').header(IF_RANGE, '"other"'), String
+        ).blockingFirst()
+        HttpResponse<String> partial = rxClient.exchange(
+                HttpRequest.GET('/plain.txt').header(RANGE, 'bytes=0-9').header(IF_RANGE, full.header(ETAG)), String
+        ).blockingFirst()
+
+        then:
+        full.header(ACCEPT_RANGES) == "bytes"
+        response.status == HttpStatus.OK
+        response.body() == CONTENT
+        partial.status == HttpStatus.PARTIAL_CONTENT
+        partial.body() == "0000000000"
+    }
+
+    void "test a strong ETag is returned and validated"() {
+        when:
+        HttpResponse<String> response = rxClient.exchange(HttpRequest.GET('/plain.txt'), String).blockingFirst()
+        String etag = response.header(ETAG)
+
+        then:
+        response.body() == CONTENT
+        etag ==~ /"[0-9a-f]+-[0-9a-f]+"/
+
+        when:
+        HttpResponse<String> notModified = rxClient.exchange(
+                HttpRequest.GET('/plain.txt').header(IF_NONE_MATCH, "\"other\", $etag"), String
+        ).blockingFirst()
+
+        then:
+        notModified.status == HttpStatus.NOT_MODIFIED
+        notModified.header(ETAG) == etag
+    }
+
+    void "test the precompressed sibling is selected by Accept-Encoding"() {
+        when:
+        HttpURLConnection gzip = (HttpURLConnection) new URL(embeddedServer.getURL(), '/data.txt').openConnection()
+        gzip.setRequestProperty(ACCEPT_ENCODING, 'br;q=0, gzip')
+        HttpURLConnection identity = (HttpURLConnection) new URL(embeddedServer.getURL(), '/data.txt').openConnection()
+        identity.setRequestProperty(ACCEPT_ENCODING, 'identity')
+
+        then:
+        gzip.responseCode == 200
+        gzip.getHeaderField(CONTENT_ENCODING) == 'gzip'
+        gzip.getHeaderField(CONTENT_TYPE) == 'text/plain'
+        gzip.getHeaderField(VARY) == ACCEPT_ENCODING
+        gzip.getHeaderField(CONTENT_LENGTH) == String.valueOf(new File(directory, "data.txt.gz").length())
+        new java.util.zip.GZIPInputStream(gzip.inputStream).text == CONTENT
+
+        identity.responseCode == 200
+        identity.getHeaderField(CONTENT_ENCODING) == null
+        identity.inputStream.text == CONTENT
+        identity.getHeaderField(ETAG) != gzip.getHeaderField(ETAG)
+    }
+
+    void "test parsing ranges"() {
+        expect:
+        ByteRange.parse(header, 100).map({ it*.toString() }).orElse(null) == ranges
+
+        where:
+        header                | ranges
+        'bytes=0-9'           | ['0-9']
+        'bytes=90-200'        | ['90-99']
+        'bytes=-5'            | ['95-99']
+        'bytes=5-,10-19'      | null
+        'bytes=0-0,-1'        | ['0-0', '99-99']
+        'bytes=100-'          | []
+        'bytes=9-5'           | null
+        'items=0-9'           | null
+        'bytes=a-b'           | null
+    }
+}
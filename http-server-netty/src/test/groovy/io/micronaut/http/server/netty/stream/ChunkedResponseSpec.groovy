@@ -0,0 +1,101 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.server.netty.stream
+
+import groovy.json.JsonSlurper
+import io.micronaut.context.ApplicationContext
+import io.micronaut.core.io.buffer.ByteBuffer
+import io.micronaut.core.type.Argument
+import io.micronaut.http.HttpHeaders
+import io.micronaut.http.HttpRequest
+import io.micronaut.http.HttpResponse
+import io.micronaut.http.MediaType
+import io.micronaut.http.annotation.Controller
+import io.micronaut.http.annotation.Get
+import io.micronaut.http.client.HttpClient
+import io.micronaut.http.client.RxStreamingHttpClient
+import io.micronaut.runtime.server.EmbeddedServer
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+import java.nio.charset.StandardCharsets
+
+/**
+ * @since 1.0
+ */
+class ChunkedResponseSpec extends Specification {
+
+    @Shared @AutoCleanup EmbeddedServer embeddedServer = ApplicationContext.run(EmbeddedServer, [
+            'micronaut.server.netty.response-chunk-size': 1024
+    ])
+    @Shared @AutoCleanup HttpClient client = embeddedServer.applicationContext.createBean(HttpClient, embeddedServer.getURL())
+
+    void "test small response bodies are sent with a content length"() {
+        when:
+        HttpResponse<List<Book>> response = client.toBlocking().exchange(HttpRequest.GET('/chunked/books?count=2'), Argument.of(List, Book))
+
+        then:
+        response.header(HttpHeaders.CONTENT_LENGTH) == '59'
+        response.header(HttpHeaders.TRANSFER_ENCODING) == null
+        response.body().size() == 2
+    }
+
+    void "test large response bodies are flushed in chunks"() {
+        given:
+        RxStreamingHttpClient streamingClient = embeddedServer.applicationContext.createBean(RxStreamingHttpClient, embeddedServer.getURL())
+
+        when:
+        HttpResponse<?> response = streamingClient.exchangeStream(HttpRequest.GET('/chunked/books?count=500')).blockingFirst()
+
+        then:
+        response.header(HttpHeaders.TRANSFER_ENCODING) == 'chunked'
+        response.header(HttpHeaders.CONTENT_LENGTH) == null
+
+        when:
+        List<ByteBuffer> chunks = streamingClient.dataStream(HttpRequest.GET('/chunked/books?count=500')).toList().blockingGet()
+        List<Map> books = new JsonSlurper().parseText(chunks.collect { it.toString(StandardCharsets.UTF_8) }.join(''))
+
+        then:
+        chunks.size() > 1
+        books.size() == 500
+        books[499].title == 'Book 499'
+
+        cleanup:
+        streamingClient.close()
+    }
+
+    void "test the server continues to serve requests after a chunked response"() {
+        expect:
+        (1..3).every {
+            client.toBlocking().retrieve(HttpRequest.GET('/chunked/books?count=200'), Argument.of(List, Book)).size() == 200
+        }
+    }
+
+    @Controller("/chunked")
+    static class BookController {
+
+        @Get(uri = '/books', produces = MediaType.APPLICATION_JSON)
+        List<Book> books(int count) {
+            (0..<count).collect { new Book(title: "Book $it", pages: it) }
+        }
+    }
+
+    static class Book {
+        String title
+        Integer pages
+    }
+}
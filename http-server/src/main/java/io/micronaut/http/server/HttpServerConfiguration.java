@@ -55,6 +55,7 @@ public class HttpServerConfiguration {
     protected Duration readIdleTime = Duration.of(60, ChronoUnit.SECONDS);
     protected Duration writeIdleTime = Duration.of(60, ChronoUnit.SECONDS);
     protected Duration idleTime = Duration.of(60, ChronoUnit.SECONDS);
+    protected Duration retryAfter = Duration.of(1, ChronoUnit.SECONDS);
     protected MultipartConfiguration multipart = new MultipartConfiguration();
     protected CorsConfiguration cors = new CorsConfiguration();
 
@@ -164,6 +165,23 @@ public class HttpServerConfiguration {
         return idleTime;
     }
 
+    /**
+     * @return The delay sent in the {@code Retry-After} header of the {@code 503} responses returned when a request
+     * is rejected because the server is overloaded
+     */
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+
+    /**
+     * @return The delay of {@link #getRetryAfter()} in the whole seconds sent in the {@code Retry-After} header. A
+     * partial second is rounded up, so the header never tells clients to retry immediately.
+     */
+    public long getRetryAfterSeconds() {
+        long seconds = retryAfter.getSeconds() + (retryAfter.getNano() > 0 ? 1 : 0);
+        return Math.max(1, seconds);
+    }
+
     /**
      * Configuration for multipart handling.
      */
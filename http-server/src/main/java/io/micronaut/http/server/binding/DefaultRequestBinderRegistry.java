@@ -47,7 +47,8 @@ import java.util.Optional;
 import java.util.Set;
 
 /**
- * Default implementation of the {@link RequestBinderRegistry} interface.
+ * Default implementation of the {@link RequestBinderRegistry} interface. Binders are resolved from the argument alone,
+ * which allows the server to resolve the binder of each route argument once rather than for every request.
  *
  * @author Graeme Rocher
  * @since 1.0
@@ -112,6 +113,17 @@ public class DefaultRequestBinderRegistry implements RequestBinderRegistry {
         });
     }
 
+    /**
+     * Whether the binder of an argument only depends on the argument, such that it can be resolved once per argument
+     * instead of on every request. Subclasses that select binders based on the request should not override this
+     * method, subclasses that do not can override it to return true.
+     *
+     * @return True if the binders can be cached per argument
+     */
+    public boolean isArgumentBinderCacheable() {
+        return getClass() == DefaultRequestBinderRegistry.class;
+    }
+
     @Override
     public <T> Optional<ArgumentBinder<T, HttpRequest<?>>> findArgumentBinder(Argument<T> argument, HttpRequest<?> source) {
         Optional<Annotation> annotation = argument.findAnnotationWithStereoType(Bindable.class);
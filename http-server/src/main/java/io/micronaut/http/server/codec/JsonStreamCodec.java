@@ -18,6 +18,7 @@ package io.micronaut.http.server.codec;
 
 import io.micronaut.core.io.buffer.ByteBuffer;
 import io.micronaut.core.io.buffer.ByteBufferFactory;
+import io.micronaut.core.io.buffer.ReferenceCounted;
 import io.micronaut.core.type.Argument;
 import io.micronaut.http.MediaType;
 import io.micronaut.http.codec.CodecException;
@@ -75,7 +76,15 @@ public class JsonStreamCodec implements MediaTypeCodec {
 
     @Override
     public <T> byte[] encode(T object) throws CodecException {
-        return encode(object, byteBufferFactory).toByteArray();
+        ByteBuffer buffer = encode(object, byteBufferFactory);
+        try {
+            return buffer.toByteArray();
+        } finally {
+            // the JSON codec encodes into a pooled buffer which is only needed until it is copied
+            if (buffer instanceof ReferenceCounted) {
+                ((ReferenceCounted) buffer).release();
+            }
+        }
     }
 
     @Override
@@ -71,7 +71,10 @@ public interface MediaTypeCodec {
     <T> byte[] encode(T object) throws CodecException;
 
     /**
-     * Encode the given type returning the object as a {@link ByteBuffer}.
+     * Encode the given type returning the object as a {@link ByteBuffer}. The buffer may be allocated from a pool by the
+     * given allocator, in which case the caller owns it and must release it once it is no longer needed, either
+     * directly when it is {@link io.micronaut.core.io.buffer.ReferenceCounted} or by handing it to a channel that
+     * releases it once written.
      *
      * @param object    The object to encode
      * @param allocator The allocator
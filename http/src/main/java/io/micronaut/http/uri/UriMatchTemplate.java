@@ -41,6 +41,7 @@ public class UriMatchTemplate extends UriTemplate implements UriMatcher {
     private final Pattern matchPattern;
     private final String[] variables;
     private final boolean isRoot;
+    private final String literalPrefix;
 
     /**
      * Construct a new URI template for the given template.
@@ -65,6 +66,7 @@ public class UriMatchTemplate extends UriTemplate implements UriMatcher {
         String tmpl = templateString.toString();
         int len = tmpl.length();
         this.isRoot = len == 0 || (len == 1 && tmpl.charAt(0) == '/');
+        this.literalPrefix = resolveLiteralPrefix(matchPattern);
         // cleanup / reduce memory consumption
         this.pattern = null;
         this.variableList = null;
@@ -83,6 +85,7 @@ public class UriMatchTemplate extends UriTemplate implements UriMatcher {
         String tmpl = templateString.toString();
         int len = tmpl.length();
         this.isRoot = len == 0 || (len == 1 && tmpl.charAt(0) == '/');
+        this.literalPrefix = resolveLiteralPrefix(matchPattern);
     }
 
     /**
@@ -103,6 +106,16 @@ public class UriMatchTemplate extends UriTemplate implements UriMatcher {
         return Arrays.asList(variables);
     }
 
+    /**
+     * Returns the literal text that any URI matched by this template has to start with. The prefix ends before the
+     * first variable of the template, so for {@code /books/{id}} the prefix is {@code /books/}.
+     *
+     * @return The literal prefix, or an empty string if the template starts with a variable
+     */
+    public String getLiteralPrefix() {
+        return literalPrefix;
+    }
+
     /**
      * Match the given URI string.
      *
@@ -184,6 +197,33 @@ public class UriMatchTemplate extends UriTemplate implements UriMatcher {
 
     }
 
+    /**
+     * Resolves the leading literal text of the given pattern by reading the quoted blocks produced for the raw
+     * segments of the template.
+     *
+     * @param matchPattern The match pattern
+     * @return The literal prefix
+     */
+    private static String resolveLiteralPrefix(Pattern matchPattern) {
+        String regex = matchPattern.pattern();
+        StringBuilder prefix = new StringBuilder();
+        int i = 0;
+        while (regex.startsWith("\\Q", i)) {
+            int end = regex.indexOf("\\E", i + 2);
+            if (end == -1) {
+                break;
+            }
+            prefix.append(regex, i + 2, end);
+            i = end + 2;
+            // Pattern.quote() closes the quote around any \E in the text and escapes it
+            if (regex.startsWith("\\\\E", i)) {
+                prefix.append("\\E");
+                i += 3;
+            }
+        }
+        return prefix.toString();
+    }
+
     /**
      * The default {@link UriMatchInfo} implementation.
      */
@@ -45,6 +45,22 @@ class UriMatchTemplateSpec extends Specification {
 
     }
 
+    @Unroll
+    void "test literal prefix of #template is #prefix"() {
+        expect:
+        new UriMatchTemplate(template).getLiteralPrefix() == prefix
+        new UriMatchTemplate(template).nest(nested).getLiteralPrefix() == nestedPrefix
+
+        where:
+        template         | nested         | prefix       | nestedPrefix
+        "/"              | "/books"       | "/"          | "/books"
+        ""               | "/books{/id}"  | ""           | "/books"
+        "/books"         | "/{id}"        | "/books"     | "/books/"
+        "/books{/id}"    | "/authors"     | "/books"     | "/books"
+        "{/id}"          | "/authors"     | ""           | ""
+        "/books/\\E/x" | "/authors"     | "/books/\\E/x" | "/books/\\E/x/authors"
+    }
+
     @Unroll
     void "Test URI template #template matches #uri when nested with #nested"() {
         given:
@@ -180,6 +180,13 @@ class InjectTransform implements ASTTransformation, CompilationUnitAware {
                 if (replacesOpt.isPresent()) {
                     beanReferenceWriter.setReplaceBeanName(replacesOpt.get())
                 }
+                // the hierarchy of providers and of generated types such as AOP proxies is resolved at runtime
+                boolean isProvider = beanDefWriter.providedType.className != beanTypeName
+                if (!isProvider && beanClassNode instanceof ClassNode && ((ClassNode) beanClassNode).name == beanTypeName) {
+                    Set<String> typeHierarchy = new LinkedHashSet<>()
+                    collectTypeHierarchy((ClassNode) beanClassNode, typeHierarchy)
+                    beanReferenceWriter.setTypeHierarchy(typeHierarchy)
+                }
                 beanDefWriter.visitBeanDefinitionEnd()
                 if (classesDir != null) {
                     beanReferenceWriter.accept(outputVisitor)
@@ -255,6 +262,18 @@ class InjectTransform implements ASTTransformation, CompilationUnitAware {
         AstAnnotationUtils.invalidateCache()
     }
 
+    private static void collectTypeHierarchy(ClassNode classNode, Set<String> typeHierarchy) {
+        if (typeHierarchy.add(classNode.name)) {
+            ClassNode superClass = classNode.superClass
+            if (superClass != null) {
+                collectTypeHierarchy(superClass, typeHierarchy)
+            }
+            for (ClassNode anInterface in classNode.interfaces) {
+                collectTypeHierarchy(anInterface, typeHierarchy)
+            }
+        }
+    }
+
     @Override
     void setCompilationUnit(CompilationUnit unit) {
         this.unit = unit
@@ -86,6 +86,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -254,6 +255,14 @@ public class BeanDefinitionInjectProcessor extends AbstractInjectAnnotationProce
 
             Optional<String> replacesType = annotationUtils.getAnnotationMetadata(beanClassElement).getValue(Replaces.class, String.class);
             replacesType.ifPresent(beanDefinitionReferenceWriter::setReplaceBeanName);
+            // the hierarchy of providers and of generated types such as AOP proxies is resolved at runtime
+            TypeElement beanTypeElement = elementUtils.getTypeElement(beanTypeName.replace('$', '.'));
+            boolean isProvider = !beanDefinitionWriter.getProvidedType().getClassName().equals(beanTypeName);
+            if (!isProvider && beanTypeElement != null && elementUtils.getBinaryName(beanTypeElement).contentEquals(beanTypeName)) {
+                Set<String> typeHierarchy = new LinkedHashSet<>();
+                collectTypeHierarchy(beanTypeElement, typeHierarchy);
+                beanDefinitionReferenceWriter.setTypeHierarchy(typeHierarchy);
+            }
             beanDefinitionReferenceWriter.accept(classWriterOutputVisitor);
         } catch (IOException e) {
             // raise a compile error
@@ -262,6 +271,20 @@ public class BeanDefinitionInjectProcessor extends AbstractInjectAnnotationProce
         }
     }
 
+    private void collectTypeHierarchy(TypeElement typeElement, Set<String> typeHierarchy) {
+        if (typeHierarchy.add(elementUtils.getBinaryName(typeElement).toString())) {
+            TypeMirror superclass = typeElement.getSuperclass();
+            if (superclass.getKind() == TypeKind.DECLARED) {
+                collectTypeHierarchy((TypeElement) ((DeclaredType) superclass).asElement(), typeHierarchy);
+            }
+            for (TypeMirror anInterface : typeElement.getInterfaces()) {
+                if (anInterface.getKind() == TypeKind.DECLARED) {
+                    collectTypeHierarchy((TypeElement) ((DeclaredType) anInterface).asElement(), typeHierarchy);
+                }
+            }
+        }
+    }
+
     private String getPropertyMetadataTypeReference(TypeMirror valueType) {
         if (modelUtils.isOptional(valueType)) {
             return genericUtils.getFirstTypeArgument(valueType)
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.inject.concurrency;
+
+import javax.annotation.PostConstruct;
+import javax.inject.Provider;
+import javax.inject.Singleton;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Singleton
+public class CrossLookupA {
+
+    static final CountDownLatch CREATING = new CountDownLatch(2);
+
+    private final Provider<CrossLookupB> b;
+    static final AtomicBoolean LOOKED_UP = new AtomicBoolean();
+
+    public CrossLookupA(Provider<CrossLookupB> b) {
+        this.b = b;
+    }
+
+    @PostConstruct
+    void init() throws InterruptedException {
+        CREATING.countDown();
+        CREATING.await(10, TimeUnit.SECONDS);
+        if (LOOKED_UP.compareAndSet(false, true)) {
+            b.get();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.inject.concurrency;
+
+import javax.annotation.PostConstruct;
+import javax.inject.Provider;
+import javax.inject.Singleton;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Singleton
+public class CrossLookupB {
+
+    private final Provider<CrossLookupA> a;
+    static final AtomicBoolean LOOKED_UP = new AtomicBoolean();
+
+    public CrossLookupB(Provider<CrossLookupA> a) {
+        this.a = a;
+    }
+
+    @PostConstruct
+    void init() throws InterruptedException {
+        CrossLookupA.CREATING.countDown();
+        CrossLookupA.CREATING.await(10, TimeUnit.SECONDS);
+        if (LOOKED_UP.compareAndSet(false, true)) {
+            a.get();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.inject.concurrency
+
+import io.micronaut.context.BeanContext
+import io.micronaut.context.DefaultBeanContext
+import io.micronaut.context.exceptions.BeanContextException
+import spock.lang.Specification
+
+import java.util.concurrent.Callable
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.Future
+import java.util.concurrent.TimeUnit
+
+class JavaConcurrentSingletonCreationSpec extends Specification {
+
+    void "test a slow singleton does not block the creation of unrelated singletons"() {
+        given:
+        BeanContext context = new DefaultBeanContext()
+        context.start()
+        ExecutorService executor = Executors.newFixedThreadPool(4)
+
+        when:"a slow singleton is being created by several threads"
+        List<Future<SlowSingleton>> slow = (1..3).collect {
+            executor.submit({ context.getBean(SlowSingleton) } as Callable<SlowSingleton>)
+        }
+        SlowSingleton.STARTED.await(5, TimeUnit.SECONDS)
+        ConcurrentC c = executor.submit({ context.getBean(ConcurrentC) } as Callable<ConcurrentC>).get(5, TimeUnit.SECONDS)
+
+        then:"other singletons can be created in the meantime"
+        c.b.is(context.getBean(ConcurrentB))
+        context.getBeansOfType(ConcurrentB).size() == 1
+        slow.every { !it.done }
+
+        when:
+        SlowSingleton.RELEASE.countDown()
+
+        then:"the slow singleton is only created once"
+        slow*.get(5, TimeUnit.SECONDS).unique().size() == 1
+        SlowSingleton.CREATED.get() == 1
+
+        cleanup:
+        executor.shutdownNow()
+        context.close()
+    }
+
+    void "test threads creating singletons that look each other up fail instead of deadlocking"() {
+        given:
+        BeanContext context = new DefaultBeanContext()
+        context.start()
+        ExecutorService executor = Executors.newFixedThreadPool(2)
+
+        when:"each thread creates a singleton that looks up the singleton the other thread is creating"
+        Future<CrossLookupA> a = executor.submit({ context.getBean(CrossLookupA) } as Callable<CrossLookupA>)
+        Future<CrossLookupB> b = executor.submit({ context.getBean(CrossLookupB) } as Callable<CrossLookupB>)
+        List<Throwable> failures = [a, b].collect { Future<?> future ->
+            try {
+                future.get(10, TimeUnit.SECONDS)
+                return null
+            } catch (ExecutionException e) {
+                return e.cause
+            }
+        }.findAll()
+
+        then:"the lock order cycle is detected"
+        !failures.isEmpty()
+        failures.every { it instanceof BeanContextException }
+
+        cleanup:
+        executor.shutdownNow()
+        context.close()
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.inject.concurrency;
+
+import javax.annotation.PostConstruct;
+import javax.inject.Singleton;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Singleton
+public class SlowSingleton {
+
+    static final CountDownLatch STARTED = new CountDownLatch(1);
+    static final CountDownLatch RELEASE = new CountDownLatch(1);
+    static final AtomicInteger CREATED = new AtomicInteger();
+
+    public SlowSingleton() {
+        CREATED.incrementAndGet();
+    }
+
+    @PostConstruct
+    void init() throws InterruptedException {
+        STARTED.countDown();
+        RELEASE.await(10, TimeUnit.SECONDS);
+    }
+}
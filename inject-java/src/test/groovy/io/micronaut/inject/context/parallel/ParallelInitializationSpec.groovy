@@ -0,0 +1,68 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.inject.context.parallel
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.env.Environment
+import spock.lang.Specification
+
+class ParallelInitializationSpec extends Specification {
+
+    void setup() {
+        InitializationTracker.reset()
+    }
+
+    void "test independent context scope beans are created in parallel"() {
+        when:
+        ApplicationContext context = ApplicationContext.run(
+                'spec.name': ParallelInitializationSpec.simpleName,
+                (Environment.INIT_PARALLELISM_PROPERTY): 4
+        )
+        SlowA slowA = context.getBean(SlowA)
+        SlowB slowB = context.getBean(SlowB)
+
+        then:
+        slowA.parallel
+        slowB.parallel
+        slowA.thread != Thread.currentThread().name
+        slowB.thread != Thread.currentThread().name
+        slowA.thread != slowB.thread
+
+        and:"beans with dependencies in common are created once"
+        context.getBean(DependentC).service.slowA.is(slowA)
+        InitializationTracker.CREATED.get() == 3
+
+        cleanup:
+        context?.close()
+    }
+
+    void "test context scope beans are created sequentially by default"() {
+        when:
+        ApplicationContext context = ApplicationContext.run('spec.name': ParallelInitializationSpec.simpleName)
+        SlowA slowA = context.getBean(SlowA)
+        SlowB slowB = context.getBean(SlowB)
+
+        then:
+        slowA.thread == Thread.currentThread().name
+        slowB.thread == Thread.currentThread().name
+        !(slowA.parallel && slowB.parallel)
+        context.getBean(DependentC).service.slowA.is(slowA)
+        InitializationTracker.CREATED.get() == 3
+
+        cleanup:
+        context?.close()
+    }
+}
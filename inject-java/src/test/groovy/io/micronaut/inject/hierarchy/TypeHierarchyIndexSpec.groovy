@@ -0,0 +1,53 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.inject.hierarchy
+
+import io.micronaut.context.BeanContext
+import io.micronaut.context.DefaultBeanContext
+import io.micronaut.inject.BeanDefinitionReference
+import spock.lang.Specification
+
+class TypeHierarchyIndexSpec extends Specification {
+
+    void "test the type hierarchy is computed at compile time"() {
+        when:
+        BeanDefinitionReference reference = (BeanDefinitionReference) Class.forName('io.micronaut.inject.hierarchy.$CircleDefinitionClass').newInstance()
+
+        then:
+        reference.typeHierarchy as List == [Circle.name, AbstractShape.name, Object.name, Shape.name]
+    }
+
+    void "test beans are found by their supertypes"() {
+        given:
+        BeanContext context = new DefaultBeanContext()
+        context.start()
+
+        expect:
+        context.getBeansOfType(Shape)*.class as Set == [Circle, Square] as Set
+        context.getBeansOfType(AbstractShape)*.class == [Circle]
+        context.getBean(Square).is(context.getBean(Square))
+
+        when:"a singleton is registered"
+        Shape triangle = new Shape() {}
+        context.registerSingleton(Shape, triangle)
+
+        then:"it is indexed by its type hierarchy"
+        context.getBeansOfType(Shape).contains(triangle)
+
+        cleanup:
+        context.close()
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.inject.index
+
+import io.micronaut.context.AbstractBeanDefinitionReference
+import io.micronaut.context.DefaultBeanContext
+import io.micronaut.context.IndexedBeanDefinitionReference
+import io.micronaut.inject.BeanDefinitionIndex
+import io.micronaut.inject.BeanDefinitionReference
+import io.micronaut.inject.hierarchy.AbstractShape
+import io.micronaut.inject.hierarchy.Circle
+import io.micronaut.inject.hierarchy.Shape
+import spock.lang.Specification
+
+class BeanDefinitionIndexSpec extends Specification {
+
+    void "test the index is written and read"() {
+        given:
+        List<BeanDefinitionIndex.Entry> entries = [
+                new BeanDefinitionIndex.Entry('test.$FooDefinitionClass', 'test.Foo', 'test.$FooDefinition', ['test.Foo', 'java.lang.Object'] as String[], true, false, true),
+                new BeanDefinitionIndex.Entry('test.$BarDefinitionClass', 'test.Bar', 'test.$BarDefinition', null, false, true, false)
+        ]
+        ByteArrayOutputStream out = new ByteArrayOutputStream()
+
+        when:
+        BeanDefinitionIndex.write(entries, out)
+        List<BeanDefinitionIndex.Entry> read = BeanDefinitionIndex.read(new ByteArrayInputStream(out.toByteArray()))
+
+        then:
+        read*.referenceName == ['test.$FooDefinitionClass', 'test.$BarDefinitionClass']
+        read*.beanTypeName == ['test.Foo', 'test.Bar']
+        read*.beanDefinitionName == ['test.$FooDefinition', 'test.$BarDefinition']
+        read[0].typeHierarchy as List == ['test.Foo', 'java.lang.Object']
+        read[1].typeHierarchy == null
+        read*.contextScope == [true, false]
+        read*.requiresMethodProcessing() == [false, true]
+        read*.conditional == [true, false]
+    }
+
+    void "test the index is generated at compile time"() {
+        when:
+        BeanDefinitionIndex.Entry entry = BeanDefinitionIndex.load(getClass().classLoader).find { it.beanTypeName == Circle.name }
+
+        then:
+        entry.referenceName == 'io.micronaut.inject.hierarchy.$CircleDefinitionClass'
+        entry.beanDefinitionName == 'io.micronaut.inject.hierarchy.$CircleDefinition'
+        entry.typeHierarchy as List == [Circle.name, AbstractShape.name, Object.name, Shape.name]
+        !entry.contextScope
+        !entry.conditional
+    }
+
+    void "test indexed references are loaded when required"() {
+        given:
+        DefaultBeanContext context = new DefaultBeanContext()
+        context.start()
+        BeanDefinitionReference reference = context.resolveBeanDefinitionReferences().find { it.name == Circle.name }
+
+        expect:
+        reference instanceof IndexedBeanDefinitionReference
+        reference.@reference == null
+        reference.isEnabled(context)
+        reference.@reference == null
+
+        when:
+        Circle circle = context.getBean(Circle)
+
+        then:
+        reference.beanType == Circle
+        reference.load(context).beanType == Circle
+        context.getBeansOfType(Shape).contains(circle)
+
+        cleanup:
+        context.close()
+    }
+
+    void "test indexed references to missing classes are not present"() {
+        given:
+        BeanDefinitionIndex.Entry entry = new BeanDefinitionIndex.Entry('test.$MissingDefinitionClass', 'test.Missing', 'test.$MissingDefinition', null, false, false, false)
+
+        expect:
+        !new IndexedBeanDefinitionReference(entry, getClass().classLoader).present
+    }
+
+    void "test indexed references without a type hierarchy check the bean type with the generated reference"() {
+        given:"an entry whose reference and definition classes exist but whose bean type does not"
+        BeanDefinitionIndex.Entry entry = new BeanDefinitionIndex.Entry(MissingTypeReference.name, 'test.Missing', BeanDefinitionIndexSpec.name, null, true, false, false)
+
+        expect:
+        !new IndexedBeanDefinitionReference(entry, getClass().classLoader).present
+    }
+
+    static class MissingTypeReference extends AbstractBeanDefinitionReference {
+
+        MissingTypeReference() {
+            super('test.Missing', BeanDefinitionIndexSpec.name)
+        }
+
+        @Override
+        boolean isPresent() {
+            return false
+        }
+    }
+}
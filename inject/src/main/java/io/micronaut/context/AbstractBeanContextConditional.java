@@ -50,7 +50,14 @@ abstract class AbstractBeanContextConditional implements BeanContextConditional,
             AnnotationMetadata annotationMetadata = getAnnotationMetadata();
             Condition condition = annotationMetadata.hasStereotype(Requirements.class) || annotationMetadata.hasStereotype(Requires.class) ? new RequiresCondition(annotationMetadata) : null;
             DefaultConditionContext<AbstractBeanContextConditional> conditionContext = new DefaultConditionContext<>(context, this);
-            enabled = condition == null || condition.matches(conditionContext);
+            if (condition != null && context instanceof DefaultBeanContext) {
+                StartupTimeline timeline = ((DefaultBeanContext) context).getStartupTimeline();
+                long start = timeline.begin();
+                enabled = condition.matches(conditionContext);
+                timeline.end(StartupTimeline.CONDITION, toString(), start);
+            } else {
+                enabled = condition == null || condition.matches(conditionContext);
+            }
             if (LOG.isDebugEnabled() && !enabled) {
                 if (this instanceof BeanConfiguration) {
                     LOG.debug(this + " will not be loaded due to failing conditions:");
@@ -613,6 +613,8 @@ public class AbstractBeanDefinition<T> extends AbstractBeanContextConditional im
     @Internal
     protected Object postConstruct(BeanResolutionContext resolutionContext, BeanContext context, Object bean) {
         DefaultBeanContext defaultContext = (DefaultBeanContext) context;
+        StartupTimeline timeline = defaultContext.getStartupTimeline();
+        long start = timeline.begin();
         Collection<BeanInitializedEventListener> initializedEventListeners = defaultContext.getBeansOfType(resolutionContext, BeanInitializedEventListener.class, null);
         for (BeanInitializedEventListener listener : initializedEventListeners) {
             Optional<Class> targetType = GenericTypeUtils.resolveInterfaceTypeArgument(listener.getClass(), BeanInitializedEventListener.class);
@@ -632,6 +634,7 @@ public class AbstractBeanDefinition<T> extends AbstractBeanContextConditional im
         if (bean instanceof LifeCycle) {
             bean = ((LifeCycle) bean).start();
         }
+        timeline.end(StartupTimeline.POST_CONSTRUCT, getName(), start, resolutionContext);
         return bean;
     }
 
@@ -39,6 +39,7 @@ public abstract class AbstractBeanDefinitionReference extends AbstractBeanContex
     private static final Logger LOG = LoggerFactory.getLogger(AbstractBeanDefinitionReference.class);
     private final String beanTypeName;
     private final String beanDefinitionTypeName;
+    private final String[] typeHierarchy;
     private Class beanDefinition;
     private Boolean present;
     private Class beanType;
@@ -48,8 +49,18 @@ public abstract class AbstractBeanDefinitionReference extends AbstractBeanContex
      * @param beanDefinitionTypeName The bean definition type name
      */
     public AbstractBeanDefinitionReference(String beanTypeName, String beanDefinitionTypeName) {
+        this(beanTypeName, beanDefinitionTypeName, null);
+    }
+
+    /**
+     * @param beanTypeName           The bean type name
+     * @param beanDefinitionTypeName The bean definition type name
+     * @param typeHierarchy          The names of the bean type and its super classes and interfaces
+     */
+    public AbstractBeanDefinitionReference(String beanTypeName, String beanDefinitionTypeName, String[] typeHierarchy) {
         this.beanTypeName = beanTypeName;
         this.beanDefinitionTypeName = beanDefinitionTypeName;
+        this.typeHierarchy = typeHierarchy;
     }
 
     @Override
@@ -85,6 +96,11 @@ public abstract class AbstractBeanDefinitionReference extends AbstractBeanContex
         return null;
     }
 
+    @Override
+    public String[] getTypeHierarchy() {
+        return typeHierarchy;
+    }
+
     @Override
     public String getReplacesBeanTypeName() {
         return null; // no replacement semantics by default
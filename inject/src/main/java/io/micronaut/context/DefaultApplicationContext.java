@@ -45,6 +45,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 
 /**
  * Creates a default implementation of the {@link ApplicationContext} interface.
@@ -60,6 +63,7 @@ public class DefaultApplicationContext extends DefaultBeanContext implements App
 
     private Iterable<BeanConfiguration> resolvedConfigurations;
     private List<BeanDefinitionReference> resolvedBeanReferences;
+    private volatile Executor eventExecutor;
 
     /**
      * Construct a new ApplicationContext for the given environment name.
@@ -141,6 +145,8 @@ public class DefaultApplicationContext extends DefaultBeanContext implements App
 
     @Override
     public ApplicationContext stop() {
+        // the executor is shut down with the context
+        eventExecutor = null;
         return (ApplicationContext) super.stop();
     }
 
@@ -159,6 +165,41 @@ public class DefaultApplicationContext extends DefaultBeanContext implements App
         return getEnvironment().getProperty(name, conversionContext);
     }
 
+    @Override
+    protected Executor getEventExecutor() {
+        Executor eventExecutor = this.eventExecutor;
+        if (eventExecutor == null) {
+            synchronized (this) { // double check
+                eventExecutor = this.eventExecutor;
+                if (eventExecutor == null) {
+                    eventExecutor = resolveEventExecutor();
+                    this.eventExecutor = eventExecutor;
+                }
+            }
+        }
+        return eventExecutor;
+    }
+
+    private Executor resolveEventExecutor() {
+        Optional<String> configuredName = getEnvironment().getProperty(Environment.EVENT_EXECUTOR_PROPERTY, String.class);
+        String executorName = configuredName.orElse(Environment.DEFAULT_EVENT_EXECUTOR);
+        Optional<ExecutorService> executor = findBean(ExecutorService.class, Qualifiers.byName(executorName));
+        if (executor.isPresent()) {
+            return executor.get();
+        }
+        if (configuredName.isPresent()) {
+            throw new ConfigurationException("No executor configured for name [" + executorName + "] specified by " + Environment.EVENT_EXECUTOR_PROPERTY);
+        }
+        return super.getEventExecutor();
+    }
+
+    @Override
+    protected int getInitializationParallelism() {
+        return getEnvironment()
+            .getProperty(Environment.INIT_PARALLELISM_PROPERTY, Integer.class)
+            .orElse(super.getInitializationParallelism());
+    }
+
     @Override
     protected void registerConfiguration(BeanConfiguration configuration) {
         if (getEnvironment().isActive(configuration)) {
@@ -171,7 +212,10 @@ public class DefaultApplicationContext extends DefaultBeanContext implements App
      */
     protected void startEnvironment() {
         Environment defaultEnvironment = getEnvironment();
+        StartupTimeline timeline = getStartupTimeline();
+        long start = timeline.begin();
         defaultEnvironment.start();
+        timeline.end(StartupTimeline.ENVIRONMENT, defaultEnvironment.getActiveNames().toString(), start);
         registerSingleton(Environment.class, defaultEnvironment);
         registerSingleton(new ExecutableMethodProcessorListener());
     }
@@ -445,6 +489,12 @@ public class DefaultApplicationContext extends DefaultBeanContext implements App
             // no-op .. the bootstrap context shouldn't publish events
         }
 
+        @Override
+        public CompletableFuture<Void> publishEventAsync(Object event) {
+            // no-op .. the bootstrap context shouldn't publish events
+            return CompletableFuture.completedFuture(null);
+        }
+
     }
 
     /**
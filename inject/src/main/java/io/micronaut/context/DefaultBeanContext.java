@@ -41,11 +41,13 @@ import io.micronaut.core.order.Ordered;
 import io.micronaut.core.reflect.ReflectionUtils;
 import io.micronaut.core.type.Argument;
 import io.micronaut.core.type.ReturnType;
+import io.micronaut.core.util.ArrayUtils;
 import io.micronaut.core.util.StreamUtils;
 import io.micronaut.core.util.StringUtils;
 import io.micronaut.core.value.OptionalValues;
 import io.micronaut.inject.BeanConfiguration;
 import io.micronaut.inject.BeanDefinition;
+import io.micronaut.inject.BeanDefinitionIndex;
 import io.micronaut.inject.BeanDefinitionMethodReference;
 import io.micronaut.inject.BeanDefinitionReference;
 import io.micronaut.inject.BeanFactory;
@@ -75,6 +77,7 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -88,8 +91,14 @@ import java.util.Optional;
 import java.util.ServiceLoader;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -106,23 +115,35 @@ public class DefaultBeanContext implements BeanContext {
     protected static final Logger LOG = LoggerFactory.getLogger(DefaultBeanContext.class);
     private static final Logger EVENT_LOGGER  = LoggerFactory.getLogger(ApplicationEventPublisher.class);
     private static final Qualifier PROXY_TARGET_QUALIFIER = Qualifiers.byType(ProxyTarget.class);
+    private static final int BEAN_CACHE_MAX_SIZE = 1024;
+    private static final long SINGLETON_CREATION_CYCLE_CHECK_INTERVAL = 50;
 
     protected final AtomicBoolean running = new AtomicBoolean(false);
 
     final Map<BeanKey, BeanRegistration> singletonObjects = new ConcurrentHashMap<>(30);
+    // the locks held while a singleton is created, so that unrelated singletons can be created concurrently
+    private final Map<BeanKey, SingletonCreationLock> singletonCreationLocks = new ConcurrentHashMap<>(30);
+    // the creation locks that threads are waiting for, used to detect threads waiting on each other
+    private final Map<Thread, SingletonCreationLock> singletonCreationWaits = new ConcurrentHashMap<>(8);
+    // incremented whenever a singleton is registered to detect stale results of a concurrent getBeansOfType
+    private volatile int singletonRegistrations;
 
     private final Collection<BeanDefinitionReference> beanDefinitionsClasses = new ConcurrentLinkedQueue<>();
+    // the bean definitions keyed by the names of their bean type and all of its super types
+    private final Map<String, BeanDefinitionReference[]> beanDefinitionsByType = new ConcurrentHashMap<>(128);
     private final Map<String, BeanConfiguration> beanConfigurations = new ConcurrentHashMap<>(4);
     private final Map<BeanKey, Boolean> containsBeanCache = new ConcurrentHashMap<>(30);
 
-    private final Cache<BeanKey, Collection<Object>> initializedObjectsByType = Caffeine.newBuilder().maximumSize(30).build();
-    private final Cache<BeanKey, Optional<BeanDefinition>> beanConcreteCandidateCache = Caffeine.newBuilder().maximumSize(30).build();
-    private final Cache<Class, Collection<BeanDefinition>> beanCandidateCache = Caffeine.newBuilder().maximumSize(30).build();
+    private final Cache<BeanKey, Collection<Object>> initializedObjectsByType = Caffeine.newBuilder().maximumSize(BEAN_CACHE_MAX_SIZE).build();
+    private final Cache<BeanKey, Optional<BeanDefinition>> beanConcreteCandidateCache = Caffeine.newBuilder().maximumSize(BEAN_CACHE_MAX_SIZE).build();
+    private final Map<Class, Collection<BeanDefinition>> beanCandidateCache = new ConcurrentHashMap<>(64);
+    private final Map<Class, Collection<ApplicationEventListener>> eventListenerCache = new ConcurrentHashMap<>(32);
 
     private final ClassLoader classLoader;
     private final Set<Class> thisInterfaces = ReflectionUtils.getAllInterfaces(getClass());
     private final CustomScopeRegistry customScopeRegistry = new DefaultCustomScopeRegistry(this);
     private final ResourceLoader resourceLoader;
+    private final StartupTimeline startupTimeline = new StartupTimeline();
 
     /**
      * Construct a new bean context using the same classloader that loaded this DefaultBeanContext class.
@@ -155,6 +176,13 @@ public class DefaultBeanContext implements BeanContext {
         return running.get();
     }
 
+    /**
+     * @return The timeline of the steps taken while this context starts
+     */
+    public StartupTimeline getStartupTimeline() {
+        return startupTimeline;
+    }
+
     /**
      * The start method will read all bean definition classes found on the classpath and initialize any pre-required
      * state.
@@ -165,6 +193,8 @@ public class DefaultBeanContext implements BeanContext {
             if (LOG.isDebugEnabled()) {
                 LOG.debug("Starting BeanContext");
             }
+            long start = startupTimeline.begin();
+            registerSingleton(StartupTimeline.class, startupTimeline, null, false);
             readAllBeanConfigurations();
             readAllBeanDefinitionClasses();
             if (LOG.isDebugEnabled()) {
@@ -181,7 +211,9 @@ public class DefaultBeanContext implements BeanContext {
             if (LOG.isDebugEnabled()) {
                 LOG.debug("BeanContext Started.");
             }
+            startupTimeline.end(StartupTimeline.CONTEXT, getClass().getSimpleName(), start);
             publishEvent(new StartupEvent(this));
+            startupTimeline.stop();
         }
         return this;
     }
@@ -390,18 +422,22 @@ public class DefaultBeanContext implements BeanContext {
             throw new IllegalArgumentException("Passed singleton cannot be null");
         }
         BeanKey<T> beanKey = new BeanKey<>(type, qualifier);
+        BeanRegistration<T> registration;
+        BeanDefinition<T> beanDefinition = inject ? findBeanCandidatesForInstance(singleton).stream().findFirst().orElse(null) : null;
+        if (beanDefinition != null && beanDefinition.getBeanType().isInstance(singleton)) {
+            // dependencies are injected before taking the lock since they may need to be created
+            doInject(new DefaultBeanResolutionContext(this, beanDefinition), singleton, beanDefinition);
+            registration = new BeanRegistration<>(beanKey, beanDefinition, singleton);
+        } else {
+            NoInjectionBeanDefinition<T> dynamicRegistration = new NoInjectionBeanDefinition<>(type);
+            addBeanDefinitionReference(dynamicRegistration);
+            registration = new BeanRegistration<>(beanKey, dynamicRegistration, singleton);
+        }
         synchronized (singletonObjects) {
+            singletonObjects.put(beanKey, registration);
+            singletonRegistrations++;
             initializedObjectsByType.invalidateAll();
-
-            BeanDefinition<T> beanDefinition = inject ? findBeanCandidatesForInstance(singleton).stream().findFirst().orElse(null) : null;
-            if (beanDefinition != null && beanDefinition.getBeanType().isInstance(singleton)) {
-                doInject(new DefaultBeanResolutionContext(this, beanDefinition), singleton, beanDefinition);
-                singletonObjects.put(beanKey, new BeanRegistration<>(beanKey, beanDefinition, singleton));
-            } else {
-                NoInjectionBeanDefinition<T> dynamicRegistration = new NoInjectionBeanDefinition<>(type);
-                beanDefinitionsClasses.add(dynamicRegistration);
-                singletonObjects.put(beanKey, new BeanRegistration<>(beanKey, dynamicRegistration, singleton));
-            }
+            eventListenerCache.clear();
         }
         return this;
     }
@@ -863,7 +899,7 @@ public class DefaultBeanContext implements BeanContext {
             if (EVENT_LOGGER.isDebugEnabled()) {
                 EVENT_LOGGER.debug("Publishing event: {}", event);
             }
-            Collection<ApplicationEventListener> eventListeners = getBeansOfType(ApplicationEventListener.class, Qualifiers.byTypeArguments(event.getClass()));
+            Collection<ApplicationEventListener> eventListeners = getEventListeners(event.getClass());
             if (!eventListeners.isEmpty()) {
                 if (EVENT_LOGGER.isTraceEnabled()) {
                     EVENT_LOGGER.trace("Established event listeners {} for event: {}", eventListeners, event);
@@ -893,11 +929,45 @@ public class DefaultBeanContext implements BeanContext {
         }
     }
 
+    @Override
+    public CompletableFuture<Void> publishEventAsync(Object event) {
+        if (event == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return CompletableFuture.runAsync(() -> publishEvent(event), getEventExecutor());
+    }
+
+    /**
+     * The executor used by {@link #publishEventAsync(Object)} to publish events.
+     *
+     * @return The executor, by default the common fork join pool
+     */
+    protected Executor getEventExecutor() {
+        return ForkJoinPool.commonPool();
+    }
+
+    /**
+     * The number of threads used to create the {@link io.micronaut.context.annotation.Context} scope beans on startup.
+     * Beans that do not depend on each other are created in parallel when the value is greater than 1.
+     *
+     * <p>In parallel, the requirements of all of the context scope beans are evaluated before any of them is created,
+     * so a requirement on a bean created by another context scope bean no longer sees it. The order of creation only
+     * follows the required components of the injection points. Beans looked up lazily, through a {@link Provider} or
+     * in a {@link javax.annotation.PostConstruct} method, are not ordered, and two beans that look each other up on
+     * different threads fail to initialize instead of waiting for each other.</p>
+     *
+     * @return The parallelism, by default 1 which creates the beans sequentially on the calling thread
+     */
+    protected int getInitializationParallelism() {
+        return 1;
+    }
+
     /**
      * Invalidates the bean caches.
      */
     protected void invalidateCaches() {
-        beanCandidateCache.invalidateAll();
+        beanCandidateCache.clear();
+        eventListenerCache.clear();
         initializedObjectsByType.invalidateAll();
     }
 
@@ -926,12 +996,26 @@ public class DefaultBeanContext implements BeanContext {
     }
 
     /**
-     * Resolves the {@link BeanDefinitionReference} class instances. Default implementation uses ServiceLoader pattern.
+     * Resolves the {@link BeanDefinitionReference} class instances. Default implementation reads the
+     * {@link BeanDefinitionIndex} written at compilation time, which does not require the reference classes to be
+     * loaded, and uses the ServiceLoader pattern for the references that are not indexed.
      *
      * @return The bean definition classes
      */
     protected List<BeanDefinitionReference> resolveBeanDefinitionReferences() {
-        return StreamSoftServiceLoader.loadPresentParallel(BeanDefinitionReference.class, classLoader).collect(Collectors.toList());
+        List<BeanDefinitionReference> references = new ArrayList<>();
+        Set<String> indexed = new HashSet<>();
+        for (BeanDefinitionIndex.Entry entry : BeanDefinitionIndex.load(classLoader)) {
+            if (indexed.add(entry.getReferenceName())) {
+                IndexedBeanDefinitionReference reference = new IndexedBeanDefinitionReference(entry, classLoader);
+                if (reference.isPresent()) {
+                    references.add(reference);
+                }
+            }
+        }
+        StreamSoftServiceLoader.loadPresentParallel(BeanDefinitionReference.class, classLoader, name -> !indexed.contains(name))
+            .forEachOrdered(references::add);
+        return references;
     }
 
     /**
@@ -950,25 +1034,29 @@ public class DefaultBeanContext implements BeanContext {
      * @param processedBeans    The beans that require {@link ExecutableMethodProcessor} handling
      */
     protected void initializeContext(List<BeanDefinitionReference> contextScopeBeans, List<BeanDefinitionReference> processedBeans) {
-        for (BeanDefinitionReference contextScopeBean : contextScopeBeans) {
-            try {
-
-                BeanDefinition beanDefinition = contextScopeBean.load(this);
-                if (beanDefinition.isEnabled(this)) {
-
-                    if (beanDefinition.isIterable()) {
-                        Collection<BeanDefinition> beanCandidates = findBeanCandidates(beanDefinition.getBeanType(), null);
-                        for (BeanDefinition beanCandidate : beanCandidates) {
-                            createAndRegisterSingleton(new DefaultBeanResolutionContext(this, beanDefinition), beanCandidate, beanCandidate.getBeanType(), null);
-                        }
-
-                    } else {
-
-                        createAndRegisterSingleton(new DefaultBeanResolutionContext(this, beanDefinition), beanDefinition, beanDefinition.getBeanType(), null);
+        if (!contextScopeBeans.isEmpty()) {
+            long start = System.nanoTime();
+            int parallelism = getInitializationParallelism();
+            List<ContextScopeBean> initializations = new ArrayList<>(contextScopeBeans.size());
+            for (BeanDefinitionReference contextScopeBean : contextScopeBeans) {
+                List<ContextScopeBean> loaded = loadContextScopeBean(contextScopeBean);
+                if (parallelism <= 1) {
+                    // the requirements of each bean see the beans created by the previous context scope beans
+                    for (ContextScopeBean initialization : loaded) {
+                        initializeContextScopeBean(initialization);
                     }
                 }
-            } catch (Throwable e) {
-                throw new BeanInstantiationException("Bean definition [" + contextScopeBean.getName() + "] could not be loaded: " + e.getMessage(), e);
+                initializations.addAll(loaded);
+            }
+            if (parallelism > 1) {
+                if (initializations.size() > 1) {
+                    initializeInParallel(initializations, parallelism);
+                } else {
+                    initializations.forEach(this::initializeContextScopeBean);
+                }
+            }
+            if (LOG.isDebugEnabled()) {
+                logInitializationTimes(initializations, System.nanoTime() - start);
             }
         }
 
@@ -1036,7 +1124,7 @@ public class DefaultBeanContext implements BeanContext {
         }
         // first traverse component definition classes and load candidates
 
-        Collection<BeanDefinitionReference> beanDefinitionsClasses = this.beanDefinitionsClasses;
+        Collection<BeanDefinitionReference> beanDefinitionsClasses = findBeanDefinitionReferences(beanType);
         if (!beanDefinitionsClasses.isEmpty()) {
 
             Stream<BeanDefinition<T>> candidateStream = beanDefinitionsClasses
@@ -1103,46 +1191,51 @@ public class DefaultBeanContext implements BeanContext {
         if (LOG.isDebugEnabled()) {
             LOG.debug("Finding candidate beans for instance: {}", instance);
         }
-        Collection<BeanDefinitionReference> beanDefinitionsClasses = this.beanDefinitionsClasses;
-        return beanCandidateCache.get(instance.getClass(), aClass -> {
-            // first traverse component definition classes and load candidates
+        Collection<BeanDefinition> candidates = beanCandidateCache.get(instance.getClass());
+        if (candidates == null) {
+            candidates = findBeanCandidatesForInstance(instance, this.beanDefinitionsClasses);
+            beanCandidateCache.put(instance.getClass(), candidates);
+        }
+        return candidates;
+    }
 
-            if (!beanDefinitionsClasses.isEmpty()) {
+    private <T> Collection<BeanDefinition> findBeanCandidatesForInstance(T instance, Collection<BeanDefinitionReference> beanDefinitionsClasses) {
+        // first traverse component definition classes and load candidates
 
-                List<BeanDefinition> candidates = beanDefinitionsClasses
-                    .stream()
-                    .filter(reference -> {
-                        Class<?> candidateType = reference.getBeanType();
+        if (!beanDefinitionsClasses.isEmpty()) {
 
-                        return candidateType != null && candidateType.isInstance(instance);
-                    })
-                    .map(ref -> ref.load(this))
-                    .filter(candidate -> candidate.isEnabled(this))
-                    .collect(Collectors.toList());
+            List<BeanDefinition> candidates = beanDefinitionsClasses
+                .stream()
+                .filter(reference -> {
+                    Class<?> candidateType = reference.getBeanType();
 
-                if (candidates.size() > 1) {
-                    // try narrow to exact type
-                    candidates = candidates
-                        .stream()
-                        .filter(candidate ->
-                            !(candidate instanceof NoInjectionBeanDefinition) &&
-                                candidate.getBeanType() == instance.getClass()
-                        )
-                        .collect(Collectors.toList());
-                    return candidates;
-                }
-                if (LOG.isDebugEnabled()) {
-                    LOG.debug("Resolved bean candidates {} for instance: {}", candidates, instance);
-                }
+                    return candidateType != null && candidateType.isInstance(instance);
+                })
+                .map(ref -> ref.load(this))
+                .filter(candidate -> candidate.isEnabled(this))
+                .collect(Collectors.toList());
+
+            if (candidates.size() > 1) {
+                // try narrow to exact type
+                candidates = candidates
+                    .stream()
+                    .filter(candidate ->
+                        !(candidate instanceof NoInjectionBeanDefinition) &&
+                            candidate.getBeanType() == instance.getClass()
+                    )
+                    .collect(Collectors.toList());
                 return candidates;
-            } else {
-                if (LOG.isDebugEnabled()) {
-                    LOG.debug("No bean candidates found for instance: {}", instance);
-                }
-                return Collections.emptySet();
             }
-        });
-
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Resolved bean candidates {} for instance: {}", candidates, instance);
+            }
+            return candidates;
+        } else {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("No bean candidates found for instance: {}", instance);
+            }
+            return Collections.emptySet();
+        }
     }
 
     /**
@@ -1180,6 +1273,7 @@ public class DefaultBeanContext implements BeanContext {
             resolutionContext = new DefaultBeanResolutionContext(this, beanDefinition);
         }
 
+        long start = startupTimeline.begin();
         if (beanDefinition instanceof BeanFactory) {
             BeanFactory<T> beanFactory = (BeanFactory<T>) beanDefinition;
             try {
@@ -1251,6 +1345,7 @@ public class DefaultBeanContext implements BeanContext {
 
         if (!BeanCreatedEventListener.class.isInstance(bean)) {
 
+            long listenersStart = startupTimeline.begin();
             Collection<BeanCreatedEventListener> beanCreatedEventListeners = getBeansOfType(resolutionContext, BeanCreatedEventListener.class, Qualifiers.byTypeArguments(beanDefinition.getBeanType()));
             for (BeanCreatedEventListener listener : beanCreatedEventListeners) {
                 bean = (T) listener.onCreated(new BeanCreatedEvent(this, beanDefinition, bean));
@@ -1258,10 +1353,14 @@ public class DefaultBeanContext implements BeanContext {
                     throw new BeanInstantiationException(resolutionContext, "Listener [" + listener + "] returned null from onCreated event");
                 }
             }
+            if (!beanCreatedEventListeners.isEmpty()) {
+                startupTimeline.end(StartupTimeline.BEAN_CREATED_LISTENERS, beanDefinition.getName(), listenersStart, resolutionContext);
+            }
         }
         if (beanDefinition instanceof ValidatedBeanDefinition) {
             bean = ((ValidatedBeanDefinition<T>) beanDefinition).validate(resolutionContext, bean);
         }
+        startupTimeline.end(StartupTimeline.BEAN, beanDefinition.getName(), start, resolutionContext);
         if (LOG.isDebugEnabled()) {
             LOG.debug("Created bean [{}] from definition [{}] with qualifier [{}]", bean, beanDefinition, qualifier);
         }
@@ -1345,7 +1444,7 @@ public class DefaultBeanContext implements BeanContext {
         boolean throwNoSuchBean,
         BeanDefinition<T> definition) {
         if (definition.isSingleton()) {
-            return createAndRegisterSingleton(resolutionContext, definition, beanType, qualifier);
+            return createAndRegisterSingleton(resolutionContext, definition, beanType, qualifier, true);
         } else {
             return getScopedBeanForDefinition(resolutionContext, beanType, qualifier, throwNoSuchBean, definition);
         }
@@ -1416,10 +1515,8 @@ public class DefaultBeanContext implements BeanContext {
                             return null;
                         }
                     }
-                    synchronized (singletonObjects) {
-                        bean = (T) reg.bean;
-                        registerSingletonBean(reg.beanDefinition, beanType, bean, qualifier, true);
-                    }
+                    bean = (T) reg.bean;
+                    registerSingletonBean(reg.beanDefinition, beanType, bean, qualifier, true);
                 }
             } else if (key.qualifier == null) {
                 BeanRegistration registration = entry.getValue();
@@ -1427,10 +1524,8 @@ public class DefaultBeanContext implements BeanContext {
                 if (beanType.isInstance(existing)) {
                     Optional<BeanDefinition> candidate = qualifier.reduce(beanType, Stream.of(registration.beanDefinition)).findFirst();
                     if (candidate.isPresent()) {
-                        synchronized (singletonObjects) {
-                            bean = (T) existing;
-                            registerSingletonBean(candidate.get(), beanType, bean, qualifier, true);
-                        }
+                        bean = (T) existing;
+                        registerSingletonBean(candidate.get(), beanType, bean, qualifier, true);
                     }
                 }
             }
@@ -1572,14 +1667,61 @@ public class DefaultBeanContext implements BeanContext {
         }
     }
 
-    private <T> T createAndRegisterSingleton(BeanResolutionContext resolutionContext, BeanDefinition<T> definition, Class<T> beanType, Qualifier<T> qualifier) {
-        synchronized (singletonObjects) {
+    private <T> T createAndRegisterSingleton(BeanResolutionContext resolutionContext, BeanDefinition<T> definition, Class<T> beanType, Qualifier<T> qualifier, boolean singleCandidate) {
+        // lock on the same key that doCreateBean uses to look for an existing singleton
+        BeanKey<T> creationKey = new BeanKey<>(definition.getBeanType(), qualifier);
+        SingletonCreationLock lock = singletonCreationLocks.computeIfAbsent(creationKey, SingletonCreationLock::new);
+        if (!lock.tryLock()) {
+            awaitSingletonCreationLock(resolutionContext, lock);
+        }
+        try {
             T createdBean = doCreateBean(resolutionContext, definition, qualifier, true, null);
-            registerSingletonBean(definition, beanType, createdBean, qualifier, true);
+            registerSingletonBean(definition, beanType, createdBean, qualifier, singleCandidate);
             return createdBean;
+        } finally {
+            lock.unlock();
         }
     }
 
+    /**
+     * Waits for the creation lock of a singleton held by another thread. Threads creating singletons that depend on
+     * each other, for example through a {@link javax.inject.Provider} or a lookup in a {@link javax.annotation.PostConstruct}
+     * method, can acquire the locks in opposite orders, in which case the creation fails instead of waiting forever.
+     */
+    private void awaitSingletonCreationLock(BeanResolutionContext resolutionContext, SingletonCreationLock lock) {
+        Thread currentThread = Thread.currentThread();
+        singletonCreationWaits.put(currentThread, lock);
+        try {
+            do {
+                // the other threads of a cycle may only start waiting after this one, so the check is repeated
+                if (isSingletonCreationCycle(currentThread, lock)) {
+                    throw new BeanInstantiationException(resolutionContext, "Singleton [" + lock.key.beanType.getName() + "] is being created by another thread that is waiting for a singleton this thread is creating. Use a single thread to create singletons that depend on each other.");
+                }
+            } while (!lock.tryLock(SINGLETON_CREATION_CYCLE_CHECK_INTERVAL, TimeUnit.MILLISECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BeanInstantiationException(resolutionContext, "Interrupted while waiting for the creation of singleton [" + lock.key.beanType.getName() + "]");
+        } finally {
+            singletonCreationWaits.remove(currentThread);
+        }
+    }
+
+    private boolean isSingletonCreationCycle(Thread currentThread, SingletonCreationLock lock) {
+        SingletonCreationLock next = lock;
+        // a cycle that does not include the current thread is bounded by the number of waiting threads
+        for (int i = 0; next != null && i <= singletonCreationWaits.size(); i++) {
+            Thread owner = next.owner();
+            if (owner == null) {
+                return false;
+            }
+            if (owner == currentThread) {
+                return true;
+            }
+            next = singletonCreationWaits.get(owner);
+        }
+        return false;
+    }
+
     private void readAllBeanConfigurations() {
         Iterable<BeanConfiguration> beanConfigurations = resolveBeanConfigurations();
         for (BeanConfiguration beanConfiguration : beanConfigurations) {
@@ -1664,7 +1806,9 @@ public class DefaultBeanContext implements BeanContext {
         List<BeanDefinitionReference> processedBeans = new ArrayList<>();
         Map<String, BeanDefinitionReference> beanDefinitionsClassesByType = new HashMap<>();
         Map<String, BeanDefinitionReference> beanDefinitionsClassesByDefinition = new HashMap<>();
+        long start = startupTimeline.begin();
         List<BeanDefinitionReference> beanDefinitionReferences = resolveBeanDefinitionReferences();
+        startupTimeline.end(StartupTimeline.REFERENCES, getClass().getSimpleName(), start);
 
         for (BeanDefinitionReference beanDefinitionReference : beanDefinitionReferences) {
             if (!beanDefinitionReference.isEnabled(this)) {
@@ -1691,18 +1835,82 @@ public class DefaultBeanContext implements BeanContext {
             }
         }
 
-        this.beanDefinitionsClasses.addAll(beanDefinitionsClassesByDefinition.values());
+        for (BeanDefinitionReference beanDefinitionReference : beanDefinitionsClassesByDefinition.values()) {
+            addBeanDefinitionReference(beanDefinitionReference);
+        }
 
         initializeContext(contextScopeBeans, processedBeans);
     }
 
+    private void addBeanDefinitionReference(BeanDefinitionReference reference) {
+        beanDefinitionsClasses.add(reference);
+        String[] typeHierarchy = reference.getTypeHierarchy();
+        if (typeHierarchy != null) {
+            for (String typeName : typeHierarchy) {
+                indexBeanDefinitionReference(typeName, reference);
+            }
+        } else {
+            // not computed at compile time, for example for AOP proxies or registered singletons
+            Class<?> beanType = reference.getBeanType();
+            if (beanType != null) {
+                indexBeanDefinitionReference(beanType, reference, new HashSet<>());
+            }
+        }
+    }
+
+    private void indexBeanDefinitionReference(Class<?> type, BeanDefinitionReference reference, Set<Class<?>> visited) {
+        if (visited.add(type)) {
+            indexBeanDefinitionReference(type.getName(), reference);
+            Class<?> superclass = type.getSuperclass();
+            if (superclass != null) {
+                indexBeanDefinitionReference(superclass, reference, visited);
+            }
+            for (Class<?> anInterface : type.getInterfaces()) {
+                indexBeanDefinitionReference(anInterface, reference, visited);
+            }
+        }
+    }
+
+    private void indexBeanDefinitionReference(String typeName, BeanDefinitionReference reference) {
+        beanDefinitionsByType.merge(typeName, new BeanDefinitionReference[] {reference}, ArrayUtils::concat);
+    }
+
+    /**
+     * Looks up the bean definition references that may be candidates for the given type in the type index. Every
+     * reference is returned for {@link Object} and for array types, which are matched by assignability.
+     *
+     * @param beanType The bean type
+     * @return The bean definition references
+     */
+    private Collection<BeanDefinitionReference> findBeanDefinitionReferences(Class<?> beanType) {
+        if (beanType == Object.class || beanType.isArray()) {
+            return beanDefinitionsClasses;
+        }
+        BeanDefinitionReference[] references = beanDefinitionsByType.get(beanType.getName());
+        return references != null ? Arrays.asList(references) : Collections.emptyList();
+    }
+
     @SuppressWarnings("unchecked")
     private <T> Collection<BeanDefinition<T>> findBeanCandidatesInternal(Class<T> beanType) {
-        return (Collection) beanCandidateCache.get(beanType, aClass -> (Collection) findBeanCandidates(beanType, null));
+        Collection candidates = beanCandidateCache.get(beanType);
+        if (candidates == null) {
+            // not computed with computeIfAbsent since loading candidates may resolve other candidates
+            candidates = findBeanCandidates(beanType, null);
+            beanCandidateCache.put(beanType, candidates);
+        }
+        return candidates;
     }
 
-    @SuppressWarnings("unchecked")
     private <T> Collection<T> getBeansOfTypeInternal(BeanResolutionContext resolutionContext, Class<T> beanType, Qualifier<T> qualifier) {
+        return getBeansOfTypeInternal(resolutionContext, beanType, qualifier, false);
+    }
+
+    /**
+     * Resolves the beans of the given type. When proxied types are filtered the targets of AOP proxies are neither
+     * resolved nor returned and the result is not cached, since it differs from the regular result for the same key.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> Collection<T> getBeansOfTypeInternal(BeanResolutionContext resolutionContext, Class<T> beanType, Qualifier<T> qualifier, boolean filterProxied) {
         boolean hasQualifier = qualifier != null;
         if (LOG.isDebugEnabled()) {
             if (hasQualifier) {
@@ -1712,127 +1920,163 @@ public class DefaultBeanContext implements BeanContext {
             }
         }
         BeanKey<T> key = new BeanKey<>(beanType, qualifier);
-        @SuppressWarnings("unchecked") Collection<T> existing = (Collection<T>) initializedObjectsByType.getIfPresent(key);
+        @SuppressWarnings("unchecked") Collection<T> existing = filterProxied ? null : (Collection<T>) initializedObjectsByType.getIfPresent(key);
         if (existing != null) {
             logResolvedExisting(beanType, qualifier, hasQualifier, existing);
             return existing;
         }
 
-        synchronized (singletonObjects) {
-            existing = (Collection<T>) initializedObjectsByType.getIfPresent(key);
-            if (existing != null) {
-                logResolvedExisting(beanType, qualifier, hasQualifier, existing);
-                return existing;
-            }
-
-            HashSet<T> beansOfTypeList = new HashSet<>();
-            Collection<BeanDefinition<T>> processedDefinitions = new ArrayList<>();
+        int registrations = singletonRegistrations;
+        HashSet<T> beansOfTypeList = new HashSet<>();
+        Collection<BeanDefinition<T>> processedDefinitions = new ArrayList<>();
 
-            boolean allCandidatesAreSingleton = false;
-            Collection<T> beans;
-            for (Map.Entry<BeanKey, BeanRegistration> entry : singletonObjects.entrySet()) {
-                BeanRegistration reg = entry.getValue();
-                Object instance = reg.bean;
-                if (beanType.isInstance(instance)) {
-                    if (!beansOfTypeList.contains(instance)) {
-                        if (!hasQualifier) {
+        boolean allCandidatesAreSingleton = false;
+        Collection<T> beans;
+        Collection<BeanDefinition<T>> candidates = findBeanCandidatesInternal(beanType);
+        Set<Class> proxiedTypes = Collections.emptySet();
+        if (filterProxied) {
+            Collection<BeanDefinition<T>> unproxied = new ArrayList<>(candidates);
+            filterProxiedTypes(unproxied, true, false);
+            if (unproxied.size() != candidates.size()) {
+                proxiedTypes = new HashSet<>();
+                for (BeanDefinition<T> candidate : candidates) {
+                    if (!unproxied.contains(candidate)) {
+                        proxiedTypes.add(candidate.getClass());
+                    }
+                }
+                candidates = unproxied;
+            }
+        }
+        for (Map.Entry<BeanKey, BeanRegistration> entry : singletonObjects.entrySet()) {
+            BeanRegistration reg = entry.getValue();
+            Object instance = reg.bean;
+            if (beanType.isInstance(instance) && !proxiedTypes.contains(reg.beanDefinition.getClass())) {
+                if (!beansOfTypeList.contains(instance)) {
+                    if (!hasQualifier) {
+
+                        if (LOG.isTraceEnabled()) {
+                            Qualifier registeredQualifier = entry.getKey().qualifier;
+                            if (registeredQualifier != null) {
+                                LOG.trace("Found existing bean for type {} {}: {} ", beanType.getName(), instance);
+                            } else {
+                                LOG.trace("Found existing bean for type {}: {} ", beanType.getName(), instance);
+                            }
+                        }
 
+                        beansOfTypeList.add((T) instance);
+                        processedDefinitions.add(reg.beanDefinition);
+                    } else {
+                        Optional result = qualifier.reduce(beanType, Stream.of(reg.beanDefinition)).findFirst();
+                        if (result.isPresent()) {
                             if (LOG.isTraceEnabled()) {
-                                Qualifier registeredQualifier = entry.getKey().qualifier;
-                                if (registeredQualifier != null) {
-                                    LOG.trace("Found existing bean for type {} {}: {} ", beanType.getName(), instance);
-                                } else {
-                                    LOG.trace("Found existing bean for type {}: {} ", beanType.getName(), instance);
-                                }
+                                LOG.trace("Found existing bean for type {} {}: {} ", qualifier, beanType.getName(), instance);
                             }
 
                             beansOfTypeList.add((T) instance);
                             processedDefinitions.add(reg.beanDefinition);
-                        } else {
-                            Optional result = qualifier.reduce(beanType, Stream.of(reg.beanDefinition)).findFirst();
-                            if (result.isPresent()) {
-                                if (LOG.isTraceEnabled()) {
-                                    LOG.trace("Found existing bean for type {} {}: {} ", qualifier, beanType.getName(), instance);
-                                }
-
-                                beansOfTypeList.add((T) instance);
-                                processedDefinitions.add(reg.beanDefinition);
-                            }
                         }
                     }
                 }
             }
-            Collection<BeanDefinition<T>> candidates = findBeanCandidatesInternal(beanType);
-            if (hasQualifier) {
-                if (LOG.isDebugEnabled()) {
-                    LOG.debug("Qualifying bean [{}] for qualifier: {} ", beanType.getName(), qualifier);
-                }
-                Stream<BeanDefinition<T>> candidateStream = candidates.stream();
-                candidateStream = applyBeanResolutionFilters(resolutionContext, candidateStream);
-
-                List<BeanDefinition<T>> reduced = qualifier.reduce(beanType, candidateStream)
-                        .collect(Collectors.toList());
-                if (!reduced.isEmpty()) {
-                    for (BeanDefinition<T> definition : reduced) {
-                        if (processedDefinitions.contains(definition)) {
-                            continue;
-                        }
-                        if (definition.isSingleton()) {
-                            allCandidatesAreSingleton = true;
-                        }
-                        addCandidateToList(resolutionContext, beanType, definition, beansOfTypeList, qualifier, reduced.size() == 1);
-                    }
-                    beans = beansOfTypeList;
-                } else {
+        }
+        if (hasQualifier) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Qualifying bean [{}] for qualifier: {} ", beanType.getName(), qualifier);
+            }
+            Stream<BeanDefinition<T>> candidateStream = candidates.stream();
+            candidateStream = applyBeanResolutionFilters(resolutionContext, candidateStream);
 
-                    if (LOG.isDebugEnabled() && beansOfTypeList.isEmpty()) {
-                        LOG.debug("Found no matching beans of type [{}] for qualifier: {} ", beanType.getName(), qualifier);
+            List<BeanDefinition<T>> reduced = qualifier.reduce(beanType, candidateStream)
+                    .collect(Collectors.toList());
+            if (!reduced.isEmpty()) {
+                for (BeanDefinition<T> definition : reduced) {
+                    if (processedDefinitions.contains(definition)) {
+                        continue;
                     }
-                    allCandidatesAreSingleton = true;
-                    beans = beansOfTypeList;
-                }
-            } else if (!candidates.isEmpty()) {
-                boolean hasNonSingletonCandidate = false;
-                int candidateCount = candidates.size();
-                Stream<BeanDefinition<T>> candidateStream = candidates.stream();
-                candidateStream = applyBeanResolutionFilters(resolutionContext, candidateStream)
-                        .filter(c -> !processedDefinitions.contains(c));
-
-                List<BeanDefinition<T>> candidateList = candidateStream.collect(Collectors.toList());
-                for (BeanDefinition<T> candidate : candidateList) {
-                    if (!hasNonSingletonCandidate && !candidate.isSingleton()) {
-                        hasNonSingletonCandidate = true;
+                    if (definition.isSingleton()) {
+                        allCandidatesAreSingleton = true;
                     }
-                    addCandidateToList(resolutionContext, beanType, candidate, beansOfTypeList, qualifier, candidateCount == 1);
-                }
-                if (!hasNonSingletonCandidate) {
-                    allCandidatesAreSingleton = true;
+                    addCandidateToList(resolutionContext, beanType, definition, beansOfTypeList, qualifier, reduced.size() == 1);
                 }
                 beans = beansOfTypeList;
             } else {
+
+                if (LOG.isDebugEnabled() && beansOfTypeList.isEmpty()) {
+                    LOG.debug("Found no matching beans of type [{}] for qualifier: {} ", beanType.getName(), qualifier);
+                }
                 allCandidatesAreSingleton = true;
                 beans = beansOfTypeList;
             }
+        } else if (!candidates.isEmpty()) {
+            boolean hasNonSingletonCandidate = false;
+            int candidateCount = candidates.size();
+            Stream<BeanDefinition<T>> candidateStream = candidates.stream();
+            candidateStream = applyBeanResolutionFilters(resolutionContext, candidateStream)
+                    .filter(c -> !processedDefinitions.contains(c));
+
+            List<BeanDefinition<T>> candidateList = candidateStream.collect(Collectors.toList());
+            for (BeanDefinition<T> candidate : candidateList) {
+                if (!hasNonSingletonCandidate && !candidate.isSingleton()) {
+                    hasNonSingletonCandidate = true;
+                }
+                addCandidateToList(resolutionContext, beanType, candidate, beansOfTypeList, qualifier, candidateCount == 1);
+            }
+            if (!hasNonSingletonCandidate) {
+                allCandidatesAreSingleton = true;
+            }
+            beans = beansOfTypeList;
+        } else {
+            allCandidatesAreSingleton = true;
+            beans = beansOfTypeList;
+        }
+
+        if (Ordered.class.isAssignableFrom(beanType)) {
+            beans = beans.stream().sorted(OrderUtil.COMPARATOR).collect(StreamUtils.toImmutableCollection());
+        } else {
+            beans = Collections.unmodifiableCollection(beans);
+        }
 
-            if (Ordered.class.isAssignableFrom(beanType)) {
-                beans = beans.stream().sorted(OrderUtil.COMPARATOR).collect(StreamUtils.toImmutableCollection());
+        if (allCandidatesAreSingleton && !filterProxied) {
+            synchronized (singletonObjects) {
+                // a singleton registered while the beans were resolved may be missing from the result
+                if (registrations == singletonRegistrations) {
+                    initializedObjectsByType.put(key, (Collection<Object>) beans);
+                }
+            }
+        }
+        if (LOG.isDebugEnabled() && !beans.isEmpty()) {
+            if (hasQualifier) {
+                LOG.debug("Found {} beans for type [{} {}]: {} ", beans.size(), qualifier, beanType.getName(), beans);
             } else {
-                beans = Collections.unmodifiableCollection(beans);
+                LOG.debug("Found {} beans for type [{}]: {} ", beans.size(), beanType.getName(), beans);
             }
+        }
 
-            if (allCandidatesAreSingleton) {
-                initializedObjectsByType.put(key, (Collection<Object>) beans);
-            }
-            if (LOG.isDebugEnabled() && !beans.isEmpty()) {
-                if (hasQualifier) {
-                    LOG.debug("Found {} beans for type [{} {}]: {} ", beans.size(), qualifier, beanType.getName(), beans);
-                } else {
-                    LOG.debug("Found {} beans for type [{}]: {} ", beans.size(), beanType.getName(), beans);
+        return beans;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Collection<ApplicationEventListener> getEventListeners(Class<?> eventType) {
+        Collection<ApplicationEventListener> eventListeners = eventListenerCache.get(eventType);
+        if (eventListeners == null) {
+            Qualifier<ApplicationEventListener> qualifier = Qualifiers.byTypeArguments(eventType);
+            int registrations = singletonRegistrations;
+            // listeners are only invoked through their AOP proxies, otherwise an asynchronous listener would also be
+            // invoked synchronously through its target
+            eventListeners = getBeansOfTypeInternal(null, ApplicationEventListener.class, qualifier, true);
+            // only singleton listeners can be reused for subsequent events
+            boolean singletons = qualifier.reduce(ApplicationEventListener.class, findBeanCandidatesInternal(ApplicationEventListener.class).stream())
+                    .allMatch(BeanDefinition::isSingleton);
+            if (singletons) {
+                synchronized (singletonObjects) {
+                    // a listener registered while the listeners were resolved may be missing from the result
+                    if (registrations == singletonRegistrations) {
+                        eventListenerCache.put(eventType, eventListeners);
+                    }
                 }
             }
-
-            return beans;
         }
+        return eventListeners;
     }
 
     private <T> void logResolvedExisting(Class<T> beanType, Qualifier<T> qualifier, boolean hasQualifier, Collection<T> existing) {
@@ -1868,10 +2112,7 @@ public class DefaultBeanContext implements BeanContext {
     private <T> void addCandidateToList(BeanResolutionContext resolutionContext, Class<T> beanType, BeanDefinition<T> candidate, Collection<T> beansOfTypeList, Qualifier<T> qualifier, boolean singleCandidate) {
         T bean;
         if (candidate.isSingleton()) {
-            synchronized (singletonObjects) {
-                bean = doCreateBean(resolutionContext, candidate, qualifier, true, null);
-                registerSingletonBean(candidate, beanType, bean, qualifier, singleCandidate);
-            }
+            bean = createAndRegisterSingleton(resolutionContext, candidate, beanType, qualifier, singleCandidate);
         } else {
             bean = getScopedBeanForDefinition(resolutionContext, beanType, qualifier, true, candidate);
         }
@@ -1879,6 +2120,133 @@ public class DefaultBeanContext implements BeanContext {
         beansOfTypeList.add(bean);
     }
 
+    private List<ContextScopeBean> loadContextScopeBean(BeanDefinitionReference contextScopeBean) {
+        try {
+            BeanDefinition beanDefinition = contextScopeBean.load(this);
+            if (!beanDefinition.isEnabled(this)) {
+                return Collections.emptyList();
+            }
+            if (beanDefinition.isIterable()) {
+                Collection<BeanDefinition> beanCandidates = findBeanCandidates(beanDefinition.getBeanType(), null);
+                List<ContextScopeBean> initializations = new ArrayList<>(beanCandidates.size());
+                for (BeanDefinition beanCandidate : beanCandidates) {
+                    initializations.add(new ContextScopeBean(contextScopeBean.getName(), beanDefinition, beanCandidate));
+                }
+                return initializations;
+            }
+            return Collections.singletonList(new ContextScopeBean(contextScopeBean.getName(), beanDefinition, beanDefinition));
+        } catch (Throwable e) {
+            throw new BeanInstantiationException("Bean definition [" + contextScopeBean.getName() + "] could not be loaded: " + e.getMessage(), e);
+        }
+    }
+
+    private void initializeContextScopeBean(ContextScopeBean initialization) {
+        long start = System.nanoTime();
+        try {
+            BeanDefinition definition = initialization.definition;
+            createAndRegisterSingleton(new DefaultBeanResolutionContext(this, initialization.root), definition, definition.getBeanType(), null, true);
+        } catch (Throwable e) {
+            throw new BeanInstantiationException("Bean definition [" + initialization.name + "] could not be loaded: " + e.getMessage(), e);
+        } finally {
+            initialization.time = System.nanoTime() - start;
+            initialization.thread = Thread.currentThread().getName();
+        }
+    }
+
+    /**
+     * Creates the context scope beans on a dedicated pool. Each bean is created once all of the context scope beans
+     * reachable through its injection points have been created. Beans that form a cycle are created on the calling
+     * thread once everything else is done, such that a circular dependency surfaces as it would when
+     * initializing sequentially. Beans looked up through a {@link Provider} or a bean context lookup are not part of
+     * the dependencies and hence not ordered.
+     *
+     * @param initializations The context scope beans
+     * @param parallelism     The parallelism
+     */
+    private void initializeInParallel(List<ContextScopeBean> initializations, int parallelism) {
+        Map<ContextScopeBean, Set<ContextScopeBean>> dependencies = new LinkedHashMap<>();
+        for (ContextScopeBean initialization : initializations) {
+            dependencies.put(initialization, findContextScopeDependencies(initialization, initializations));
+        }
+
+        Map<ContextScopeBean, CompletableFuture<Void>> scheduled = new LinkedHashMap<>();
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            boolean progress = true;
+            while (progress) {
+                progress = false;
+                for (Map.Entry<ContextScopeBean, Set<ContextScopeBean>> entry : dependencies.entrySet()) {
+                    ContextScopeBean initialization = entry.getKey();
+                    if (!scheduled.containsKey(initialization) && scheduled.keySet().containsAll(entry.getValue())) {
+                        CompletableFuture<Void> future = CompletableFuture
+                            .allOf(entry.getValue().stream().map(scheduled::get).toArray(CompletableFuture[]::new))
+                            .thenRunAsync(() -> initializeContextScopeBean(initialization), pool);
+                        scheduled.put(initialization, future);
+                        progress = true;
+                    }
+                }
+            }
+
+            try {
+                CompletableFuture.allOf(scheduled.values().toArray(new CompletableFuture[0])).join();
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                throw new BeanContextException("Error initializing context scope beans: " + cause.getMessage(), cause);
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        for (ContextScopeBean initialization : initializations) {
+            if (!scheduled.containsKey(initialization)) {
+                initializeContextScopeBean(initialization);
+            }
+        }
+    }
+
+    /**
+     * Finds the other context scope beans that may be created as a result of creating the given bean, by following
+     * the required components of the injection points through the beans that are not context scoped.
+     * {@link Provider} injection points are lazy and hence not followed.
+     *
+     * @param initialization  The context scope bean
+     * @param initializations All of the context scope beans
+     * @return The context scope beans that must be created first
+     */
+    private Set<ContextScopeBean> findContextScopeDependencies(ContextScopeBean initialization, List<ContextScopeBean> initializations) {
+        Set<ContextScopeBean> dependencies = new HashSet<>();
+        Set<Class> visited = new HashSet<>();
+        List<Class> types = new ArrayList<>(initialization.definition.getRequiredComponents());
+        while (!types.isEmpty()) {
+            Class<?> type = types.remove(types.size() - 1);
+            if (type == Provider.class || type == Object.class || thisInterfaces.contains(type) || !visited.add(type)) {
+                continue;
+            }
+            for (ContextScopeBean other : initializations) {
+                if (other != initialization && type.isAssignableFrom(other.definition.getBeanType())) {
+                    dependencies.add(other);
+                }
+            }
+            for (BeanDefinition<?> candidate : findBeanCandidatesInternal(type)) {
+                types.addAll(candidate.getRequiredComponents());
+            }
+        }
+        return dependencies;
+    }
+
+    private void logInitializationTimes(List<ContextScopeBean> initializations, long total) {
+        LOG.debug("Initialized {} context scope beans in {}ms", initializations.size(), TimeUnit.NANOSECONDS.toMillis(total));
+        initializations
+            .stream()
+            .sorted((one, two) -> Long.compare(two.time, one.time))
+            .forEach(initialization ->
+                LOG.debug("  {}ms {} [{}]", TimeUnit.NANOSECONDS.toMillis(initialization.time), initialization.definition, initialization.thread)
+            );
+    }
+
     /**
      * @param <T> The type
      * @param <R> The return type
@@ -2276,4 +2644,36 @@ public class DefaultBeanContext implements BeanContext {
             return true;
         }
     }
+
+    /**
+     * A context scope bean to create on startup.
+     */
+    private static final class ContextScopeBean {
+        final String name;
+        final BeanDefinition root;
+        final BeanDefinition definition;
+        volatile long time;
+        volatile String thread;
+
+        ContextScopeBean(String name, BeanDefinition root, BeanDefinition definition) {
+            this.name = name;
+            this.root = root;
+            this.definition = definition;
+        }
+    }
+
+    /**
+     * The lock held by the thread creating a singleton, which exposes its owner to detect threads waiting on each other.
+     */
+    private static final class SingletonCreationLock extends ReentrantLock {
+        final BeanKey key;
+
+        SingletonCreationLock(BeanKey key) {
+            this.key = key;
+        }
+
+        Thread owner() {
+            return getOwner();
+        }
+    }
 }
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.context;
+
+import io.micronaut.context.exceptions.BeanInstantiationException;
+import io.micronaut.core.annotation.AnnotationMetadata;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.inject.BeanDefinition;
+import io.micronaut.inject.BeanDefinitionIndex;
+import io.micronaut.inject.BeanDefinitionReference;
+
+/**
+ * A {@link BeanDefinitionReference} backed by an entry of the {@link BeanDefinitionIndex}. The generated reference class
+ * is only loaded once information that is not part of the index is required, such as the annotation metadata or the
+ * bean definition itself.
+ *
+ * @param <T> The bean type
+ * @since 1.0
+ */
+@Internal
+public class IndexedBeanDefinitionReference<T> implements BeanDefinitionReference<T> {
+
+    private final BeanDefinitionIndex.Entry entry;
+    private final ClassLoader classLoader;
+    private Boolean present;
+    private volatile BeanDefinitionReference<T> reference;
+
+    /**
+     * @param entry       The index entry
+     * @param classLoader The class loader
+     */
+    public IndexedBeanDefinitionReference(BeanDefinitionIndex.Entry entry, ClassLoader classLoader) {
+        this.entry = entry;
+        this.classLoader = classLoader;
+    }
+
+    @Override
+    public String getName() {
+        return entry.getBeanTypeName();
+    }
+
+    @Override
+    public String getBeanDefinitionName() {
+        return entry.getBeanDefinitionName();
+    }
+
+    @Override
+    public String[] getTypeHierarchy() {
+        return entry.getTypeHierarchy();
+    }
+
+    @Override
+    public boolean isContextScope() {
+        return entry.isContextScope();
+    }
+
+    @Override
+    public boolean requiresMethodProcessing() {
+        return entry.requiresMethodProcessing();
+    }
+
+    /**
+     * Whether the bean definition and bean types are present, which is determined from the class files such that the
+     * classes are not loaded. Entries without a type hierarchy, such as those of factory beans, proxies and providers,
+     * are checked by the generated reference, which loads the bean type.
+     *
+     * @return True if they are present
+     */
+    @Override
+    public boolean isPresent() {
+        Boolean present = this.present;
+        if (present == null) {
+            present = isClassPresent(entry.getReferenceName()) && isClassPresent(entry.getBeanDefinitionName());
+            String[] typeHierarchy = entry.getTypeHierarchy();
+            if (typeHierarchy != null) {
+                for (int i = 0; present && i < typeHierarchy.length; i++) {
+                    present = isClassPresent(typeHierarchy[i]);
+                }
+            } else if (present) {
+                present = getReference().isPresent();
+            }
+            this.present = present;
+        }
+        return present;
+    }
+
+    @Override
+    public boolean isEnabled(BeanContext context) {
+        if (!isPresent()) {
+            return false;
+        }
+        return !entry.isConditional() || getReference().isEnabled(context);
+    }
+
+    @Override
+    public AnnotationMetadata getAnnotationMetadata() {
+        return getReference().getAnnotationMetadata();
+    }
+
+    @Override
+    public boolean isPrimary() {
+        return getReference().isPrimary();
+    }
+
+    @Override
+    public Class<T> getBeanType() {
+        return isPresent() ? getReference().getBeanType() : null;
+    }
+
+    @Override
+    public String getReplacesBeanTypeName() {
+        return getReference().getReplacesBeanTypeName();
+    }
+
+    @Override
+    public BeanDefinition<T> load() {
+        return getReference().load();
+    }
+
+    @Override
+    public BeanDefinition<T> load(BeanContext context) {
+        return getReference().load(context);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        return entry.getBeanDefinitionName().equals(((IndexedBeanDefinitionReference) o).entry.getBeanDefinitionName());
+    }
+
+    @Override
+    public int hashCode() {
+        return entry.getBeanDefinitionName().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return entry.getBeanDefinitionName();
+    }
+
+    @SuppressWarnings("unchecked")
+    private BeanDefinitionReference<T> getReference() {
+        BeanDefinitionReference<T> reference = this.reference;
+        if (reference == null) {
+            synchronized (this) { // double check
+                reference = this.reference;
+                if (reference == null) {
+                    try {
+                        reference = (BeanDefinitionReference<T>) Class.forName(entry.getReferenceName(), true, classLoader).newInstance();
+                    } catch (Throwable e) {
+                        throw new BeanInstantiationException("Error loading bean definition reference [" + entry.getReferenceName() + "]: " + e.getMessage(), e);
+                    }
+                    this.reference = reference;
+                }
+            }
+        }
+        return reference;
+    }
+
+    private boolean isClassPresent(String className) {
+        if (className.startsWith("java.")) {
+            return true;
+        }
+        return classLoader.getResource(className.replace('.', '/') + ".class") != null;
+    }
+}
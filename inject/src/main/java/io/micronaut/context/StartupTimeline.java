@@ -0,0 +1,291 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.context;
+
+import io.micronaut.inject.BeanDefinition;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Records the steps taken while a {@link BeanContext} starts, such as loading the bean definitions, evaluating their
+ * conditions and creating the beans, so that the time spent on each of them can be inspected.
+ *
+ * <p>Recording is cheap, a step only costs reading the clock twice, and ends once {@link #stop()} is called or the
+ * maximum number of steps is reached. The {@link DefaultBeanContext} stops the timeline once it has started, so that
+ * beans created later on are not recorded. Steps that complete the startup afterwards, such as starting an embedded
+ * server, are added with {@link #append(String, String, long)}.</p>
+ *
+ * @since 1.0
+ */
+public final class StartupTimeline {
+
+    /**
+     * The step of starting the {@link BeanContext}.
+     */
+    public static final String CONTEXT = "context";
+
+    /**
+     * The step of loading the property sources of the {@link io.micronaut.context.env.Environment}.
+     */
+    public static final String ENVIRONMENT = "environment";
+
+    /**
+     * The step of loading the bean definition references.
+     */
+    public static final String REFERENCES = "references";
+
+    /**
+     * The step of evaluating the requirements of a bean.
+     */
+    public static final String CONDITION = "condition";
+
+    /**
+     * The step of creating a bean, including the injection of its dependencies.
+     */
+    public static final String BEAN = "bean";
+
+    /**
+     * The step of invoking the {@link io.micronaut.context.event.BeanInitializedEventListener} instances and the
+     * post construct methods that require reflection.
+     */
+    public static final String POST_CONSTRUCT = "post-construct";
+
+    /**
+     * The step of invoking the {@link io.micronaut.context.event.BeanCreatedEventListener} instances for a bean.
+     */
+    public static final String BEAN_CREATED_LISTENERS = "bean-created-listeners";
+
+    /**
+     * The step of starting an embedded server.
+     */
+    public static final String SERVER = "server";
+
+    /**
+     * The default maximum number of steps recorded.
+     */
+    public static final int DEFAULT_MAX_STEPS = 10000;
+
+    private final long startTime = System.currentTimeMillis();
+    private final long origin = System.nanoTime();
+    private final int maxSteps;
+    private final Queue<Step> steps = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger stepCount = new AtomicInteger();
+    private volatile boolean recording = true;
+    private volatile long endTime = -1;
+
+    /**
+     * Creates a timeline that records up to {@link #DEFAULT_MAX_STEPS} steps.
+     */
+    public StartupTimeline() {
+        this(DEFAULT_MAX_STEPS);
+    }
+
+    /**
+     * @param maxSteps The maximum number of steps recorded
+     */
+    public StartupTimeline(int maxSteps) {
+        this.maxSteps = maxSteps;
+    }
+
+    /**
+     * Begins a step.
+     *
+     * @return The start time of the step to pass to {@link #end(String, String, long)} or -1 if nothing is recorded
+     */
+    public long begin() {
+        return recording ? System.nanoTime() : -1;
+    }
+
+    /**
+     * Ends a step.
+     *
+     * @param type  The type of the step, for example {@link #BEAN}
+     * @param name  The name of the step
+     * @param start The start time as returned by {@link #begin()}
+     */
+    public void end(String type, String name, long start) {
+        end(type, name, start, null);
+    }
+
+    /**
+     * Ends a step that was taken on behalf of the beans currently being resolved.
+     *
+     * @param type              The type of the step, for example {@link #BEAN}
+     * @param name              The name of the step
+     * @param start             The start time as returned by {@link #begin()}
+     * @param resolutionContext The resolution context
+     */
+    public void end(String type, String name, long start, @Nullable BeanResolutionContext resolutionContext) {
+        if (start == -1 || !recording) {
+            return;
+        }
+        long end = System.nanoTime();
+        if (stepCount.incrementAndGet() > maxSteps) {
+            stop();
+            return;
+        }
+        List<String> dependencyChain = resolutionContext != null ? resolveDependencyChain(resolutionContext) : Collections.emptyList();
+        steps.add(new Step(type, name, Thread.currentThread().getName(), start - origin, end - start, dependencyChain));
+    }
+
+    /**
+     * Adds a step that was taken after recording stopped as part of the startup, for example starting an embedded
+     * server once the context has started. The end time of the timeline is moved to the end of the step.
+     *
+     * @param type  The type of the step, for example {@link #SERVER}
+     * @param name  The name of the step
+     * @param start The start time of the step as returned by {@link System#nanoTime()}
+     */
+    public void append(String type, String name, long start) {
+        long end = System.nanoTime();
+        if (stepCount.incrementAndGet() > maxSteps) {
+            return;
+        }
+        steps.add(new Step(type, name, Thread.currentThread().getName(), start - origin, end - start, Collections.emptyList()));
+        endTime = System.currentTimeMillis();
+    }
+
+    /**
+     * Stops recording steps.
+     */
+    public void stop() {
+        if (recording) {
+            recording = false;
+            endTime = System.currentTimeMillis();
+        }
+    }
+
+    /**
+     * @return Whether steps are recorded
+     */
+    public boolean isRecording() {
+        return recording;
+    }
+
+    /**
+     * @return The time the timeline was created in milliseconds since the epoch
+     */
+    public long getStartTime() {
+        return startTime;
+    }
+
+    /**
+     * @return The time recording stopped in milliseconds since the epoch or -1 if it is still recording
+     */
+    public long getEndTime() {
+        return endTime;
+    }
+
+    /**
+     * @return The steps in the order they ended
+     */
+    public List<Step> getSteps() {
+        return Collections.unmodifiableList(new ArrayList<>(steps));
+    }
+
+    private static List<String> resolveDependencyChain(BeanResolutionContext resolutionContext) {
+        BeanResolutionContext.Path path = resolutionContext.getPath();
+        if (path.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<String> chain = new ArrayList<>(path.size());
+        Iterator<BeanResolutionContext.Segment> i = path.descendingIterator();
+        while (i.hasNext()) {
+            BeanDefinition declaringType = i.next().getDeclaringType();
+            String name = declaringType.getBeanType().getName();
+            if (chain.isEmpty() || !chain.get(chain.size() - 1).equals(name)) {
+                chain.add(name);
+            }
+        }
+        return chain;
+    }
+
+    /**
+     * A recorded step.
+     */
+    public static final class Step {
+        private final String type;
+        private final String name;
+        private final String thread;
+        private final long start;
+        private final long duration;
+        private final List<String> dependencyChain;
+
+        private Step(String type, String name, String thread, long start, long duration, List<String> dependencyChain) {
+            this.type = type;
+            this.name = name;
+            this.thread = thread;
+            this.start = start;
+            this.duration = duration;
+            this.dependencyChain = dependencyChain;
+        }
+
+        /**
+         * @return The type of the step
+         */
+        public String getType() {
+            return type;
+        }
+
+        /**
+         * @return The name of the step, for example the bean type
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * @return The name of the thread that took the step
+         */
+        public String getThread() {
+            return thread;
+        }
+
+        /**
+         * @return The start of the step in nanoseconds relative to the creation of the timeline
+         */
+        public long getStart() {
+            return start;
+        }
+
+        /**
+         * @return The wall time of the step in nanoseconds
+         */
+        public long getDuration() {
+            return duration;
+        }
+
+        /**
+         * @return The names of the bean types whose resolution led to the step, starting with the root
+         */
+        public List<String> getDependencyChain() {
+            return dependencyChain;
+        }
+
+        @Override
+        public String toString() {
+            return type + "[" + name + "] " + duration + "ns";
+        }
+    }
+}
@@ -250,6 +250,7 @@ public class DefaultEnvironment extends PropertySourcePropertyResolver implement
             for (int i = 0; i < catalog.length; i++) {
                 catalog[i] = null;
             }
+            resetCaches();
         }
         return this;
     }
@@ -87,6 +87,21 @@ public interface Environment extends PropertyResolver, LifeCycle<Environment>, C
      */
     String ENVIRONMENTS_ENV = "MICRONAUT_ENVIRONMENTS";
 
+    /**
+     * The property that stores the name of the executor used to publish events asynchronously.
+     */
+    String EVENT_EXECUTOR_PROPERTY = "micronaut.events.executor";
+
+    /**
+     * The name of the executor used to publish events asynchronously if none is configured.
+     */
+    String DEFAULT_EVENT_EXECUTOR = "scheduled";
+
+    /**
+     * The number of threads used to create the {@link io.micronaut.context.annotation.Context} scope beans on startup.
+     */
+    String INIT_PARALLELISM_PROPERTY = "micronaut.context.init-parallelism";
+
     /**
      * The default bootstrap config name.
      */
@@ -21,6 +21,8 @@ import io.micronaut.core.convert.ConversionService;
 import io.micronaut.core.convert.format.MapFormat;
 import io.micronaut.core.naming.NameUtils;
 import io.micronaut.core.naming.conventions.StringConvention;
+import io.micronaut.core.type.Argument;
+import io.micronaut.core.util.ArrayUtils;
 import io.micronaut.core.util.CollectionUtils;
 import io.micronaut.core.util.StringUtils;
 import io.micronaut.core.value.MapPropertyResolver;
@@ -38,10 +40,13 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
  * <p>A {@link PropertyResolver} that resolves from one or many {@link PropertySource} instances.</p>
@@ -60,6 +65,10 @@ public class PropertySourcePropertyResolver implements PropertyResolver {
     // this allows optimization of searches by prefix
     @SuppressWarnings("MagicNumber")
     protected final Map<String, Object>[] catalog = new Map[57];
+    // the keys of each catalog entry sorted by name and mapped to their position in the entry, allows prefix queries
+    // without scanning the entry. Built on demand and discarded whenever the catalog changes
+    private final AtomicReferenceArray<NavigableMap<String, Integer>> keyIndex = new AtomicReferenceArray<>(catalog.length);
+    private volatile Map<String, Map<Class, Optional>> resolvedValues = new ConcurrentHashMap<>(20);
 
     /**
      * Creates a new, initially empty, {@link PropertySourcePropertyResolver} for the given {@link ConversionService}.
@@ -150,6 +159,11 @@ public class PropertySourcePropertyResolver implements PropertyResolver {
                     return true;
                 } else {
                     String finalName = name + ".";
+                    NavigableMap<String, Integer> keys = resolveKeyIndex(name, entries);
+                    if (keys != null) {
+                        String next = keys.ceilingKey(finalName);
+                        return next != null && next.startsWith(finalName);
+                    }
                     return entries.keySet().stream().anyMatch(key ->
                             key.startsWith(finalName)
                     );
@@ -166,6 +180,18 @@ public class PropertySourcePropertyResolver implements PropertyResolver {
 
             Map<String, Object> entries = resolveEntriesForKey(name, false);
             if (entries != null) {
+                Class<T> requiredType = conversionContext.getArgument().getType();
+                boolean cacheable = isCacheable(conversionContext);
+                Map<String, Map<Class, Optional>> resolvedValues = this.resolvedValues;
+                if (cacheable) {
+                    Map<Class, Optional> values = resolvedValues.get(name);
+                    if (values != null) {
+                        Optional<T> resolved = values.get(requiredType);
+                        if (resolved != null) {
+                            return resolved;
+                        }
+                    }
+                }
                 Object value = entries.get(name);
                 if (value == null) {
                     value = entries.get(normalizeName(name));
@@ -201,10 +227,21 @@ public class PropertySourcePropertyResolver implements PropertyResolver {
                         }
                     }
                 }
-                Class<T> requiredType = conversionContext.getArgument().getType();
                 if (value != null) {
+                    boolean scalar = !(value instanceof Map || value instanceof Collection);
                     value = resolvePlaceHoldersIfNecessary(value);
                     Optional<T> converted = conversionService.convert(value, conversionContext);
+                    if (cacheable && scalar && converted.isPresent()) {
+                        Map<Class, Optional> values = resolvedValues.get(name);
+                        if (values == null) {
+                            values = new ConcurrentHashMap<>(2);
+                            Map<Class, Optional> existing = resolvedValues.putIfAbsent(name, values);
+                            if (existing != null) {
+                                values = existing;
+                            }
+                        }
+                        values.put(requiredType, converted);
+                    }
                     if (LOG.isTraceEnabled()) {
                        if (converted.isPresent()) {
                            LOG.trace("Resolved value [{}] for property: {}", converted.get(), name);
@@ -281,16 +318,14 @@ public class PropertySourcePropertyResolver implements PropertyResolver {
         MapFormat mapFormat = conversionContext.getAnnotation(MapFormat.class);
         StringConvention keyConvention = mapFormat != null ? mapFormat.keyFormat() : StringConvention.RAW;
         String prefix = name + '.';
-        entries.entrySet().stream()
-            .filter(map -> map.getKey().startsWith(prefix))
-            .forEach(entry -> {
-                Object value = entry.getValue();
-                if (value != null) {
-                    String key = entry.getKey().substring(prefix.length());
-                    key = keyConvention.format(key);
-                    properties.put(key, resolvePlaceHoldersIfNecessary(value.toString()));
-                }
-            });
+        for (String property : resolveKeysWithPrefix(prefix, entries)) {
+            Object value = entries.get(property);
+            if (value != null) {
+                String key = property.substring(prefix.length());
+                key = keyConvention.format(key);
+                properties.put(key, resolvePlaceHoldersIfNecessary(value.toString()));
+            }
+        }
 
         return properties;
     }
@@ -307,31 +342,29 @@ public class PropertySourcePropertyResolver implements PropertyResolver {
         MapFormat mapFormat = conversionContext.getAnnotation(MapFormat.class);
         StringConvention keyConvention = mapFormat != null ? mapFormat.keyFormat() : StringConvention.RAW;
         String prefix = name + '.';
-        for (Map.Entry<String, Object> map : entries.entrySet()) {
-            if (map.getKey().startsWith(prefix)) {
-                String subMapKey = map.getKey().substring(prefix.length());
-                Object value = resolvePlaceHoldersIfNecessary(map.getValue());
-                MapFormat.MapTransformation transformation = mapFormat != null ? mapFormat.transformation() : MapFormat.MapTransformation.NESTED;
-                if (transformation == MapFormat.MapTransformation.FLAT) {
+        for (String property : resolveKeysWithPrefix(prefix, entries)) {
+            String subMapKey = property.substring(prefix.length());
+            Object value = resolvePlaceHoldersIfNecessary(entries.get(property));
+            MapFormat.MapTransformation transformation = mapFormat != null ? mapFormat.transformation() : MapFormat.MapTransformation.NESTED;
+            if (transformation == MapFormat.MapTransformation.FLAT) {
+                subMapKey = keyConvention.format(subMapKey);
+                subMap.put(subMapKey, value);
+            } else {
+                int index = subMapKey.indexOf('.');
+                if (index == -1) {
                     subMapKey = keyConvention.format(subMapKey);
                     subMap.put(subMapKey, value);
                 } else {
-                    int index = subMapKey.indexOf('.');
-                    if (index == -1) {
-                        subMapKey = keyConvention.format(subMapKey);
-                        subMap.put(subMapKey, value);
-                    } else {
 
-                        String mapKey = subMapKey.substring(0, index);
-                        mapKey = keyConvention.format(mapKey);
-                        if (!subMap.containsKey(mapKey)) {
-                            subMap.put(mapKey, new LinkedHashMap<>());
-                        }
-                        Map<String, Object> nestedMap = (Map<String, Object>) subMap.get(mapKey);
-                        String nestedKey = subMapKey.substring(index + 1);
-                        keyConvention.format(nestedKey);
-                        nestedMap.put(nestedKey, value);
+                    String mapKey = subMapKey.substring(0, index);
+                    mapKey = keyConvention.format(mapKey);
+                    if (!subMap.containsKey(mapKey)) {
+                        subMap.put(mapKey, new LinkedHashMap<>());
                     }
+                    Map<String, Object> nestedMap = (Map<String, Object>) subMap.get(mapKey);
+                    String nestedKey = subMapKey.substring(index + 1);
+                    keyConvention.format(nestedKey);
+                    nestedMap.put(nestedKey, value);
                 }
             }
         }
@@ -388,7 +421,19 @@ public class PropertySourcePropertyResolver implements PropertyResolver {
                     }
                 }
             }
+            resetCaches();
+        }
+    }
+
+    /**
+     * Discards the indexes and resolved values that are derived from the {@link #catalog}. Must be called whenever the
+     * catalog is modified, whilst holding the lock on the catalog.
+     */
+    protected void resetCaches() {
+        for (int i = 0; i < keyIndex.length(); i++) {
+            keyIndex.set(i, null);
         }
+        resolvedValues = new ConcurrentHashMap<>(20);
     }
 
     /**
@@ -402,18 +447,110 @@ public class PropertySourcePropertyResolver implements PropertyResolver {
         if (name.length() == 0) {
             return null;
         }
+        int index = resolveCatalogIndex(name);
+        if (index > -1) {
+            entries = catalog[index];
+            if (allowCreate && entries == null) {
+                entries = new LinkedHashMap<>(5);
+                catalog[index] = entries;
+            }
+        }
+        return entries;
+    }
+
+    @SuppressWarnings("MagicNumber")
+    private int resolveCatalogIndex(String name) {
         char firstChar = name.charAt(0);
         if (Character.isLetter(firstChar)) {
             int index = ((int) firstChar) - 65;
             if (index < catalog.length && index > 0) {
-                entries = catalog[index];
-                if (allowCreate && entries == null) {
-                    entries = new LinkedHashMap<>(5);
-                    catalog[index] = entries;
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Resolves the sorted keys of the given catalog entries, which are built on first access.
+     *
+     * @param name    The property name the entries were resolved for
+     * @param entries The entries
+     * @return The keys mapped to their position in the entries or null if the entries are not part of the catalog
+     */
+    private NavigableMap<String, Integer> resolveKeyIndex(String name, Map<String, Object> entries) {
+        int index = resolveCatalogIndex(name);
+        if (index == -1) {
+            return null;
+        }
+        NavigableMap<String, Integer> keys = keyIndex.get(index);
+        if (keys == null) {
+            synchronized (catalog) {
+                if (catalog[index] != entries) {
+                    return null;
+                }
+                keys = keyIndex.get(index);
+                if (keys == null) {
+                    keys = new TreeMap<>();
+                    int position = 0;
+                    for (String key : entries.keySet()) {
+                        keys.put(key, position++);
+                    }
+                    keyIndex.set(index, keys);
                 }
             }
         }
-        return entries;
+        return keys;
+    }
+
+    /**
+     * Resolves the keys of the given entries that start with the given prefix in the order they were added.
+     *
+     * @param prefix  The prefix
+     * @param entries The entries
+     * @return The keys
+     */
+    private List<String> resolveKeysWithPrefix(String prefix, Map<String, Object> entries) {
+        List<String> matches = new ArrayList<>();
+        NavigableMap<String, Integer> keys = resolveKeyIndex(prefix, entries);
+        if (keys == null) {
+            for (String key : entries.keySet()) {
+                if (key.startsWith(prefix)) {
+                    matches.add(key);
+                }
+            }
+        } else {
+            List<Map.Entry<String, Integer>> positions = new ArrayList<>();
+            for (Map.Entry<String, Integer> entry : keys.tailMap(prefix, true).entrySet()) {
+                if (!entry.getKey().startsWith(prefix)) {
+                    break;
+                }
+                positions.add(entry);
+            }
+            positions.sort(Map.Entry.comparingByValue());
+            for (Map.Entry<String, Integer> position : positions) {
+                matches.add(position.getKey());
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Whether a converted value can be cached, which is the case when the conversion depends on the required type alone
+     * and the result is not a mutable container.
+     *
+     * @param conversionContext The conversion context
+     * @return True if it can be cached
+     */
+    private boolean isCacheable(ArgumentConversionContext<?> conversionContext) {
+        Argument<?> argument = conversionContext.getArgument();
+        Class<?> type = argument.getType();
+        return !type.isArray() &&
+                !Collection.class.isAssignableFrom(type) &&
+                !Map.class.isAssignableFrom(type) &&
+                ArrayUtils.isEmpty(argument.getTypeParameters()) &&
+                argument.getAnnotationMetadata().isEmpty() &&
+                ArrayUtils.isEmpty(conversionContext.getAnnotations()) &&
+                Locale.getDefault().equals(conversionContext.getLocale());
     }
 
     private String normalizeName(String name) {
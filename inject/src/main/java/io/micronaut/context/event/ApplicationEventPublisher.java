@@ -16,6 +16,8 @@
 
 package io.micronaut.context.event;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * <p>Interface for classes that publish events received by {@link ApplicationEventListener} instances.</p>
  * <p>
@@ -33,4 +35,16 @@ public interface ApplicationEventPublisher {
      * @param event The event to publish
      */
     void publishEvent(Object event);
+
+    /**
+     * Publish the given event asynchronously. The returned future completes once all listeners have consumed the
+     * event, or completes exceptionally if one of the listeners fails. Listeners that are themselves asynchronous
+     * may still be processing the event when the future completes.
+     *
+     * @param event The event to publish
+     * @return A future that completes when the event has been published
+     */
+    default CompletableFuture<Void> publishEventAsync(Object event) {
+        return CompletableFuture.runAsync(() -> publishEvent(event));
+    }
 }
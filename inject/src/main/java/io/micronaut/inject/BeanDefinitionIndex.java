@@ -0,0 +1,239 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.inject;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.util.CollectionUtils;
+
+import javax.annotation.Nullable;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.ServiceConfigurationError;
+import java.util.Set;
+
+/**
+ * A binary index of the {@link BeanDefinitionReference} classes of a module that is written at compilation time. The
+ * index describes each reference such that the context can decide whether a reference is required without loading it.
+ *
+ * @since 1.0
+ */
+@Internal
+public final class BeanDefinitionIndex {
+
+    /**
+     * The path of the index within the {@code META-INF} directory.
+     */
+    public static final String PATH = "micronaut/bean-definitions.idx";
+
+    private static final int MAGIC = 0x4d4e4249;
+    private static final int VERSION = 1;
+    private static final int CONTEXT_SCOPE = 1;
+    private static final int REQUIRES_METHOD_PROCESSING = 1 << 1;
+    private static final int CONDITIONAL = 1 << 2;
+
+    private BeanDefinitionIndex() {
+    }
+
+    /**
+     * Reads all of the indexes on the classpath.
+     *
+     * @param classLoader The class loader
+     * @return The entries
+     */
+    public static List<Entry> load(ClassLoader classLoader) {
+        Set<URL> urls;
+        try {
+            urls = CollectionUtils.enumerationToSet(classLoader.getResources("META-INF/" + PATH));
+        } catch (IOException e) {
+            throw new ServiceConfigurationError("Failed to load bean definition indexes: " + e.getMessage(), e);
+        }
+        List<Entry> entries = new ArrayList<>();
+        for (URL url : urls) {
+            try (InputStream inputStream = url.openStream()) {
+                entries.addAll(read(inputStream));
+            } catch (IOException e) {
+                throw new ServiceConfigurationError("Failed to load bean definition index for URL: " + url, e);
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * Reads the entries of an index.
+     *
+     * @param inputStream The input stream
+     * @return The entries
+     * @throws IOException If the index cannot be read or is not a valid index
+     */
+    public static List<Entry> read(InputStream inputStream) throws IOException {
+        DataInputStream input = new DataInputStream(new BufferedInputStream(inputStream));
+        if (input.readInt() != MAGIC || input.readUnsignedShort() != VERSION) {
+            throw new IOException("Not a bean definition index or unsupported version");
+        }
+        int size = input.readInt();
+        List<Entry> entries = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            String referenceName = input.readUTF();
+            String beanTypeName = input.readUTF();
+            String beanDefinitionName = input.readUTF();
+            int flags = input.readUnsignedByte();
+            int hierarchySize = input.readInt();
+            String[] typeHierarchy = null;
+            if (hierarchySize > -1) {
+                typeHierarchy = new String[hierarchySize];
+                for (int j = 0; j < hierarchySize; j++) {
+                    typeHierarchy[j] = input.readUTF();
+                }
+            }
+            entries.add(new Entry(referenceName, beanTypeName, beanDefinitionName, typeHierarchy, flags));
+        }
+        return entries;
+    }
+
+    /**
+     * Writes the entries of an index.
+     *
+     * @param entries      The entries
+     * @param outputStream The output stream
+     * @throws IOException If the index cannot be written
+     */
+    public static void write(Collection<Entry> entries, OutputStream outputStream) throws IOException {
+        DataOutputStream output = new DataOutputStream(new BufferedOutputStream(outputStream));
+        output.writeInt(MAGIC);
+        output.writeShort(VERSION);
+        output.writeInt(entries.size());
+        for (Entry entry : entries) {
+            output.writeUTF(entry.referenceName);
+            output.writeUTF(entry.beanTypeName);
+            output.writeUTF(entry.beanDefinitionName);
+            output.writeByte(entry.flags);
+            String[] typeHierarchy = entry.typeHierarchy;
+            if (typeHierarchy == null) {
+                output.writeInt(-1);
+            } else {
+                output.writeInt(typeHierarchy.length);
+                for (String typeName : typeHierarchy) {
+                    output.writeUTF(typeName);
+                }
+            }
+        }
+        output.flush();
+    }
+
+    /**
+     * An entry of the index that describes a single {@link BeanDefinitionReference}.
+     */
+    public static final class Entry {
+        private final String referenceName;
+        private final String beanTypeName;
+        private final String beanDefinitionName;
+        private final String[] typeHierarchy;
+        private final int flags;
+
+        /**
+         * @param referenceName            The name of the generated {@link BeanDefinitionReference} class
+         * @param beanTypeName             The bean type name
+         * @param beanDefinitionName       The name of the generated {@link BeanDefinition} class
+         * @param typeHierarchy            The names of the bean type and its super types, if known
+         * @param contextScope             Whether the bean is context scope
+         * @param requiresMethodProcessing Whether the bean requires method processing
+         * @param conditional              Whether the bean declares requirements
+         */
+        public Entry(
+            String referenceName,
+            String beanTypeName,
+            String beanDefinitionName,
+            @Nullable String[] typeHierarchy,
+            boolean contextScope,
+            boolean requiresMethodProcessing,
+            boolean conditional) {
+            this(
+                referenceName,
+                beanTypeName,
+                beanDefinitionName,
+                typeHierarchy,
+                (contextScope ? CONTEXT_SCOPE : 0) | (requiresMethodProcessing ? REQUIRES_METHOD_PROCESSING : 0) | (conditional ? CONDITIONAL : 0)
+            );
+        }
+
+        private Entry(String referenceName, String beanTypeName, String beanDefinitionName, String[] typeHierarchy, int flags) {
+            this.referenceName = referenceName;
+            this.beanTypeName = beanTypeName;
+            this.beanDefinitionName = beanDefinitionName;
+            this.typeHierarchy = typeHierarchy;
+            this.flags = flags;
+        }
+
+        /**
+         * @return The name of the generated {@link BeanDefinitionReference} class
+         */
+        public String getReferenceName() {
+            return referenceName;
+        }
+
+        /**
+         * @return The bean type name
+         */
+        public String getBeanTypeName() {
+            return beanTypeName;
+        }
+
+        /**
+         * @return The name of the generated {@link BeanDefinition} class
+         */
+        public String getBeanDefinitionName() {
+            return beanDefinitionName;
+        }
+
+        /**
+         * @return The names of the bean type and its super types or null if they are resolved at runtime
+         */
+        public @Nullable String[] getTypeHierarchy() {
+            return typeHierarchy;
+        }
+
+        /**
+         * @return Whether the bean is context scope
+         */
+        public boolean isContextScope() {
+            return (flags & CONTEXT_SCOPE) != 0;
+        }
+
+        /**
+         * @return Whether the bean requires method processing
+         */
+        public boolean requiresMethodProcessing() {
+            return (flags & REQUIRES_METHOD_PROCESSING) != 0;
+        }
+
+        /**
+         * @return Whether the bean declares requirements that have to be evaluated against the context
+         */
+        public boolean isConditional() {
+            return (flags & CONDITIONAL) != 0;
+        }
+    }
+}
@@ -19,6 +19,8 @@ package io.micronaut.inject;
 import io.micronaut.context.BeanContext;
 import io.micronaut.core.annotation.Internal;
 
+import javax.annotation.Nullable;
+
 /**
  * <p>A bean definition reference provides a reference to a {@link BeanDefinition} thus
  * allowing for soft loading of bean definitions without loading the actual types.</p>
@@ -72,4 +74,15 @@ public interface BeanDefinitionReference<T> extends BeanType<T> {
      * @return Is the underlying bean type present on the classpath
      */
     boolean isPresent();
+
+    /**
+     * The names of the bean type and all of its super classes and interfaces, computed at compile time so that beans
+     * can be indexed by type without loading the types. If {@code null} is returned the hierarchy is resolved from
+     * {@link #getBeanType()} instead.
+     *
+     * @return The names of the types the bean can be looked up by or {@code null} if they are not known
+     */
+    default @Nullable String[] getTypeHierarchy() {
+        return null;
+    }
 }
@@ -16,6 +16,7 @@
 
 package io.micronaut.inject.annotation;
 
+import io.micronaut.context.env.DefaultPropertyPlaceholderResolver;
 import io.micronaut.context.env.Environment;
 import io.micronaut.core.annotation.AnnotationMetadata;
 import io.micronaut.core.annotation.Internal;
@@ -25,6 +26,7 @@ import io.micronaut.core.util.StringUtils;
 import io.micronaut.core.value.OptionalValues;
 
 import javax.annotation.Nullable;
+import java.lang.annotation.Annotation;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -117,6 +119,23 @@ public abstract class AbstractEnvironmentAnnotationMetadata extends AbstractAnno
         return OptionalValues.empty();
     }
 
+    @Override
+    public <T> Optional<T> getValue(Class<? extends Annotation> annotation, String member, Class<T> requiredType) {
+        if (annotation == null) {
+            return AnnotationMetadata.super.getValue(annotation, member, requiredType);
+        }
+        return getValue(annotation.getName(), member, requiredType);
+    }
+
+    @Override
+    public <T> Optional<T> getValue(String annotation, String member, Class<T> requiredType) {
+        if (isEnvironmentDependent(annotation, member)) {
+            return AnnotationMetadata.super.getValue(annotation, member, requiredType);
+        }
+        // the target metadata caches the converted values
+        return annotationMetadata.getValue(annotation, member, requiredType);
+    }
+
     @Override
     public <T> Optional<T> getDefaultValue(String annotation, String member, Class<T> requiredType) {
         return annotationMetadata.getDefaultValue(annotation, member, requiredType);
@@ -130,6 +149,40 @@ public abstract class AbstractEnvironmentAnnotationMetadata extends AbstractAnno
      */
     protected abstract @Nullable Environment getEnvironment();
 
+    /**
+     * Whether the value of the given member may resolve differently for the environment, in which case it cannot be
+     * served from the values cached by the target metadata.
+     *
+     * @param annotation The annotation
+     * @param member     The member
+     * @return True if the value contains a property placeholder or nested annotation values
+     */
+    private boolean isEnvironmentDependent(String annotation, String member) {
+        if (getEnvironment() == null || StringUtils.isEmpty(annotation)) {
+            return false;
+        }
+        Map<String, Map<CharSequence, Object>> allAnnotations = annotationMetadata.allAnnotations;
+        if (allAnnotations == null) {
+            return false;
+        }
+        Map<CharSequence, Object> values = allAnnotations.get(annotation);
+        if (values == null && annotationMetadata.allStereotypes != null) {
+            values = annotationMetadata.allStereotypes.get(annotation);
+        }
+        Object value = values != null ? values.get(member) : null;
+        if (value instanceof CharSequence) {
+            return value.toString().contains(DefaultPropertyPlaceholderResolver.PREFIX);
+        } else if (value instanceof String[]) {
+            for (String str : (String[]) value) {
+                if (str != null && str.contains(DefaultPropertyPlaceholderResolver.PREFIX)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        return value instanceof AnnotationValue || value instanceof AnnotationValue[];
+    }
+
     private ConvertibleValues<Object> resolveValuesForEnvironment(String annotation, Map<String, Map<CharSequence, Object>> allAnnotations, Map<String, Map<CharSequence, Object>> allStereotypes) {
         if (StringUtils.isNotEmpty(annotation)) {
             if (allAnnotations != null) {
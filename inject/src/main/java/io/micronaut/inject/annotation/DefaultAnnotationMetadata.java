@@ -39,6 +39,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Default implementation of {@link AnnotationMetadata}.
@@ -87,6 +88,12 @@ public class DefaultAnnotationMetadata extends AbstractAnnotationMetadata implem
     Map<String, Map<CharSequence, Object>> allStereotypes;
     Map<String, List<String>> annotationsByStereotype;
 
+    /**
+     * The member values that have been converted to a required type, by annotation, member and type. Only the
+     * conversion is cached, checking for an annotation or stereotype is already a single lookup.
+     */
+    private volatile Map<String, Map<String, Map<Class, Optional>>> convertedValues;
+
     /**
      * Constructs empty annotation metadata.
      */
@@ -136,6 +143,32 @@ public class DefaultAnnotationMetadata extends AbstractAnnotationMetadata implem
         return Optional.empty();
     }
 
+    @Override
+    public <T> Optional<T> getValue(Class<? extends Annotation> annotation, String member, Class<T> requiredType) {
+        if (annotation == null) {
+            return AnnotationMetadata.super.getValue(annotation, member, requiredType);
+        }
+        return getValue(annotation.getName(), member, requiredType);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> Optional<T> getValue(String annotation, String member, Class<T> requiredType) {
+        if (StringUtils.isEmpty(annotation) || member == null || requiredType == null) {
+            return AnnotationMetadata.super.getValue(annotation, member, requiredType);
+        }
+        Map<Class, Optional> valuesByType = getConvertedValues(annotation, member);
+        Optional value = valuesByType.get(requiredType);
+        if (value == null) {
+            value = AnnotationMetadata.super.getValue(annotation, member, requiredType);
+            // a value that cannot be converted yet may be convertible once more converters are registered
+            if (value.isPresent() || !hasStereotype(annotation)) {
+                valuesByType.put(requiredType, value);
+            }
+        }
+        return value;
+    }
+
     @Override
     public boolean isEmpty() {
         return allAnnotations == null || allAnnotations.isEmpty();
@@ -363,6 +396,8 @@ public class DefaultAnnotationMetadata extends AbstractAnnotationMetadata implem
                                Map<String, Map<CharSequence, Object>> declaredAnnotations, Map<String,
         Map<CharSequence, Object>> allAnnotations,
                                boolean isDeclared) {
+        // the metadata is only mutated while it is built, before any values are looked up
+        convertedValues = null;
         if (isDeclared && declaredAnnotations != null) {
             putValues(annotation, values, declaredAnnotations);
         }
@@ -393,6 +428,31 @@ public class DefaultAnnotationMetadata extends AbstractAnnotationMetadata implem
         }
     }
 
+    private Map<Class, Optional> getConvertedValues(String annotation, String member) {
+        Map<String, Map<String, Map<Class, Optional>>> convertedValues = this.convertedValues;
+        if (convertedValues == null) {
+            convertedValues = new ConcurrentHashMap<>(4);
+            this.convertedValues = convertedValues;
+        }
+        Map<String, Map<Class, Optional>> valuesByMember = convertedValues.get(annotation);
+        if (valuesByMember == null) {
+            valuesByMember = new ConcurrentHashMap<>(4);
+            Map<String, Map<Class, Optional>> existing = convertedValues.putIfAbsent(annotation, valuesByMember);
+            if (existing != null) {
+                valuesByMember = existing;
+            }
+        }
+        Map<Class, Optional> valuesByType = valuesByMember.get(member);
+        if (valuesByType == null) {
+            valuesByType = new ConcurrentHashMap<>(2);
+            Map<Class, Optional> existing = valuesByMember.putIfAbsent(member, valuesByType);
+            if (existing != null) {
+                valuesByType = existing;
+            }
+        }
+        return valuesByType;
+    }
+
     private ConvertibleValues<Object> convertibleValuesOf(Map<CharSequence, Object> values) {
         return ConvertibleValues.of(values);
     }
@@ -18,20 +18,24 @@ package io.micronaut.inject.writer;
 
 import io.micronaut.core.annotation.Internal;
 import io.micronaut.core.util.StringUtils;
+import io.micronaut.inject.BeanDefinitionIndex;
 
 import java.io.BufferedReader;
 import java.io.BufferedWriter;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
 /**
- * Abstract implementation of the {@link ClassWriterOutputVisitor} interface that deals with service descriptors in a
- * common way across Java and Groovy.
+ * Abstract implementation of the {@link ClassWriterOutputVisitor} interface that deals with service descriptors and the
+ * {@link BeanDefinitionIndex} in a common way across Java and Groovy.
  *
  * @author graemerocher
  * @since 1.0
@@ -39,6 +43,7 @@ import java.util.Set;
 @Internal
 public abstract class AbstractClassWriterOutputVisitor implements ClassWriterOutputVisitor {
     private final Map<String, Set<String>> serviceDescriptors = new HashMap<>();
+    private final Map<String, BeanDefinitionIndex.Entry> indexEntries = new LinkedHashMap<>();
 
     @Override
     public final Map<String, Set<String>> getServiceEntries() {
@@ -52,6 +57,11 @@ public abstract class AbstractClassWriterOutputVisitor implements ClassWriterOut
         }
     }
 
+    @Override
+    public final void visitBeanDefinitionIndexEntry(BeanDefinitionIndex.Entry entry) {
+        indexEntries.put(entry.getReferenceName(), entry);
+    }
+
     @Override
     public final void finish() {
         Map<String, Set<String>> serviceEntries = getServiceEntries();
@@ -92,6 +102,34 @@ public abstract class AbstractClassWriterOutputVisitor implements ClassWriterOut
 
             }
         }
+
+        if (!indexEntries.isEmpty()) {
+            visitMetaInfFile(BeanDefinitionIndex.PATH).ifPresent(this::writeBeanDefinitionIndex);
+        }
+    }
+
+    private void writeBeanDefinitionIndex(GeneratedFile generatedFile) {
+        Map<String, BeanDefinitionIndex.Entry> entries = new LinkedHashMap<>();
+
+        // add the existing entries, replacing those that have been regenerated
+        try (InputStream inputStream = generatedFile.openInputStream()) {
+            for (BeanDefinitionIndex.Entry entry : BeanDefinitionIndex.read(inputStream)) {
+                entries.put(entry.getReferenceName(), entry);
+            }
+        } catch (FileNotFoundException x) {
+            // doesn't exist
+        } catch (java.nio.file.NoSuchFileException x) {
+            // doesn't exist
+        } catch (IOException x) {
+            throw new ClassGenerationException("Failed to load existing bean definition index: " + x);
+        }
+        entries.putAll(indexEntries);
+
+        try (OutputStream outputStream = generatedFile.openOutputStream()) {
+            BeanDefinitionIndex.write(entries.values(), outputStream);
+        } catch (IOException x) {
+            throw new ClassGenerationException("Failed to write bean definition index: " + x);
+        }
     }
 
 }
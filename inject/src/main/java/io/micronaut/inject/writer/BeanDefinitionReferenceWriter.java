@@ -17,9 +17,12 @@
 package io.micronaut.inject.writer;
 
 import io.micronaut.context.AbstractBeanDefinitionReference;
+import io.micronaut.context.annotation.Requirements;
+import io.micronaut.context.annotation.Requires;
 import io.micronaut.core.annotation.AnnotationMetadata;
 import io.micronaut.core.annotation.Internal;
 import io.micronaut.inject.BeanDefinition;
+import io.micronaut.inject.BeanDefinitionIndex;
 import io.micronaut.inject.BeanDefinitionReference;
 import org.objectweb.asm.ClassWriter;
 import org.objectweb.asm.MethodVisitor;
@@ -28,6 +31,7 @@ import org.objectweb.asm.commons.GeneratorAdapter;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.util.Collection;
 
 /**
  * Writes the bean definition class file to disk.
@@ -51,6 +55,7 @@ public class BeanDefinitionReferenceWriter extends AbstractAnnotationMetadataWri
     private String replaceBeanName;
     private boolean contextScope = false;
     private boolean requiresMethodProcessing;
+    private Collection<String> typeHierarchy;
 
     /**
      * @param beanTypeName       The bean type name
@@ -84,6 +89,15 @@ public class BeanDefinitionReferenceWriter extends AbstractAnnotationMetadataWri
             BeanDefinitionReference.class,
             beanDefinitionReferenceClassName
         );
+        outputVisitor.visitBeanDefinitionIndexEntry(new BeanDefinitionIndex.Entry(
+            beanDefinitionReferenceClassName,
+            beanTypeName,
+            beanDefinitionName,
+            typeHierarchy != null && !typeHierarchy.isEmpty() ? typeHierarchy.toArray(new String[0]) : null,
+            contextScope,
+            requiresMethodProcessing,
+            annotationMetadata.hasStereotype(Requirements.class) || annotationMetadata.hasStereotype(Requires.class)
+        ));
     }
 
     /**
@@ -113,6 +127,16 @@ public class BeanDefinitionReferenceWriter extends AbstractAnnotationMetadataWri
         this.requiresMethodProcessing = shouldPreProcess;
     }
 
+    /**
+     * Sets the names of the bean type and all of its super classes and interfaces, which allows the bean to be indexed
+     * by type at runtime without loading the types.
+     *
+     * @param typeHierarchy The names of the types
+     */
+    public void setTypeHierarchy(Collection<String> typeHierarchy) {
+        this.typeHierarchy = typeHierarchy;
+    }
+
     /**
      * Obtains the class name of the bean definition to be written. Java Annotation Processors need
      * this information to create a JavaFileObject using a Filer.
@@ -143,14 +167,23 @@ public class BeanDefinitionReferenceWriter extends AbstractAnnotationMetadataWri
         cv.push(beanTypeName);
         cv.push(beanDefinitionName);
 
-        // INVOKESPECIAL AbstractBeanDefinitionReference.<init> (Ljava/lang/String;)V
-        invokeConstructor(cv, AbstractBeanDefinitionReference.class, String.class, String.class);
+        if (typeHierarchy != null && !typeHierarchy.isEmpty()) {
+            int size = typeHierarchy.size();
+            pushNewArray(cv, String.class, size);
+            int i = 0;
+            for (String typeName : typeHierarchy) {
+                pushStoreStringInArray(cv, i++, size, typeName);
+            }
+        } else {
+            cv.visitInsn(ACONST_NULL);
+        }
+
+        // INVOKESPECIAL AbstractBeanDefinitionReference.<init> (Ljava/lang/String;Ljava/lang/String;[Ljava/lang/String;)V
+        invokeConstructor(cv, AbstractBeanDefinitionReference.class, String.class, String.class, String[].class);
 
         // RETURN
         cv.visitInsn(RETURN);
-        // MAXSTACK = 2
-        // MAXLOCALS = 1
-        cv.visitMaxs(2, 1);
+        cv.visitMaxs(DEFAULT_MAX_STACK, 1);
 
         // start method: BeanDefinition load()
         GeneratorAdapter loadMethod = startPublicMethodZeroArgs(classWriter, BeanDefinition.class, "load");
@@ -16,6 +16,8 @@
 
 package io.micronaut.inject.writer;
 
+import io.micronaut.inject.BeanDefinitionIndex;
+
 import java.io.IOException;
 import java.io.OutputStream;
 import java.util.Collections;
@@ -50,6 +52,15 @@ public interface ClassWriterOutputVisitor {
      */
     void visitServiceDescriptor(String type, String classname);
 
+    /**
+     * Allows adding an entry that will be written to the {@link BeanDefinitionIndex} of the module.
+     *
+     * @param entry The entry
+     */
+    default void visitBeanDefinitionIndexEntry(BeanDefinitionIndex.Entry entry) {
+        // no-op
+    }
+
     /**
      * Visit a file within the META-INF directory.
      *
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.context
+
+import spock.lang.Specification
+
+/**
+ * @since 1.0
+ */
+class StartupTimelineSpec extends Specification {
+
+    void "test steps are recorded until stopped"() {
+        given:
+        StartupTimeline timeline = new StartupTimeline()
+
+        when:
+        long start = timeline.begin()
+        timeline.end(StartupTimeline.BEAN, 'foo', start)
+        timeline.stop()
+        timeline.end(StartupTimeline.BEAN, 'bar', timeline.begin())
+
+        then:
+        timeline.steps.size() == 1
+        timeline.steps[0].type == StartupTimeline.BEAN
+        timeline.steps[0].name == 'foo'
+        timeline.steps[0].thread == Thread.currentThread().name
+        timeline.steps[0].duration >= 0
+        timeline.steps[0].dependencyChain.isEmpty()
+        !timeline.recording
+        timeline.endTime >= timeline.startTime
+    }
+
+    void "test recording stops once the maximum number of steps is reached"() {
+        given:
+        StartupTimeline timeline = new StartupTimeline(2)
+
+        when:
+        3.times { timeline.end(StartupTimeline.BEAN, "bean$it", timeline.begin()) }
+
+        then:
+        timeline.steps*.name == ['bean0', 'bean1']
+        !timeline.recording
+    }
+
+    void "test steps are appended once recording stopped"() {
+        given:
+        StartupTimeline timeline = new StartupTimeline()
+        timeline.stop()
+
+        when:
+        timeline.append(StartupTimeline.SERVER, 'server', System.nanoTime())
+
+        then:
+        timeline.steps*.type == [StartupTimeline.SERVER]
+        timeline.steps[0].duration >= 0
+        timeline.endTime >= timeline.startTime
+    }
+
+    void "test the bean context records its startup"() {
+        given:
+        DefaultBeanContext context = new DefaultBeanContext().start()
+
+        expect:
+        context.getBean(StartupTimeline).is(context.startupTimeline)
+        context.startupTimeline.steps*.type.containsAll([StartupTimeline.REFERENCES, StartupTimeline.CONTEXT])
+        !context.startupTimeline.recording
+
+        cleanup:
+        context.close()
+    }
+}
@@ -146,4 +146,64 @@ class PropertySourcePropertyResolverSpec extends Specification {
         resolver.getProperty('my.property', Properties).isPresent()
         resolver.getProperty('my.property', Properties).get() == properties
     }
+
+    void "test resolve nested properties by prefix"() {
+        given:
+        PropertySourcePropertyResolver resolver = new PropertySourcePropertyResolver(
+                PropertySource.of("test", [
+                        'datasources.zeta.url'  : 'jdbc:z',
+                        'datasources.alpha.url' : 'jdbc:a',
+                        'datasources.beta.url'  : 'jdbc:b',
+                        'datasourcesx.other.url': 'jdbc:x'
+                ])
+        )
+
+        expect:
+        resolver.containsProperties('datasources')
+        resolver.containsProperties('datasources.alpha')
+        !resolver.containsProperties('datasources.gamma')
+        !resolver.containsProperties('datasource')
+        resolver.getProperty('datasources', Map).get().keySet() as List == ['zeta', 'alpha', 'beta']
+        resolver.getProperty('datasources.alpha', Properties).get() == [url: 'jdbc:a'] as Properties
+    }
+
+    void "test resolved values are discarded when property sources are added"() {
+        given:
+        PropertySourcePropertyResolver resolver = new PropertySourcePropertyResolver(
+                PropertySource.of("test", ['foo.bar': '10'])
+        )
+
+        expect:
+        resolver.getProperty('foo.bar', Integer).get() == 10
+        resolver.getProperty('foo.bar', Integer).get() == 10
+        resolver.getProperty('foo.bar', String).get() == '10'
+        !resolver.containsProperties('foo.baz')
+
+        when:
+        resolver.addPropertySource(PropertySource.of("other", ['foo.bar': '20', 'foo.baz.qux': 'x']))
+
+        then:
+        resolver.getProperty('foo.bar', Integer).get() == 20
+        resolver.containsProperties('foo.baz')
+    }
+
+    void "test resolved values are discarded when the environment is refreshed"() {
+        given:
+        System.setProperty('resolver.cache.value', '10')
+        DefaultEnvironment env = new DefaultEnvironment("test").start()
+
+        expect:
+        env.getProperty('resolver.cache.value', Integer).get() == 10
+
+        when:
+        System.setProperty('resolver.cache.value', '20')
+        env.refresh()
+
+        then:
+        env.getProperty('resolver.cache.value', Integer).get() == 20
+
+        cleanup:
+        System.clearProperty('resolver.cache.value')
+        env.stop()
+    }
 }
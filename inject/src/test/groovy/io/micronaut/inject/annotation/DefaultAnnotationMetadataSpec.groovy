@@ -0,0 +1,98 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.inject.annotation
+
+import io.micronaut.context.annotation.Requires
+import io.micronaut.context.env.DefaultEnvironment
+import io.micronaut.context.env.Environment
+import io.micronaut.context.env.PropertySource
+import io.micronaut.core.annotation.AnnotationMetadata
+import spock.lang.Specification
+
+/**
+ * @since 1.0
+ */
+class DefaultAnnotationMetadataSpec extends Specification {
+
+    void "test converted member values are reused"() {
+        given:
+        DefaultAnnotationMetadata metadata = new DefaultAnnotationMetadata(
+                ['test.Foo': [value: '10', names: ['a', 'b'] as String[]]],
+                null,
+                null,
+                ['test.Foo': [value: '10', names: ['a', 'b'] as String[]], (Requires.name): [property: 'foo']],
+                null
+        )
+
+        when:
+        Optional<Integer> first = metadata.getValue('test.Foo', Integer)
+        Optional<Integer> second = metadata.getValue('test.Foo', Integer)
+
+        then:
+        first.get() == 10
+        second.is(first)
+        metadata.getValue('test.Foo', String).get() == '10'
+        metadata.getValue('test.Foo', 'names', String[]).get() == ['a', 'b'] as String[]
+        metadata.getValue(Requires, 'property', String).get() == 'foo'
+        metadata.getValue(Requires, 'property', String).is(metadata.getValue(Requires.name, 'property', String))
+        !metadata.getValue('test.Foo', 'missing', String).isPresent()
+        !metadata.getValue('test.Bar', String).isPresent()
+    }
+
+    void "test converted member values are discarded when the metadata changes"() {
+        given:
+        DefaultAnnotationMetadata metadata = new DefaultAnnotationMetadata()
+        metadata.addDeclaredAnnotation('test.Foo', [value: 'one'])
+
+        expect:
+        metadata.getValue('test.Foo', String).get() == 'one'
+        !metadata.getValue('test.Foo', 'other', String).isPresent()
+
+        when:
+        metadata.addDeclaredAnnotation('test.Foo', [other: 'two'])
+
+        then:
+        metadata.getValue('test.Foo', 'other', String).get() == 'two'
+    }
+
+    void "test environment aware metadata only resolves values with placeholders for the environment"() {
+        given:
+        DefaultAnnotationMetadata target = new DefaultAnnotationMetadata(
+                ['test.Foo': [value: '10', name: '${foo.name}']],
+                null,
+                null,
+                ['test.Foo': [value: '10', name: '${foo.name}']],
+                null
+        )
+        Environment environment = new DefaultEnvironment('test')
+        environment.addPropertySource(PropertySource.of('test', ['foo.name': 'resolved']))
+        environment.start()
+        AnnotationMetadata metadata = new AbstractEnvironmentAnnotationMetadata(target) {
+            @Override
+            protected Environment getEnvironment() {
+                return environment
+            }
+        }
+
+        expect:
+        metadata.getValue('test.Foo', 'name', String).get() == 'resolved'
+        metadata.getValue('test.Foo', Integer).get() == 10
+        metadata.getValue('test.Foo', Integer).is(target.getValue('test.Foo', Integer))
+
+        cleanup:
+        environment.stop()
+    }
+}
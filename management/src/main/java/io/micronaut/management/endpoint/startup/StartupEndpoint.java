@@ -0,0 +1,79 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.management.endpoint.startup;
+
+import io.micronaut.context.StartupTimeline;
+import io.micronaut.management.endpoint.Endpoint;
+import io.micronaut.management.endpoint.Read;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>Exposes an {@link Endpoint} that displays the {@link StartupTimeline} of the application, including the wall
+ * time, thread and dependency chain of each bean created while starting.</p>
+ *
+ * @since 1.0
+ */
+@Endpoint("startup")
+public class StartupEndpoint {
+
+    private static final double NANOS_PER_MILLI = 1_000_000d;
+
+    private final StartupTimeline timeline;
+
+    /**
+     * @param timeline The {@link StartupTimeline}
+     */
+    public StartupEndpoint(StartupTimeline timeline) {
+        this.timeline = timeline;
+    }
+
+    /**
+     * @return The startup timeline
+     */
+    @Read
+    public Map<String, Object> getStartup() {
+        Map<String, Object> startup = new LinkedHashMap<>(4);
+        long startTime = timeline.getStartTime();
+        long endTime = timeline.getEndTime();
+        startup.put("startTime", startTime);
+        if (endTime > -1) {
+            startup.put("duration", endTime - startTime);
+        }
+        List<StartupTimeline.Step> steps = new ArrayList<>(timeline.getSteps());
+        steps.sort(Comparator.comparingLong(StartupTimeline.Step::getStart));
+        List<Map<String, Object>> data = new ArrayList<>(steps.size());
+        for (StartupTimeline.Step step : steps) {
+            Map<String, Object> stepData = new LinkedHashMap<>(6);
+            stepData.put("type", step.getType());
+            stepData.put("name", step.getName());
+            stepData.put("thread", step.getThread());
+            stepData.put("start", step.getStart() / NANOS_PER_MILLI);
+            stepData.put("duration", step.getDuration() / NANOS_PER_MILLI);
+            if (!step.getDependencyChain().isEmpty()) {
+                stepData.put("dependencyChain", step.getDependencyChain());
+            }
+            data.add(stepData);
+        }
+        startup.put("steps", data);
+        return startup;
+    }
+}
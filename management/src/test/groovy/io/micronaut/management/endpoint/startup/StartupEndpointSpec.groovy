@@ -0,0 +1,79 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.management.endpoint.routes
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.StartupTimeline
+import io.micronaut.context.annotation.Context
+import io.micronaut.context.annotation.Requires
+import io.micronaut.http.HttpStatus
+import io.micronaut.http.client.RxHttpClient
+import io.micronaut.runtime.server.EmbeddedServer
+import spock.lang.Specification
+
+import javax.inject.Singleton
+
+/**
+ * @since 1.0
+ */
+class StartupEndpointSpec extends Specification {
+
+    void "test startup endpoint"() {
+        given:
+        EmbeddedServer embeddedServer = ApplicationContext.run(EmbeddedServer, ['spec.name': getClass().simpleName, 'endpoints.startup.sensitive': false], "test")
+        RxHttpClient rxClient = embeddedServer.applicationContext.createBean(RxHttpClient, embeddedServer.getURL())
+
+        when:
+        def response = rxClient.exchange("/startup", Map).blockingFirst()
+        Map result = response.body()
+        List<Map> steps = result.steps
+
+        then:
+        response.code() == HttpStatus.OK.code
+        result.startTime > 0
+        steps.find { it.type == StartupTimeline.ENVIRONMENT }
+        steps.find { it.type == StartupTimeline.REFERENCES }
+        steps.find { it.type == StartupTimeline.SERVER }
+        steps.find { it.type == StartupTimeline.CONDITION && it.name.contains(StartupService.name) }
+
+        when:
+        Map service = steps.find { it.type == StartupTimeline.BEAN && it.name == StartupService.name }
+
+        then:
+        service.duration >= 0
+        service.thread
+        service.dependencyChain == [StartupBean.name]
+
+        cleanup:
+        rxClient.close()
+        embeddedServer?.close()
+    }
+
+    @Context
+    @Requires(property = 'spec.name', value = 'StartupEndpointSpec')
+    static class StartupBean {
+        final StartupService service
+
+        StartupBean(StartupService service) {
+            this.service = service
+        }
+    }
+
+    @Singleton
+    @Requires(property = 'spec.name', value = 'StartupEndpointSpec')
+    static class StartupService {
+    }
+}
@@ -23,6 +23,8 @@ import io.micronaut.core.util.Toggleable;
 import io.micronaut.http.HttpMethod;
 import io.micronaut.http.filter.HttpFilter;
 
+import javax.annotation.Nullable;
+
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -41,6 +43,8 @@ import java.util.function.Supplier;
  */
 class DefaultFilterRoute implements FilterRoute {
 
+    private static final String MATCH_ALL_PATTERN = "/**";
+
     final List<String> patterns = new ArrayList<>(1);
     final Supplier<HttpFilter> filterSupplier;
     Set<HttpMethod> httpMethods;
@@ -77,16 +81,53 @@ class DefaultFilterRoute implements FilterRoute {
         String uriStr = uri.toString();
         for (String pattern : patterns) {
             if (PathMatcher.ANT.matches(pattern, uriStr)) {
-                HttpFilter filter = getFilter();
-                if (filter instanceof Toggleable && !((Toggleable) filter).isEnabled()) {
-                    return Optional.empty();
-                }
-                return Optional.of(filter);
+                return Optional.ofNullable(getEnabledFilter());
             }
         }
         return Optional.empty();
     }
 
+    /**
+     * @return The filter or null if it is disabled
+     */
+    HttpFilter getEnabledFilter() {
+        HttpFilter filter = getFilter();
+        if (filter instanceof Toggleable && !((Toggleable) filter).isEnabled()) {
+            return null;
+        }
+        return filter;
+    }
+
+    /**
+     * Determines from the template of the given route whether the requests matched by the route also match this
+     * filter route. Only the literal segments at the start of the template and the patterns are compared, such that
+     * the outcome holds for any request URI starting with a slash that the route matches.
+     *
+     * @param route The route
+     * @return {@link Boolean#TRUE} if all of the requests match, {@link Boolean#FALSE} if none of them match or
+     * null if it depends on the request
+     */
+    @Nullable
+    Boolean matches(UriRoute route) {
+        List<String> routeSegments = resolveLiteralSegments(route.getUriMatchTemplate().toString(), true);
+        boolean undecided = false;
+        for (String pattern : patterns) {
+            if (MATCH_ALL_PATTERN.equals(pattern)) {
+                return Boolean.TRUE;
+            }
+            if (!undecided) {
+                if (pattern.isEmpty() || pattern.charAt(0) != '/') {
+                    undecided = true;
+                } else {
+                    List<String> patternSegments = resolveLiteralSegments(pattern, false);
+                    int len = Math.min(routeSegments.size(), patternSegments.size());
+                    undecided = routeSegments.subList(0, len).equals(patternSegments.subList(0, len));
+                }
+            }
+        }
+        return undecided ? null : Boolean.FALSE;
+    }
+
     @Override
     public FilterRoute pattern(String pattern) {
         if (StringUtils.isNotEmpty(pattern)) {
@@ -105,4 +146,41 @@ class DefaultFilterRoute implements FilterRoute {
         }
         return this;
     }
+
+    /**
+     * Resolves the leading segments of a path that only contain characters which are matched literally and are not
+     * altered by decoding the path.
+     *
+     * @param path       The path
+     * @param terminated Whether only the segments followed by a slash are resolved
+     * @return The segments
+     */
+    private static List<String> resolveLiteralSegments(String path, boolean terminated) {
+        List<String> segments = new ArrayList<>(4);
+        int len = path.length();
+        if (len == 0 || path.charAt(0) != '/') {
+            return segments;
+        }
+        int start = 1;
+        for (int i = start; i < len; i++) {
+            char c = path.charAt(i);
+            if (c == '/') {
+                if (i == start) {
+                    return segments;
+                }
+                segments.add(path.substring(start, i));
+                start = i + 1;
+            } else if (!isLiteral(c)) {
+                return segments;
+            }
+        }
+        if (!terminated && start < len) {
+            segments.add(path.substring(start));
+        }
+        return segments;
+    }
+
+    private static boolean isLiteral(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '-' || c == '_' || c == '~';
+    }
 }
@@ -19,14 +19,18 @@ package io.micronaut.web.router;
 import io.micronaut.context.ApplicationContext;
 import io.micronaut.context.ExecutionHandleLocator;
 import io.micronaut.context.env.Environment;
+import io.micronaut.core.annotation.AnnotationUtil;
+import io.micronaut.core.bind.annotation.Bindable;
 import io.micronaut.core.convert.ConversionService;
 import io.micronaut.core.naming.NameUtils;
 import io.micronaut.core.naming.conventions.TypeConvention;
+import io.micronaut.core.type.Argument;
 import io.micronaut.core.util.StringUtils;
 import io.micronaut.http.HttpMethod;
 import io.micronaut.http.HttpRequest;
 import io.micronaut.http.HttpStatus;
 import io.micronaut.http.MediaType;
+import io.micronaut.http.annotation.Body;
 import io.micronaut.http.annotation.Produces;
 import io.micronaut.http.filter.HttpFilter;
 import io.micronaut.http.uri.UriMatchInfo;
@@ -36,6 +40,7 @@ import io.micronaut.web.router.exceptions.RoutingException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.lang.annotation.Annotation;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
@@ -353,6 +358,10 @@ public abstract class DefaultRouteBuilder implements RouteBuilder {
         protected List<MediaType> acceptedMediaTypes;
         protected List<MediaType> producesMediaTypes;
         protected String bodyArgument;
+        // resolved once since the arguments of the target method never change
+        final String[] inputNames;
+        final Map<String, Argument> requiredInputs;
+        final Argument<?> annotatedBodyArgument;
 
         /**
          * @param targetMethod The target method execution handle
@@ -369,6 +378,21 @@ public abstract class DefaultRouteBuilder implements RouteBuilder {
                     .map(MediaType::new)
                     .collect(Collectors.toList());
             }
+
+            Argument[] arguments = targetMethod.getArguments();
+            Map<String, Argument> inputs = new LinkedHashMap<>(arguments.length);
+            Argument<?> body = null;
+            this.inputNames = new String[arguments.length];
+            for (int i = 0; i < arguments.length; i++) {
+                Argument argument = arguments[i];
+                inputNames[i] = resolveInputName(argument);
+                inputs.put(inputNames[i], argument);
+                if (body == null && argument.getAnnotation(Body.class) != null) {
+                    body = argument;
+                }
+            }
+            this.requiredInputs = Collections.unmodifiableMap(inputs);
+            this.annotatedBodyArgument = body;
         }
 
         @Override
@@ -425,6 +449,19 @@ public abstract class DefaultRouteBuilder implements RouteBuilder {
         public MethodExecutionHandle getTargetMethod() {
             return this.targetMethod;
         }
+
+        private String resolveInputName(Argument argument) {
+            Optional<Annotation> ann = argument.findAnnotationWithStereoType(Bindable.class);
+            return ann.map(annotation -> {
+                Optional<String> value = AnnotationUtil.findValueOfType(annotation, String.class);
+                return value.map(s -> {
+                    if (StringUtils.isEmpty(s)) {
+                        return argument.getName();
+                    }
+                    return s;
+                }).orElse(argument.getName());
+            }).orElse(argument.getName());
+        }
     }
 
     /**
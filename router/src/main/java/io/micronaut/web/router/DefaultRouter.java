@@ -18,6 +18,7 @@ package io.micronaut.web.router;
 
 import io.micronaut.core.order.OrderUtil;
 import io.micronaut.core.reflect.ClassUtils;
+import io.micronaut.http.HttpAttributes;
 import io.micronaut.http.HttpMethod;
 import io.micronaut.http.HttpRequest;
 import io.micronaut.http.HttpStatus;
@@ -26,12 +27,13 @@ import io.micronaut.http.filter.HttpFilter;
 import javax.inject.Singleton;
 import java.net.URI;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 /**
- * <p>The default {@link Router} implementation. This implementation does not perform any additional caching of
- * route discovery.</p>
+ * <p>The default {@link Router} implementation. The URI routes of each HTTP method are indexed by the literal path
+ * segments of their templates so that only routes sharing the request path's leading segments are matched.</p>
  *
  * @author Graeme Rocher
  * @since 1.0
@@ -40,9 +42,11 @@ import java.util.stream.Stream;
 public class DefaultRouter implements Router {
 
     private final UriRoute[][] routesByMethod = new UriRoute[HttpMethod.values().length][];
+    private final UriRouteIndex[] indexByMethod = new UriRouteIndex[HttpMethod.values().length];
     private final SortedSet<StatusRoute> routesByStatus = new TreeSet<>();
     private final Collection<FilterRoute> filterRoutes = new ArrayList<>();
     private final SortedSet<ErrorRoute> errorRoutes = new TreeSet<>();
+    private final Map<UriRoute, RouteFilters> filtersByRoute = new ConcurrentHashMap<>();
 
     /**
      * Construct a new router for the given route builders.
@@ -133,16 +137,18 @@ public class DefaultRouter implements Router {
                 default:
                     // no-op
             }
+            indexByMethod[method.ordinal()] = new UriRouteIndex(routesByMethod[method.ordinal()]);
         }
     }
 
     @SuppressWarnings("unchecked")
     @Override
     public <T> Stream<UriRouteMatch<T>> find(HttpMethod httpMethod, CharSequence uri) {
-        UriRoute[] routes = routesByMethod[httpMethod.ordinal()];
+        String uriString = uri.toString();
+        UriRoute[] routes = indexByMethod[httpMethod.ordinal()].candidates(uriString);
         return Arrays
             .stream(routes)
-            .map((route -> route.match(uri.toString())))
+            .map((route -> route.match(uriString)))
             .filter(Optional::isPresent)
             .map(Optional::get);
     }
@@ -154,18 +160,18 @@ public class DefaultRouter implements Router {
             .flatMap(Arrays::stream);
     }
 
+    @SuppressWarnings("unchecked")
     @Override
     public <T> Optional<UriRouteMatch<T>> route(HttpMethod httpMethod, CharSequence uri) {
-        UriRoute[] routes = routesByMethod[httpMethod.ordinal()];
-        Optional<UriRouteMatch> result = Arrays
-            .stream(routes)
-            .map((route -> route.match(uri.toString())))
-            .filter(Optional::isPresent)
-            .map(Optional::get)
-            .findFirst();
-
-        UriRouteMatch match = result.orElse(null);
-        return Optional.ofNullable(match);
+        String uriString = uri.toString();
+        UriRoute[] routes = indexByMethod[httpMethod.ordinal()].candidates(uriString);
+        for (UriRoute route : routes) {
+            Optional<UriRouteMatch> match = route.match(uriString);
+            if (match.isPresent()) {
+                return (Optional) match;
+            }
+        }
+        return Optional.empty();
     }
 
     @Override
@@ -221,9 +227,13 @@ public class DefaultRouter implements Router {
 
     @Override
     public List<HttpFilter> findFilters(HttpRequest<?> request) {
-        List<HttpFilter> httpFilters = new ArrayList<>();
         HttpMethod method = request.getMethod();
         URI uri = request.getUri();
+        Object route = request.getAttribute(HttpAttributes.ROUTE).orElse(null);
+        if (route instanceof UriRoute && uri.toString().startsWith("/")) {
+            return findFilters(resolveRouteFilters((UriRoute) route), method, uri);
+        }
+        List<HttpFilter> httpFilters = new ArrayList<>();
         for (FilterRoute filterRoute : filterRoutes) {
             Optional<HttpFilter> match = filterRoute.match(method, uri);
             match.ifPresent(httpFilters::add);
@@ -248,6 +258,64 @@ public class DefaultRouter implements Router {
             .map(Optional::get);
     }
 
+    private List<HttpFilter> findFilters(RouteFilters routeFilters, HttpMethod method, URI uri) {
+        FilterRoute[] candidates = routeFilters.filterRoutes;
+        int len = candidates.length;
+        List<HttpFilter> httpFilters = null;
+        for (int i = 0; i < len; i++) {
+            HttpFilter filter;
+            if (routeFilters.matchRequired[i]) {
+                filter = candidates[i].match(method, uri).orElse(null);
+            } else {
+                filter = ((DefaultFilterRoute) candidates[i]).getEnabledFilter();
+            }
+            if (filter != null) {
+                if (httpFilters == null) {
+                    httpFilters = new ArrayList<>(len - i);
+                }
+                httpFilters.add(filter);
+            }
+        }
+        return httpFilters != null ? Collections.unmodifiableList(httpFilters) : Collections.emptyList();
+    }
+
+    /**
+     * Resolves the filter routes that may match the requests to the given route, which are computed once per route and
+     * ordered by their filters such that they don't have to be sorted for each request.
+     *
+     * @param route The route
+     * @return The filter routes
+     */
+    private RouteFilters resolveRouteFilters(UriRoute route) {
+        RouteFilters routeFilters = filtersByRoute.get(route);
+        if (routeFilters == null) {
+            List<FilterRoute> candidates = new ArrayList<>(filterRoutes.size());
+            Set<FilterRoute> matchingAll = new HashSet<>();
+            for (FilterRoute filterRoute : filterRoutes) {
+                Boolean matches = filterRoute instanceof DefaultFilterRoute ? ((DefaultFilterRoute) filterRoute).matches(route) : null;
+                if (matches != Boolean.FALSE) {
+                    candidates.add(filterRoute);
+                    if (matches == Boolean.TRUE) {
+                        matchingAll.add(filterRoute);
+                    }
+                }
+            }
+            // a stable sort retains the order in which the filter routes were added for filters of the same order
+            candidates.sort((r1, r2) -> OrderUtil.COMPARATOR.compare(r1.getFilter(), r2.getFilter()));
+            int len = candidates.size();
+            boolean[] matchRequired = new boolean[len];
+            for (int i = 0; i < len; i++) {
+                matchRequired[i] = !matchingAll.contains(candidates.get(i));
+            }
+            routeFilters = new RouteFilters(candidates.toArray(new FilterRoute[len]), matchRequired);
+            RouteFilters existing = filtersByRoute.putIfAbsent(route, routeFilters);
+            if (existing != null) {
+                routeFilters = existing;
+            }
+        }
+        return routeFilters;
+    }
+
     private UriRoute[] finalizeRoutes(List<UriRoute> routes) {
         Collections.sort(routes);
         Collections.reverse(routes);
@@ -285,4 +353,21 @@ public class DefaultRouter implements Router {
         }
         return Optional.empty();
     }
+
+    /**
+     * The filter routes that may match the requests to a route.
+     */
+    private static final class RouteFilters {
+        final FilterRoute[] filterRoutes;
+        final boolean[] matchRequired;
+
+        /**
+         * @param filterRoutes  The filter routes in the order of their filters
+         * @param matchRequired Whether each of the filter routes has to be matched against the request
+         */
+        RouteFilters(FilterRoute[] filterRoutes, boolean[] matchRequired) {
+            this.filterRoutes = filterRoutes;
+            this.matchRequired = matchRequired;
+        }
+    }
 }
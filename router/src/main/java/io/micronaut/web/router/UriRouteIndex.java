@@ -0,0 +1,138 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.web.router;
+
+import io.micronaut.core.annotation.Internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>A prefix tree of {@link UriRoute} instances keyed by the literal path segments at the start of each route's
+ * {@link io.micronaut.http.uri.UriMatchTemplate}.</p>
+ *
+ * <p>The tree is built once from routes that are already in precedence order. Looking up a URI walks the tree one
+ * path segment at a time using hash lookups and returns the candidate routes that could match, still in precedence
+ * order, so that only those candidates have to be matched against their regular expression.</p>
+ *
+ * @since 1.0
+ */
+@Internal
+final class UriRouteIndex {
+
+    private static final UriRoute[] NO_ROUTES = new UriRoute[0];
+
+    private final Node root = new Node();
+
+    /**
+     * @param routes The routes in the order in which they should be matched
+     */
+    UriRouteIndex(UriRoute[] routes) {
+        for (int i = 0; i < routes.length; i++) {
+            Node node = root;
+            for (String segment : literalSegments(routes[i])) {
+                node = node.children.computeIfAbsent(segment, s -> new Node());
+            }
+            node.positions.add(i);
+        }
+        root.complete(routes, Collections.emptyList());
+    }
+
+    /**
+     * Finds the routes that may match the given URI. The returned array should not be modified.
+     *
+     * @param uri The URI
+     * @return The candidate routes in the order in which they should be matched
+     */
+    UriRoute[] candidates(String uri) {
+        Node node = root;
+        int len = uri.indexOf('?');
+        if (len == -1) {
+            len = uri.length();
+        }
+        if (len > 0 && uri.charAt(0) == '/') {
+            int start = 1;
+            int end = uri.indexOf('/', start);
+            while (end > -1 && end < len && !node.children.isEmpty()) {
+                Node child = node.children.get(uri.substring(start, end));
+                if (child == null) {
+                    break;
+                }
+                node = child;
+                start = end + 1;
+                end = uri.indexOf('/', start);
+            }
+        }
+        return node.routes;
+    }
+
+    /**
+     * Only segments followed by a forward slash are considered, since the last literal segment of a template may be
+     * continued by a variable (for example {@code /book{/id}}).
+     *
+     * @param route The route
+     * @return The complete literal segments at the start of the route's template
+     */
+    private static List<String> literalSegments(UriRoute route) {
+        String prefix = route.getUriMatchTemplate().getLiteralPrefix();
+        if (prefix.isEmpty() || prefix.charAt(0) != '/') {
+            return Collections.emptyList();
+        }
+        List<String> segments = new ArrayList<>();
+        int start = 1;
+        int end;
+        while ((end = prefix.indexOf('/', start)) > -1) {
+            segments.add(prefix.substring(start, end));
+            start = end + 1;
+        }
+        return segments;
+    }
+
+    /**
+     * A node of the tree.
+     */
+    private static final class Node {
+        private final Map<String, Node> children = new HashMap<>();
+        private final List<Integer> positions = new ArrayList<>();
+        private UriRoute[] routes = NO_ROUTES;
+
+        /**
+         * Resolves the routes of this node and its children. The routes of a node are the routes registered for the
+         * node itself together with those of its ancestors, ordered by their original position.
+         *
+         * @param allRoutes         All the routes
+         * @param ancestorPositions The positions registered by the ancestors, in ascending order
+         */
+        void complete(UriRoute[] allRoutes, List<Integer> ancestorPositions) {
+            List<Integer> merged = new ArrayList<>(ancestorPositions.size() + positions.size());
+            merged.addAll(ancestorPositions);
+            merged.addAll(positions);
+            Collections.sort(merged);
+            UriRoute[] resolved = new UriRoute[merged.size()];
+            for (int i = 0; i < resolved.length; i++) {
+                resolved[i] = allRoutes[merged.get(i)];
+            }
+            this.routes = resolved;
+            for (Node child : children.values()) {
+                child.complete(allRoutes, merged);
+            }
+        }
+    }
+}
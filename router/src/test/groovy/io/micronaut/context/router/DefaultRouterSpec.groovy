@@ -0,0 +1,198 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.context.router
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.DefaultApplicationContext
+import io.micronaut.http.HttpAttributes
+import io.micronaut.http.HttpMethod
+import io.micronaut.http.HttpRequest
+import io.micronaut.http.MutableHttpResponse
+import io.micronaut.http.annotation.Controller
+import io.micronaut.http.annotation.Filter
+import io.micronaut.http.annotation.Get
+import io.micronaut.http.annotation.Post
+import io.micronaut.http.filter.HttpFilter
+import io.micronaut.http.filter.HttpServerFilter
+import io.micronaut.http.filter.ServerFilterChain
+import io.micronaut.web.router.Router
+import io.micronaut.web.router.UriRoute
+import io.micronaut.web.router.UriRouteMatch
+import org.reactivestreams.Publisher
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.util.stream.Collectors
+
+/**
+ * @since 1.0
+ */
+class DefaultRouterSpec extends Specification {
+
+    @Shared @AutoCleanup ApplicationContext context = new DefaultApplicationContext("test").start()
+    @Shared Router router = context.getBean(Router)
+
+    @Unroll
+    void "test route #method #uri resolves to #result"() {
+        when:
+        Optional<UriRouteMatch> match = router.route(method, uri)
+
+        then:
+        match.isPresent() == (result != null)
+        !match.isPresent() || match.get().execute(match.get().variables) == result
+
+        where:
+        method          | uri                          | result
+        HttpMethod.GET  | '/library/books/featured'    | 'featured'
+        HttpMethod.GET  | '/library/books/featured/'   | 'featured'
+        HttpMethod.GET  | '/library/books/featured?x=1'| 'featured'
+        HttpMethod.GET  | '/library/books/10'          | 'book 10'
+        HttpMethod.GET  | '/library/books/10/pages/2'  | 'book 10 page 2'
+        HttpMethod.GET  | '/library/books'             | 'books'
+        HttpMethod.GET  | '/library/shelf'             | 'shelf '
+        HttpMethod.GET  | '/library/shelf/a/b'         | 'shelf a/b'
+        HttpMethod.GET  | '/library/missing/a'         | null
+        HttpMethod.GET  | '/librarian'                 | null
+        HttpMethod.POST | '/library/books/featured'    | 'save featured'
+        HttpMethod.PUT  | '/library/books/featured'    | null
+    }
+
+    void "test find returns all matching routes in precedence order"() {
+        when:
+        List<String> templates = router.find(HttpMethod.GET, '/library/books/featured')
+                .map({ UriRouteMatch m -> m.route.uriMatchTemplate.toString() })
+                .collect(Collectors.toList())
+
+        then:
+        templates == ['/library/books/featured', '/library/books/{id}']
+    }
+
+    @Unroll
+    void "test filters for #uri are resolved from the route"() {
+        given:
+        UriRoute route = router.route(HttpMethod.GET, uri).get().route
+        HttpRequest routed = Stub(HttpRequest) {
+            getMethod() >> HttpMethod.GET
+            getUri() >> URI.create(uri)
+            getAttribute(HttpAttributes.ROUTE) >> Optional.of(route)
+        }
+        HttpRequest unrouted = Stub(HttpRequest) {
+            getMethod() >> HttpMethod.GET
+            getUri() >> URI.create(uri)
+        }
+
+        when:
+        List<HttpFilter> filters = router.findFilters(routed)
+
+        then:
+        filters.findAll { it instanceof TestFilter }*.getClass() == result
+        router.findFilters(unrouted) == filters
+        router.findFilters(routed) == filters
+
+        where:
+        uri                          | result
+        '/library/books/featured'    | [BooksFilter, AllFilter]
+        '/library/books/10'          | [BooksFilter, BookFilter, AllFilter]
+        '/library/books/10/pages/2'  | [BooksFilter, AllFilter]
+        '/library/books/10?x=1'      | [BooksFilter, AllFilter]
+        '/library/books'             | [BooksFilter, AllFilter]
+        '/library/shelf/a/b'         | [AllFilter, ShelfFilter]
+    }
+
+    @Controller('/library')
+    static class LibraryController {
+
+        @Get('/books')
+        String books() {
+            'books'
+        }
+
+        @Get('/books/featured')
+        String featured() {
+            'featured'
+        }
+
+        @Post('/books/{title}')
+        String save(String title) {
+            "save $title"
+        }
+
+        @Get('/books/{id}')
+        String book(String id) {
+            "book $id"
+        }
+
+        @Get('/books/{id}/pages/{page}')
+        String page(String id, String page) {
+            "book $id page $page"
+        }
+
+        @Get('/shelf{/path:.*}')
+        String shelf(String path) {
+            "shelf $path"
+        }
+    }
+
+    @Filter('/**')
+    static class AllFilter extends TestFilter {
+        AllFilter() {
+            super(10)
+        }
+    }
+
+    @Filter('/library/books/**')
+    static class BooksFilter extends TestFilter {
+        BooksFilter() {
+            super(0)
+        }
+    }
+
+    @Filter('/library/books/?0')
+    static class BookFilter extends TestFilter {
+        BookFilter() {
+            super(5)
+        }
+    }
+
+    @Filter(['/library/shelf/**', '/other/**'])
+    static class ShelfFilter extends TestFilter {
+        ShelfFilter() {
+            super(20)
+        }
+    }
+
+    @Filter('/other/**')
+    static class OtherFilter extends TestFilter {
+        OtherFilter() {
+            super(-10)
+        }
+    }
+
+    static abstract class TestFilter implements HttpServerFilter {
+        final int order
+
+        TestFilter(int order) {
+            this.order = order
+        }
+
+        @Override
+        Publisher<MutableHttpResponse<?>> doFilter(HttpRequest<?> request, ServerFilterChain chain) {
+            chain.proceed(request)
+        }
+    }
+}
@@ -47,6 +47,7 @@ public class CacheConfiguration {
     private Long maximumWeight;
     private Duration expireAfterWrite;
     private Duration expireAfterAccess;
+    private Duration refreshAfterWrite;
     private boolean testMode = false;
     private final String cacheName;
 
@@ -107,6 +108,16 @@ public class CacheConfiguration {
         return Optional.ofNullable(expireAfterAccess);
     }
 
+    /**
+     * Specifies that an entry should be reloaded once a fixed duration has elapsed after it was written. The stale
+     * value continues to be returned while the new value is loaded in the background.
+     *
+     * @return The {@link Duration}
+     */
+    public Optional<Duration> getRefreshAfterWrite() {
+        return Optional.ofNullable(refreshAfterWrite);
+    }
+
     /**
      * @return The charset used to serialize and deserialize values
      */
@@ -153,6 +164,13 @@ public class CacheConfiguration {
         this.expireAfterAccess = expireAfterAccess;
     }
 
+    /**
+     * @param refreshAfterWrite The duration after writing an entry at which it is reloaded in the background
+     */
+    public void setRefreshAfterWrite(Duration refreshAfterWrite) {
+        this.refreshAfterWrite = refreshAfterWrite;
+    }
+
     /**
      * @param charset The charset used to serialize and deserialize values
      */
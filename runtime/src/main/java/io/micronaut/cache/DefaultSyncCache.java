@@ -16,7 +16,10 @@
 
 package io.micronaut.cache;
 
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.CacheWriter;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
 import com.github.benmanes.caffeine.cache.Weigher;
 import io.micronaut.context.ApplicationContext;
 import io.micronaut.context.annotation.EachBean;
@@ -25,8 +28,11 @@ import io.micronaut.core.convert.ConversionService;
 import io.micronaut.core.type.Argument;
 import io.micronaut.inject.qualifiers.Qualifiers;
 
+import javax.annotation.Nullable;
+import java.time.Duration;
+import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.Executor;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
@@ -35,6 +41,11 @@ import java.util.function.Supplier;
  * <p>
  * <p>Since Caffeine is a non-blocking in-memory cache the {@link #async()} method will return an implementation that
  * runs operations in the current thread.</p>
+ * <p>
+ * <p>If {@link CacheConfiguration#getRefreshAfterWrite()} is configured, values that are older than the duration are
+ * reloaded in the background with the reloader passed to {@link #get(Object, Argument, Supplier, Supplier)} when the
+ * value was loaded, while the stale value continues to be returned. The reloader is kept until the value is removed
+ * from the cache. Values loaded without a reloader are not reloaded.</p>
  *
  * @author Graeme Rocher
  * @since 1.0
@@ -46,6 +57,7 @@ public class DefaultSyncCache implements SyncCache<com.github.benmanes.caffeine.
     private final com.github.benmanes.caffeine.cache.Cache cache;
     private final ApplicationContext applicationContext;
     private final ConversionService<?> conversionService;
+    private final Map<Object, Supplier<?>> reloaders = new ConcurrentHashMap<>();
 
     /**
      * Construct a sync cache implementation with given configurations.
@@ -82,7 +94,20 @@ public class DefaultSyncCache implements SyncCache<com.github.benmanes.caffeine.
 
     @Override
     public <T> T get(Object key, Argument<T> requiredType, Supplier<T> supplier) {
-        Object value = cache.get(key, o -> supplier.get());
+        return get(key, requiredType, supplier, null);
+    }
+
+    @Override
+    public <T> T get(Object key, Argument<T> requiredType, Supplier<T> supplier, @Nullable Supplier<T> reloader) {
+        boolean refreshes = reloader != null && cacheConfiguration.getRefreshAfterWrite().isPresent();
+        Object value = cache.get(key, o -> {
+            T loaded = supplier.get();
+            if (refreshes && loaded != null) {
+                // removed by the cache writer once the value is removed
+                reloaders.put(key, reloader);
+            }
+            return loaded;
+        });
         if (value != null) {
             Optional<T> converted = conversionService.convert(value, ConversionContext.of(requiredType));
             return converted.orElseThrow(() ->
@@ -140,6 +165,23 @@ public class DefaultSyncCache implements SyncCache<com.github.benmanes.caffeine.
             // run commands on same thread
             builder.executor(Runnable::run);
         }
+        Optional<Duration> refreshAfterWrite = cacheConfiguration.getRefreshAfterWrite();
+        if (refreshAfterWrite.isPresent()) {
+            builder.refreshAfterWrite(refreshAfterWrite.get().toMillis(), TimeUnit.MILLISECONDS);
+            builder.writer(new CacheWriter<Object, Object>() {
+                @Override
+                public void write(Object key, Object value) {
+                    // no-op
+                }
+
+                @Override
+                public void delete(Object key, @Nullable Object value, RemovalCause cause) {
+                    // the writer is called synchronously, so a reloader registered by a later load is never removed
+                    reloaders.remove(key);
+                }
+            });
+            return builder.build(new RefreshingCacheLoader());
+        }
         return builder.build();
     }
 
@@ -149,4 +191,22 @@ public class DefaultSyncCache implements SyncCache<com.github.benmanes.caffeine.
                 .orElseGet(() -> applicationContext.findBean(Weigher.class)
                         .orElse(Weigher.singletonWeigher()));
     }
+
+    /**
+     * Reloads stale values with the reloader registered when the value was loaded.
+     */
+    private final class RefreshingCacheLoader implements CacheLoader<Object, Object> {
+
+        @Override
+        public Object load(Object key) {
+            Supplier<?> reloader = reloaders.get(key);
+            return reloader != null ? reloader.get() : null;
+        }
+
+        @Override
+        public Object reload(Object key, Object oldValue) {
+            Supplier<?> reloader = reloaders.get(key);
+            return reloader != null ? reloader.get() : oldValue;
+        }
+    }
 }
@@ -17,6 +17,8 @@
 package io.micronaut.cache;
 
 import io.micronaut.core.type.Argument;
+
+import javax.annotation.Nullable;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
@@ -61,6 +63,22 @@ public interface SyncCache<C> extends Cache<C> {
      */
     <T> T get(Object key, Argument<T> requiredType, Supplier<T> supplier);
 
+    /**
+     * Resolve the given value for the given key. If the value is not found the specified {@link Supplier} will
+     * be invoked and the return value cached. Caches that refresh their values may keep the given reloader to reload
+     * the value of the key until it is removed, so it should not retain any state of the current invocation.
+     *
+     * @param key          The cache key
+     * @param requiredType The required type
+     * @param supplier     The supplier that should be invoked if the value is not found
+     * @param reloader     The supplier that reloads the value when it is refreshed
+     * @param <T>          The concrete type
+     * @return An optional containing the value if it exists and is able to be converted to the specified type
+     */
+    default <T> T get(Object key, Argument<T> requiredType, Supplier<T> supplier, @Nullable Supplier<T> reloader) {
+        return get(key, requiredType, supplier);
+    }
+
     /**
      * <p>Cache the specified value using the specified key if it is not already present.</p>
      *
@@ -17,6 +17,7 @@
 package io.micronaut.cache.interceptor;
 
 import io.micronaut.aop.InterceptPhase;
+import io.micronaut.aop.Introduced;
 import io.micronaut.aop.MethodInterceptor;
 import io.micronaut.aop.MethodInvocationContext;
 import io.micronaut.cache.AsyncCache;
@@ -41,6 +42,7 @@ import io.micronaut.core.type.Argument;
 import io.micronaut.core.type.MutableArgumentValue;
 import io.micronaut.core.type.ReturnType;
 import io.micronaut.core.util.ArrayUtils;
+import io.micronaut.inject.ExecutableMethod;
 import io.micronaut.scheduling.TaskExecutors;
 import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscriber;
@@ -53,11 +55,14 @@ import javax.inject.Singleton;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.function.BiConsumer;
+import java.util.function.Supplier;
 
 /**
  * <p>An AOP {@link MethodInterceptor} implementation for the Cache annotations {@link Cacheable},
@@ -78,6 +83,7 @@ public class CacheInterceptor implements MethodInterceptor<Object, Object> {
 
     private final CacheManager cacheManager;
     private final Map<Class<? extends CacheKeyGenerator>, CacheKeyGenerator> keyGenerators = new ConcurrentHashMap<>();
+    private final Map<LoadKey, CompletableFuture<Object>> inFlightLoads = new ConcurrentHashMap<>();
     private final BeanContext beanContext;
     private final ExecutorService ioExecutor;
     private final CacheErrorHandler errorHandler;
@@ -156,7 +162,7 @@ public class CacheInterceptor implements MethodInterceptor<Object, Object> {
                         } catch (RuntimeException e) {
                             throw new ValueSupplierException(key, e);
                         }
-                    });
+                    }, newReloader(context));
                 } catch (ValueSupplierException e) {
                     throw e.getCause();
                 } catch (RuntimeException e) {
@@ -188,8 +194,7 @@ public class CacheInterceptor implements MethodInterceptor<Object, Object> {
                     if (LOG.isDebugEnabled()) {
                         LOG.debug("Value not found in cache for invocation: " + context);
                     }
-                    doProceed(context, wrapper);
-                    syncPut(cacheNames, key, wrapper.value);
+                    loadSync(context, wrapper, cacheNames, key, returnType);
                 }
             }
         } else {
@@ -265,36 +270,40 @@ public class CacheInterceptor implements MethodInterceptor<Object, Object> {
                     thisFuture.complete(o.get());
                 } else {
                     // cache miss proceed with original future
-                    try {
-                        if (throwable != null) {
-                            if (errorHandler.handleLoadError(asyncCache, key, asRuntimeException(throwable))) {
-                                thisFuture.completeExceptionally(throwable);
-                                return;
-                            }
+                    if (throwable != null) {
+                        if (errorHandler.handleLoadError(asyncCache, key, asRuntimeException(throwable))) {
+                            thisFuture.completeExceptionally(throwable);
+                            return;
                         }
+                    }
+                    loadAsync(asyncCache.getName(), key, () -> {
                         CompletableFuture<?> completableFuture = (CompletableFuture) context.proceed();
                         if (completableFuture == null) {
-                            thisFuture.complete(null);
+                            return CompletableFuture.completedFuture(null);
+                        }
+                        CompletableFuture<Object> loaded = new CompletableFuture<>();
+                        completableFuture.whenComplete((BiConsumer<Object, Throwable>) (o1, t2) -> {
+                            if (t2 != null) {
+                                loaded.completeExceptionally(t2);
+                            } else {
+                                // new cacheable result, cache it
+                                asyncCache.put(key, o1).whenComplete((aBoolean, throwable1) -> {
+                                    if (throwable1 == null) {
+                                        loaded.complete(o1);
+                                    } else {
+                                        loaded.completeExceptionally(throwable1);
+                                    }
+                                });
+                            }
+                        });
+                        return loaded;
+                    }).whenComplete((result, error) -> {
+                        if (error != null) {
+                            thisFuture.completeExceptionally(error);
                         } else {
-                            completableFuture.whenComplete((BiConsumer<Object, Throwable>) (o1, t2) -> {
-                                if (t2 != null) {
-                                    thisFuture.completeExceptionally(t2);
-                                } else {
-                                    // new cacheable result, cache it
-                                    asyncCache.put(key, o1).whenComplete((aBoolean, throwable1) -> {
-                                        if (throwable1 == null) {
-                                            thisFuture.complete(o1);
-                                        } else {
-                                            thisFuture.completeExceptionally(throwable1);
-                                        }
-                                    });
-
-                                }
-                            });
+                            thisFuture.complete(result);
                         }
-                    } catch (RuntimeException e) {
-                        thisFuture.completeExceptionally(e);
-                    }
+                    });
                 }
             });
             returnFuture = thisFuture;
@@ -388,12 +397,15 @@ public class CacheInterceptor implements MethodInterceptor<Object, Object> {
                                         }
                                     }
 
-                                    Publisher<?> actualPublisher = (Publisher) context.proceed();
-                                    if (actualPublisher == null) {
-                                        // no publisher, simply complete
-                                        subscriber.onComplete();
-                                    } else {
+                                    loadAsync(asyncCache.getName(), key, () -> {
+                                        Object result = context.proceed();
+                                        if (result == null) {
+                                            // no publisher, simply complete
+                                            return CompletableFuture.completedFuture(null);
+                                        }
+                                        Publisher<?> actualPublisher = Publishers.convertPublisher(result, Publisher.class);
                                         // cache miss, subscribe to original publisher
+                                        CompletableFuture<Object> loaded = new CompletableFuture<>();
                                         actualPublisher.subscribe(new Subscriber<Object>() {
                                             boolean hasData = false;
 
@@ -404,31 +416,43 @@ public class CacheInterceptor implements MethodInterceptor<Object, Object> {
 
                                             @Override
                                             public void onNext(Object o) {
+                                                if (hasData) {
+                                                    return;
+                                                }
                                                 hasData = true;
                                                 // got result, cache it
                                                 asyncCache.put(key, o).whenComplete((aBoolean, throwable1) -> {
                                                     if (throwable1 == null) {
-                                                        subscriber.onNext(o);
-                                                        subscriber.onComplete();
+                                                        loaded.complete(o);
                                                     } else {
-                                                        subscriber.onError(throwable1);
+                                                        loaded.completeExceptionally(throwable1);
                                                     }
                                                 });
                                             }
 
                                             @Override
                                             public void onError(Throwable t) {
-                                                subscriber.onError(t);
+                                                loaded.completeExceptionally(t);
                                             }
 
                                             @Override
                                             public void onComplete() {
                                                 if (!hasData) {
-                                                    subscriber.onComplete();
+                                                    loaded.complete(null);
                                                 }
                                             }
                                         });
-                                    }
+                                        return loaded;
+                                    }).whenComplete((result, error) -> {
+                                        if (error != null) {
+                                            subscriber.onError(error);
+                                        } else {
+                                            if (result != null) {
+                                                subscriber.onNext(result);
+                                            }
+                                            subscriber.onComplete();
+                                        }
+                                    });
                                 }
                             });
                         }
@@ -554,6 +578,92 @@ public class CacheInterceptor implements MethodInterceptor<Object, Object> {
         return cacheNames;
     }
 
+    /**
+     * Loads the value for a cache miss of a method that returns a value synchronously. Concurrent misses for the same
+     * key wait for the invocation that is already in flight instead of invoking the method again, unless the
+     * invocation in flight is on the same thread, in which case waiting would never complete.
+     */
+    private void loadSync(MethodInvocationContext context, ValueWrapper wrapper, String[] cacheNames, Object key, Class returnType) {
+        LoadKey loadKey = new LoadKey(cacheNames[0], key);
+        CompletableFuture<Object> load = new SyncLoad();
+        CompletableFuture<Object> inFlight = inFlightLoads.putIfAbsent(loadKey, load);
+        if (inFlight instanceof SyncLoad && ((SyncLoad) inFlight).owner == Thread.currentThread()) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Reentrant load of the value already being loaded into cache [" + cacheNames[0] + "] for invocation: " + context);
+            }
+            doProceed(context, wrapper);
+        } else if (inFlight == null) {
+            try {
+                doProceed(context, wrapper);
+                syncPut(cacheNames, key, wrapper.value);
+                load.complete(wrapper.value);
+            } catch (Throwable e) {
+                load.completeExceptionally(e);
+                throw e;
+            } finally {
+                inFlightLoads.remove(loadKey, load);
+            }
+        } else {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Waiting for the value already being loaded into cache [" + cacheNames[0] + "] for invocation: " + context);
+            }
+            try {
+                wrapper.value = inFlight.join();
+                wrapper.optional = Optional.class == returnType;
+            } catch (CompletionException e) {
+                throw asRuntimeException(e.getCause());
+            }
+        }
+    }
+
+    /**
+     * Loads the value for a cache miss of a method that returns a value asynchronously. The loader is only invoked if
+     * there is no load in flight for the same key, otherwise the result of the load in flight is returned.
+     */
+    private CompletableFuture<Object> loadAsync(String cacheName, Object key, Supplier<CompletableFuture<Object>> loader) {
+        LoadKey loadKey = new LoadKey(cacheName, key);
+        CompletableFuture<Object> load = new CompletableFuture<>();
+        CompletableFuture<Object> inFlight = inFlightLoads.putIfAbsent(loadKey, load);
+        if (inFlight != null) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Subscribing to the value already being loaded into cache [" + cacheName + "] for key: " + key);
+            }
+            return inFlight;
+        }
+        CompletableFuture<Object> loaded;
+        try {
+            loaded = loader.get();
+        } catch (RuntimeException e) {
+            loaded = new CompletableFuture<>();
+            loaded.completeExceptionally(e);
+        }
+        loaded.whenComplete((result, error) -> {
+            inFlightLoads.remove(loadKey, load);
+            if (error != null) {
+                load.completeExceptionally(error);
+            } else {
+                load.complete(result);
+            }
+        });
+        return load;
+    }
+
+    /**
+     * Creates the supplier used to reload a value that is refreshed in the background. It invokes the method again
+     * with the same arguments instead of proceeding with the interceptor chain, which has already completed, so that
+     * the invocation is not retained.
+     *
+     * @param context The invocation context
+     * @return The reloader or null if the method has no implementation to invoke
+     */
+    private Supplier<Object> newReloader(MethodInvocationContext<Object, Object> context) {
+        Object target = context.getTarget();
+        if (target instanceof Introduced) {
+            return null;
+        }
+        return new MethodReloader(target, context.getExecutableMethod(), context.getParameterValues());
+    }
+
     private void doProceed(MethodInvocationContext context, ValueWrapper wrapper) {
         Object result = context.proceed();
         if (result instanceof Optional) {
@@ -783,6 +893,43 @@ public class CacheInterceptor implements MethodInterceptor<Object, Object> {
         }
     }
 
+    /**
+     * The key of a load in flight.
+     */
+    private static final class LoadKey {
+        final String cacheName;
+        final Object key;
+
+        LoadKey(String cacheName, Object key) {
+            this.cacheName = cacheName;
+            this.key = key;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            LoadKey loadKey = (LoadKey) o;
+            return cacheName.equals(loadKey.cacheName) && Objects.equals(key, loadKey.key);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * cacheName.hashCode() + Objects.hashCode(key);
+        }
+    }
+
+    /**
+     * A synchronous load in flight, which records the thread that invoked the method.
+     */
+    private static final class SyncLoad extends CompletableFuture<Object> {
+        final Thread owner = Thread.currentThread();
+    }
+
     /**
      * The value wrapper.
      */
@@ -790,4 +937,28 @@ public class CacheInterceptor implements MethodInterceptor<Object, Object> {
         Object value;
         boolean optional;
     }
+
+    /**
+     * Reloads a value by invoking the method with the arguments of the invocation that loaded it.
+     */
+    private static final class MethodReloader implements Supplier<Object> {
+        private final Object target;
+        private final ExecutableMethod<Object, Object> method;
+        private final Object[] arguments;
+
+        MethodReloader(Object target, ExecutableMethod<Object, Object> method, Object[] arguments) {
+            this.target = target;
+            this.method = method;
+            this.arguments = arguments;
+        }
+
+        @Override
+        public Object get() {
+            Object result = method.invoke(target, arguments);
+            if (result instanceof Optional) {
+                return ((Optional) result).orElse(null);
+            }
+            return result;
+        }
+    }
 }
@@ -23,6 +23,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.type.TypeFactory;
 import io.micronaut.core.io.buffer.ByteBuffer;
 import io.micronaut.core.io.buffer.ByteBufferFactory;
+import io.micronaut.core.io.buffer.ReferenceCounted;
 import io.micronaut.core.type.Argument;
 import io.micronaut.http.MediaType;
 import io.micronaut.http.codec.CodecException;
@@ -160,10 +161,31 @@ public class JsonMediaTypeCodec implements MediaTypeCodec {
         }
     }
 
+    /**
+     * Encodes the object straight into a buffer of the given allocator, which the caller must release.
+     *
+     * @param object    The object to encode
+     * @param allocator The allocator
+     * @param <T>       The generic type
+     * @return The encoded object
+     * @throws CodecException When the object cannot be encoded
+     */
     @Override
     public <T> ByteBuffer encode(T object, ByteBufferFactory allocator) throws CodecException {
-        byte[] bytes = encode(object);
-        return allocator.copiedBuffer(bytes);
+        if (object instanceof byte[]) {
+            return allocator.copiedBuffer((byte[]) object);
+        }
+        // serialize straight into the buffer to avoid materializing an intermediate byte array
+        ByteBuffer buffer = allocator.buffer();
+        try {
+            objectMapper.writeValue(buffer.toOutputStream(), object);
+            return buffer;
+        } catch (IOException e) {
+            if (buffer instanceof ReferenceCounted) {
+                ((ReferenceCounted) buffer).release();
+            }
+            throw new CodecException("Error encoding object [" + object + "] to JSON: " + e.getMessage());
+        }
     }
 
     private <T> JavaType constructJavaType(Argument<T> type) {
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.jackson.convert;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import io.micronaut.core.convert.ConversionContext;
+import io.micronaut.core.convert.ConversionService;
+import io.micronaut.core.convert.TypeConverter;
+import io.micronaut.core.convert.value.ConvertibleValues;
+
+import javax.inject.Singleton;
+import java.io.IOException;
+import java.util.Optional;
+
+/**
+ * A {@link TypeConverter} that reads the JSON recorded in a {@link TokenBuffer} directly into the target type
+ * without building a {@link JsonNode} tree first.
+ *
+ * @since 1.0
+ */
+@Singleton
+public class TokenBufferToObjectConverter implements TypeConverter<TokenBuffer, Object> {
+
+    private final ObjectMapper objectMapper;
+    private final ConversionService<?> conversionService;
+
+    /**
+     * @param objectMapper      To read/write JSON
+     * @param conversionService The conversion service
+     */
+    public TokenBufferToObjectConverter(ObjectMapper objectMapper, ConversionService<?> conversionService) {
+        this.objectMapper = objectMapper;
+        this.conversionService = conversionService;
+    }
+
+    @Override
+    public Optional<Object> convert(TokenBuffer tokenBuffer, Class<Object> targetType, ConversionContext context) {
+        try {
+            if (CharSequence.class.isAssignableFrom(targetType)) {
+                return Optional.of(objectMapper.writeValueAsString(tokenBuffer));
+            }
+            try (JsonParser parser = tokenBuffer.asParser(objectMapper)) {
+                if (ConvertibleValues.class.isAssignableFrom(targetType)) {
+                    JsonNode node = objectMapper.readTree(parser);
+                    if (node instanceof ObjectNode) {
+                        return Optional.of(new ObjectNodeConvertibleValues<>((ObjectNode) node, conversionService));
+                    }
+                    return Optional.empty();
+                }
+                return Optional.ofNullable(objectMapper.readValue(parser, targetType));
+            }
+        } catch (IOException e) {
+            context.reject(e);
+            return Optional.empty();
+        }
+    }
+}
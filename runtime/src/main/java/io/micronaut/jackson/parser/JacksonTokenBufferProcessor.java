@@ -0,0 +1,123 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.jackson.parser;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.core.io.JsonEOFException;
+import com.fasterxml.jackson.core.json.async.NonBlockingJsonParser;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import io.micronaut.core.async.processor.SingleThreadedBufferingProcessor;
+
+import java.io.IOException;
+
+/**
+ * A Reactive streams publisher that publishes a {@link TokenBuffer} once the JSON has been fully consumed.
+ *
+ * <p>Unlike {@link JacksonProcessor} no {@link com.fasterxml.jackson.databind.JsonNode} tree is built. The tokens
+ * produced by the {@link NonBlockingJsonParser} are recorded as they arrive so that the value can later be read
+ * directly into the target type with {@link TokenBuffer#asParser(com.fasterxml.jackson.core.ObjectCodec)}, avoiding
+ * the intermediate tree and the second pass over it.</p>
+ *
+ * @since 1.0
+ */
+public class JacksonTokenBufferProcessor extends SingleThreadedBufferingProcessor<byte[], TokenBuffer> {
+
+    private NonBlockingJsonParser currentNonBlockingJsonParser;
+    private final JsonFactory jsonFactory;
+    private TokenBuffer tokenBuffer;
+    private int depth;
+
+    /**
+     * Construct with given JSON factory.
+     *
+     * @param jsonFactory The JSON factory
+     */
+    public JacksonTokenBufferProcessor(JsonFactory jsonFactory) {
+        try {
+            this.jsonFactory = jsonFactory;
+            this.currentNonBlockingJsonParser = (NonBlockingJsonParser) jsonFactory.createNonBlockingByteArrayParser();
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to create non-blocking JSON parser: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Construct with default JSON factory.
+     */
+    public JacksonTokenBufferProcessor() {
+        this(new JsonFactory());
+    }
+
+    /**
+     * @return Whether more input is needed
+     */
+    public boolean needMoreInput() {
+        return currentNonBlockingJsonParser.getNonBlockingInputFeeder().needMoreInput();
+    }
+
+    @Override
+    protected void doOnComplete() {
+        if (needMoreInput()) {
+            doOnError(new JsonEOFException(currentNonBlockingJsonParser, JsonToken.NOT_AVAILABLE, "Unexpected end-of-input"));
+        } else {
+            super.doOnComplete();
+        }
+    }
+
+    @Override
+    protected void onUpstreamMessage(byte[] message) {
+        try {
+            ByteArrayFeeder byteFeeder = currentNonBlockingJsonParser.getNonBlockingInputFeeder();
+            if (!byteFeeder.needMoreInput()) {
+                currentNonBlockingJsonParser = (NonBlockingJsonParser) jsonFactory.createNonBlockingByteArrayParser();
+                byteFeeder = currentNonBlockingJsonParser.getNonBlockingInputFeeder();
+            }
+            byteFeeder.feedInput(message, 0, message.length);
+
+            JsonToken event;
+            while ((event = currentNonBlockingJsonParser.nextToken()) != JsonToken.NOT_AVAILABLE) {
+                if (tokenBuffer == null) {
+                    tokenBuffer = new TokenBuffer(currentNonBlockingJsonParser);
+                }
+                tokenBuffer.copyCurrentEvent(currentNonBlockingJsonParser);
+                if (event.isStructStart()) {
+                    depth++;
+                } else if (event.isStructEnd()) {
+                    depth--;
+                }
+
+                if (depth == 0) {
+                    TokenBuffer root = tokenBuffer;
+                    tokenBuffer = null;
+                    byteFeeder.endOfInput();
+                    currentDownstreamSubscriber()
+                            .ifPresent(subscriber ->
+                                    subscriber.onNext(root)
+                            );
+                    break;
+                }
+            }
+            if (needMoreInput()) {
+                upstreamSubscription.request(1);
+            }
+        } catch (IOException e) {
+            onError(e);
+        }
+    }
+}
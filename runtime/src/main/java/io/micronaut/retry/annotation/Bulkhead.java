@@ -0,0 +1,52 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.retry.annotation;
+
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import io.micronaut.aop.Around;
+import io.micronaut.context.annotation.Type;
+import io.micronaut.retry.intercept.BulkheadInterceptor;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * AOP Advice that limits the number of concurrent executions of a method. Once the limit is reached further
+ * executions are rejected immediately with a {@link io.micronaut.retry.exception.BulkheadRejectedException} instead
+ * of queueing, so that a slow method cannot take over every thread of the executor it runs on. When applied to a
+ * controller action the rejection results in a {@code 503 Service Unavailable} response.
+ *
+ * <p>For methods that return a reactive type or a {@link java.util.concurrent.CompletionStage} an execution lasts
+ * until the result completes.</p>
+ *
+ * @since 1.0
+ */
+@Documented
+@Retention(RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE, ElementType.ANNOTATION_TYPE})
+@Around
+@Type(BulkheadInterceptor.class)
+public @interface Bulkhead {
+
+    /**
+     * @return The maximum number of concurrent executions
+     */
+    int value() default 10;
+}
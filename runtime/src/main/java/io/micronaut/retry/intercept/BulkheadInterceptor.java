@@ -0,0 +1,113 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.retry.intercept;
+
+import io.micronaut.aop.InterceptPhase;
+import io.micronaut.aop.MethodInterceptor;
+import io.micronaut.aop.MethodInvocationContext;
+import io.micronaut.core.async.publisher.Publishers;
+import io.micronaut.core.convert.ConversionService;
+import io.micronaut.retry.annotation.Bulkhead;
+import io.micronaut.retry.exception.BulkheadRejectedException;
+import io.reactivex.Flowable;
+
+import javax.inject.Singleton;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+
+/**
+ * A {@link MethodInterceptor} that limits the number of concurrent executions of a method according to the
+ * {@link Bulkhead} annotation.
+ *
+ * @since 1.0
+ */
+@Singleton
+public class BulkheadInterceptor implements MethodInterceptor<Object, Object> {
+
+    /**
+     * Positioned after the {@link RecoveryInterceptor} such that a rejected execution can fall back and before the
+     * {@link io.micronaut.retry.annotation.Retryable} interceptor such that retries hold on to the same permit.
+     */
+    public static final int POSITION = InterceptPhase.RETRY.getPosition() - 5;
+
+    private static final int DEFAULT_MAX_CONCURRENT = 10;
+
+    private final Map<Method, Semaphore> bulkheads = new ConcurrentHashMap<>();
+
+    @Override
+    public int getOrder() {
+        return POSITION;
+    }
+
+    @Override
+    public Object intercept(MethodInvocationContext<Object, Object> context) {
+        Semaphore bulkhead = bulkheads.computeIfAbsent(context.getTargetMethod(), method ->
+            new Semaphore(context.getValue(Bulkhead.class, Integer.class).orElse(DEFAULT_MAX_CONCURRENT))
+        );
+
+        Class<Object> javaReturnType = context.getReturnType().getType();
+        if (Publishers.isConvertibleToPublisher(javaReturnType)) {
+            return interceptPublisher(context, bulkhead);
+        }
+
+        acquire(context, bulkhead);
+        boolean releasedOnCompletion = false;
+        try {
+            Object result = context.proceed();
+            if (result instanceof CompletionStage) {
+                ((CompletionStage<?>) result).whenComplete((value, throwable) -> bulkhead.release());
+                releasedOnCompletion = true;
+            }
+            return result;
+        } finally {
+            // any failure, including errors and rethrown checked exceptions, must give the permit back
+            if (!releasedOnCompletion) {
+                bulkhead.release();
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object interceptPublisher(MethodInvocationContext<Object, Object> context, Semaphore bulkhead) {
+        ConversionService<?> conversionService = ConversionService.SHARED;
+        Object result = context.proceed();
+        if (result == null) {
+            return null;
+        }
+        Flowable<Object> flowable = conversionService
+            .convert(result, Flowable.class)
+            .orElseThrow(() -> new IllegalStateException("Unconvertible Reactive type: " + result));
+
+        // the permit is held from subscription until the publisher terminates or is cancelled
+        Flowable<Object> bulkheadFlowable = Flowable.defer(() -> {
+            acquire(context, bulkhead);
+            return flowable.doFinally(bulkhead::release);
+        });
+        return conversionService
+            .convert(bulkheadFlowable, context.getReturnType().asArgument())
+            .orElseThrow(() -> new IllegalStateException("Unconvertible Reactive type: " + result));
+    }
+
+    private void acquire(MethodInvocationContext<Object, Object> context, Semaphore bulkhead) {
+        if (!bulkhead.tryAcquire()) {
+            throw new BulkheadRejectedException("Maximum number of concurrent executions reached for method: " + context);
+        }
+    }
+}
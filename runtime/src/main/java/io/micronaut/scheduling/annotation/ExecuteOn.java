@@ -0,0 +1,44 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.scheduling.annotation;
+
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * An annotation that can be applied to a controller or any of its methods to select the executor service that the
+ * {@link io.micronaut.scheduling.executor.ExecutorSelector} runs the method on, for example an executor configured
+ * with {@link io.micronaut.scheduling.executor.ExecutorType#VIRTUAL} for methods that block.
+ *
+ * @since 1.0
+ */
+@Documented
+@Retention(RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE, ElementType.ANNOTATION_TYPE})
+public @interface ExecuteOn {
+
+    /**
+     * The name of the executor service to execute the method on, such as {@link io.micronaut.scheduling.TaskExecutors#IO}.
+     *
+     * @return The name of the thread pool
+     */
+    String value();
+}
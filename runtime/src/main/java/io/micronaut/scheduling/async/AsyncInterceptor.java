@@ -0,0 +1,107 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.scheduling.async;
+
+import io.micronaut.aop.InterceptPhase;
+import io.micronaut.aop.MethodInterceptor;
+import io.micronaut.aop.MethodInvocationContext;
+import io.micronaut.context.BeanLocator;
+import io.micronaut.inject.qualifiers.Qualifiers;
+import io.micronaut.scheduling.TaskExecutors;
+import io.micronaut.scheduling.annotation.Async;
+import io.micronaut.scheduling.exceptions.TaskExecutionException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.inject.Singleton;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * A {@link MethodInterceptor} that executes methods annotated with {@link Async} on the configured executor.
+ *
+ * @since 1.0
+ */
+@Singleton
+public class AsyncInterceptor implements MethodInterceptor<Object, Object> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AsyncInterceptor.class);
+
+    private final BeanLocator beanLocator;
+    private final Map<String, ExecutorService> executorServices = new ConcurrentHashMap<>();
+
+    /**
+     * @param beanLocator The bean locator used to lookup the executor services
+     */
+    public AsyncInterceptor(BeanLocator beanLocator) {
+        this.beanLocator = beanLocator;
+    }
+
+    @Override
+    public int getOrder() {
+        return InterceptPhase.ASYNC.getPosition();
+    }
+
+    @Override
+    public Object intercept(MethodInvocationContext<Object, Object> context) {
+        String executorServiceName = context.getValue(Async.class, String.class).orElse(TaskExecutors.SCHEDULED);
+        ExecutorService executorService = executorServices.computeIfAbsent(executorServiceName, name ->
+            beanLocator.findBean(ExecutorService.class, Qualifiers.byName(name))
+                .orElseThrow(() -> new TaskExecutionException("No ExecutorService named [" + name + "] configured in application context"))
+        );
+        Class<?> javaReturnType = context.getReturnType().getType();
+        if (CompletionStage.class.isAssignableFrom(javaReturnType)) {
+            CompletableFuture<Object> result = new CompletableFuture<>();
+            executorService.execute(() -> {
+                try {
+                    @SuppressWarnings("unchecked")
+                    CompletionStage<Object> completionStage = (CompletionStage<Object>) context.proceed();
+                    if (completionStage == null) {
+                        result.complete(null);
+                    } else {
+                        completionStage.whenComplete((value, throwable) -> {
+                            if (throwable == null) {
+                                result.complete(value);
+                            } else {
+                                result.completeExceptionally(throwable);
+                            }
+                        });
+                    }
+                } catch (Throwable e) {
+                    result.completeExceptionally(e);
+                }
+            });
+            return result;
+        } else if (void.class == javaReturnType) {
+            executorService.execute(() -> {
+                try {
+                    context.proceed();
+                } catch (Throwable e) {
+                    if (LOG.isErrorEnabled()) {
+                        LOG.error("Error occurred executing @Async method [" + context + "]: " + e.getMessage(), e);
+                    }
+                }
+            });
+            return null;
+        } else {
+            throw new TaskExecutionException("Method [" + context + "] must return either void or an instance of CompletionStage");
+        }
+    }
+}
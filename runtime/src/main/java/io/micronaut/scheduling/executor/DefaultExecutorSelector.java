@@ -16,19 +16,27 @@
 
 package io.micronaut.scheduling.executor;
 
+import io.micronaut.context.BeanLocator;
 import io.micronaut.core.annotation.NonBlocking;
 import io.micronaut.core.async.publisher.Publishers;
 import io.micronaut.inject.MethodReference;
+import io.micronaut.inject.qualifiers.Qualifiers;
 import io.micronaut.scheduling.TaskExecutors;
+import io.micronaut.scheduling.annotation.ExecuteOn;
+import io.micronaut.scheduling.exceptions.TaskExecutionException;
 
+import javax.inject.Inject;
 import javax.inject.Named;
 import javax.inject.Singleton;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 
 /**
  * Default implementation of the {@link ExecutorSelector} interface that regards methods that return reactive types as non-blocking.
+ * Methods annotated with {@link ExecuteOn} are executed on the named executor service.
  *
  * @author Graeme Rocher
  * @since 1.0
@@ -36,20 +44,45 @@ import java.util.concurrent.ExecutorService;
 @Singleton
 public class DefaultExecutorSelector implements ExecutorSelector {
 
+    private final BeanLocator beanLocator;
     private final ExecutorService ioExecutor;
+    private final Map<String, Optional<ExecutorService>> executorServices = new ConcurrentHashMap<>();
 
     /**
-     * Construct a default implementation for the given executor service for asynchronous IO tasks.
+     * Construct a default implementation for the given executor service for asynchronous IO tasks. Methods annotated
+     * with {@link ExecuteOn} are not executed on the named executor service, as there is no bean locator to look it up.
      *
      * @param ioExecutor A service that provide method to manager termination and produce future for tracking
      *                   progress of one or more asynchronous IO tasks.
+     * @deprecated Use {@link #DefaultExecutorSelector(BeanLocator, ExecutorService)} instead
      */
+    @Deprecated
     protected DefaultExecutorSelector(@Named(TaskExecutors.IO) ExecutorService ioExecutor) {
+        this(null, ioExecutor);
+    }
+
+    /**
+     * Construct a default implementation for the given executor service for asynchronous IO tasks.
+     *
+     * @param beanLocator The bean locator used to lookup the executor services selected with {@link ExecuteOn}
+     * @param ioExecutor  A service that provide method to manager termination and produce future for tracking
+     *                    progress of one or more asynchronous IO tasks.
+     */
+    @Inject
+    protected DefaultExecutorSelector(BeanLocator beanLocator, @Named(TaskExecutors.IO) ExecutorService ioExecutor) {
+        this.beanLocator = beanLocator;
         this.ioExecutor = ioExecutor;
     }
 
     @Override
     public Optional<ExecutorService> select(MethodReference method) {
+        Optional<String> executorName = method.getValue(ExecuteOn.class, String.class);
+        if (executorName.isPresent() && beanLocator != null) {
+            return executorServices.computeIfAbsent(executorName.get(), name ->
+                Optional.of(beanLocator.findBean(ExecutorService.class, Qualifiers.byName(name))
+                    .orElseThrow(() -> new TaskExecutionException("No ExecutorService named [" + name + "] configured in application context")))
+            );
+        }
         if (method.hasStereotype(NonBlocking.class)) {
             return Optional.empty();
         } else {
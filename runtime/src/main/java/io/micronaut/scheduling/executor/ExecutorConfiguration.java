@@ -18,6 +18,7 @@ package io.micronaut.scheduling.executor;
 
 import javax.validation.constraints.Min;
 import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.concurrent.ThreadFactory;
 
 /**
@@ -65,4 +66,15 @@ public interface ExecutorConfiguration {
      * @return The class to use as the {@link ThreadFactory}
      */
     Optional<Class<? extends ThreadFactory>> getThreadFactoryClass();
+
+    /**
+     * The maximum number of tasks a {@link ExecutorType#FIXED} or {@link ExecutorType#CACHED} executor queues before
+     * rejecting new tasks with a {@link java.util.concurrent.RejectedExecutionException}. When set a
+     * {@link ExecutorType#CACHED} executor is limited to {@link #getNumberOfThreads()} threads.
+     *
+     * @return The queue size or empty if the queue is unbounded
+     */
+    default OptionalInt getQueueSize() {
+        return OptionalInt.empty();
+    }
 }
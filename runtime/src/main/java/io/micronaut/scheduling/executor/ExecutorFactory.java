@@ -20,7 +20,11 @@ import io.micronaut.context.annotation.Bean;
 import io.micronaut.context.annotation.EachBean;
 import io.micronaut.context.annotation.Factory;
 import io.micronaut.core.reflect.InstantiationUtils;
+import io.micronaut.core.reflect.ReflectionUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.lang.reflect.Method;
 import java.util.concurrent.*;
 
 /**
@@ -32,6 +36,10 @@ import java.util.concurrent.*;
 @Factory
 public class ExecutorFactory {
 
+    private static final Logger LOG = LoggerFactory.getLogger(ExecutorFactory.class);
+    private static final long CACHED_KEEP_ALIVE_SECONDS = 60L;
+    private static final Method NEW_VIRTUAL_THREAD_EXECUTOR = ReflectionUtils.getMethod(Executors.class, "newVirtualThreadPerTaskExecutor").orElse(null);
+
     private final ThreadFactory threadFactory;
 
     /**
@@ -54,13 +62,25 @@ public class ExecutorFactory {
         ExecutorType executorType = executorConfiguration.getType();
         switch (executorType) {
             case FIXED:
+                if (executorConfiguration.getQueueSize().isPresent()) {
+                    return newBoundedThreadPool(executorConfiguration, 0L);
+                }
                 return executorConfiguration
                     .getThreadFactoryClass()
                     .flatMap(InstantiationUtils::tryInstantiate)
                     .map(factory -> Executors.newFixedThreadPool(executorConfiguration.getNumberOfThreads(), factory))
                     .orElse(Executors.newFixedThreadPool(executorConfiguration.getNumberOfThreads(), threadFactory));
 
+            case VIRTUAL:
+                ExecutorService virtualThreadExecutor = newVirtualThreadExecutor();
+                if (virtualThreadExecutor != null) {
+                    return virtualThreadExecutor;
+                }
+                // fall through to a thread pool that creates new threads as needed
             case CACHED:
+                if (executorConfiguration.getQueueSize().isPresent()) {
+                    return newBoundedThreadPool(executorConfiguration, CACHED_KEEP_ALIVE_SECONDS);
+                }
                 return executorConfiguration
                     .getThreadFactoryClass()
                     .flatMap(InstantiationUtils::tryInstantiate)
@@ -81,4 +101,42 @@ public class ExecutorFactory {
                 throw new IllegalStateException("Could not create Executor service for enum value: " + executorType);
         }
     }
+
+    private ThreadPoolExecutor newBoundedThreadPool(ExecutorConfiguration executorConfiguration, long keepAliveSeconds) {
+        int nThreads = executorConfiguration.getNumberOfThreads();
+        ThreadFactory factory = executorConfiguration
+            .getThreadFactoryClass()
+            .flatMap(InstantiationUtils::tryInstantiate)
+            .<ThreadFactory>map(f -> f)
+            .orElse(threadFactory);
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+            nThreads,
+            nThreads,
+            keepAliveSeconds,
+            TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(executorConfiguration.getQueueSize().getAsInt()),
+            factory
+        );
+        if (keepAliveSeconds > 0) {
+            // threads are created on demand and discarded when idle, like those of a cached thread pool
+            executor.allowCoreThreadTimeOut(true);
+        }
+        return executor;
+    }
+
+    private static ExecutorService newVirtualThreadExecutor() {
+        if (NEW_VIRTUAL_THREAD_EXECUTOR != null) {
+            try {
+                return (ExecutorService) NEW_VIRTUAL_THREAD_EXECUTOR.invoke(null);
+            } catch (ReflectiveOperationException e) {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Virtual threads are not enabled on this JDK: " + e.getMessage(), e);
+                }
+            }
+        }
+        if (LOG.isWarnEnabled()) {
+            LOG.warn("Virtual threads are not supported by this JDK. Using a cached thread pool instead.");
+        }
+        return null;
+    }
 }
@@ -43,5 +43,11 @@ public enum ExecutorType {
     /**
      * @see java.util.concurrent.Executors#newWorkStealingPool()
      */
-    WORK_STEALING
+    WORK_STEALING,
+
+    /**
+     * Starts a new virtual thread for each task, which suits tasks that spend most of their time blocked. Falls back
+     * to {@link #CACHED} when the JDK does not support virtual threads.
+     */
+    VIRTUAL
 }
@@ -44,6 +44,7 @@ public class UserExecutorConfiguration implements ExecutorConfiguration {
     protected OptionalInt nThreads = OptionalInt.of(AVAILABLE_PROCESSORS * 2);
     protected OptionalInt corePoolSize = OptionalInt.of(AVAILABLE_PROCESSORS * 2);
     protected Optional<Class<? extends ThreadFactory>> threadFactoryClass = Optional.empty();
+    protected OptionalInt queueSize = OptionalInt.empty();
 
     /**
      * Default Constructor.
@@ -79,6 +80,11 @@ public class UserExecutorConfiguration implements ExecutorConfiguration {
         return threadFactoryClass;
     }
 
+    @Override
+    public OptionalInt getQueueSize() {
+        return queueSize;
+    }
+
     /**
      * Construct a {@link UserExecutorConfiguration} for the given {@link ExecutorType}.
      *
@@ -0,0 +1,247 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.cache
+
+import io.micronaut.cache.annotation.CacheConfig
+import io.micronaut.cache.annotation.Cacheable
+import io.micronaut.context.ApplicationContext
+import io.reactivex.Single
+import io.reactivex.subjects.SingleSubject
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+import javax.inject.Singleton
+import java.util.concurrent.Callable
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.Future
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+
+/**
+ * @since 1.0
+ */
+class CacheLoadSpec extends Specification {
+
+    @Shared
+    @AutoCleanup
+    ApplicationContext context = ApplicationContext.run(
+            'micronaut.caches.loads.test-mode': true,
+            'micronaut.caches.refreshing.test-mode': true,
+            'micronaut.caches.refreshing.refresh-after-write': '200ms'
+    )
+
+    @Shared
+    @AutoCleanup('shutdownNow')
+    ExecutorService executor = Executors.newFixedThreadPool(4)
+
+    void "test concurrent misses of a CompletableFuture method invoke the method once"() {
+        given:
+        LoadService service = context.getBean(LoadService)
+        service.pendingFuture = new CompletableFuture<Integer>()
+
+        when:
+        List<CompletableFuture<Integer>> results = (1..5).collect { service.future("a") }
+
+        then:
+        service.invocations.get() == 1
+        results.every { !it.done }
+
+        when:
+        service.pendingFuture.complete(10)
+
+        then:
+        results*.get() == [10] * 5
+        service.future("a").get() == 10
+        service.invocations.get() == 1
+    }
+
+    void "test concurrent misses of a publisher method invoke the method once"() {
+        given:
+        LoadService service = context.getBean(LoadService)
+        service.invocations.set(0)
+        service.pendingSingle = SingleSubject.create()
+
+        when:
+        List<CompletableFuture<Integer>> results = (1..5).collect {
+            CompletableFuture<Integer> result = new CompletableFuture<>()
+            service.single("b").subscribe({ Integer v -> result.complete(v) }, { Throwable t -> result.completeExceptionally(t) })
+            result
+        }
+
+        then:
+        service.invocations.get() == 1
+        results.every { !it.done }
+
+        when:
+        service.pendingSingle.onSuccess(20)
+
+        then:
+        results*.get() == [20] * 5
+        service.single("b").blockingGet() == 20
+        service.invocations.get() == 1
+    }
+
+    void "test a failed load is propagated to all waiting callers and not cached"() {
+        given:
+        LoadService service = context.getBean(LoadService)
+        service.invocations.set(0)
+        service.pendingFuture = new CompletableFuture<Integer>()
+
+        when:
+        List<CompletableFuture<Integer>> results = (1..3).collect { service.future("c") }
+        service.pendingFuture.completeExceptionally(new IllegalStateException("Bad things"))
+
+        then:
+        results.every { it.completedExceptionally }
+        service.invocations.get() == 1
+
+        when:
+        service.pendingFuture = CompletableFuture.completedFuture(30)
+
+        then:
+        service.future("c").get() == 30
+        service.invocations.get() == 2
+    }
+
+    void "test concurrent misses of a blocking method invoke the method once"() {
+        given:
+        LoadService service = context.getBean(LoadService)
+        service.invocations.set(0)
+        service.latch = new CountDownLatch(1)
+
+        when:
+        List<Future<Integer>> results = (1..4).collect { executor.submit({ service.blocking("d") } as Callable<Integer>) }
+        new PollingConditions(timeout: 5).eventually {
+            service.invocations.get() == 1
+        }
+        Thread.sleep(100)
+        service.latch.countDown()
+
+        then:
+        results*.get(5, TimeUnit.SECONDS) == [40] * 4
+        service.invocations.get() == 1
+    }
+
+    void "test a reentrant miss for a key that is being loaded on the same thread invokes the method"() {
+        given:
+        LoadService service = context.getBean(LoadService)
+        service.invocations.set(0)
+
+        when:
+        Future<Integer> result = executor.submit({ service.recursive("g", 3) } as Callable<Integer>)
+
+        then:
+        result.get(5, TimeUnit.SECONDS) == 3
+        service.invocations.get() == 4
+        service.recursive("g", 0) == 3
+        service.invocations.get() == 4
+    }
+
+    void "test values are refreshed in the background after the refresh duration"() {
+        given:
+        RefreshingService service = context.getBean(RefreshingService)
+
+        expect:
+        service.value("e") == 1
+        service.value("e") == 1
+
+        when:
+        Thread.sleep(300)
+
+        then:"the stale value is returned while it is reloaded"
+        service.value("e") == 1
+        service.value("e") == 2
+        service.invocations.get() == 2
+    }
+
+    void "test the reloader of a value is kept until the value is removed"() {
+        given:
+        RefreshingService service = context.getBean(RefreshingService)
+        DefaultSyncCache cache = context.getBean(CacheManager).getCache('refreshing')
+        service.invocations.set(0)
+
+        expect:
+        service.value("f") == 1
+        service.value("f") == 1
+        cache.@reloaders.containsKey("f")
+
+        when:"the value is refreshed twice"
+        Thread.sleep(300)
+        service.value("f")
+        Thread.sleep(300)
+        service.value("f")
+
+        then:"the same reloader is used again"
+        service.value("f") == 3
+        service.invocations.get() == 3
+
+        when:
+        cache.invalidate("f")
+
+        then:
+        !cache.@reloaders.containsKey("f")
+    }
+
+    @Singleton
+    @CacheConfig('loads')
+    static class LoadService {
+        AtomicInteger invocations = new AtomicInteger()
+        CompletableFuture<Integer> pendingFuture
+        SingleSubject<Integer> pendingSingle
+        CountDownLatch latch
+
+        @Cacheable
+        CompletableFuture<Integer> future(String name) {
+            invocations.incrementAndGet()
+            return pendingFuture
+        }
+
+        @Cacheable
+        Single<Integer> single(String name) {
+            invocations.incrementAndGet()
+            return pendingSingle
+        }
+
+        @Cacheable(parameters = "name")
+        Integer recursive(String name, int depth) {
+            invocations.incrementAndGet()
+            return depth == 0 ? 0 : recursive(name, depth - 1) + 1
+        }
+
+        @Cacheable
+        Integer blocking(String name) {
+            invocations.incrementAndGet()
+            latch.await(5, TimeUnit.SECONDS)
+            return 40
+        }
+    }
+
+    @Singleton
+    @CacheConfig('refreshing')
+    static class RefreshingService {
+        AtomicInteger invocations = new AtomicInteger()
+
+        @Cacheable(atomic = true)
+        Integer value(String name) {
+            return invocations.incrementAndGet()
+        }
+    }
+}
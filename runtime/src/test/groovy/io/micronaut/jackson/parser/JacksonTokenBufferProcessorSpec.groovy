@@ -0,0 +1,122 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jackson.parser
+
+import com.fasterxml.jackson.core.io.JsonEOFException
+import com.fasterxml.jackson.databind.ObjectMapper
+import com.fasterxml.jackson.databind.util.TokenBuffer
+import io.micronaut.context.ApplicationContext
+import io.micronaut.core.convert.ConversionService
+import io.micronaut.core.convert.value.ConvertibleValues
+import org.reactivestreams.Subscriber
+import org.reactivestreams.Subscription
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+/**
+ * @since 1.0
+ */
+class JacksonTokenBufferProcessorSpec extends Specification {
+
+    @Shared @AutoCleanup
+    ApplicationContext applicationContext = ApplicationContext.run()
+
+    void "test publish the tokens of a JSON object fed in chunks"() {
+        given:
+        ObjectMapper objectMapper = applicationContext.getBean(ObjectMapper)
+        JacksonTokenBufferProcessor processor = new JacksonTokenBufferProcessor(objectMapper.factory)
+        List<TokenBuffer> buffers = []
+        Throwable error = null
+        boolean complete = false
+        subscribe(processor, buffers, { error = it }, { complete = true })
+
+        when:
+        processor.onNext('{"name":"Fr'.bytes)
+        processor.onNext('ed","age":1'.bytes)
+
+        then:
+        buffers.isEmpty()
+
+        when:
+        processor.onNext('0}'.bytes)
+        processor.onComplete()
+
+        then:
+        complete
+        error == null
+        buffers.size() == 1
+
+        when:
+        ConversionService conversionService = applicationContext.getBean(ConversionService)
+        Foo foo = conversionService.convert(buffers[0], Foo).get()
+
+        then:
+        foo.name == "Fred"
+        foo.age == 10
+        conversionService.convert(buffers[0], String).get() == '{"name":"Fred","age":10}'
+        conversionService.convert(buffers[0], ConvertibleValues).get().get("age", Integer).get() == 10
+    }
+
+    void "test incomplete JSON error"() {
+        given:
+        JacksonTokenBufferProcessor processor = new JacksonTokenBufferProcessor()
+        List<TokenBuffer> buffers = []
+        Throwable error = null
+        subscribe(processor, buffers, { error = it }, {})
+
+        when:
+        processor.onNext('{"name":"Fred","age":10'.bytes)
+        processor.onComplete()
+
+        then:
+        buffers.isEmpty()
+        error instanceof JsonEOFException
+    }
+
+    private void subscribe(JacksonTokenBufferProcessor processor, List<TokenBuffer> buffers, Closure onError, Closure onComplete) {
+        processor.subscribe(new Subscriber<TokenBuffer>() {
+            @Override
+            void onSubscribe(Subscription s) {
+                s.request(Long.MAX_VALUE)
+            }
+
+            @Override
+            void onNext(TokenBuffer tokenBuffer) {
+                buffers.add(tokenBuffer)
+            }
+
+            @Override
+            void onError(Throwable t) {
+                onError.call(t)
+            }
+
+            @Override
+            void onComplete() {
+                onComplete.call()
+            }
+        })
+        processor.onSubscribe(new Subscription() {
+            @Override
+            void request(long n) {
+            }
+
+            @Override
+            void cancel() {
+            }
+        })
+    }
+}
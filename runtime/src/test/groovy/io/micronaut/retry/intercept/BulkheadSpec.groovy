@@ -0,0 +1,177 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.retry.intercept
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.retry.annotation.Bulkhead
+import io.micronaut.retry.exception.BulkheadRejectedException
+import io.reactivex.Single
+import io.reactivex.subjects.SingleSubject
+import spock.lang.Specification
+
+import javax.inject.Singleton
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.TimeUnit
+
+/**
+ * @since 1.0
+ */
+class BulkheadSpec extends Specification {
+
+    void "test blocking executions beyond the limit are rejected"() {
+        given:
+        ApplicationContext context = ApplicationContext.run()
+        BulkheadService service = context.getBean(BulkheadService)
+        ExecutorService executor = Executors.newFixedThreadPool(2)
+        CountDownLatch release = new CountDownLatch(1)
+
+        when:"the permitted executions are in progress"
+        List<CompletableFuture<String>> running = (1..2).collect {
+            CompletableFuture.supplyAsync({ service.block(release) }, executor)
+        }
+        service.started.await(5, TimeUnit.SECONDS)
+        service.block(release)
+
+        then:"a further execution is rejected"
+        thrown(BulkheadRejectedException)
+
+        when:"the executions complete"
+        release.countDown()
+
+        then:"the permits are released"
+        running*.get() == ['done', 'done']
+        service.block(release) == 'done'
+
+        cleanup:
+        executor.shutdown()
+        context.stop()
+    }
+
+    void "test reactive executions hold a permit until they complete"() {
+        given:
+        ApplicationContext context = ApplicationContext.run()
+        BulkheadService service = context.getBean(BulkheadService)
+        SingleSubject<String> pending = SingleSubject.create()
+
+        when:"a publisher is returned without being subscribed to"
+        Single<String> first = service.single(pending)
+
+        then:"no permit is taken"
+        service.single(pending) != null
+
+        when:"the publisher is subscribed to"
+        def observer = first.test()
+        service.single(pending).blockingGet()
+
+        then:"further subscriptions are rejected"
+        thrown(BulkheadRejectedException)
+
+        when:"the publisher completes"
+        pending.onSuccess('done')
+
+        then:"the permit is released"
+        observer.await().assertValue('done')
+        service.single(Single.just('next')).blockingGet() == 'next'
+
+        cleanup:
+        context.stop()
+    }
+
+    void "test future executions hold a permit until they complete"() {
+        given:
+        ApplicationContext context = ApplicationContext.run()
+        BulkheadService service = context.getBean(BulkheadService)
+        CompletableFuture<String> pending = new CompletableFuture<>()
+
+        when:
+        CompletableFuture<String> first = service.future(pending)
+        service.future(pending)
+
+        then:
+        thrown(BulkheadRejectedException)
+
+        when:
+        pending.complete('done')
+
+        then:
+        first.get() == 'done'
+        service.future(CompletableFuture.completedFuture('next')).get() == 'next'
+
+        cleanup:
+        context.stop()
+    }
+
+    void "test failed executions release their permit"() {
+        given:
+        ApplicationContext context = ApplicationContext.run()
+        BulkheadService service = context.getBean(BulkheadService)
+
+        when:"the execution fails with an error"
+        service.fail(new AssertionError('error'))
+
+        then:
+        thrown(AssertionError)
+
+        when:"the execution fails with a checked exception"
+        service.fail(new IOException('checked'))
+
+        then:
+        thrown(IOException)
+
+        when:"the method is executed again"
+        String result = service.fail(null)
+
+        then:"the permit was released"
+        result == 'done'
+
+        cleanup:
+        context.stop()
+    }
+
+    @Singleton
+    static class BulkheadService {
+
+        CountDownLatch started = new CountDownLatch(2)
+
+        @Bulkhead(2)
+        String block(CountDownLatch release) {
+            started.countDown()
+            release.await()
+            return 'done'
+        }
+
+        @Bulkhead(1)
+        Single<String> single(Single<String> result) {
+            return result
+        }
+
+        @Bulkhead(1)
+        String fail(Throwable failure) {
+            if (failure != null) {
+                throw failure
+            }
+            return 'done'
+        }
+
+        @Bulkhead(1)
+        CompletableFuture<String> future(CompletableFuture<String> result) {
+            return result
+        }
+    }
+}
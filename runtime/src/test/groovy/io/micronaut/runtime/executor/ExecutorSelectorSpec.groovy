@@ -21,6 +21,10 @@ import io.micronaut.context.ApplicationContext
 import io.micronaut.context.annotation.Executable
 import io.micronaut.core.annotation.NonBlocking
 import io.micronaut.inject.ExecutableMethod
+import io.micronaut.inject.qualifiers.Qualifiers
+import io.micronaut.scheduling.TaskExecutors
+import io.micronaut.scheduling.annotation.ExecuteOn
+import io.micronaut.scheduling.exceptions.TaskExecutionException
 import io.micronaut.scheduling.executor.ExecutorSelector
 import spock.lang.Specification
 import spock.lang.Unroll
@@ -58,6 +62,32 @@ class ExecutorSelectorSpec extends Specification {
         "someFutureMethod"      | false
     }
 
+    void "test executor selector for methods that execute on a named executor"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run(
+                'micronaut.executors.blocking.type': 'virtual'
+        )
+        ExecutorSelector selector = applicationContext.getBean(ExecutorSelector)
+
+        when:
+        Optional<ExecutorService> executorService = selector.select(applicationContext.findExecutableMethod(MyExecuteOnService, "someMethod").get())
+
+        then:
+        executorService.get().is(applicationContext.getBean(ExecutorService, Qualifiers.byName('blocking')))
+        selector.select(applicationContext.findExecutableMethod(MyExecuteOnService, "someReactiveMethod").get()).get().is(executorService.get())
+        selector.select(applicationContext.findExecutableMethod(MyExecuteOnService, "someIOMethod").get()).get().is(applicationContext.getBean(ExecutorService, Qualifiers.byName(TaskExecutors.IO)))
+
+        when:
+        selector.select(applicationContext.findExecutableMethod(MyExecuteOnService, "someMissingMethod").get())
+
+        then:
+        TaskExecutionException e = thrown()
+        e.message == 'No ExecutorService named [missing] configured in application context'
+
+        cleanup:
+        applicationContext.stop()
+    }
+
 
 }
 
@@ -80,3 +110,25 @@ class MyService {
     CompletableFuture someFutureMethod() {}
 }
 
+@Singleton
+@Executable
+@ExecuteOn('blocking')
+class MyExecuteOnService {
+
+    void someMethod() {
+
+    }
+
+    Single someReactiveMethod() {}
+
+    @ExecuteOn(TaskExecutors.IO)
+    void someIOMethod() {
+
+    }
+
+    @ExecuteOn('missing')
+    void someMissingMethod() {
+
+    }
+}
+
@@ -19,12 +19,17 @@ import io.micronaut.context.ApplicationContext
 import io.micronaut.inject.qualifiers.Qualifiers
 import io.micronaut.scheduling.TaskExecutors
 import io.micronaut.scheduling.executor.ExecutorConfiguration
+import io.micronaut.scheduling.executor.ExecutorType
 import io.micronaut.scheduling.executor.UserExecutorConfiguration
 import spock.lang.Specification
 import spock.lang.Unroll
 
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CountDownLatch
 import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
 import java.util.concurrent.ForkJoinPool
+import java.util.concurrent.RejectedExecutionException
 import java.util.concurrent.ScheduledExecutorService
 import java.util.concurrent.ThreadPoolExecutor
 
@@ -174,4 +179,60 @@ class ExecutorServiceConfigSpec extends Specification {
         true            | "test"
         false           | "test"
     }
+
+    void "test configure a virtual thread IO executor"() {
+        given:
+        ApplicationContext ctx = ApplicationContext.run(
+                'micronaut.executors.io.type':'virtual'
+        )
+        boolean virtualThreadsSupported = Executors.metaClass.respondsTo(Executors, 'newVirtualThreadPerTaskExecutor')
+
+        when:
+        ExecutorService executorService = ctx.getBean(ExecutorService.class, Qualifiers.byName(TaskExecutors.IO))
+
+        then:
+        ctx.getBean(ExecutorConfiguration.class, Qualifiers.byName(TaskExecutors.IO)).type == ExecutorType.VIRTUAL
+        (executorService instanceof ThreadPoolExecutor) == !virtualThreadsSupported
+        CompletableFuture.supplyAsync({ 'done' }, executorService).get() == 'done'
+
+        when:
+        ctx.stop()
+
+        then:
+        executorService.isShutdown()
+    }
+
+    @Unroll
+    void "test configure a bounded #type executor"() {
+        given:
+        ApplicationContext ctx = ApplicationContext.run(
+                'micronaut.executors.bounded.type':type,
+                'micronaut.executors.bounded.nThreads':'1',
+                'micronaut.executors.bounded.queueSize':'1'
+        )
+        CountDownLatch latch = new CountDownLatch(1)
+
+        when:
+        ThreadPoolExecutor executorService = (ThreadPoolExecutor) ctx.getBean(ExecutorService.class, Qualifiers.byName('bounded'))
+
+        then:
+        ctx.getBean(ExecutorConfiguration.class, Qualifiers.byName('bounded')).queueSize.asInt == 1
+        executorService.maximumPoolSize == 1
+        executorService.queue.remainingCapacity() == 1
+
+        when:"the thread and the queue are busy"
+        executorService.execute({ latch.await() })
+        executorService.execute({ latch.await() })
+        executorService.execute({ })
+
+        then:"further tasks are rejected"
+        thrown(RejectedExecutionException)
+
+        cleanup:
+        latch.countDown()
+        ctx.close()
+
+        where:
+        type << ['fixed', 'cached']
+    }
 }
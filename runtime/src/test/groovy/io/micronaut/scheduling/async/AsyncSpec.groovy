@@ -0,0 +1,197 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.scheduling.async
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.event.ApplicationEventListener
+import io.micronaut.context.exceptions.ConfigurationException
+import io.micronaut.scheduling.TaskExecutors
+import io.micronaut.scheduling.annotation.Async
+import io.micronaut.scheduling.exceptions.TaskExecutionException
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+import javax.inject.Singleton
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CompletionStage
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.TimeUnit
+
+/**
+ * @since 1.0
+ */
+class AsyncSpec extends Specification {
+
+    @Shared
+    @AutoCleanup
+    ApplicationContext context = ApplicationContext.run()
+
+    void "test an event is published asynchronously"() {
+        given:
+        SyncListener listener = context.getBean(SyncListener)
+        listener.latch = new CountDownLatch(1)
+
+        when:
+        CompletableFuture<Void> future = context.publishEventAsync(new TestEvent())
+
+        then:
+        !future.done
+
+        when:
+        listener.latch.countDown()
+        future.get(5, TimeUnit.SECONDS)
+
+        then:
+        listener.count == 1
+        listener.thread != Thread.currentThread()
+    }
+
+    void "test an @Async listener does not block the publisher"() {
+        given:
+        AsyncListener listener = context.getBean(AsyncListener)
+        listener.count = 0
+        listener.latch = new CountDownLatch(1)
+        context.getBean(SyncListener).latch = new CountDownLatch(0)
+
+        when:
+        context.publishEvent(new TestEvent())
+
+        then:
+        listener.count == 0
+
+        when:
+        listener.latch.countDown()
+
+        then:
+        new PollingConditions(timeout: 5).eventually {
+            assert listener.count == 1
+            assert listener.thread != Thread.currentThread()
+        }
+    }
+
+    void "test a listener registered after events were published receives subsequent events"() {
+        given:
+        context.getBean(SyncListener).latch = new CountDownLatch(0)
+        context.getBean(AsyncListener).latch = new CountDownLatch(0)
+        context.publishEvent(new TestEvent())
+        RegisteredListener registered = new RegisteredListener()
+
+        when:
+        context.registerSingleton(registered)
+        context.publishEvent(new TestEvent())
+
+        then:
+        registered.count == 1
+    }
+
+    void "test an @Async method returning a CompletionStage"() {
+        given:
+        AsyncService service = context.getBean(AsyncService)
+
+        expect:
+        service.thread().toCompletableFuture().get(5, TimeUnit.SECONDS) != Thread.currentThread()
+
+        when:
+        service.fail().toCompletableFuture().get(5, TimeUnit.SECONDS)
+
+        then:
+        def e = thrown(ExecutionException)
+        e.cause instanceof IllegalStateException
+
+        when:
+        service.invalid()
+
+        then:
+        thrown(TaskExecutionException)
+    }
+
+    void "test publishing an event fails when the configured event executor does not exist"() {
+        given:
+        ApplicationContext ctx = ApplicationContext.run('micronaut.events.executor': 'missing')
+
+        when:
+        ctx.publishEventAsync(new TestEvent())
+
+        then:
+        def e = thrown(ConfigurationException)
+        e.message.contains('missing')
+
+        cleanup:
+        ctx.close()
+    }
+
+    static class TestEvent {}
+
+    @Singleton
+    static class SyncListener implements ApplicationEventListener<TestEvent> {
+        volatile int count
+        volatile Thread thread
+        CountDownLatch latch = new CountDownLatch(0)
+
+        @Override
+        void onApplicationEvent(TestEvent event) {
+            latch.await(5, TimeUnit.SECONDS)
+            thread = Thread.currentThread()
+            count++
+        }
+    }
+
+    @Singleton
+    static class AsyncListener implements ApplicationEventListener<TestEvent> {
+        volatile int count
+        volatile Thread thread
+        CountDownLatch latch = new CountDownLatch(0)
+
+        @Async
+        @Override
+        void onApplicationEvent(TestEvent event) {
+            latch.await(5, TimeUnit.SECONDS)
+            thread = Thread.currentThread()
+            count++
+        }
+    }
+
+    static class RegisteredListener implements ApplicationEventListener<TestEvent> {
+        int count
+
+        @Override
+        void onApplicationEvent(TestEvent event) {
+            count++
+        }
+    }
+
+    @Singleton
+    static class AsyncService {
+
+        @Async(TaskExecutors.IO)
+        CompletionStage<Thread> thread() {
+            CompletableFuture.completedFuture(Thread.currentThread())
+        }
+
+        @Async
+        CompletionStage<String> fail() {
+            throw new IllegalStateException("Bad things")
+        }
+
+        @Async
+        String invalid() {
+            "invalid"
+        }
+    }
+}